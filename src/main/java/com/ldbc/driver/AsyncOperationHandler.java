@@ -0,0 +1,44 @@
+package com.ldbc.driver;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Operation handler for connectors with non-blocking clients.
+ * executeOperationAsync() must not block: it issues the operation and returns a stage that completes once the result
+ * has been reported to the result reporter, or completes exceptionally if the operation failed.
+ * When run by an asynchronous executor no thread is held while the operation is in flight, other executors fall back
+ * to the blocking executeOperation(), which waits for the returned stage.
+ */
+public interface AsyncOperationHandler<OPERATION_TYPE extends Operation,
+        DB_CONNECTION_STATE_TYPE extends DbConnectionState>
+        extends OperationHandler<OPERATION_TYPE,DB_CONNECTION_STATE_TYPE>
+{
+    CompletionStage<?> executeOperationAsync( OPERATION_TYPE operation,
+            DB_CONNECTION_STATE_TYPE dbConnectionState,
+            ResultReporter resultReporter ) throws DbException;
+
+    @Override
+    default void executeOperation( OPERATION_TYPE operation,
+            DB_CONNECTION_STATE_TYPE dbConnectionState,
+            ResultReporter resultReporter ) throws DbException
+    {
+        try
+        {
+            executeOperationAsync( operation, dbConnectionState, resultReporter ).toCompletableFuture().get();
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            throw new DbException( "Interrupted while waiting for operation to complete", e );
+        }
+        catch ( ExecutionException e )
+        {
+            if ( e.getCause() instanceof DbException )
+            {
+                throw (DbException) e.getCause();
+            }
+            throw new DbException( "Error executing operation", e.getCause() );
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.ldbc.driver.client.CalculateWorkloadStatisticsMode;
 import com.ldbc.driver.client.ClientMode;
 import com.ldbc.driver.client.CreateValidationParamsMode;
 import com.ldbc.driver.client.ExecuteWorkloadMode;
+import com.ldbc.driver.client.MaximumThroughputSearchMode;
 import com.ldbc.driver.client.PrintHelpMode;
 import com.ldbc.driver.client.ValidateDatabaseMode;
 import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
@@ -142,6 +143,38 @@ public class Client
             }
             return new CalculateWorkloadStatisticsMode( controlService, RANDOM_SEED );
         }
+        else if ( controlService.configuration().throughputSearchTrials() > 0 )
+        {
+            // Search Maximum Throughput
+            DriverConfiguration configuration = controlService.configuration();
+            List<String> missingParams = new ArrayList<>();
+            if ( null == configuration.dbClassName() )
+            {
+                missingParams.add( ConsoleAndFileDriverConfiguration.DB_ARG );
+            }
+            if ( null == configuration.workloadClassName() )
+            {
+                missingParams.add( ConsoleAndFileDriverConfiguration.WORKLOAD_ARG );
+            }
+            if ( 0 == configuration.operationCount() )
+            {
+                missingParams.add( ConsoleAndFileDriverConfiguration.OPERATION_COUNT_ARG );
+            }
+            if ( null == configuration.resultDirPath() )
+            {
+                missingParams.add( ConsoleAndFileDriverConfiguration.RESULT_DIR_PATH_ARG );
+            }
+            if ( false == missingParams.isEmpty() )
+            {
+                throw new ClientException( format( "Missing required parameters: %s", missingParams.toString() ) );
+            }
+            if ( configuration.ignoreScheduledStartTimes() || configuration.closedLoopClients() > 0 )
+            {
+                throw new ClientException(
+                        "Throughput search validates schedule adherence, scheduled start times must not be ignored" );
+            }
+            return new MaximumThroughputSearchMode( controlService, new SystemTimeSource(), RANDOM_SEED );
+        }
         else
         {
             // Execute Workload
@@ -1,5 +1,6 @@
 package com.ldbc.driver;
 
+import com.ldbc.driver.runtime.metrics.DriverInternalMetrics;
 import com.google.common.collect.Ordering;
 import com.ldbc.driver.control.LoggingService;
 import com.ldbc.driver.util.ClassLoaderHelper;
@@ -19,7 +20,8 @@ public abstract class Db implements Closeable
     private DbConnectionState dbConnectionState = null;
     private Map<Class<? extends Operation>,OperationHandler> operationHandlers = new HashMap<>();
     private OperationHandler[] operationHandlersArray = null;
-    private OperationHandlerRunnerFactory operationHandlerRunnableContextFactory = null;
+    private PoolingOperationHandlerRunnerFactory operationHandlerRunnableContextFactory = null;
+    private DriverInternalMetrics driverInternalMetrics = new DriverInternalMetrics();
 
     synchronized public final void init(
             Map<String,String> params,
@@ -34,7 +36,8 @@ public abstract class Db implements Closeable
         onInit( params, loggingService );
         dbConnectionState = getConnectionState();
         operationHandlerRunnableContextFactory = new PoolingOperationHandlerRunnerFactory(
-                new InstantiatingOperationHandlerRunnerFactory()
+                new InstantiatingOperationHandlerRunnerFactory(),
+                driverInternalMetrics
         );
         operationHandlersArray = toOperationHandlerArray( operationTypeToClassMapping, operationHandlers );
         operationHandlers = null;
@@ -78,10 +81,23 @@ public abstract class Db implements Closeable
             throw new DbException( "Error shutting down operation handler runnable factory", e );
         }
         operationHandlerRunnableContextFactory = new PoolingOperationHandlerRunnerFactory(
-                new InstantiatingOperationHandlerRunnerFactory()
+                new InstantiatingOperationHandlerRunnerFactory(),
+                driverInternalMetrics
         );
     }
 
+    /**
+     * Where claims of operation handlers are recorded, set by each run that executes operations against this DB
+     */
+    synchronized public final void setDriverInternalMetrics( DriverInternalMetrics driverInternalMetrics )
+    {
+        this.driverInternalMetrics = driverInternalMetrics;
+        if ( null != operationHandlerRunnableContextFactory )
+        {
+            operationHandlerRunnableContextFactory.setDriverInternalMetrics( driverInternalMetrics );
+        }
+    }
+
     /**
      * Called once to cleanup state for DB client
      */
@@ -0,0 +1,15 @@
+package com.ldbc.driver;
+
+/**
+ * Identifies the entities an operation writes or must see the writes of, e.g., the forum a post is added to.
+ * Operations of the same stream that share a key conflict, they must execute in stream order.
+ * Operations that share no key may execute concurrently.
+ */
+public interface OperationConflictKeys
+{
+    /**
+     * @return keys of the entities touched by operation, or null if unknown, in which case the operation conflicts
+     * with every other operation
+     */
+    long[] conflictKeysFor( Operation operation );
+}
@@ -1,6 +1,7 @@
 package com.ldbc.driver;
 
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.coordination.CompletionTimeException;
 import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
 import com.ldbc.driver.runtime.metrics.MetricsCollectionException;
 import com.ldbc.driver.runtime.metrics.MetricsService;
@@ -10,6 +11,9 @@ import com.ldbc.driver.temporal.TimeSource;
 import stormpot.Poolable;
 import stormpot.Slot;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
 import static java.lang.String.format;
 
 public class OperationHandlerRunnableContext implements Runnable, Poolable
@@ -142,30 +146,122 @@ public class OperationHandlerRunnableContext implements Runnable, Poolable
             operationHandler.executeOperation( operation, dbConnectionState, resultReporter );
             long endOfLatencyMeasurementAsNano = timeSource.nanoSnapshot();
             resultReporter.setRunDurationAsNano( endOfLatencyMeasurementAsNano - startOfLatencyMeasurementAsNano );
-            if ( null == resultReporter().result() )
-            {
-                errorReporter.reportError( this, format( "Operation result is null\nOperation: %s", operation ) );
-            }
-            else
+            submitResult();
+        }
+        catch ( Throwable e )
+        {
+            reportExecutionError( e );
+        }
+    }
+
+    public final boolean isAsync()
+    {
+        return operationHandler instanceof AsyncOperationHandler;
+    }
+
+    /**
+     * Asynchronous counterpart of run().
+     * Waits for scheduled start time and dependencies in the calling thread, issues the operation, then returns
+     * without waiting for it to complete.
+     * Completion time and metrics are submitted by whichever thread completes the handler's stage, after which the
+     * returned stage completes. The returned stage always completes normally, errors are written to
+     * ConcurrentErrorReporter, as with run().
+     * Handlers that are not asynchronous are run to completion in the calling thread.
+     *
+     * @return stage that completes once the result of the operation has been processed
+     */
+    public CompletionStage<Void> runAsync()
+    {
+        final CompletableFuture<Void> processed = new CompletableFuture<>();
+        if ( !isAsync() )
+        {
+            run();
+            processed.complete( null );
+            return processed;
+        }
+        if ( !initialized )
+        {
+            errorReporter.reportError( this, "Handler was executed before being initialized" );
+            processed.complete( null );
+            return processed;
+        }
+        try
+        {
+            if ( !spinner.waitForScheduledStartTime( operation, beforeExecuteCheck ) )
             {
-                completionTimeWriter.submitCompletedTime( operation.timeStamp() );
-                metricsServiceWriter.submitOperationResult(
-                        operation.type(),
-                        operation.scheduledStartTimeAsMilli(),
-                        resultReporter.actualStartTimeAsMilli(),
-                        resultReporter.runDurationAsNano(),
-                        resultReporter.resultCode(),
-                        operation.timeStamp()
-                );
+                // Spinner result indicates operation should not be processed
+                processed.complete( null );
+                return processed;
             }
+            resultReporter.setActualStartTimeAsMilli( timeSource.nowAsMilli() );
+            final long startOfLatencyMeasurementAsNano = timeSource.nanoSnapshot();
+            CompletionStage<?> executed = ((AsyncOperationHandler) operationHandler).executeOperationAsync(
+                    operation,
+                    dbConnectionState,
+                    resultReporter
+            );
+            executed.whenComplete(
+                    ( ignored, throwable ) ->
+                    {
+                        try
+                        {
+                            long endOfLatencyMeasurementAsNano = timeSource.nanoSnapshot();
+                            resultReporter.setRunDurationAsNano(
+                                    endOfLatencyMeasurementAsNano - startOfLatencyMeasurementAsNano );
+                            if ( null != throwable )
+                            {
+                                reportExecutionError( throwable );
+                            }
+                            else
+                            {
+                                submitResult();
+                            }
+                        }
+                        catch ( Throwable e )
+                        {
+                            reportExecutionError( e );
+                        }
+                        finally
+                        {
+                            processed.complete( null );
+                        }
+                    }
+            );
         }
         catch ( Throwable e )
         {
-            String errMsg = format( "Error encountered\n%s\n%s",
-                    operation,
-                    ConcurrentErrorReporter.stackTraceToString( e ) );
-            errorReporter.reportError( this, errMsg );
+            reportExecutionError( e );
+            processed.complete( null );
         }
+        return processed;
+    }
+
+    private void submitResult() throws CompletionTimeException, MetricsCollectionException
+    {
+        if ( null == resultReporter.result() )
+        {
+            errorReporter.reportError( this, format( "Operation result is null\nOperation: %s", operation ) );
+        }
+        else
+        {
+            completionTimeWriter.submitCompletedTime( operation.timeStamp() );
+            metricsServiceWriter.submitOperationResult(
+                    operation.type(),
+                    operation.scheduledStartTimeAsMilli(),
+                    resultReporter.actualStartTimeAsMilli(),
+                    resultReporter.runDurationAsNano(),
+                    resultReporter.resultCode(),
+                    operation.timeStamp()
+            );
+        }
+    }
+
+    private void reportExecutionError( Throwable e )
+    {
+        String errMsg = format( "Error encountered\n%s\n%s",
+                operation,
+                ConcurrentErrorReporter.stackTraceToString( e ) );
+        errorReporter.reportError( this, errMsg );
     }
 
 
@@ -1,5 +1,6 @@
 package com.ldbc.driver;
 
+import com.ldbc.driver.runtime.metrics.DriverInternalMetrics;
 import com.ldbc.driver.temporal.TemporalUtil;
 import stormpot.Allocator;
 import stormpot.BlazePool;
@@ -23,10 +24,19 @@ public class PoolingOperationHandlerRunnerFactory implements OperationHandlerRun
     private static final Timeout POOL_SHUTDOWN_TIMEOUT = new Timeout( 10, TimeUnit.SECONDS );
     private final BlazePool<OperationHandlerRunnableContext> operationHandlerRunnerPool;
     private final OperationHandlerRunnerFactory innerOperationHandlerRunnerFactory;
+    private volatile DriverInternalMetrics driverInternalMetrics;
     int highestSetPoolSize = 0;
 
     public PoolingOperationHandlerRunnerFactory( OperationHandlerRunnerFactory operationHandlerRunnerFactory )
     {
+        this( operationHandlerRunnerFactory, new DriverInternalMetrics() );
+    }
+
+    public PoolingOperationHandlerRunnerFactory(
+            OperationHandlerRunnerFactory operationHandlerRunnerFactory,
+            DriverInternalMetrics driverInternalMetrics )
+    {
+        this.driverInternalMetrics = driverInternalMetrics;
         this.innerOperationHandlerRunnerFactory = operationHandlerRunnerFactory;
         OperationHandlerRunnerAllocator operationHandlerRunnerAllocator =
                 new OperationHandlerRunnerAllocator( innerOperationHandlerRunnerFactory );
@@ -45,6 +55,7 @@ public class PoolingOperationHandlerRunnerFactory implements OperationHandlerRun
     {
         try
         {
+            long claimStartAsNano = System.nanoTime();
             OperationHandlerRunnableContext operationHandlerRunner =
                     operationHandlerRunnerPool.claim( POOL_CLAIM_TIMEOUT );
             while ( null == operationHandlerRunner )
@@ -54,9 +65,11 @@ public class PoolingOperationHandlerRunnerFactory implements OperationHandlerRun
                 {
                     operationHandlerRunnerPool.setTargetSize( currentPoolSize * 2 );
                     highestSetPoolSize = currentPoolSize * 2;
+                    driverInternalMetrics.handlerPoolGrown( highestSetPoolSize );
                 }
                 operationHandlerRunner = operationHandlerRunnerPool.claim( POOL_CLAIM_AFTER_RESIZE_TIMEOUT );
             }
+            driverInternalMetrics.handlerPoolClaim().record( System.nanoTime() - claimStartAsNano );
             return operationHandlerRunner;
         }
         catch ( Exception e )
@@ -75,6 +88,14 @@ public class PoolingOperationHandlerRunnerFactory implements OperationHandlerRun
         }
     }
 
+    /**
+     * Where claims and growth of pool are recorded, from then on
+     */
+    public void setDriverInternalMetrics( DriverInternalMetrics driverInternalMetrics )
+    {
+        this.driverInternalMetrics = driverInternalMetrics;
+    }
+
     @Override
     public void shutdown() throws OperationException
     {
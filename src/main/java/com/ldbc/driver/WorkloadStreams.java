@@ -209,7 +209,8 @@ public class WorkloadStreams
                             peekingBlockingNonDependencyOperationStreamsAheadOfMinByMillis.get( i ),
                             compressionRatio
                     ),
-                    blockingStreams.get( i ).childOperationGenerator()
+                    blockingStreams.get( i ).childOperationGenerator(),
+                    blockingStreams.get( i ).operationConflictKeys()
             );
         }
 
@@ -329,7 +330,8 @@ public class WorkloadStreams
                     unlimitedBlockingStreams.get( i ).dependencyOperationTypes(),
                     gf.limit( unlimitedBlockingStreams.get( i ).dependencyOperations(), limitForStream[i * 2 + 2] ),
                     gf.limit( unlimitedBlockingStreams.get( i ).nonDependencyOperations(), limitForStream[i * 2 + 3] ),
-                    unlimitedBlockingStreams.get( i ).childOperationGenerator()
+                    unlimitedBlockingStreams.get( i ).childOperationGenerator(),
+                    unlimitedBlockingStreams.get( i ).operationConflictKeys()
             );
         }
 
@@ -595,13 +597,32 @@ public class WorkloadStreams
             Iterator<Operation> dependencyOperations,
             Iterator<Operation> nonDependencyOperations,
             ChildOperationGenerator childOperationGenerator )
+    {
+        addBlockingStream(
+                dependentOperationTypes,
+                dependencyOperationTypes,
+                dependencyOperations,
+                nonDependencyOperations,
+                childOperationGenerator,
+                null
+        );
+    }
+
+    public void addBlockingStream(
+            Set<Class<? extends Operation>> dependentOperationTypes,
+            Set<Class<? extends Operation>> dependencyOperationTypes,
+            Iterator<Operation> dependencyOperations,
+            Iterator<Operation> nonDependencyOperations,
+            ChildOperationGenerator childOperationGenerator,
+            OperationConflictKeys operationConflictKeys )
     {
         WorkloadStreamDefinition blockingStream = new WorkloadStreamDefinition(
                 dependentOperationTypes,
                 dependencyOperationTypes,
                 dependencyOperations,
                 nonDependencyOperations,
-                childOperationGenerator
+                childOperationGenerator,
+                operationConflictKeys
         );
         this.blockingStreams.add( blockingStream );
     }
@@ -628,18 +649,37 @@ public class WorkloadStreams
         private final Iterator<Operation> dependencyOperations;
         private final Iterator<Operation> nonDependencyOperations;
         private final ChildOperationGenerator childOperationGenerator;
+        private final OperationConflictKeys operationConflictKeys;
 
         public WorkloadStreamDefinition( Set<Class<? extends Operation>> dependentOperationTypes,
                 Set<Class<? extends Operation>> dependencyOperationTypes,
                 Iterator<Operation> dependencyOperations,
                 Iterator<Operation> nonDependencyOperations,
                 ChildOperationGenerator childOperationGenerator )
+        {
+            this(
+                    dependentOperationTypes,
+                    dependencyOperationTypes,
+                    dependencyOperations,
+                    nonDependencyOperations,
+                    childOperationGenerator,
+                    null
+            );
+        }
+
+        public WorkloadStreamDefinition( Set<Class<? extends Operation>> dependentOperationTypes,
+                Set<Class<? extends Operation>> dependencyOperationTypes,
+                Iterator<Operation> dependencyOperations,
+                Iterator<Operation> nonDependencyOperations,
+                ChildOperationGenerator childOperationGenerator,
+                OperationConflictKeys operationConflictKeys )
         {
             this.dependentOperationTypes = dependentOperationTypes;
             this.dependencyOperationTypes = dependencyOperationTypes;
             this.dependencyOperations = dependencyOperations;
             this.nonDependencyOperations = nonDependencyOperations;
             this.childOperationGenerator = childOperationGenerator;
+            this.operationConflictKeys = operationConflictKeys;
         }
 
         public Iterator<Operation> dependencyOperations()
@@ -668,5 +708,13 @@ public class WorkloadStreams
         {
             return childOperationGenerator;
         }
+
+        /**
+         * @return conflict keys of stream operations, null if unknown, in which case the stream must execute serially
+         */
+        public OperationConflictKeys operationConflictKeys()
+        {
+            return operationConflictKeys;
+        }
     }
 }
@@ -13,19 +13,33 @@ import com.ldbc.driver.generator.GeneratorFactory;
 import com.ldbc.driver.generator.RandomDataGeneratorFactory;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
 import com.ldbc.driver.runtime.DefaultQueues;
+import com.ldbc.driver.runtime.DriverDiagnosticsSampler;
 import com.ldbc.driver.runtime.WorkloadRunner;
 import com.ldbc.driver.runtime.coordination.CompletionTimeException;
 import com.ldbc.driver.runtime.coordination.CompletionTimeService;
 import com.ldbc.driver.runtime.coordination.CompletionTimeServiceAssistant;
+import com.ldbc.driver.runtime.coordination.CompletionTimeServiceType;
 import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
+import com.ldbc.driver.runtime.coordination.SharedFileCompletionTimeService;
+import com.ldbc.driver.runtime.executor.OperationExecutorType;
+import com.ldbc.driver.runtime.metrics.AsyncResultsLogWriter;
+import com.ldbc.driver.runtime.metrics.BinaryResultsLogWriter;
 import com.ldbc.driver.runtime.metrics.DisruptorSbeMetricsService;
+import com.ldbc.driver.runtime.metrics.DriverInternalMetrics;
+import com.ldbc.driver.runtime.metrics.HdrHistogramIntervalLatencyLogWriter;
+import com.ldbc.driver.runtime.metrics.IntervalLatencyLogWriter;
 import com.ldbc.driver.runtime.metrics.JsonWorkloadMetricsFormatter;
 import com.ldbc.driver.runtime.metrics.MetricsCollectionException;
 import com.ldbc.driver.runtime.metrics.MetricsManager;
 import com.ldbc.driver.runtime.metrics.MetricsService;
+import com.ldbc.driver.runtime.metrics.MetricsServiceType;
+import com.ldbc.driver.runtime.metrics.NullIntervalLatencyLogWriter;
 import com.ldbc.driver.runtime.metrics.NullResultsLogWriter;
+import com.ldbc.driver.runtime.metrics.PerWriterHistogramMetricsService;
+import com.ldbc.driver.runtime.metrics.ResultsLogFormat;
 import com.ldbc.driver.runtime.metrics.ResultsLogWriter;
 import com.ldbc.driver.runtime.metrics.SimpleResultsLogWriter;
+import com.ldbc.driver.runtime.metrics.ThroughputTimeline;
 import com.ldbc.driver.runtime.metrics.WorkloadResultsSnapshot;
 import com.ldbc.driver.runtime.metrics.WorkloadStatusSnapshot;
 import com.ldbc.driver.temporal.TemporalUtil;
@@ -56,20 +70,44 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
     private final long randomSeed;
     private final TemporalUtil temporalUtil;
     private final ResultsDirectory resultsDirectory;
+    private final boolean closeDatabase;
 
     private Workload workload = null;
-    private Db database = null;
+    private Db database;
     private MetricsService metricsService = null;
     private CompletionTimeService completionTimeService = null;
     private WorkloadRunner workloadRunner = null;
     private ResultsLogWriter resultsLogWriter = null;
+    private IntervalLatencyLogWriter intervalLatencyLogWriter = null;
+    private ThroughputTimeline throughputTimeline = null;
+    private DriverDiagnosticsSampler driverDiagnosticsSampler = null;
+    private DriverInternalMetrics driverInternalMetrics = null;
+    private WorkloadResultsSnapshot workloadResults = null;
+    private ResultsLogValidationSummary resultsLogValidationSummary = null;
+    private ResultsLogValidationResult resultsLogValidationResult = null;
 
     public ExecuteWorkloadMode(
             ControlService controlService,
             TimeSource timeSource,
             long randomSeed ) throws ClientException
+    {
+        this( controlService, timeSource, randomSeed, null, true );
+    }
+
+    /**
+     * @param database already initialized connector to use, or null to load and initialize the configured one
+     * @param closeDatabase false to leave the connector open on completion, so it can be reused by another run
+     */
+    ExecuteWorkloadMode(
+            ControlService controlService,
+            TimeSource timeSource,
+            long randomSeed,
+            Db database,
+            boolean closeDatabase ) throws ClientException
     {
         this.controlService = controlService;
+        this.database = database;
+        this.closeDatabase = closeDatabase;
         this.timeSource = timeSource;
         this.loggingService = controlService.loggingServiceFactory().loggingServiceFor( getClass().getSimpleName() );
         this.randomSeed = randomSeed;
@@ -131,6 +169,11 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         doInit( false );
         doExecute( false );
 
+        if ( false == closeDatabase )
+        {
+            loggingService.info( "Workload completed successfully, database connector left open" );
+            return null;
+        }
         try
         {
             loggingService.info( "Shutting down database connector..." );
@@ -147,26 +190,42 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         return null;
     }
 
+    Db database()
+    {
+        return database;
+    }
+
+    /**
+     * @return results of the run phase, null until it has completed
+     */
+    WorkloadResultsSnapshot workloadResults()
+    {
+        return workloadResults;
+    }
+
+    /**
+     * @return validation summary of the run phase, null until it has completed or if it was not validated
+     */
+    ResultsLogValidationSummary resultsLogValidationSummary()
+    {
+        return resultsLogValidationSummary;
+    }
+
+    /**
+     * @return validation result of the run phase, null until it has completed or if it was not validated
+     */
+    ResultsLogValidationResult resultsLogValidationResult()
+    {
+        return resultsLogValidationResult;
+    }
+
     private void doInit( boolean warmup ) throws ClientException
     {
         ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
         GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( randomSeed ) );
 
-        //  ================================
-        //  ===  Results Log CSV Writer  ===
-        //  ================================
+        // results log is the first file of a phase in results directory, see ResultsDirectory.phase()
         File resultsLog = resultsDirectory.getOrCreateResultsLogFile( warmup );
-        try
-        {
-            resultsLogWriter = (null == resultsLog)
-                               ? new NullResultsLogWriter()
-                               : new SimpleResultsLogWriter( resultsLog, controlService.configuration().timeUnit() );
-        }
-        catch ( IOException e )
-        {
-            throw new ClientException(
-                    format( "Error creating results log writer for: %s", resultsLog.getAbsolutePath() ), e );
-        }
 
         //  ==================
         //  ===  Workload  ===
@@ -222,6 +281,42 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
             throw new ClientException( "Error while retrieving operation stream for workload", e );
         }
 
+        //  ============================
+        //  ===  Results Log Writer  ===
+        //  ============================
+        try
+        {
+            if ( null == resultsLog )
+            {
+                resultsLogWriter = new NullResultsLogWriter();
+            }
+            else if ( ResultsLogFormat.BINARY == controlService.configuration().resultsLogFormat() )
+            {
+                resultsLogWriter = new BinaryResultsLogWriter(
+                        resultsLog,
+                        controlService.configuration().timeUnit(),
+                        workload.operationTypeToClassMapping() );
+            }
+            else if ( controlService.configuration().resultsLogBufferSize() > 0 )
+            {
+                resultsLogWriter = new AsyncResultsLogWriter(
+                        resultsLog,
+                        controlService.configuration().timeUnit(),
+                        controlService.configuration().resultsLogBufferSize(),
+                        AsyncResultsLogWriter.DEFAULT_BUFFER_COUNT,
+                        controlService.configuration().resultsLogFullBuffersPolicy() );
+            }
+            else
+            {
+                resultsLogWriter = new SimpleResultsLogWriter( resultsLog, controlService.configuration().timeUnit() );
+            }
+        }
+        catch ( IOException e )
+        {
+            throw new ClientException(
+                    format( "Error creating results log writer for: %s", resultsLog.getAbsolutePath() ), e );
+        }
+
         //  ================
         //  =====  DB  =====
         //  ================
@@ -247,18 +342,75 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         //  ========================
         //  ===  Metrics Service  ==
         //  ========================
+        MetricsServiceType metricsServiceType = controlService.configuration().metricsServiceType();
+        // new for each execution, so only driver internals of this execution are counted
+        driverInternalMetrics = new DriverInternalMetrics();
+        if ( MetricsServiceType.DISRUPTOR_SBE != metricsServiceType &&
+             controlService.configuration().latencyLogIntervalAsMilli() > 0 )
+        {
+            throw new ClientException( format( "Latency interval logs are not supported by metrics service: %s",
+                    metricsServiceType.name() ) );
+        }
+        try
+        {
+            intervalLatencyLogWriter =
+                    (resultsDirectory.exists() && controlService.configuration().latencyLogIntervalAsMilli() > 0)
+                    ? new HdrHistogramIntervalLatencyLogWriter(
+                            resultsDirectory.getOrCreateLatencyIntervalLogsDir( warmup ),
+                            workload.operationTypeToClassMapping(),
+                            controlService.configuration().timeUnit(),
+                            DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                            controlService.configuration().latencyLogIntervalAsMilli() )
+                    : new NullIntervalLatencyLogWriter();
+        }
+        catch ( IOException | MetricsCollectionException e )
+        {
+            throw new ClientException( "Error creating latency interval log writer", e );
+        }
+        try
+        {
+            // recorded on metrics collection thread, which per writer histogram metrics service does not have
+            throughputTimeline =
+                    (resultsDirectory.exists() && MetricsServiceType.DISRUPTOR_SBE == metricsServiceType)
+                    ? new ThroughputTimeline(
+                            workload.operationTypeToClassMapping(),
+                            controlService.configuration().timeUnit(),
+                            DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO )
+                    : null;
+        }
+        catch ( MetricsCollectionException e )
+        {
+            throw new ClientException( "Error creating throughput timeline", e );
+        }
         try
         {
             // TODO create metrics service factory so different ones can be easily created
-            metricsService = new DisruptorSbeMetricsService(
-                    timeSource,
-                    errorReporter,
-                    controlService.configuration().timeUnit(),
-                    DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
-                    resultsLogWriter,
-                    workload.operationTypeToClassMapping(),
-                    controlService.loggingServiceFactory()
-            );
+            if ( MetricsServiceType.PER_WRITER_HISTOGRAM == metricsServiceType )
+            {
+                metricsService = new PerWriterHistogramMetricsService(
+                        timeSource,
+                        controlService.configuration().timeUnit(),
+                        DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                        resultsLogWriter,
+                        workload.operationTypeToClassMapping(),
+                        controlService.loggingServiceFactory()
+                );
+            }
+            else
+            {
+                metricsService = new DisruptorSbeMetricsService(
+                        timeSource,
+                        errorReporter,
+                        controlService.configuration().timeUnit(),
+                        DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                        resultsLogWriter,
+                        intervalLatencyLogWriter,
+                        throughputTimeline,
+                        workload.operationTypeToClassMapping(),
+                        controlService.loggingServiceFactory(),
+                        driverInternalMetrics
+                );
+            }
         }
         catch ( MetricsCollectionException e )
         {
@@ -271,11 +423,27 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         CompletionTimeServiceAssistant completionTimeServiceAssistant = new CompletionTimeServiceAssistant();
         try
         {
-            completionTimeService =
-                    completionTimeServiceAssistant.newThreadedQueuedCompletionTimeService(
-                            timeSource,
-                            errorReporter
-                    );
+            if ( CompletionTimeServiceType.SHARED_FILE == controlService.configuration().completionTimeServiceType() )
+            {
+                // warmup and run are separate runs of the shared file completion time service
+                String completionTimeFilePath = (warmup)
+                                                ? controlService.configuration().completionTimeFilePath() + ".warmup"
+                                                : controlService.configuration().completionTimeFilePath();
+                completionTimeService =
+                        completionTimeServiceAssistant.newSharedFileCompletionTimeService(
+                                new File( completionTimeFilePath ),
+                                controlService.configuration().completionTimeProcessCount()
+                        );
+            }
+            else
+            {
+                completionTimeService =
+                        completionTimeServiceAssistant.newCompletionTimeService(
+                                controlService.configuration().completionTimeServiceType(),
+                                timeSource,
+                                errorReporter
+                        );
+            }
         }
         catch ( CompletionTimeException e )
         {
@@ -289,6 +457,10 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         try
         {
             int operationHandlerExecutorsBoundedQueueSize = DefaultQueues.DEFAULT_BOUND_1000;
+            driverDiagnosticsSampler = new DriverDiagnosticsSampler(
+                    timeSource,
+                    DriverDiagnosticsSampler.DEFAULT_SAMPLING_INTERVAL_AS_MILLI,
+                    OperationExecutorType.VIRTUAL_THREAD == controlService.configuration().operationExecutorType() );
             workloadRunner = new WorkloadRunner(
                     timeSource,
                     database,
@@ -301,7 +473,20 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
                     controlService.configuration().statusDisplayIntervalAsSeconds(),
                     controlService.configuration().spinnerSleepDurationAsMilli(),
                     controlService.configuration().ignoreScheduledStartTimes(),
-                    operationHandlerExecutorsBoundedQueueSize );
+                    operationHandlerExecutorsBoundedQueueSize,
+                    controlService.configuration().operationExecutorType(),
+                    controlService.configuration().timingWheelScheduler(),
+                    controlService.configuration().spinnerWaitStrategyType(),
+                    controlService.configuration().closedLoopClients(),
+                    controlService.configuration().thinkTimeAsMilli(),
+                    controlService.configuration().dispatchWindowAsMilli(),
+                    controlService.configuration().blockingStreamThreadCount(),
+                    controlService.configuration().completionTimeWindowAsMilli(),
+                    controlService.configuration().metricsEndpointPort(),
+                    controlService.workloadStartTimeAsMilli(),
+                    minimumTimeStamp,
+                    controlService.configuration().timeCompressionRatio(),
+                    driverInternalMetrics );
         }
         catch ( Exception e )
         {
@@ -335,24 +520,34 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
                         .writeInitiatedAndCompletedTimesToAllWriters( completionTimeService, minimumTimeStamp - 1 );
                 completionTimeServiceAssistant
                         .writeInitiatedAndCompletedTimesToAllWriters( completionTimeService, minimumTimeStamp );
+                // with shared file completion time service, this waits for all other processes to start
+                long completionTimeWaitTimeoutDurationAsMilli =
+                        controlService.configuration().completionTimeStartTimeoutAsMilli();
                 boolean completionTimeAdvancedToDesiredTime =
                         completionTimeServiceAssistant.waitForCompletionTime(
                                 timeSource,
                                 minimumTimeStamp - 1,
-                                TimeUnit.SECONDS.toMillis( 5 ),
+                                completionTimeWaitTimeoutDurationAsMilli,
                                 completionTimeService,
                                 errorReporter
                         );
-                long completionTimeWaitTimeoutDurationAsMilli = TimeUnit.SECONDS.toMillis( 5 );
                 if ( !completionTimeAdvancedToDesiredTime )
                 {
+                    String processesMessage = "";
+                    if ( completionTimeService instanceof SharedFileCompletionTimeService )
+                    {
+                        processesMessage = format( "\nRegistered Processes: %s / %s",
+                                ((SharedFileCompletionTimeService) completionTimeService).registeredProcessCount(),
+                                controlService.configuration().completionTimeProcessCount() );
+                    }
                     throw new ClientException(
                             format(
                                     "Timed out [%s] while waiting for completion time to advance to workload " +
-                                    "start time\nCurrent CT: %s\nWaiting For CT: %s",
+                                    "start time\nCurrent CT: %s\nWaiting For CT: %s%s",
                                     completionTimeWaitTimeoutDurationAsMilli,
                                     completionTimeService.completionTimeAsMilli(),
-                                    controlService.workloadStartTimeAsMilli() )
+                                    minimumTimeStamp - 1,
+                                    processesMessage )
                     );
                 }
                 loggingService.info( "CT: " + temporalUtil
@@ -371,7 +566,17 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
     {
         try
         {
-            ConcurrentErrorReporter errorReporter = workloadRunner.getFuture().get();
+            ConcurrentErrorReporter errorReporter;
+            driverDiagnosticsSampler.start();
+            try
+            {
+                errorReporter = workloadRunner.getFuture().get();
+            }
+            finally
+            {
+                // only the run itself is sampled, not shutdown of services and export of results
+                driverDiagnosticsSampler.stop();
+            }
             loggingService.info( "Shutting down workload..." );
             workload.close();
             if ( errorReporter.errorEncountered() )
@@ -399,12 +604,27 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         try
         {
             workloadResults = metricsService.getWriter().results();
+            workloadResults.setDriverInternals( driverInternalMetrics.snapshot() );
+            workloadResults.setDriverDiagnostics( driverDiagnosticsSampler.snapshot() );
             metricsService.shutdown();
         }
         catch ( MetricsCollectionException e )
         {
             throw new ClientException( "Error during shutdown of metrics collection service", e );
         }
+        try
+        {
+            // writes last, partial, interval
+            intervalLatencyLogWriter.close();
+        }
+        catch ( Exception e )
+        {
+            throw new ClientException( "Error closing latency interval log writer", e );
+        }
+        if ( !warmup )
+        {
+            this.workloadResults = workloadResults;
+        }
 
         try
         {
@@ -427,13 +647,43 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
                         new FileOutputStream( resultsSummaryFile ),
                         Charsets.UTF_8
                 );
+                if ( null != throughputTimeline )
+                {
+                    File throughputTimelineFile = resultsDirectory.getOrCreateThroughputTimelineFile( warmup );
+                    loggingService.info(
+                            format( "Exporting throughput timeline to %s...", throughputTimelineFile.getAbsolutePath() )
+                    );
+                    throughputTimeline.writeCsv( throughputTimelineFile );
+                }
+                File driverDiagnosticsFile = resultsDirectory.getOrCreateDriverDiagnosticsFile( warmup );
+                loggingService.info(
+                        format( "Exporting driver diagnostics to %s...", driverDiagnosticsFile.getAbsolutePath() )
+                );
+                driverDiagnosticsSampler.writeCsv( driverDiagnosticsFile );
                 File configurationFile = resultsDirectory.getOrCreateConfigurationFile( warmup );
                 Files.write(
                         configurationFile.toPath(),
                         controlService.configuration().toPropertiesString().getBytes( StandardCharsets.UTF_8 )
                 );
                 resultsLogWriter.close();
-                if ( !controlService.configuration().ignoreScheduledStartTimes() )
+                if ( resultsLogWriter instanceof AsyncResultsLogWriter )
+                {
+                    AsyncResultsLogWriter asyncResultsLogWriter = (AsyncResultsLogWriter) resultsLogWriter;
+                    loggingService.info( format( "Results log: %s buffers written, %s stalls, %s rows dropped",
+                            asyncResultsLogWriter.writtenBufferCount(),
+                            asyncResultsLogWriter.stallCount(),
+                            asyncResultsLogWriter.droppedWriteCount() ) );
+                    if ( asyncResultsLogWriter.droppedWriteCount() > 0 )
+                    {
+                        throw new ClientException( format(
+                                "Results log is incomplete, %s rows were dropped: %s",
+                                asyncResultsLogWriter.droppedWriteCount(),
+                                resultsDirectory.getOrCreateResultsLogFile( warmup ).getAbsolutePath() ) );
+                    }
+                }
+                // closed-loop runs ignore scheduled start times, so there is no lateness to validate
+                if ( !controlService.configuration().ignoreScheduledStartTimes() &&
+                     0 == controlService.configuration().closedLoopClients() )
                 {
                     loggingService.info( "Validating workload results..." );
                     // TODO make this feature accessible directly
@@ -463,6 +713,11 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
                             resultsValidationFile.toPath(),
                             resultsLogValidationSummary.toJson().getBytes( StandardCharsets.UTF_8 )
                     );
+                    if ( !warmup )
+                    {
+                        this.resultsLogValidationSummary = resultsLogValidationSummary;
+                        this.resultsLogValidationResult = validationResult;
+                    }
                 }
             }
         }
@@ -0,0 +1,249 @@
+package com.ldbc.driver.client;
+
+import com.ldbc.driver.ClientException;
+import com.ldbc.driver.Db;
+import com.ldbc.driver.DbException;
+import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
+import com.ldbc.driver.control.ControlService;
+import com.ldbc.driver.control.DriverConfiguration;
+import com.ldbc.driver.control.DriverConfigurationException;
+import com.ldbc.driver.control.LocalControlService;
+import com.ldbc.driver.control.LoggingService;
+import com.ldbc.driver.csv.simple.SimpleCsvFileWriter;
+import com.ldbc.driver.temporal.TimeSource;
+import com.ldbc.driver.validation.ResultsLogValidationSummary;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.String.format;
+
+/**
+ * Runs the workload repeatedly, each time with a different time compression ratio, to find the lowest ratio (highest
+ * throughput) that still passes results log validation.
+ * Every trial is a complete execution, including warmup, and is named after its trial number so its results do not
+ * overwrite those of other trials. The database connector is loaded once and reused by all trials.
+ * Returns the best passing ratio, or null if no trial passed.
+ */
+public class MaximumThroughputSearchMode implements ClientMode<Double>
+{
+    private final ControlService controlService;
+    private final TimeSource timeSource;
+    private final LoggingService loggingService;
+    private final long randomSeed;
+    private final ResultsDirectory resultsDirectory;
+
+    public MaximumThroughputSearchMode(
+            ControlService controlService,
+            TimeSource timeSource,
+            long randomSeed ) throws ClientException
+    {
+        this.controlService = controlService;
+        this.timeSource = timeSource;
+        this.loggingService = controlService.loggingServiceFactory().loggingServiceFor( getClass().getSimpleName() );
+        this.randomSeed = randomSeed;
+        this.resultsDirectory = new ResultsDirectory( controlService.configuration() );
+    }
+
+    @Override
+    public void init() throws ClientException
+    {
+        loggingService.info( "Driver Configuration" );
+        loggingService.info( controlService.toString() );
+    }
+
+    @Override
+    public Double startExecutionAndAwaitCompletion() throws ClientException
+    {
+        DriverConfiguration configuration = controlService.configuration();
+        TimeCompressionRatioSearch search = new TimeCompressionRatioSearch(
+                configuration.timeCompressionRatio(),
+                configuration.throughputSearchTrials()
+        );
+        List<Trial> trials = new ArrayList<>();
+        Db database = null;
+        while ( search.hasNext() )
+        {
+            int trialNumber = trials.size() + 1;
+            double timeCompressionRatio = search.nextRatio();
+            loggingService.info( "\n" +
+                                 " ---------------------------------\n" +
+                                 format( " --- Trial %s / %s\n", trialNumber, configuration.throughputSearchTrials() ) +
+                                 format( " --- Time Compression Ratio %s\n", timeCompressionRatio ) +
+                                 " ---------------------------------" );
+            if ( null != database )
+            {
+                try
+                {
+                    // clear runnable context pool, objects in it hold references to services of previous trial
+                    database.reInit();
+                }
+                catch ( DbException e )
+                {
+                    throw new ClientException(
+                            format( "Error reinitializing DB: %s", database.getClass().getName() ), e );
+                }
+            }
+            ExecuteWorkloadMode trialMode = new ExecuteWorkloadMode(
+                    trialControlService( trialNumber, timeCompressionRatio ),
+                    timeSource,
+                    randomSeed,
+                    database,
+                    false
+            );
+            trialMode.init();
+            trialMode.startExecutionAndAwaitCompletion();
+            database = trialMode.database();
+
+            if ( null == trialMode.resultsLogValidationResult() )
+            {
+                throw new ClientException( format( "Trial %s was not validated", trialNumber ) );
+            }
+            boolean passed = trialMode.resultsLogValidationResult().isSuccessful();
+            Trial trial = new Trial(
+                    trialNumber,
+                    timeCompressionRatio,
+                    trialMode.workloadResults().throughput(),
+                    trialMode.resultsLogValidationSummary(),
+                    passed
+            );
+            trials.add( trial );
+            loggingService.info( trial.toString() );
+            search.report( timeCompressionRatio, passed );
+        }
+
+        if ( null != database )
+        {
+            try
+            {
+                loggingService.info( "Shutting down database connector..." );
+                database.close();
+            }
+            catch ( IOException e )
+            {
+                throw new ClientException( "Error shutting down database", e );
+            }
+        }
+
+        StringBuilder sb = new StringBuilder( "Throughput Search Results\n" );
+        for ( Trial trial : trials )
+        {
+            sb.append( "\t" ).append( trial ).append( "\n" );
+        }
+        sb.append( (search.hasPassingRatio())
+                   ? format( "Best Passing Time Compression Ratio: %s", search.bestPassingRatio() )
+                   : "No trial passed" );
+        loggingService.info( sb.toString() );
+        if ( resultsDirectory.exists() )
+        {
+            exportTrials( trials );
+        }
+        return (search.hasPassingRatio()) ? search.bestPassingRatio() : null;
+    }
+
+    private ControlService trialControlService( int trialNumber, double timeCompressionRatio )
+            throws ClientException
+    {
+        Map<String,String> trialParams = new HashMap<>();
+        trialParams.put(
+                ConsoleAndFileDriverConfiguration.NAME_ARG,
+                format( "%s-TRIAL_%s", controlService.configuration().name(), trialNumber ) );
+        trialParams.put(
+                ConsoleAndFileDriverConfiguration.TIME_COMPRESSION_RATIO_ARG,
+                Double.toString( timeCompressionRatio ) );
+        trialParams.put(
+                ConsoleAndFileDriverConfiguration.THROUGHPUT_SEARCH_TRIALS_ARG,
+                ConsoleAndFileDriverConfiguration.THROUGHPUT_SEARCH_TRIALS_DEFAULT_STRING );
+        try
+        {
+            return new LocalControlService(
+                    controlService.workloadStartTimeAsMilli(),
+                    controlService.configuration().applyArgs( trialParams ),
+                    controlService.loggingServiceFactory(),
+                    timeSource
+            );
+        }
+        catch ( DriverConfigurationException e )
+        {
+            throw new ClientException( format( "Error creating configuration for trial %s", trialNumber ), e );
+        }
+    }
+
+    private void exportTrials( List<Trial> trials ) throws ClientException
+    {
+        File throughputSearchFile = resultsDirectory.getOrCreateThroughputSearchFile();
+        loggingService.info( format( "Exporting throughput search results to: %s",
+                throughputSearchFile.getAbsolutePath() ) );
+        try ( SimpleCsvFileWriter writer = new SimpleCsvFileWriter(
+                throughputSearchFile,
+                SimpleCsvFileWriter.DEFAULT_COLUMN_SEPARATOR ) )
+        {
+            writer.writeRow(
+                    "trial",
+                    "time_compression_ratio",
+                    "throughput",
+                    "excessive_delay_count",
+                    "max_delay_ms",
+                    "mean_delay_ms",
+                    "passed"
+            );
+            for ( Trial trial : trials )
+            {
+                writer.writeRow(
+                        Integer.toString( trial.number ),
+                        Double.toString( trial.timeCompressionRatio ),
+                        Double.toString( trial.throughput ),
+                        Long.toString( trial.validationSummary.excessiveDelayCount() ),
+                        Long.toString( trial.validationSummary.maxDelayAsMilli() ),
+                        Long.toString( trial.validationSummary.meanDelayAsMilli() ),
+                        Boolean.toString( trial.passed )
+                );
+            }
+        }
+        catch ( IOException e )
+        {
+            throw new ClientException(
+                    "Error writing throughput search results to: " + throughputSearchFile.getAbsolutePath(), e );
+        }
+    }
+
+    private static class Trial
+    {
+        private final int number;
+        private final double timeCompressionRatio;
+        private final double throughput;
+        private final ResultsLogValidationSummary validationSummary;
+        private final boolean passed;
+
+        private Trial( int number,
+                double timeCompressionRatio,
+                double throughput,
+                ResultsLogValidationSummary validationSummary,
+                boolean passed )
+        {
+            this.number = number;
+            this.timeCompressionRatio = timeCompressionRatio;
+            this.throughput = throughput;
+            this.validationSummary = validationSummary;
+            this.passed = passed;
+        }
+
+        @Override
+        public String toString()
+        {
+            return format( "Trial %s -- TCR: %s  Throughput: %.2f op/s  Late: %s  Max Delay: %s ms  " +
+                           "Mean Delay: %s ms  %s",
+                    number,
+                    timeCompressionRatio,
+                    throughput,
+                    validationSummary.excessiveDelayCount(),
+                    validationSummary.maxDelayAsMilli(),
+                    validationSummary.meanDelayAsMilli(),
+                    (passed) ? "PASSED" : "FAILED" );
+        }
+    }
+}
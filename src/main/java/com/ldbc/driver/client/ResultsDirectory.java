@@ -7,6 +7,11 @@ import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
 import com.ldbc.driver.control.DriverConfiguration;
 import com.ldbc.driver.control.DriverConfigurationException;
 import com.ldbc.driver.csv.simple.SimpleCsvFileReader;
+import com.ldbc.driver.runtime.metrics.BinaryResultsLogReader;
+import com.ldbc.driver.runtime.metrics.BinaryResultsLogWriter;
+import com.ldbc.driver.runtime.metrics.MetricsServiceType;
+import com.ldbc.driver.runtime.metrics.ResultsLogFormat;
+import com.ldbc.driver.runtime.metrics.ResultsLogReader;
 import com.ldbc.driver.util.FileUtils;
 import com.ldbc.driver.util.MapUtils;
 
@@ -43,11 +48,20 @@ public class ResultsDirectory
     private static final String WARMUP_IDENTIFIER = "-WARMUP-";
 
     private static final String RESULTS_LOG_FILENAME_SUFFIX = "-results_log.csv";
+    private static final String BINARY_RESULTS_LOG_FILENAME_SUFFIX =
+            "-results_log" + BinaryResultsLogWriter.FILENAME_SUFFIX;
     private static final String RESULTS_METRICS_FILENAME_SUFFIX = "-results.json";
     private static final String RESULTS_CONFIGURATION_FILENAME_SUFFIX = "-configuration.properties";
 
     private static final String RESULTS_VALIDATION_FILENAME_SUFFIX = "-validation.json";
 
+    private static final String LATENCY_INTERVAL_LOGS_DIRNAME_SUFFIX = "-latency_interval_logs";
+
+    private static final String THROUGHPUT_TIMELINE_FILENAME_SUFFIX = "-throughput_timeline.csv";
+    private static final String DRIVER_DIAGNOSTICS_FILENAME_SUFFIX = "-driver_diagnostics.csv";
+
+    private static final String THROUGHPUT_SEARCH_FILENAME_SUFFIX = "-throughput_search.csv";
+
     private final DriverConfiguration configuration;
     private final File resultsDir;
 
@@ -120,6 +134,24 @@ public class ResultsDirectory
 
     public long getResultsLogFileLength( boolean warmup ) throws ClientException
     {
+        if ( ResultsLogFormat.BINARY == configuration.resultsLogFormat() )
+        {
+            try ( ResultsLogReader binaryResultsLogReader =
+                          new BinaryResultsLogReader( getResultsLogFile( resultsDir, configuration, warmup ) ) )
+            {
+                long length = 0;
+                while ( binaryResultsLogReader.next() )
+                {
+                    length++;
+                }
+                return length;
+            }
+            catch ( Exception e )
+            {
+                throw new ClientException(
+                        "Error calculating length of " + getResultsLogFile( warmup ).getAbsolutePath(), e );
+            }
+        }
         try ( SimpleCsvFileReader csvResultsLogReader = new SimpleCsvFileReader(
                 getResultsLogFile( resultsDir, configuration, warmup ),
                 SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING ) )
@@ -202,6 +234,94 @@ public class ResultsDirectory
         return new File( resultsDir, resultsValidationFilename( configuration, warmup ) );
     }
 
+    File getOrCreateLatencyIntervalLogsDir( boolean warmup ) throws ClientException
+    {
+        File latencyIntervalLogsDir = getLatencyIntervalLogsDir( warmup );
+        if ( !latencyIntervalLogsDir.exists() )
+        {
+            try
+            {
+                FileUtils.tryCreateDirs( latencyIntervalLogsDir, false );
+            }
+            catch ( Exception e )
+            {
+                throw new ClientException(
+                        "Error creating latency interval logs directory: " + latencyIntervalLogsDir.getAbsolutePath(),
+                        e );
+            }
+        }
+        return latencyIntervalLogsDir;
+    }
+
+    private File getLatencyIntervalLogsDir( boolean warmup ) throws ClientException
+    {
+        return new File( resultsDir, latencyIntervalLogsDirname( configuration, warmup ) );
+    }
+
+    File getOrCreateThroughputTimelineFile( boolean warmup ) throws ClientException
+    {
+        File throughputTimelineFile = getThroughputTimelineFile( warmup );
+        if ( !throughputTimelineFile.exists() )
+        {
+            try
+            {
+                FileUtils.createOrFail( throughputTimelineFile );
+            }
+            catch ( IOException e )
+            {
+                throw new ClientException(
+                        "Error creating throughput timeline file: " + throughputTimelineFile.getAbsolutePath(), e );
+            }
+        }
+        return throughputTimelineFile;
+    }
+
+    private File getThroughputTimelineFile( boolean warmup ) throws ClientException
+    {
+        return new File( resultsDir, throughputTimelineFilename( configuration, warmup ) );
+    }
+
+    File getOrCreateDriverDiagnosticsFile( boolean warmup ) throws ClientException
+    {
+        File driverDiagnosticsFile = getDriverDiagnosticsFile( warmup );
+        if ( !driverDiagnosticsFile.exists() )
+        {
+            try
+            {
+                FileUtils.createOrFail( driverDiagnosticsFile );
+            }
+            catch ( IOException e )
+            {
+                throw new ClientException(
+                        "Error creating driver diagnostics file: " + driverDiagnosticsFile.getAbsolutePath(), e );
+            }
+        }
+        return driverDiagnosticsFile;
+    }
+
+    private File getDriverDiagnosticsFile( boolean warmup ) throws ClientException
+    {
+        return new File( resultsDir, driverDiagnosticsFilename( configuration, warmup ) );
+    }
+
+    File getOrCreateThroughputSearchFile() throws ClientException
+    {
+        File throughputSearchFile = new File( resultsDir, configuration.name() + THROUGHPUT_SEARCH_FILENAME_SUFFIX );
+        if ( !throughputSearchFile.exists() )
+        {
+            try
+            {
+                FileUtils.createOrFail( throughputSearchFile );
+            }
+            catch ( IOException e )
+            {
+                throw new ClientException(
+                        "Error creating throughput search file: " + throughputSearchFile.getAbsolutePath(), e );
+            }
+        }
+        return throughputSearchFile;
+    }
+
     public Set<File> files() throws ClientException
     {
         return Sets.newHashSet( resultsDir.listFiles() );
@@ -218,21 +338,39 @@ public class ResultsDirectory
             Set<File> expectedFiles = new HashSet<>();
             if ( configuration.warmupCount() > 0 )
             {
-                if ( !configuration.ignoreScheduledStartTimes() )
+                if ( !configuration.ignoreScheduledStartTimes() && 0 == configuration.closedLoopClients() )
                 {
                     expectedFiles.add( getResultsValidationFile( true ) );
                 }
                 expectedFiles.add( getResultsLogFile( true ) );
                 expectedFiles.add( getResultsSummaryFile( true ) );
                 expectedFiles.add( getConfigurationFile( true ) );
+                if ( configuration.latencyLogIntervalAsMilli() > 0 )
+                {
+                    expectedFiles.add( getLatencyIntervalLogsDir( true ) );
+                }
+                if ( MetricsServiceType.DISRUPTOR_SBE == configuration.metricsServiceType() )
+                {
+                    expectedFiles.add( getThroughputTimelineFile( true ) );
+                }
+                expectedFiles.add( getDriverDiagnosticsFile( true ) );
             }
-            if ( !configuration.ignoreScheduledStartTimes() )
+            if ( !configuration.ignoreScheduledStartTimes() && 0 == configuration.closedLoopClients() )
             {
                 expectedFiles.add( getResultsValidationFile( false ) );
             }
             expectedFiles.add( getResultsLogFile( false ) );
             expectedFiles.add( getResultsSummaryFile( false ) );
             expectedFiles.add( getConfigurationFile( false ) );
+            if ( configuration.latencyLogIntervalAsMilli() > 0 )
+            {
+                expectedFiles.add( getLatencyIntervalLogsDir( false ) );
+            }
+            if ( MetricsServiceType.DISRUPTOR_SBE == configuration.metricsServiceType() )
+            {
+                expectedFiles.add( getThroughputTimelineFile( false ) );
+            }
+            expectedFiles.add( getDriverDiagnosticsFile( false ) );
             return expectedFiles;
         }
     }
@@ -324,7 +462,8 @@ public class ResultsDirectory
     {
         FileFilter resultsLogFileFilter = file ->
                 file.getName().contains( WARMUP_IDENTIFIER ) == warmup &&
-                file.getName().endsWith( RESULTS_LOG_FILENAME_SUFFIX );
+                (file.getName().endsWith( RESULTS_LOG_FILENAME_SUFFIX ) ||
+                 file.getName().endsWith( BINARY_RESULTS_LOG_FILENAME_SUFFIX ));
         File[] resultFiles = resultsDir.listFiles( resultsLogFileFilter );
         if ( null == resultFiles || resultFiles.length == 0 )
         {
@@ -362,8 +501,11 @@ public class ResultsDirectory
 
     private static String resultsLogFilename( DriverConfiguration configuration, boolean warmup )
     {
-        return (warmup) ? configuration.name() + WARMUP_IDENTIFIER + RESULTS_LOG_FILENAME_SUFFIX
-                        : configuration.name() + RESULTS_LOG_FILENAME_SUFFIX;
+        String suffix = (ResultsLogFormat.BINARY == configuration.resultsLogFormat())
+                        ? BINARY_RESULTS_LOG_FILENAME_SUFFIX
+                        : RESULTS_LOG_FILENAME_SUFFIX;
+        return (warmup) ? configuration.name() + WARMUP_IDENTIFIER + suffix
+                        : configuration.name() + suffix;
     }
 
     private static String resultsSummaryFilename( DriverConfiguration configuration, boolean warmup )
@@ -372,6 +514,24 @@ public class ResultsDirectory
                         : configuration.name() + RESULTS_METRICS_FILENAME_SUFFIX;
     }
 
+    private static String latencyIntervalLogsDirname( DriverConfiguration configuration, boolean warmup )
+    {
+        return (warmup) ? configuration.name() + WARMUP_IDENTIFIER + LATENCY_INTERVAL_LOGS_DIRNAME_SUFFIX
+                        : configuration.name() + LATENCY_INTERVAL_LOGS_DIRNAME_SUFFIX;
+    }
+
+    private static String throughputTimelineFilename( DriverConfiguration configuration, boolean warmup )
+    {
+        return (warmup) ? configuration.name() + WARMUP_IDENTIFIER + THROUGHPUT_TIMELINE_FILENAME_SUFFIX
+                        : configuration.name() + THROUGHPUT_TIMELINE_FILENAME_SUFFIX;
+    }
+
+    private static String driverDiagnosticsFilename( DriverConfiguration configuration, boolean warmup )
+    {
+        return (warmup) ? configuration.name() + WARMUP_IDENTIFIER + DRIVER_DIAGNOSTICS_FILENAME_SUFFIX
+                        : configuration.name() + DRIVER_DIAGNOSTICS_FILENAME_SUFFIX;
+    }
+
     private static String configurationFilename( DriverConfiguration configuration, boolean warmup )
     {
         return (warmup) ? configuration.name() + WARMUP_IDENTIFIER + RESULTS_CONFIGURATION_FILENAME_SUFFIX
@@ -0,0 +1,89 @@
+package com.ldbc.driver.client;
+
+import static java.lang.String.format;
+
+/**
+ * Searches for the lowest time compression ratio, i.e., highest throughput, at which a trial still passes.
+ * Starting from the initial ratio, the ratio is halved after every passing trial and doubled after every failing
+ * trial, until a failing and a passing ratio bracket the boundary. From then on the bracket is bisected.
+ * As throughput is inversely proportional to the ratio, the geometric rather than the arithmetic mean is used.
+ */
+class TimeCompressionRatioSearch
+{
+    private final int maxTrialCount;
+    private int trialCount = 0;
+    private double nextRatio;
+    // bracket the boundary: lowest ratio known to pass, highest ratio known to fail
+    private double passingRatio = Double.NaN;
+    private double failingRatio = Double.NaN;
+    private double bestPassingRatio = Double.NaN;
+
+    TimeCompressionRatioSearch( double initialRatio, int maxTrialCount )
+    {
+        if ( initialRatio <= 0 )
+        {
+            throw new IllegalArgumentException( format( "Ratio must be positive: %s", initialRatio ) );
+        }
+        this.nextRatio = initialRatio;
+        this.maxTrialCount = maxTrialCount;
+    }
+
+    boolean hasNext()
+    {
+        return trialCount < maxTrialCount;
+    }
+
+    double nextRatio()
+    {
+        return nextRatio;
+    }
+
+    void report( double ratio, boolean passed )
+    {
+        trialCount++;
+        if ( passed )
+        {
+            passingRatio = ratio;
+            // results are noisy, a pass below a known failure invalidates that failure
+            if ( failingRatio >= ratio )
+            {
+                failingRatio = Double.NaN;
+            }
+            if ( Double.isNaN( bestPassingRatio ) || ratio < bestPassingRatio )
+            {
+                bestPassingRatio = ratio;
+            }
+        }
+        else
+        {
+            failingRatio = ratio;
+            if ( passingRatio <= ratio )
+            {
+                passingRatio = Double.NaN;
+            }
+        }
+
+        if ( Double.isNaN( failingRatio ) )
+        {
+            nextRatio = passingRatio / 2;
+        }
+        else if ( Double.isNaN( passingRatio ) )
+        {
+            nextRatio = failingRatio * 2;
+        }
+        else
+        {
+            nextRatio = Math.sqrt( passingRatio * failingRatio );
+        }
+    }
+
+    boolean hasPassingRatio()
+    {
+        return false == Double.isNaN( bestPassingRatio );
+    }
+
+    double bestPassingRatio()
+    {
+        return bestPassingRatio;
+    }
+}
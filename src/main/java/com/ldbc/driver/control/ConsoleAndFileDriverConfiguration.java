@@ -3,6 +3,12 @@ package com.ldbc.driver.control;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.ldbc.driver.Client;
+import com.ldbc.driver.runtime.coordination.CompletionTimeServiceType;
+import com.ldbc.driver.runtime.executor.OperationExecutorType;
+import com.ldbc.driver.runtime.metrics.AsyncResultsLogWriter;
+import com.ldbc.driver.runtime.metrics.MetricsServiceType;
+import com.ldbc.driver.runtime.metrics.ResultsLogFormat;
+import com.ldbc.driver.runtime.scheduling.SpinnerWaitStrategyType;
 import com.ldbc.driver.temporal.TemporalUtil;
 import com.ldbc.driver.util.MapUtils;
 import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcSnbInteractiveWorkload;
@@ -166,6 +172,176 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
             format( "number of operations to execute during warmup phase (default: %s)",
                     WARMUP_COUNT_DEFAULT_STRING );
 
+    public static final String OPERATION_EXECUTOR_ARG = "ex";
+    private static final String OPERATION_EXECUTOR_ARG_LONG = "executor";
+    public static final OperationExecutorType OPERATION_EXECUTOR_DEFAULT = OperationExecutorType.THREAD_POOL;
+    public static final String OPERATION_EXECUTOR_DEFAULT_STRING = OPERATION_EXECUTOR_DEFAULT.name();
+    private static final String OPERATION_EXECUTOR_DESCRIPTION = format(
+            "executor used to run operation handlers of asynchronous stream. default:%s, valid:%s",
+            OPERATION_EXECUTOR_DEFAULT_STRING,
+            Arrays.toString( OperationExecutorType.values() ) );
+
+    public static final String TIMING_WHEEL_SCHEDULER_ARG = "timing_wheel_scheduler";
+    public static final boolean TIMING_WHEEL_SCHEDULER_DEFAULT = false;
+    public static final String TIMING_WHEEL_SCHEDULER_DEFAULT_STRING =
+            Boolean.toString( TIMING_WHEEL_SCHEDULER_DEFAULT );
+    private static final String TIMING_WHEEL_SCHEDULER_DESCRIPTION =
+            "releases operations from a timing wheel when due, instead of worker threads waiting for scheduled start " +
+            "times";
+
+    public static final String SPINNER_WAIT_STRATEGY_ARG = "sws";
+    private static final String SPINNER_WAIT_STRATEGY_ARG_LONG = "spinner_wait_strategy";
+    public static final SpinnerWaitStrategyType SPINNER_WAIT_STRATEGY_DEFAULT = SpinnerWaitStrategyType.SLEEP;
+    public static final String SPINNER_WAIT_STRATEGY_DEFAULT_STRING = SPINNER_WAIT_STRATEGY_DEFAULT.name();
+    private static final String SPINNER_WAIT_STRATEGY_DESCRIPTION = format(
+            "wait strategy used while waiting for scheduled start times and dependencies. default:%s, valid:%s",
+            SPINNER_WAIT_STRATEGY_DEFAULT_STRING,
+            Arrays.toString( SpinnerWaitStrategyType.values() ) );
+
+    public static final String CLOSED_LOOP_CLIENTS_ARG = "clc";
+    private static final String CLOSED_LOOP_CLIENTS_ARG_LONG = "closed_loop_clients";
+    public static final int CLOSED_LOOP_CLIENTS_DEFAULT = 0;
+    public static final String CLOSED_LOOP_CLIENTS_DEFAULT_STRING = Integer.toString( CLOSED_LOOP_CLIENTS_DEFAULT );
+    private static final String CLOSED_LOOP_CLIENTS_DESCRIPTION =
+            "number of clients in closed-loop mode, each executing its next operation as soon as its previous one " +
+            "completed, ignoring scheduled start times (0 = open-loop)";
+
+    public static final String THINK_TIME_ARG = "tt";
+    private static final String THINK_TIME_ARG_LONG = "think_time";
+    public static final long THINK_TIME_DEFAULT = 0;
+    public static final String THINK_TIME_DEFAULT_STRING = Long.toString( THINK_TIME_DEFAULT );
+    private static final String THINK_TIME_DESCRIPTION =
+            "time a closed-loop client waits between completing an operation and starting its next one (milliseconds)";
+
+    public static final String THROUGHPUT_SEARCH_TRIALS_ARG = "tst";
+    private static final String THROUGHPUT_SEARCH_TRIALS_ARG_LONG = "throughput_search_trials";
+    public static final int THROUGHPUT_SEARCH_TRIALS_DEFAULT = 0;
+    public static final String THROUGHPUT_SEARCH_TRIALS_DEFAULT_STRING =
+            Integer.toString( THROUGHPUT_SEARCH_TRIALS_DEFAULT );
+    private static final String THROUGHPUT_SEARCH_TRIALS_DESCRIPTION =
+            "number of trials to run when searching for the lowest time compression ratio (highest throughput) " +
+            "that passes results validation, starting from the configured ratio (0 = execute workload once)";
+
+    public static final String DISPATCH_WINDOW_ARG = "dw";
+    private static final String DISPATCH_WINDOW_ARG_LONG = "dispatch_window";
+    public static final long DISPATCH_WINDOW_DEFAULT = 0;
+    public static final String DISPATCH_WINDOW_DEFAULT_STRING = Long.toString( DISPATCH_WINDOW_DEFAULT );
+    private static final String DISPATCH_WINDOW_DESCRIPTION =
+            "operations of the asynchronous stream due within this duration of one another are handed to the " +
+            "executor as one batch (milliseconds, 0 = one operation at a time)";
+
+    public static final String BLOCKING_STREAM_THREADS_ARG = "bst";
+    private static final String BLOCKING_STREAM_THREADS_ARG_LONG = "blocking_stream_threads";
+    public static final int BLOCKING_STREAM_THREADS_DEFAULT = 1;
+    public static final String BLOCKING_STREAM_THREADS_DEFAULT_STRING =
+            Integer.toString( BLOCKING_STREAM_THREADS_DEFAULT );
+    private static final String BLOCKING_STREAM_THREADS_DESCRIPTION =
+            "number of threads per blocking stream, operations of a stream that touch different entities then " +
+            "execute concurrently (1 = serial)";
+
+    public static final String COMPLETION_TIME_SERVICE_ARG = "cts";
+    private static final String COMPLETION_TIME_SERVICE_ARG_LONG = "completion_time_service";
+    public static final CompletionTimeServiceType COMPLETION_TIME_SERVICE_DEFAULT =
+            CompletionTimeServiceType.THREADED_QUEUED;
+    public static final String COMPLETION_TIME_SERVICE_DEFAULT_STRING = COMPLETION_TIME_SERVICE_DEFAULT.name();
+    private static final String COMPLETION_TIME_SERVICE_DESCRIPTION = format(
+            "completion time service implementation, DISRUPTOR_* variants differ in how the service thread waits for " +
+            "events. default:%s, valid:%s",
+            COMPLETION_TIME_SERVICE_DEFAULT_STRING,
+            Arrays.toString( CompletionTimeServiceType.values() ) );
+
+    public static final String COMPLETION_TIME_WINDOW_ARG = "ctw";
+    private static final String COMPLETION_TIME_WINDOW_ARG_LONG = "completion_time_window";
+    public static final long COMPLETION_TIME_WINDOW_DEFAULT = 0;
+    public static final String COMPLETION_TIME_WINDOW_DEFAULT_STRING = Long.toString( COMPLETION_TIME_WINDOW_DEFAULT );
+    private static final String COMPLETION_TIME_WINDOW_DESCRIPTION =
+            "initiated and completed times are forwarded to the completion time service once per this duration of " +
+            "scheduled time, must be shorter than the time between operations and their dependencies " +
+            "(milliseconds, 0 = every time)";
+
+    public static final String COMPLETION_TIME_FILE_ARG = "ctf";
+    private static final String COMPLETION_TIME_FILE_ARG_LONG = "completion_time_file";
+    public static final String COMPLETION_TIME_FILE_DEFAULT = "completion_time";
+    public static final String COMPLETION_TIME_FILE_DEFAULT_STRING = COMPLETION_TIME_FILE_DEFAULT;
+    private static final String COMPLETION_TIME_FILE_DESCRIPTION =
+            "file through which driver processes on the same host share completion time, only used by SHARED_FILE " +
+            "completion time service, must not exist before a run, warmup uses another with .warmup appended";
+
+    public static final String COMPLETION_TIME_PROCESSES_ARG = "ctp";
+    private static final String COMPLETION_TIME_PROCESSES_ARG_LONG = "completion_time_processes";
+    public static final int COMPLETION_TIME_PROCESSES_DEFAULT = 1;
+    public static final String COMPLETION_TIME_PROCESSES_DEFAULT_STRING =
+            Integer.toString( COMPLETION_TIME_PROCESSES_DEFAULT );
+    private static final String COMPLETION_TIME_PROCESSES_DESCRIPTION =
+            "number of driver processes that share completion time, only used by SHARED_FILE completion time service";
+
+    public static final String COMPLETION_TIME_START_TIMEOUT_ARG = "ctt";
+    private static final String COMPLETION_TIME_START_TIMEOUT_ARG_LONG = "completion_time_start_timeout";
+    public static final long COMPLETION_TIME_START_TIMEOUT_DEFAULT = TimeUnit.SECONDS.toMillis( 5 );
+    public static final String COMPLETION_TIME_START_TIMEOUT_DEFAULT_STRING =
+            Long.toString( COMPLETION_TIME_START_TIMEOUT_DEFAULT );
+    private static final String COMPLETION_TIME_START_TIMEOUT_DESCRIPTION =
+            "duration (ms) to wait for completion time to reach the start of the workload before failing, with " +
+            "SHARED_FILE completion time service it is only defined once all processes have started";
+
+    public static final String LATENCY_LOG_INTERVAL_ARG = "lli";
+    private static final String LATENCY_LOG_INTERVAL_ARG_LONG = "latency_log_interval";
+    public static final long LATENCY_LOG_INTERVAL_DEFAULT = 0;
+    public static final String LATENCY_LOG_INTERVAL_DEFAULT_STRING = Long.toString( LATENCY_LOG_INTERVAL_DEFAULT );
+    private static final String LATENCY_LOG_INTERVAL_DESCRIPTION =
+            "duration of latency log intervals, runtime histograms of every operation type are written to the " +
+            "results directory once per interval (milliseconds, 0 = disabled)";
+
+    public static final String METRICS_SERVICE_ARG = "ms";
+    private static final String METRICS_SERVICE_ARG_LONG = "metrics_service";
+    public static final MetricsServiceType METRICS_SERVICE_DEFAULT = MetricsServiceType.DISRUPTOR_SBE;
+    public static final String METRICS_SERVICE_DEFAULT_STRING = METRICS_SERVICE_DEFAULT.name();
+    private static final String METRICS_SERVICE_DESCRIPTION = format(
+            "metrics service implementation, PER_WRITER_HISTOGRAM records results on the threads that submit them, " +
+            "rather than on one consumer thread. default:%s, valid:%s",
+            METRICS_SERVICE_DEFAULT_STRING,
+            Arrays.toString( MetricsServiceType.values() ) );
+
+    public static final String RESULTS_LOG_FORMAT_ARG = "rlf";
+    private static final String RESULTS_LOG_FORMAT_ARG_LONG = "results_log_format";
+    public static final ResultsLogFormat RESULTS_LOG_FORMAT_DEFAULT = ResultsLogFormat.CSV;
+    public static final String RESULTS_LOG_FORMAT_DEFAULT_STRING = RESULTS_LOG_FORMAT_DEFAULT.name();
+    private static final String RESULTS_LOG_FORMAT_DESCRIPTION = format(
+            "format of results log, BINARY writes fixed width records, convert with BinaryResultsLogConverter. " +
+            "default:%s, valid:%s",
+            RESULTS_LOG_FORMAT_DEFAULT_STRING,
+            Arrays.toString( ResultsLogFormat.values() ) );
+
+    public static final String RESULTS_LOG_BUFFER_SIZE_ARG = "rlb";
+    private static final String RESULTS_LOG_BUFFER_SIZE_ARG_LONG = "results_log_buffer_size";
+    public static final int RESULTS_LOG_BUFFER_SIZE_DEFAULT = 0;
+    public static final String RESULTS_LOG_BUFFER_SIZE_DEFAULT_STRING =
+            Integer.toString( RESULTS_LOG_BUFFER_SIZE_DEFAULT );
+    private static final String RESULTS_LOG_BUFFER_SIZE_DESCRIPTION =
+            "size (bytes) of each of the buffers a separate thread writes CSV results log from, 0 writes results log " +
+            "on metrics thread";
+
+    public static final String RESULTS_LOG_FULL_BUFFERS_POLICY_ARG = "rlp";
+    private static final String RESULTS_LOG_FULL_BUFFERS_POLICY_ARG_LONG = "results_log_full_buffers_policy";
+    public static final AsyncResultsLogWriter.FullBuffersPolicy RESULTS_LOG_FULL_BUFFERS_POLICY_DEFAULT =
+            AsyncResultsLogWriter.FullBuffersPolicy.DROP;
+    public static final String RESULTS_LOG_FULL_BUFFERS_POLICY_DEFAULT_STRING =
+            RESULTS_LOG_FULL_BUFFERS_POLICY_DEFAULT.name();
+    private static final String RESULTS_LOG_FULL_BUFFERS_POLICY_DESCRIPTION = format(
+            "what buffered results log does when disk can not keep up, DROP drops rows and fails the run once it " +
+            "completes, BLOCK makes metrics thread wait, which back-pressures workers and adds latency to measured " +
+            "operations. default:%s, valid:%s",
+            RESULTS_LOG_FULL_BUFFERS_POLICY_DEFAULT_STRING,
+            Arrays.toString( AsyncResultsLogWriter.FullBuffersPolicy.values() ) );
+
+    public static final String METRICS_ENDPOINT_PORT_ARG = "mep";
+    private static final String METRICS_ENDPOINT_PORT_ARG_LONG = "metrics_endpoint_port";
+    public static final int METRICS_ENDPOINT_PORT_DEFAULT = 0;
+    public static final String METRICS_ENDPOINT_PORT_DEFAULT_STRING = Integer.toString( METRICS_ENDPOINT_PORT_DEFAULT );
+    private static final String METRICS_ENDPOINT_PORT_DESCRIPTION =
+            "port of HTTP endpoint that serves live metrics in Prometheus text format at /metrics, refreshed at " +
+            "status display interval, 0 disables endpoint";
+
     public static final String PROPERTY_FILE_ARG = "P";
     private static final String PROPERTY_FILE_DESCRIPTION =
             "load properties from file(s) - files will be loaded in the order provided\n" +
@@ -207,6 +383,25 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         defaultParamsMap.put( SPINNER_SLEEP_DURATION_ARG, SPINNER_SLEEP_DURATION_DEFAULT_STRING );
         defaultParamsMap.put( WARMUP_COUNT_ARG, WARMUP_COUNT_DEFAULT_STRING );
         defaultParamsMap.put( SKIP_COUNT_ARG, SKIP_COUNT_DEFAULT_STRING );
+        defaultParamsMap.put( OPERATION_EXECUTOR_ARG, OPERATION_EXECUTOR_DEFAULT_STRING );
+        defaultParamsMap.put( TIMING_WHEEL_SCHEDULER_ARG, TIMING_WHEEL_SCHEDULER_DEFAULT_STRING );
+        defaultParamsMap.put( SPINNER_WAIT_STRATEGY_ARG, SPINNER_WAIT_STRATEGY_DEFAULT_STRING );
+        defaultParamsMap.put( CLOSED_LOOP_CLIENTS_ARG, CLOSED_LOOP_CLIENTS_DEFAULT_STRING );
+        defaultParamsMap.put( THINK_TIME_ARG, THINK_TIME_DEFAULT_STRING );
+        defaultParamsMap.put( THROUGHPUT_SEARCH_TRIALS_ARG, THROUGHPUT_SEARCH_TRIALS_DEFAULT_STRING );
+        defaultParamsMap.put( DISPATCH_WINDOW_ARG, DISPATCH_WINDOW_DEFAULT_STRING );
+        defaultParamsMap.put( BLOCKING_STREAM_THREADS_ARG, BLOCKING_STREAM_THREADS_DEFAULT_STRING );
+        defaultParamsMap.put( COMPLETION_TIME_SERVICE_ARG, COMPLETION_TIME_SERVICE_DEFAULT_STRING );
+        defaultParamsMap.put( COMPLETION_TIME_WINDOW_ARG, COMPLETION_TIME_WINDOW_DEFAULT_STRING );
+        defaultParamsMap.put( COMPLETION_TIME_FILE_ARG, COMPLETION_TIME_FILE_DEFAULT_STRING );
+        defaultParamsMap.put( COMPLETION_TIME_PROCESSES_ARG, COMPLETION_TIME_PROCESSES_DEFAULT_STRING );
+        defaultParamsMap.put( COMPLETION_TIME_START_TIMEOUT_ARG, COMPLETION_TIME_START_TIMEOUT_DEFAULT_STRING );
+        defaultParamsMap.put( LATENCY_LOG_INTERVAL_ARG, LATENCY_LOG_INTERVAL_DEFAULT_STRING );
+        defaultParamsMap.put( METRICS_SERVICE_ARG, METRICS_SERVICE_DEFAULT_STRING );
+        defaultParamsMap.put( RESULTS_LOG_FORMAT_ARG, RESULTS_LOG_FORMAT_DEFAULT_STRING );
+        defaultParamsMap.put( RESULTS_LOG_BUFFER_SIZE_ARG, RESULTS_LOG_BUFFER_SIZE_DEFAULT_STRING );
+        defaultParamsMap.put( RESULTS_LOG_FULL_BUFFERS_POLICY_ARG, RESULTS_LOG_FULL_BUFFERS_POLICY_DEFAULT_STRING );
+        defaultParamsMap.put( METRICS_ENDPOINT_PORT_ARG, METRICS_ENDPOINT_PORT_DEFAULT_STRING );
         return defaultParamsMap;
     }
 
@@ -255,6 +450,31 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                 assertValidTimeUnit( paramsMap.get( TIME_UNIT_ARG ) );
             }
 
+            if ( paramsMap.containsKey( OPERATION_EXECUTOR_ARG ) )
+            {
+                assertValidOperationExecutorType( paramsMap.get( OPERATION_EXECUTOR_ARG ) );
+            }
+
+            if ( paramsMap.containsKey( SPINNER_WAIT_STRATEGY_ARG ) )
+            {
+                assertValidSpinnerWaitStrategyType( paramsMap.get( SPINNER_WAIT_STRATEGY_ARG ) );
+            }
+
+            if ( paramsMap.containsKey( COMPLETION_TIME_SERVICE_ARG ) )
+            {
+                assertValidCompletionTimeServiceType( paramsMap.get( COMPLETION_TIME_SERVICE_ARG ) );
+            }
+
+            if ( paramsMap.containsKey( METRICS_SERVICE_ARG ) )
+            {
+                assertValidMetricsServiceType( paramsMap.get( METRICS_SERVICE_ARG ) );
+            }
+
+            if ( paramsMap.containsKey( RESULTS_LOG_FORMAT_ARG ) )
+            {
+                assertValidResultsLogFormat( paramsMap.get( RESULTS_LOG_FORMAT_ARG ) );
+            }
+
             paramsMap = MapUtils.mergeMaps( paramsMap, defaultsAsMap(), false );
 
             String name = paramsMap.get( NAME_ARG );
@@ -280,6 +500,31 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
             boolean printHelp = Boolean.parseBoolean( paramsMap.get( HELP_ARG ) );
             boolean ignoreScheduledStartTimes =
                     Boolean.parseBoolean( paramsMap.get( IGNORE_SCHEDULED_START_TIMES_ARG ) );
+            OperationExecutorType operationExecutorType =
+                    OperationExecutorType.valueOf( paramsMap.get( OPERATION_EXECUTOR_ARG ) );
+            boolean timingWheelScheduler = Boolean.parseBoolean( paramsMap.get( TIMING_WHEEL_SCHEDULER_ARG ) );
+            SpinnerWaitStrategyType spinnerWaitStrategyType =
+                    SpinnerWaitStrategyType.valueOf( paramsMap.get( SPINNER_WAIT_STRATEGY_ARG ) );
+            int closedLoopClients = Integer.parseInt( paramsMap.get( CLOSED_LOOP_CLIENTS_ARG ) );
+            long thinkTimeAsMilli = Long.parseLong( paramsMap.get( THINK_TIME_ARG ) );
+            int throughputSearchTrials = Integer.parseInt( paramsMap.get( THROUGHPUT_SEARCH_TRIALS_ARG ) );
+            long dispatchWindowAsMilli = Long.parseLong( paramsMap.get( DISPATCH_WINDOW_ARG ) );
+            int blockingStreamThreadCount = Integer.parseInt( paramsMap.get( BLOCKING_STREAM_THREADS_ARG ) );
+            CompletionTimeServiceType completionTimeServiceType =
+                    CompletionTimeServiceType.valueOf( paramsMap.get( COMPLETION_TIME_SERVICE_ARG ) );
+            long completionTimeWindowAsMilli = Long.parseLong( paramsMap.get( COMPLETION_TIME_WINDOW_ARG ) );
+            String completionTimeFilePath = paramsMap.get( COMPLETION_TIME_FILE_ARG );
+            int completionTimeProcessCount = Integer.parseInt( paramsMap.get( COMPLETION_TIME_PROCESSES_ARG ) );
+            long completionTimeStartTimeoutAsMilli =
+                    Long.parseLong( paramsMap.get( COMPLETION_TIME_START_TIMEOUT_ARG ) );
+            long latencyLogIntervalAsMilli = Long.parseLong( paramsMap.get( LATENCY_LOG_INTERVAL_ARG ) );
+            MetricsServiceType metricsServiceType = MetricsServiceType.valueOf( paramsMap.get( METRICS_SERVICE_ARG ) );
+            ResultsLogFormat resultsLogFormat = ResultsLogFormat.valueOf( paramsMap.get( RESULTS_LOG_FORMAT_ARG ) );
+            int resultsLogBufferSize = Integer.parseInt( paramsMap.get( RESULTS_LOG_BUFFER_SIZE_ARG ) );
+            AsyncResultsLogWriter.FullBuffersPolicy resultsLogFullBuffersPolicy =
+                    AsyncResultsLogWriter.FullBuffersPolicy.valueOf(
+                            paramsMap.get( RESULTS_LOG_FULL_BUFFERS_POLICY_ARG ) );
+            int metricsEndpointPort = Integer.parseInt( paramsMap.get( METRICS_ENDPOINT_PORT_ARG ) );
             return new ConsoleAndFileDriverConfiguration(
                     paramsMap,
                     name,
@@ -298,7 +543,26 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                     printHelp,
                     ignoreScheduledStartTimes,
                     warmupCount,
-                    skipCount
+                    skipCount,
+                    operationExecutorType,
+                    timingWheelScheduler,
+                    spinnerWaitStrategyType,
+                    closedLoopClients,
+                    thinkTimeAsMilli,
+                    throughputSearchTrials,
+                    dispatchWindowAsMilli,
+                    blockingStreamThreadCount,
+                    completionTimeServiceType,
+                    completionTimeWindowAsMilli,
+                    completionTimeFilePath,
+                    completionTimeProcessCount,
+                    completionTimeStartTimeoutAsMilli,
+                    latencyLogIntervalAsMilli,
+                    metricsServiceType,
+                    resultsLogFormat,
+                    resultsLogBufferSize,
+                    resultsLogFullBuffersPolicy,
+                    metricsEndpointPort
             );
         }
         catch ( DriverConfigurationException e )
@@ -326,6 +590,86 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         }
     }
 
+    private static void assertValidOperationExecutorType( String operationExecutorTypeString )
+            throws DriverConfigurationException
+    {
+        try
+        {
+            OperationExecutorType.valueOf( operationExecutorTypeString );
+        }
+        catch ( IllegalArgumentException e )
+        {
+            throw new DriverConfigurationException(
+                    format( "Unsupported %s value: %s",
+                            OperationExecutorType.class.getSimpleName(),
+                            operationExecutorTypeString ) );
+        }
+    }
+
+    private static void assertValidCompletionTimeServiceType( String completionTimeServiceTypeString )
+            throws DriverConfigurationException
+    {
+        try
+        {
+            CompletionTimeServiceType.valueOf( completionTimeServiceTypeString );
+        }
+        catch ( IllegalArgumentException e )
+        {
+            throw new DriverConfigurationException(
+                    format( "Unsupported %s value: %s",
+                            CompletionTimeServiceType.class.getSimpleName(),
+                            completionTimeServiceTypeString ) );
+        }
+    }
+
+    private static void assertValidResultsLogFormat( String resultsLogFormatString )
+            throws DriverConfigurationException
+    {
+        try
+        {
+            ResultsLogFormat.valueOf( resultsLogFormatString );
+        }
+        catch ( IllegalArgumentException e )
+        {
+            throw new DriverConfigurationException(
+                    format( "Unsupported %s value: %s",
+                            ResultsLogFormat.class.getSimpleName(),
+                            resultsLogFormatString ) );
+        }
+    }
+
+    private static void assertValidMetricsServiceType( String metricsServiceTypeString )
+            throws DriverConfigurationException
+    {
+        try
+        {
+            MetricsServiceType.valueOf( metricsServiceTypeString );
+        }
+        catch ( IllegalArgumentException e )
+        {
+            throw new DriverConfigurationException(
+                    format( "Unsupported %s value: %s",
+                            MetricsServiceType.class.getSimpleName(),
+                            metricsServiceTypeString ) );
+        }
+    }
+
+    private static void assertValidSpinnerWaitStrategyType( String spinnerWaitStrategyTypeString )
+            throws DriverConfigurationException
+    {
+        try
+        {
+            SpinnerWaitStrategyType.valueOf( spinnerWaitStrategyTypeString );
+        }
+        catch ( IllegalArgumentException e )
+        {
+            throw new DriverConfigurationException(
+                    format( "Unsupported %s value: %s",
+                            SpinnerWaitStrategyType.class.getSimpleName(),
+                            spinnerWaitStrategyTypeString ) );
+        }
+    }
+
     private static Map<String,String> parseArgs( String[] args, Options options )
             throws ParseException, DriverConfigurationException
     {
@@ -432,6 +776,11 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
             cmdParams.put( SKIP_COUNT_ARG, cmd.getOptionValue( SKIP_COUNT_ARG ) );
         }
 
+        if ( cmd.hasOption( OPERATION_EXECUTOR_ARG ) )
+        {
+            cmdParams.put( OPERATION_EXECUTOR_ARG, cmd.getOptionValue( OPERATION_EXECUTOR_ARG ) );
+        }
+
         if ( cmd.hasOption( CREATE_VALIDATION_PARAMS_ARG ) )
         {
             String[] validationParams = cmd.getOptionValues( CREATE_VALIDATION_PARAMS_ARG );
@@ -441,6 +790,98 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                     new ConsoleAndFileValidationParamOptions( filePath, validationSetSize ).toCommandlineString() );
         }
 
+        if ( cmd.hasOption( TIMING_WHEEL_SCHEDULER_ARG ) )
+        {
+            cmdParams.put( TIMING_WHEEL_SCHEDULER_ARG, Boolean.toString( true ) );
+        }
+
+        if ( cmd.hasOption( SPINNER_WAIT_STRATEGY_ARG ) )
+        {
+            cmdParams.put( SPINNER_WAIT_STRATEGY_ARG, cmd.getOptionValue( SPINNER_WAIT_STRATEGY_ARG ) );
+        }
+
+        if ( cmd.hasOption( CLOSED_LOOP_CLIENTS_ARG ) )
+        {
+            cmdParams.put( CLOSED_LOOP_CLIENTS_ARG, cmd.getOptionValue( CLOSED_LOOP_CLIENTS_ARG ) );
+        }
+
+        if ( cmd.hasOption( THINK_TIME_ARG ) )
+        {
+            cmdParams.put( THINK_TIME_ARG, cmd.getOptionValue( THINK_TIME_ARG ) );
+        }
+
+        if ( cmd.hasOption( THROUGHPUT_SEARCH_TRIALS_ARG ) )
+        {
+            cmdParams.put( THROUGHPUT_SEARCH_TRIALS_ARG, cmd.getOptionValue( THROUGHPUT_SEARCH_TRIALS_ARG ) );
+        }
+
+        if ( cmd.hasOption( DISPATCH_WINDOW_ARG ) )
+        {
+            cmdParams.put( DISPATCH_WINDOW_ARG, cmd.getOptionValue( DISPATCH_WINDOW_ARG ) );
+        }
+
+        if ( cmd.hasOption( BLOCKING_STREAM_THREADS_ARG ) )
+        {
+            cmdParams.put( BLOCKING_STREAM_THREADS_ARG, cmd.getOptionValue( BLOCKING_STREAM_THREADS_ARG ) );
+        }
+
+        if ( cmd.hasOption( COMPLETION_TIME_SERVICE_ARG ) )
+        {
+            cmdParams.put( COMPLETION_TIME_SERVICE_ARG, cmd.getOptionValue( COMPLETION_TIME_SERVICE_ARG ) );
+        }
+
+        if ( cmd.hasOption( COMPLETION_TIME_WINDOW_ARG ) )
+        {
+            cmdParams.put( COMPLETION_TIME_WINDOW_ARG, cmd.getOptionValue( COMPLETION_TIME_WINDOW_ARG ) );
+        }
+
+        if ( cmd.hasOption( COMPLETION_TIME_FILE_ARG ) )
+        {
+            cmdParams.put( COMPLETION_TIME_FILE_ARG, cmd.getOptionValue( COMPLETION_TIME_FILE_ARG ) );
+        }
+
+        if ( cmd.hasOption( COMPLETION_TIME_PROCESSES_ARG ) )
+        {
+            cmdParams.put( COMPLETION_TIME_PROCESSES_ARG, cmd.getOptionValue( COMPLETION_TIME_PROCESSES_ARG ) );
+        }
+
+        if ( cmd.hasOption( COMPLETION_TIME_START_TIMEOUT_ARG ) )
+        {
+            cmdParams.put( COMPLETION_TIME_START_TIMEOUT_ARG,
+                    cmd.getOptionValue( COMPLETION_TIME_START_TIMEOUT_ARG ) );
+        }
+
+        if ( cmd.hasOption( LATENCY_LOG_INTERVAL_ARG ) )
+        {
+            cmdParams.put( LATENCY_LOG_INTERVAL_ARG, cmd.getOptionValue( LATENCY_LOG_INTERVAL_ARG ) );
+        }
+
+        if ( cmd.hasOption( METRICS_SERVICE_ARG ) )
+        {
+            cmdParams.put( METRICS_SERVICE_ARG, cmd.getOptionValue( METRICS_SERVICE_ARG ) );
+        }
+
+        if ( cmd.hasOption( RESULTS_LOG_FORMAT_ARG ) )
+        {
+            cmdParams.put( RESULTS_LOG_FORMAT_ARG, cmd.getOptionValue( RESULTS_LOG_FORMAT_ARG ) );
+        }
+
+        if ( cmd.hasOption( RESULTS_LOG_BUFFER_SIZE_ARG ) )
+        {
+            cmdParams.put( RESULTS_LOG_BUFFER_SIZE_ARG, cmd.getOptionValue( RESULTS_LOG_BUFFER_SIZE_ARG ) );
+        }
+
+        if ( cmd.hasOption( RESULTS_LOG_FULL_BUFFERS_POLICY_ARG ) )
+        {
+            cmdParams.put( RESULTS_LOG_FULL_BUFFERS_POLICY_ARG,
+                    cmd.getOptionValue( RESULTS_LOG_FULL_BUFFERS_POLICY_ARG ) );
+        }
+
+        if ( cmd.hasOption( METRICS_ENDPOINT_PORT_ARG ) )
+        {
+            cmdParams.put( METRICS_ENDPOINT_PORT_ARG, cmd.getOptionValue( METRICS_ENDPOINT_PORT_ARG ) );
+        }
+
         if ( cmd.hasOption( PROPERTY_FILE_ARG ) )
         {
             for ( String propertyFilePath : cmd.getOptionValues( PROPERTY_FILE_ARG ) )
@@ -497,6 +938,26 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         paramsMap = replaceKey( paramsMap, SPINNER_SLEEP_DURATION_ARG_LONG, SPINNER_SLEEP_DURATION_ARG );
         paramsMap = replaceKey( paramsMap, WARMUP_COUNT_ARG_LONG, WARMUP_COUNT_ARG );
         paramsMap = replaceKey( paramsMap, SKIP_COUNT_ARG_LONG, SKIP_COUNT_ARG );
+        paramsMap = replaceKey( paramsMap, OPERATION_EXECUTOR_ARG_LONG, OPERATION_EXECUTOR_ARG );
+        paramsMap = replaceKey( paramsMap, SPINNER_WAIT_STRATEGY_ARG_LONG, SPINNER_WAIT_STRATEGY_ARG );
+        paramsMap = replaceKey( paramsMap, CLOSED_LOOP_CLIENTS_ARG_LONG, CLOSED_LOOP_CLIENTS_ARG );
+        paramsMap = replaceKey( paramsMap, THINK_TIME_ARG_LONG, THINK_TIME_ARG );
+        paramsMap = replaceKey( paramsMap, THROUGHPUT_SEARCH_TRIALS_ARG_LONG, THROUGHPUT_SEARCH_TRIALS_ARG );
+        paramsMap = replaceKey( paramsMap, DISPATCH_WINDOW_ARG_LONG, DISPATCH_WINDOW_ARG );
+        paramsMap = replaceKey( paramsMap, BLOCKING_STREAM_THREADS_ARG_LONG, BLOCKING_STREAM_THREADS_ARG );
+        paramsMap = replaceKey( paramsMap, COMPLETION_TIME_SERVICE_ARG_LONG, COMPLETION_TIME_SERVICE_ARG );
+        paramsMap = replaceKey( paramsMap, COMPLETION_TIME_WINDOW_ARG_LONG, COMPLETION_TIME_WINDOW_ARG );
+        paramsMap = replaceKey( paramsMap, COMPLETION_TIME_FILE_ARG_LONG, COMPLETION_TIME_FILE_ARG );
+        paramsMap = replaceKey( paramsMap, COMPLETION_TIME_PROCESSES_ARG_LONG, COMPLETION_TIME_PROCESSES_ARG );
+        paramsMap =
+                replaceKey( paramsMap, COMPLETION_TIME_START_TIMEOUT_ARG_LONG, COMPLETION_TIME_START_TIMEOUT_ARG );
+        paramsMap = replaceKey( paramsMap, LATENCY_LOG_INTERVAL_ARG_LONG, LATENCY_LOG_INTERVAL_ARG );
+        paramsMap = replaceKey( paramsMap, METRICS_SERVICE_ARG_LONG, METRICS_SERVICE_ARG );
+        paramsMap = replaceKey( paramsMap, RESULTS_LOG_FORMAT_ARG_LONG, RESULTS_LOG_FORMAT_ARG );
+        paramsMap = replaceKey( paramsMap, RESULTS_LOG_BUFFER_SIZE_ARG_LONG, RESULTS_LOG_BUFFER_SIZE_ARG );
+        paramsMap = replaceKey( paramsMap, RESULTS_LOG_FULL_BUFFERS_POLICY_ARG_LONG,
+                RESULTS_LOG_FULL_BUFFERS_POLICY_ARG );
+        paramsMap = replaceKey( paramsMap, METRICS_ENDPOINT_PORT_ARG_LONG, METRICS_ENDPOINT_PORT_ARG );
         return paramsMap;
     }
 
@@ -602,6 +1063,11 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                         .withLongOpt( SKIP_COUNT_ARG_LONG ).create( SKIP_COUNT_ARG );
         options.addOption( skipCountOption );
 
+        Option operationExecutorOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "type" ).withDescription( OPERATION_EXECUTOR_DESCRIPTION )
+                        .withLongOpt( OPERATION_EXECUTOR_ARG_LONG ).create( OPERATION_EXECUTOR_ARG );
+        options.addOption( operationExecutorOption );
+
         Option printHelpOption = OptionBuilder.withDescription( HELP_DESCRIPTION ).create( HELP_ARG );
         options.addOption( printHelpOption );
 
@@ -610,6 +1076,96 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                         .create( IGNORE_SCHEDULED_START_TIMES_ARG );
         options.addOption( ignoreScheduledStartTimesOption );
 
+        Option timingWheelSchedulerOption =
+                OptionBuilder.withDescription( TIMING_WHEEL_SCHEDULER_DESCRIPTION )
+                        .create( TIMING_WHEEL_SCHEDULER_ARG );
+        options.addOption( timingWheelSchedulerOption );
+
+        Option spinnerWaitStrategyTypeOption = OptionBuilder.hasArgs( 1 ).withArgName( "strategy" )
+                .withDescription( SPINNER_WAIT_STRATEGY_DESCRIPTION )
+                .withLongOpt( SPINNER_WAIT_STRATEGY_ARG_LONG ).create( SPINNER_WAIT_STRATEGY_ARG );
+        options.addOption( spinnerWaitStrategyTypeOption );
+
+        Option closedLoopClientsOption = OptionBuilder.hasArgs( 1 ).withArgName( "count" )
+                .withDescription( CLOSED_LOOP_CLIENTS_DESCRIPTION )
+                .withLongOpt( CLOSED_LOOP_CLIENTS_ARG_LONG ).create( CLOSED_LOOP_CLIENTS_ARG );
+        options.addOption( closedLoopClientsOption );
+
+        Option thinkTimeAsMilliOption = OptionBuilder.hasArgs( 1 ).withArgName( "duration" )
+                .withDescription( THINK_TIME_DESCRIPTION )
+                .withLongOpt( THINK_TIME_ARG_LONG ).create( THINK_TIME_ARG );
+        options.addOption( thinkTimeAsMilliOption );
+
+        Option throughputSearchTrialsOption = OptionBuilder.hasArgs( 1 ).withArgName( "count" )
+                .withDescription( THROUGHPUT_SEARCH_TRIALS_DESCRIPTION )
+                .withLongOpt( THROUGHPUT_SEARCH_TRIALS_ARG_LONG ).create( THROUGHPUT_SEARCH_TRIALS_ARG );
+        options.addOption( throughputSearchTrialsOption );
+
+        Option dispatchWindowAsMilliOption = OptionBuilder.hasArgs( 1 ).withArgName( "duration" )
+                .withDescription( DISPATCH_WINDOW_DESCRIPTION )
+                .withLongOpt( DISPATCH_WINDOW_ARG_LONG ).create( DISPATCH_WINDOW_ARG );
+        options.addOption( dispatchWindowAsMilliOption );
+
+        Option blockingStreamThreadCountOption = OptionBuilder.hasArgs( 1 ).withArgName( "count" )
+                .withDescription( BLOCKING_STREAM_THREADS_DESCRIPTION )
+                .withLongOpt( BLOCKING_STREAM_THREADS_ARG_LONG ).create( BLOCKING_STREAM_THREADS_ARG );
+        options.addOption( blockingStreamThreadCountOption );
+
+        Option completionTimeServiceTypeOption = OptionBuilder.hasArgs( 1 ).withArgName( "type" )
+                .withDescription( COMPLETION_TIME_SERVICE_DESCRIPTION )
+                .withLongOpt( COMPLETION_TIME_SERVICE_ARG_LONG ).create( COMPLETION_TIME_SERVICE_ARG );
+        options.addOption( completionTimeServiceTypeOption );
+
+        Option completionTimeWindowAsMilliOption = OptionBuilder.hasArgs( 1 ).withArgName( "duration" )
+                .withDescription( COMPLETION_TIME_WINDOW_DESCRIPTION )
+                .withLongOpt( COMPLETION_TIME_WINDOW_ARG_LONG ).create( COMPLETION_TIME_WINDOW_ARG );
+        options.addOption( completionTimeWindowAsMilliOption );
+
+        Option completionTimeFilePathOption = OptionBuilder.hasArgs( 1 ).withArgName( "path" )
+                .withDescription( COMPLETION_TIME_FILE_DESCRIPTION )
+                .withLongOpt( COMPLETION_TIME_FILE_ARG_LONG ).create( COMPLETION_TIME_FILE_ARG );
+        options.addOption( completionTimeFilePathOption );
+
+        Option completionTimeProcessCountOption = OptionBuilder.hasArgs( 1 ).withArgName( "count" )
+                .withDescription( COMPLETION_TIME_PROCESSES_DESCRIPTION )
+                .withLongOpt( COMPLETION_TIME_PROCESSES_ARG_LONG ).create( COMPLETION_TIME_PROCESSES_ARG );
+        options.addOption( completionTimeProcessCountOption );
+
+        Option completionTimeStartTimeoutOption = OptionBuilder.hasArgs( 1 ).withArgName( "duration" )
+                .withDescription( COMPLETION_TIME_START_TIMEOUT_DESCRIPTION )
+                .withLongOpt( COMPLETION_TIME_START_TIMEOUT_ARG_LONG ).create( COMPLETION_TIME_START_TIMEOUT_ARG );
+        options.addOption( completionTimeStartTimeoutOption );
+
+        Option latencyLogIntervalAsMilliOption = OptionBuilder.hasArgs( 1 ).withArgName( "duration" )
+                .withDescription( LATENCY_LOG_INTERVAL_DESCRIPTION )
+                .withLongOpt( LATENCY_LOG_INTERVAL_ARG_LONG ).create( LATENCY_LOG_INTERVAL_ARG );
+        options.addOption( latencyLogIntervalAsMilliOption );
+
+        Option metricsServiceTypeOption = OptionBuilder.hasArgs( 1 ).withArgName( "type" )
+                .withDescription( METRICS_SERVICE_DESCRIPTION )
+                .withLongOpt( METRICS_SERVICE_ARG_LONG ).create( METRICS_SERVICE_ARG );
+        options.addOption( metricsServiceTypeOption );
+
+        Option resultsLogFormatOption = OptionBuilder.hasArgs( 1 ).withArgName( "format" )
+                .withDescription( RESULTS_LOG_FORMAT_DESCRIPTION )
+                .withLongOpt( RESULTS_LOG_FORMAT_ARG_LONG ).create( RESULTS_LOG_FORMAT_ARG );
+        options.addOption( resultsLogFormatOption );
+
+        Option resultsLogBufferSizeOption = OptionBuilder.hasArgs( 1 ).withArgName( "bytes" )
+                .withDescription( RESULTS_LOG_BUFFER_SIZE_DESCRIPTION )
+                .withLongOpt( RESULTS_LOG_BUFFER_SIZE_ARG_LONG ).create( RESULTS_LOG_BUFFER_SIZE_ARG );
+        options.addOption( resultsLogBufferSizeOption );
+
+        Option resultsLogFullBuffersPolicyOption = OptionBuilder.hasArgs( 1 ).withArgName( "policy" )
+                .withDescription( RESULTS_LOG_FULL_BUFFERS_POLICY_DESCRIPTION )
+                .withLongOpt( RESULTS_LOG_FULL_BUFFERS_POLICY_ARG_LONG ).create( RESULTS_LOG_FULL_BUFFERS_POLICY_ARG );
+        options.addOption( resultsLogFullBuffersPolicyOption );
+
+        Option metricsEndpointPortOption = OptionBuilder.hasArgs( 1 ).withArgName( "port" )
+                .withDescription( METRICS_ENDPOINT_PORT_DESCRIPTION )
+                .withLongOpt( METRICS_ENDPOINT_PORT_ARG_LONG ).create( METRICS_ENDPOINT_PORT_ARG );
+        options.addOption( metricsEndpointPortOption );
+
         Option propertyFileOption = OptionBuilder.hasArgs().withValueSeparator( COMMANDLINE_SEPARATOR_CHAR )
                 .withArgName( "file1" + COMMANDLINE_SEPARATOR_CHAR + "file2" ).withDescription(
                         PROPERTY_FILE_DESCRIPTION ).create( PROPERTY_FILE_ARG );
@@ -642,7 +1198,26 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                 HELP_ARG,
                 IGNORE_SCHEDULED_START_TIMES_ARG,
                 WARMUP_COUNT_ARG,
-                SKIP_COUNT_ARG
+                SKIP_COUNT_ARG,
+                OPERATION_EXECUTOR_ARG,
+                TIMING_WHEEL_SCHEDULER_ARG,
+                SPINNER_WAIT_STRATEGY_ARG,
+                CLOSED_LOOP_CLIENTS_ARG,
+                THINK_TIME_ARG,
+                THROUGHPUT_SEARCH_TRIALS_ARG,
+                DISPATCH_WINDOW_ARG,
+                BLOCKING_STREAM_THREADS_ARG,
+                COMPLETION_TIME_SERVICE_ARG,
+                COMPLETION_TIME_WINDOW_ARG,
+                COMPLETION_TIME_FILE_ARG,
+                COMPLETION_TIME_PROCESSES_ARG,
+                COMPLETION_TIME_START_TIMEOUT_ARG,
+                LATENCY_LOG_INTERVAL_ARG,
+                METRICS_SERVICE_ARG,
+                RESULTS_LOG_FORMAT_ARG,
+                RESULTS_LOG_BUFFER_SIZE_ARG,
+                RESULTS_LOG_FULL_BUFFERS_POLICY_ARG,
+                METRICS_ENDPOINT_PORT_ARG
         );
     }
 
@@ -684,6 +1259,25 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
     private final boolean ignoreScheduledStartTimes;
     private final long warmupCount;
     private final long skipCount;
+    private final OperationExecutorType operationExecutorType;
+    private final boolean timingWheelScheduler;
+    private final SpinnerWaitStrategyType spinnerWaitStrategyType;
+    private final int closedLoopClients;
+    private final long thinkTimeAsMilli;
+    private final int throughputSearchTrials;
+    private final long dispatchWindowAsMilli;
+    private final int blockingStreamThreadCount;
+    private final CompletionTimeServiceType completionTimeServiceType;
+    private final long completionTimeWindowAsMilli;
+    private final String completionTimeFilePath;
+    private final int completionTimeProcessCount;
+    private final long completionTimeStartTimeoutAsMilli;
+    private final long latencyLogIntervalAsMilli;
+    private final MetricsServiceType metricsServiceType;
+    private final ResultsLogFormat resultsLogFormat;
+    private final int resultsLogBufferSize;
+    private final AsyncResultsLogWriter.FullBuffersPolicy resultsLogFullBuffersPolicy;
+    private final int metricsEndpointPort;
 
     public ConsoleAndFileDriverConfiguration( Map<String,String> paramsMap,
             String name,
@@ -702,7 +1296,26 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
             boolean printHelp,
             boolean ignoreScheduledStartTimes,
             long warmupCount,
-            long skipCount )
+            long skipCount,
+            OperationExecutorType operationExecutorType,
+            boolean timingWheelScheduler,
+            SpinnerWaitStrategyType spinnerWaitStrategyType,
+            int closedLoopClients,
+            long thinkTimeAsMilli,
+            int throughputSearchTrials,
+            long dispatchWindowAsMilli,
+            int blockingStreamThreadCount,
+            CompletionTimeServiceType completionTimeServiceType,
+            long completionTimeWindowAsMilli,
+            String completionTimeFilePath,
+            int completionTimeProcessCount,
+            long completionTimeStartTimeoutAsMilli,
+            long latencyLogIntervalAsMilli,
+            MetricsServiceType metricsServiceType,
+            ResultsLogFormat resultsLogFormat,
+            int resultsLogBufferSize,
+            AsyncResultsLogWriter.FullBuffersPolicy resultsLogFullBuffersPolicy,
+            int metricsEndpointPort )
     {
         if ( null == paramsMap )
         {
@@ -726,6 +1339,25 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         this.ignoreScheduledStartTimes = ignoreScheduledStartTimes;
         this.warmupCount = warmupCount;
         this.skipCount = skipCount;
+        this.operationExecutorType = operationExecutorType;
+        this.timingWheelScheduler = timingWheelScheduler;
+        this.spinnerWaitStrategyType = spinnerWaitStrategyType;
+        this.closedLoopClients = closedLoopClients;
+        this.thinkTimeAsMilli = thinkTimeAsMilli;
+        this.throughputSearchTrials = throughputSearchTrials;
+        this.dispatchWindowAsMilli = dispatchWindowAsMilli;
+        this.blockingStreamThreadCount = blockingStreamThreadCount;
+        this.completionTimeServiceType = completionTimeServiceType;
+        this.completionTimeWindowAsMilli = completionTimeWindowAsMilli;
+        this.completionTimeFilePath = completionTimeFilePath;
+        this.completionTimeProcessCount = completionTimeProcessCount;
+        this.completionTimeStartTimeoutAsMilli = completionTimeStartTimeoutAsMilli;
+        this.latencyLogIntervalAsMilli = latencyLogIntervalAsMilli;
+        this.metricsServiceType = metricsServiceType;
+        this.resultsLogFormat = resultsLogFormat;
+        this.resultsLogBufferSize = resultsLogBufferSize;
+        this.resultsLogFullBuffersPolicy = resultsLogFullBuffersPolicy;
+        this.metricsEndpointPort = metricsEndpointPort;
 
         if ( null != name )
         {
@@ -762,6 +1394,25 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         paramsMap.put( IGNORE_SCHEDULED_START_TIMES_ARG, Boolean.toString( ignoreScheduledStartTimes ) );
         paramsMap.put( WARMUP_COUNT_ARG, Long.toString( warmupCount ) );
         paramsMap.put( SKIP_COUNT_ARG, Long.toString( skipCount ) );
+        paramsMap.put( OPERATION_EXECUTOR_ARG, operationExecutorType.name() );
+        paramsMap.put( TIMING_WHEEL_SCHEDULER_ARG, Boolean.toString( timingWheelScheduler ) );
+        paramsMap.put( SPINNER_WAIT_STRATEGY_ARG, spinnerWaitStrategyType.name() );
+        paramsMap.put( CLOSED_LOOP_CLIENTS_ARG, Integer.toString( closedLoopClients ) );
+        paramsMap.put( THINK_TIME_ARG, Long.toString( thinkTimeAsMilli ) );
+        paramsMap.put( THROUGHPUT_SEARCH_TRIALS_ARG, Integer.toString( throughputSearchTrials ) );
+        paramsMap.put( DISPATCH_WINDOW_ARG, Long.toString( dispatchWindowAsMilli ) );
+        paramsMap.put( BLOCKING_STREAM_THREADS_ARG, Integer.toString( blockingStreamThreadCount ) );
+        paramsMap.put( COMPLETION_TIME_SERVICE_ARG, completionTimeServiceType.name() );
+        paramsMap.put( COMPLETION_TIME_WINDOW_ARG, Long.toString( completionTimeWindowAsMilli ) );
+        paramsMap.put( COMPLETION_TIME_FILE_ARG, completionTimeFilePath );
+        paramsMap.put( COMPLETION_TIME_PROCESSES_ARG, Integer.toString( completionTimeProcessCount ) );
+        paramsMap.put( COMPLETION_TIME_START_TIMEOUT_ARG, Long.toString( completionTimeStartTimeoutAsMilli ) );
+        paramsMap.put( LATENCY_LOG_INTERVAL_ARG, Long.toString( latencyLogIntervalAsMilli ) );
+        paramsMap.put( METRICS_SERVICE_ARG, metricsServiceType.name() );
+        paramsMap.put( RESULTS_LOG_FORMAT_ARG, resultsLogFormat.name() );
+        paramsMap.put( RESULTS_LOG_BUFFER_SIZE_ARG, Integer.toString( resultsLogBufferSize ) );
+        paramsMap.put( RESULTS_LOG_FULL_BUFFERS_POLICY_ARG, resultsLogFullBuffersPolicy.name() );
+        paramsMap.put( METRICS_ENDPOINT_PORT_ARG, Integer.toString( metricsEndpointPort ) );
     }
 
     @Override
@@ -879,6 +1530,120 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         return skipCount;
     }
 
+    @Override
+    public OperationExecutorType operationExecutorType()
+    {
+        return operationExecutorType;
+    }
+
+    @Override
+    public boolean timingWheelScheduler()
+    {
+        return timingWheelScheduler;
+    }
+
+    @Override
+    public SpinnerWaitStrategyType spinnerWaitStrategyType()
+    {
+        return spinnerWaitStrategyType;
+    }
+
+    @Override
+    public int closedLoopClients()
+    {
+        return closedLoopClients;
+    }
+
+    @Override
+    public long thinkTimeAsMilli()
+    {
+        return thinkTimeAsMilli;
+    }
+
+    @Override
+    public int throughputSearchTrials()
+    {
+        return throughputSearchTrials;
+    }
+
+    @Override
+    public long dispatchWindowAsMilli()
+    {
+        return dispatchWindowAsMilli;
+    }
+
+    @Override
+    public int blockingStreamThreadCount()
+    {
+        return blockingStreamThreadCount;
+    }
+
+    @Override
+    public CompletionTimeServiceType completionTimeServiceType()
+    {
+        return completionTimeServiceType;
+    }
+
+    @Override
+    public long completionTimeWindowAsMilli()
+    {
+        return completionTimeWindowAsMilli;
+    }
+
+    @Override
+    public String completionTimeFilePath()
+    {
+        return completionTimeFilePath;
+    }
+
+    @Override
+    public int completionTimeProcessCount()
+    {
+        return completionTimeProcessCount;
+    }
+
+    @Override
+    public long completionTimeStartTimeoutAsMilli()
+    {
+        return completionTimeStartTimeoutAsMilli;
+    }
+
+    @Override
+    public long latencyLogIntervalAsMilli()
+    {
+        return latencyLogIntervalAsMilli;
+    }
+
+    @Override
+    public MetricsServiceType metricsServiceType()
+    {
+        return metricsServiceType;
+    }
+
+    @Override
+    public ResultsLogFormat resultsLogFormat()
+    {
+        return resultsLogFormat;
+    }
+
+    @Override
+    public int resultsLogBufferSize()
+    {
+        return resultsLogBufferSize;
+    }
+
+    @Override
+    public AsyncResultsLogWriter.FullBuffersPolicy resultsLogFullBuffersPolicy()
+    {
+        return resultsLogFullBuffersPolicy;
+    }
+
+    @Override
+    public int metricsEndpointPort()
+    {
+        return metricsEndpointPort;
+    }
+
     @Override
     public Map<String,String> asMap()
     {
@@ -995,6 +1760,83 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         long newSkipCount = (newParamsMapWithShortKeys.containsKey( SKIP_COUNT_ARG )) ?
                             Long.parseLong( newParamsMapWithShortKeys.get( SKIP_COUNT_ARG ) ) :
                             skipCount;
+        OperationExecutorType newOperationExecutorType =
+                (newParamsMapWithShortKeys.containsKey( OPERATION_EXECUTOR_ARG )) ?
+                OperationExecutorType.valueOf( newParamsMapWithShortKeys.get( OPERATION_EXECUTOR_ARG ) ) :
+                operationExecutorType;
+        boolean newTimingWheelScheduler =
+                (newParamsMapWithShortKeys.containsKey( TIMING_WHEEL_SCHEDULER_ARG )) ?
+                Boolean.parseBoolean( newParamsMapWithShortKeys.get( TIMING_WHEEL_SCHEDULER_ARG ) ) :
+                timingWheelScheduler;
+        SpinnerWaitStrategyType newSpinnerWaitStrategyType =
+                (newParamsMapWithShortKeys.containsKey( SPINNER_WAIT_STRATEGY_ARG )) ?
+                SpinnerWaitStrategyType.valueOf( newParamsMapWithShortKeys.get( SPINNER_WAIT_STRATEGY_ARG ) ) :
+                spinnerWaitStrategyType;
+        int newClosedLoopClients =
+                (newParamsMapWithShortKeys.containsKey( CLOSED_LOOP_CLIENTS_ARG )) ?
+                Integer.parseInt( newParamsMapWithShortKeys.get( CLOSED_LOOP_CLIENTS_ARG ) ) :
+                closedLoopClients;
+        long newThinkTimeAsMilli =
+                (newParamsMapWithShortKeys.containsKey( THINK_TIME_ARG )) ?
+                Long.parseLong( newParamsMapWithShortKeys.get( THINK_TIME_ARG ) ) :
+                thinkTimeAsMilli;
+        int newThroughputSearchTrials =
+                (newParamsMapWithShortKeys.containsKey( THROUGHPUT_SEARCH_TRIALS_ARG )) ?
+                Integer.parseInt( newParamsMapWithShortKeys.get( THROUGHPUT_SEARCH_TRIALS_ARG ) ) :
+                throughputSearchTrials;
+        long newDispatchWindowAsMilli =
+                (newParamsMapWithShortKeys.containsKey( DISPATCH_WINDOW_ARG )) ?
+                Long.parseLong( newParamsMapWithShortKeys.get( DISPATCH_WINDOW_ARG ) ) :
+                dispatchWindowAsMilli;
+        int newBlockingStreamThreadCount =
+                (newParamsMapWithShortKeys.containsKey( BLOCKING_STREAM_THREADS_ARG )) ?
+                Integer.parseInt( newParamsMapWithShortKeys.get( BLOCKING_STREAM_THREADS_ARG ) ) :
+                blockingStreamThreadCount;
+        CompletionTimeServiceType newCompletionTimeServiceType =
+                (newParamsMapWithShortKeys.containsKey( COMPLETION_TIME_SERVICE_ARG )) ?
+                CompletionTimeServiceType.valueOf( newParamsMapWithShortKeys.get( COMPLETION_TIME_SERVICE_ARG ) ) :
+                completionTimeServiceType;
+        long newCompletionTimeWindowAsMilli =
+                (newParamsMapWithShortKeys.containsKey( COMPLETION_TIME_WINDOW_ARG )) ?
+                Long.parseLong( newParamsMapWithShortKeys.get( COMPLETION_TIME_WINDOW_ARG ) ) :
+                completionTimeWindowAsMilli;
+        String newCompletionTimeFilePath =
+                (newParamsMapWithShortKeys.containsKey( COMPLETION_TIME_FILE_ARG )) ?
+                newParamsMapWithShortKeys.get( COMPLETION_TIME_FILE_ARG ) :
+                completionTimeFilePath;
+        int newCompletionTimeProcessCount =
+                (newParamsMapWithShortKeys.containsKey( COMPLETION_TIME_PROCESSES_ARG )) ?
+                Integer.parseInt( newParamsMapWithShortKeys.get( COMPLETION_TIME_PROCESSES_ARG ) ) :
+                completionTimeProcessCount;
+        long newCompletionTimeStartTimeoutAsMilli =
+                (newParamsMapWithShortKeys.containsKey( COMPLETION_TIME_START_TIMEOUT_ARG )) ?
+                Long.parseLong( newParamsMapWithShortKeys.get( COMPLETION_TIME_START_TIMEOUT_ARG ) ) :
+                completionTimeStartTimeoutAsMilli;
+        long newLatencyLogIntervalAsMilli =
+                (newParamsMapWithShortKeys.containsKey( LATENCY_LOG_INTERVAL_ARG )) ?
+                Long.parseLong( newParamsMapWithShortKeys.get( LATENCY_LOG_INTERVAL_ARG ) ) :
+                latencyLogIntervalAsMilli;
+        MetricsServiceType newMetricsServiceType =
+                (newParamsMapWithShortKeys.containsKey( METRICS_SERVICE_ARG )) ?
+                MetricsServiceType.valueOf( newParamsMapWithShortKeys.get( METRICS_SERVICE_ARG ) ) :
+                metricsServiceType;
+        ResultsLogFormat newResultsLogFormat =
+                (newParamsMapWithShortKeys.containsKey( RESULTS_LOG_FORMAT_ARG )) ?
+                ResultsLogFormat.valueOf( newParamsMapWithShortKeys.get( RESULTS_LOG_FORMAT_ARG ) ) :
+                resultsLogFormat;
+        int newResultsLogBufferSize =
+                (newParamsMapWithShortKeys.containsKey( RESULTS_LOG_BUFFER_SIZE_ARG )) ?
+                Integer.parseInt( newParamsMapWithShortKeys.get( RESULTS_LOG_BUFFER_SIZE_ARG ) ) :
+                resultsLogBufferSize;
+        AsyncResultsLogWriter.FullBuffersPolicy newResultsLogFullBuffersPolicy =
+                (newParamsMapWithShortKeys.containsKey( RESULTS_LOG_FULL_BUFFERS_POLICY_ARG )) ?
+                AsyncResultsLogWriter.FullBuffersPolicy
+                        .valueOf( newParamsMapWithShortKeys.get( RESULTS_LOG_FULL_BUFFERS_POLICY_ARG ) ) :
+                resultsLogFullBuffersPolicy;
+        int newMetricsEndpointPort =
+                (newParamsMapWithShortKeys.containsKey( METRICS_ENDPOINT_PORT_ARG )) ?
+                Integer.parseInt( newParamsMapWithShortKeys.get( METRICS_ENDPOINT_PORT_ARG ) ) :
+                metricsEndpointPort;
 
         return new ConsoleAndFileDriverConfiguration(
                 newOtherParams,
@@ -1014,7 +1856,26 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                 newPrintHelp,
                 newIgnoreScheduledStartTimes,
                 newWarmupCount,
-                newSkipCount
+                newSkipCount,
+                newOperationExecutorType,
+                newTimingWheelScheduler,
+                newSpinnerWaitStrategyType,
+                newClosedLoopClients,
+                newThinkTimeAsMilli,
+                newThroughputSearchTrials,
+                newDispatchWindowAsMilli,
+                newBlockingStreamThreadCount,
+                newCompletionTimeServiceType,
+                newCompletionTimeWindowAsMilli,
+                newCompletionTimeFilePath,
+                newCompletionTimeProcessCount,
+                newCompletionTimeStartTimeoutAsMilli,
+                newLatencyLogIntervalAsMilli,
+                newMetricsServiceType,
+                newResultsLogFormat,
+                newResultsLogBufferSize,
+                newResultsLogFullBuffersPolicy,
+                newMetricsEndpointPort
         );
     }
 
@@ -1036,6 +1897,7 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         argsList.addAll( Lists.newArrayList( "-" + THREADS_ARG, Integer.toString( threadCount ) ) );
         argsList.addAll( Lists.newArrayList( "-" + WARMUP_COUNT_ARG, Long.toString( warmupCount ) ) );
         argsList.addAll( Lists.newArrayList( "-" + SKIP_COUNT_ARG, Long.toString( skipCount ) ) );
+        argsList.addAll( Lists.newArrayList( "-" + OPERATION_EXECUTOR_ARG, operationExecutorType.name() ) );
         if ( null != name )
         {
             argsList.addAll( Lists.newArrayList( "-" + NAME_ARG, name ) );
@@ -1070,6 +1932,38 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         {
             argsList.add( "-" + IGNORE_SCHEDULED_START_TIMES_ARG );
         }
+        if ( timingWheelScheduler )
+        {
+            argsList.add( "-" + TIMING_WHEEL_SCHEDULER_ARG );
+        }
+        argsList.addAll( Lists.newArrayList( "-" + SPINNER_WAIT_STRATEGY_ARG, spinnerWaitStrategyType.name() ) );
+        argsList.addAll( Lists.newArrayList( "-" + CLOSED_LOOP_CLIENTS_ARG, Integer.toString( closedLoopClients ) ) );
+        argsList.addAll( Lists.newArrayList( "-" + THINK_TIME_ARG, Long.toString( thinkTimeAsMilli ) ) );
+        argsList.addAll(
+                Lists.newArrayList( "-" + THROUGHPUT_SEARCH_TRIALS_ARG, Integer.toString( throughputSearchTrials ) ) );
+        argsList.addAll( Lists.newArrayList( "-" + DISPATCH_WINDOW_ARG, Long.toString( dispatchWindowAsMilli ) ) );
+        argsList.addAll( Lists.newArrayList(
+                "-" + BLOCKING_STREAM_THREADS_ARG, Integer.toString( blockingStreamThreadCount ) ) );
+        argsList.addAll( Lists.newArrayList( "-" + COMPLETION_TIME_SERVICE_ARG, completionTimeServiceType.name() ) );
+        argsList.addAll(
+                Lists.newArrayList( "-" + COMPLETION_TIME_WINDOW_ARG, Long.toString( completionTimeWindowAsMilli ) ) );
+        argsList.addAll( Lists.newArrayList( "-" + COMPLETION_TIME_FILE_ARG, completionTimeFilePath ) );
+        argsList.addAll(
+                Lists.newArrayList( "-" + COMPLETION_TIME_PROCESSES_ARG,
+                        Integer.toString( completionTimeProcessCount ) ) );
+        argsList.addAll(
+                Lists.newArrayList( "-" + COMPLETION_TIME_START_TIMEOUT_ARG,
+                        Long.toString( completionTimeStartTimeoutAsMilli ) ) );
+        argsList.addAll(
+                Lists.newArrayList( "-" + LATENCY_LOG_INTERVAL_ARG, Long.toString( latencyLogIntervalAsMilli ) ) );
+        argsList.addAll( Lists.newArrayList( "-" + METRICS_SERVICE_ARG, metricsServiceType.name() ) );
+        argsList.addAll( Lists.newArrayList( "-" + RESULTS_LOG_FORMAT_ARG, resultsLogFormat.name() ) );
+        argsList.addAll(
+                Lists.newArrayList( "-" + RESULTS_LOG_BUFFER_SIZE_ARG, Integer.toString( resultsLogBufferSize ) ) );
+        argsList.addAll( Lists.newArrayList( "-" + RESULTS_LOG_FULL_BUFFERS_POLICY_ARG,
+                resultsLogFullBuffersPolicy.name() ) );
+        argsList.addAll(
+                Lists.newArrayList( "-" + METRICS_ENDPOINT_PORT_ARG, Integer.toString( metricsEndpointPort ) ) );
         // additional, workload/database-related params
         Map<String,String> additionalParameters =
                 MapUtils.copyExcludingKeys( paramsMap, coreConfigurationParameterKeys() );
@@ -1106,6 +2000,12 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                 .append( "\n" );
         sb.append( THREADS_ARG_LONG ).append( "=" ).append( threadCount ).append( "\n" );
         sb.append( "\n" );
+        sb.append( "# executor used to run operation handlers of asynchronous stream\n" );
+        sb.append( "# ENUM (" ).append( Arrays.toString( OperationExecutorType.values() ) ).append( ")\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( OPERATION_EXECUTOR_ARG ).append( "/--" )
+                .append( OPERATION_EXECUTOR_ARG_LONG ).append( "\n" );
+        sb.append( OPERATION_EXECUTOR_ARG_LONG ).append( "=" ).append( operationExecutorType ).append( "\n" );
+        sb.append( "\n" );
         sb.append( "# number of operations to execute during warmup phase of workload\n" );
         sb.append( "# INT-64\n" );
         sb.append( "# COMMAND: " ).append( "-" ).append( WARMUP_COUNT_ARG ).append( "/--" )
@@ -1216,6 +2116,140 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         sb.append( "# COMMAND: " ).append( "-" ).append( IGNORE_SCHEDULED_START_TIMES_ARG ).append( "\n" );
         sb.append( IGNORE_SCHEDULED_START_TIMES_ARG ).append( "=" ).append( ignoreScheduledStartTimes ).append( "\n" );
         sb.append( "\n" );
+        sb.append(
+                "# releases operations from a timing wheel when due, instead of worker threads waiting for scheduled " +
+                "start times\n" );
+        sb.append( "# BOOLEAN\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( TIMING_WHEEL_SCHEDULER_ARG ).append( "\n" );
+        sb.append( TIMING_WHEEL_SCHEDULER_ARG ).append( "=" ).append( timingWheelScheduler ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# wait strategy used while waiting for scheduled start times and dependencies\n" );
+        sb.append( "# ENUM (" ).append( Arrays.toString( SpinnerWaitStrategyType.values() ) ).append( ")\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( SPINNER_WAIT_STRATEGY_ARG ).append( "/--" )
+                .append( SPINNER_WAIT_STRATEGY_ARG_LONG ).append( "\n" );
+        sb.append( SPINNER_WAIT_STRATEGY_ARG_LONG ).append( "=" ).append( spinnerWaitStrategyType ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# number of clients in closed-loop mode, each executing its next operation as soon as its\n" );
+        sb.append( "# previous one completed, ignoring scheduled start times\n" );
+        sb.append( "# (0 = open-loop, scheduled start times are respected)\n" );
+        sb.append( "# INT-32\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( CLOSED_LOOP_CLIENTS_ARG ).append( "/--" )
+                .append( CLOSED_LOOP_CLIENTS_ARG_LONG ).append( "\n" );
+        sb.append( CLOSED_LOOP_CLIENTS_ARG_LONG ).append( "=" ).append( closedLoopClients ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# time a closed-loop client waits between completing an operation and starting its next one\n" );
+        sb.append( "# INT-64 (milliseconds)\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( THINK_TIME_ARG ).append( "/--" )
+                .append( THINK_TIME_ARG_LONG ).append( "\n" );
+        sb.append( THINK_TIME_ARG_LONG ).append( "=" ).append( thinkTimeAsMilli ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# number of trials to run when searching for the lowest time compression ratio (highest\n" );
+        sb.append( "# throughput) that passes results validation, starting from the configured ratio\n" );
+        sb.append( "# (0 = execute workload once)\n" );
+        sb.append( "# INT-32\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( THROUGHPUT_SEARCH_TRIALS_ARG ).append( "/--" )
+                .append( THROUGHPUT_SEARCH_TRIALS_ARG_LONG ).append( "\n" );
+        sb.append( THROUGHPUT_SEARCH_TRIALS_ARG_LONG ).append( "=" ).append( throughputSearchTrials ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# operations of the asynchronous stream due within this duration of one another are handed\n" );
+        sb.append( "# to the executor as one batch (0 = one operation at a time)\n" );
+        sb.append( "# INT-64 (milliseconds)\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( DISPATCH_WINDOW_ARG ).append( "/--" )
+                .append( DISPATCH_WINDOW_ARG_LONG ).append( "\n" );
+        sb.append( DISPATCH_WINDOW_ARG_LONG ).append( "=" ).append( dispatchWindowAsMilli ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# number of threads per blocking stream, operations of a stream that touch different entities\n" );
+        sb.append( "# then execute concurrently, only for workloads that define conflict keys (1 = serial)\n" );
+        sb.append( "# INT-32\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( BLOCKING_STREAM_THREADS_ARG ).append( "/--" )
+                .append( BLOCKING_STREAM_THREADS_ARG_LONG ).append( "\n" );
+        sb.append( BLOCKING_STREAM_THREADS_ARG_LONG ).append( "=" ).append( blockingStreamThreadCount ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# completion time service implementation, DISRUPTOR_* variants differ in how the service\n" );
+        sb.append( "# thread waits for events\n" );
+        sb.append( "# ENUM (" ).append( Arrays.toString( CompletionTimeServiceType.values() ) ).append( ")\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( COMPLETION_TIME_SERVICE_ARG ).append( "/--" )
+                .append( COMPLETION_TIME_SERVICE_ARG_LONG ).append( "\n" );
+        sb.append( COMPLETION_TIME_SERVICE_ARG_LONG ).append( "=" ).append( completionTimeServiceType ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# initiated and completed times are forwarded to the completion time service once per this\n" );
+        sb.append( "# duration of scheduled time, must be shorter than the time between operations and their\n" );
+        sb.append( "# dependencies (0 = every time)\n" );
+        sb.append( "# INT-64 (milliseconds)\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( COMPLETION_TIME_WINDOW_ARG ).append( "/--" )
+                .append( COMPLETION_TIME_WINDOW_ARG_LONG ).append( "\n" );
+        sb.append( COMPLETION_TIME_WINDOW_ARG_LONG ).append( "=" ).append( completionTimeWindowAsMilli ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# file through which driver processes on the same host share completion time, only used by\n" );
+        sb.append( "# SHARED_FILE completion time service, must not exist before a run, warmup uses another with\n" );
+        sb.append( "# .warmup appended\n" );
+        sb.append( "# STRING\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( COMPLETION_TIME_FILE_ARG ).append( "/--" )
+                .append( COMPLETION_TIME_FILE_ARG_LONG ).append( "\n" );
+        sb.append( COMPLETION_TIME_FILE_ARG_LONG ).append( "=" ).append( completionTimeFilePath ).append( "\n" );
+        sb.append( "\n" );
+        sb.append(
+                "# number of driver processes that share completion time, only used by SHARED_FILE completion time\n" );
+        sb.append( "# service\n" );
+        sb.append( "# INT-32\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( COMPLETION_TIME_PROCESSES_ARG ).append( "/--" )
+                .append( COMPLETION_TIME_PROCESSES_ARG_LONG ).append( "\n" );
+        sb.append( COMPLETION_TIME_PROCESSES_ARG_LONG ).append( "=" ).append( completionTimeProcessCount )
+                .append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# duration to wait for completion time to reach the start of the workload before failing, with\n" );
+        sb.append( "# SHARED_FILE completion time service it is only defined once all processes have started\n" );
+        sb.append( "# INT-64 (milliseconds)\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( COMPLETION_TIME_START_TIMEOUT_ARG ).append( "/--" )
+                .append( COMPLETION_TIME_START_TIMEOUT_ARG_LONG ).append( "\n" );
+        sb.append( COMPLETION_TIME_START_TIMEOUT_ARG_LONG ).append( "=" ).append( completionTimeStartTimeoutAsMilli )
+                .append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# duration of latency log intervals, runtime histograms of every operation type are written to\n" );
+        sb.append( "# the results directory once per interval (0 = disabled)\n" );
+        sb.append( "# INT-64 (milliseconds)\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( LATENCY_LOG_INTERVAL_ARG ).append( "/--" )
+                .append( LATENCY_LOG_INTERVAL_ARG_LONG ).append( "\n" );
+        sb.append( LATENCY_LOG_INTERVAL_ARG_LONG ).append( "=" ).append( latencyLogIntervalAsMilli ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# metrics service implementation, PER_WRITER_HISTOGRAM records results on the threads that\n" );
+        sb.append( "# submit them, rather than on one consumer thread\n" );
+        sb.append( "# ENUM (" ).append( Arrays.toString( MetricsServiceType.values() ) ).append( ")\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( METRICS_SERVICE_ARG ).append( "/--" )
+                .append( METRICS_SERVICE_ARG_LONG ).append( "\n" );
+        sb.append( METRICS_SERVICE_ARG_LONG ).append( "=" ).append( metricsServiceType ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# format of results log, BINARY writes fixed width records, which BinaryResultsLogConverter\n" );
+        sb.append( "# converts to CSV\n" );
+        sb.append( "# ENUM (" ).append( Arrays.toString( ResultsLogFormat.values() ) ).append( ")\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( RESULTS_LOG_FORMAT_ARG ).append( "/--" )
+                .append( RESULTS_LOG_FORMAT_ARG_LONG ).append( "\n" );
+        sb.append( RESULTS_LOG_FORMAT_ARG_LONG ).append( "=" ).append( resultsLogFormat ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# size (bytes) of each of the buffers a separate thread writes CSV results log from, 0 writes\n" );
+        sb.append( "# results log on metrics thread\n" );
+        sb.append( "# INT-32\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( RESULTS_LOG_BUFFER_SIZE_ARG ).append( "/--" )
+                .append( RESULTS_LOG_BUFFER_SIZE_ARG_LONG ).append( "\n" );
+        sb.append( RESULTS_LOG_BUFFER_SIZE_ARG_LONG ).append( "=" ).append( resultsLogBufferSize ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# what buffered results log does when disk can not keep up, DROP drops rows and fails the run\n" );
+        sb.append( "# once it completes, BLOCK makes metrics thread wait, which back-pressures workers and adds\n" );
+        sb.append( "# latency to measured operations\n" );
+        sb.append( "# ENUM (" ).append( Arrays.toString( AsyncResultsLogWriter.FullBuffersPolicy.values() ) )
+                .append( ")\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( RESULTS_LOG_FULL_BUFFERS_POLICY_ARG ).append( "/--" )
+                .append( RESULTS_LOG_FULL_BUFFERS_POLICY_ARG_LONG ).append( "\n" );
+        sb.append( RESULTS_LOG_FULL_BUFFERS_POLICY_ARG_LONG ).append( "=" ).append( resultsLogFullBuffersPolicy )
+                .append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# port of HTTP endpoint that serves live metrics in Prometheus text format at\n" );
+        sb.append( "# /metrics, refreshed at status display interval, 0 disables endpoint\n" );
+        sb.append( "# INT-32\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( METRICS_ENDPOINT_PORT_ARG ).append( "/--" )
+                .append( METRICS_ENDPOINT_PORT_ARG_LONG ).append( "\n" );
+        sb.append( METRICS_ENDPOINT_PORT_ARG_LONG ).append( "=" ).append( metricsEndpointPort ).append( "\n" );
+        sb.append( "\n" );
         sb.append( "# ***************************************************************\n" );
         sb.append( "# *** the following should be set by workload implementations ***\n" );
         sb.append( "# ***************************************************************\n" );
@@ -1301,6 +2335,8 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                 .append( INTEGRAL_FORMAT.format( skipCount ) ).append( "\n" );
         sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Worker Threads:" ) )
                 .append( threadCount ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Operation Executor:" ) )
+                .append( operationExecutorType ).append( "\n" );
         sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Status Display Interval:" ) ).append(
                 TEMPORAL_UTIL.milliDurationToString( TimeUnit.SECONDS.toMillis( statusDisplayIntervalAsSeconds ) ) )
                 .append( "\n" );
@@ -1328,6 +2364,42 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                 .append( "\n" );
         sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Ignore Scheduled Start Times:" ) )
                 .append( ignoreScheduledStartTimes ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Timing Wheel Scheduler:" ) )
+                .append( timingWheelScheduler ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Spinner Wait Strategy:" ) )
+                .append( spinnerWaitStrategyType ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Closed Loop Clients:" ) )
+                .append( closedLoopClients ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Think Time (ms):" ) )
+                .append( thinkTimeAsMilli ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Throughput Search Trials:" ) )
+                .append( throughputSearchTrials ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Dispatch Window (ms):" ) )
+                .append( dispatchWindowAsMilli ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Blocking Stream Threads:" ) )
+                .append( blockingStreamThreadCount ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Completion Time Service:" ) )
+                .append( completionTimeServiceType ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Completion Time Window (ms):" ) )
+                .append( completionTimeWindowAsMilli ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Completion Time File:" ) )
+                .append( completionTimeFilePath ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Completion Time Processes:" ) )
+                .append( completionTimeProcessCount ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Completion Time Timeout (ms):" ) )
+                .append( completionTimeStartTimeoutAsMilli ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Latency Log Interval (ms):" ) )
+                .append( latencyLogIntervalAsMilli ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Metrics Service:" ) )
+                .append( metricsServiceType ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Results Log Format:" ) )
+                .append( resultsLogFormat ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Results Log Buffer Size:" ) )
+                .append( resultsLogBufferSize ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Results Log Full Buffers:" ) )
+                .append( resultsLogFullBuffersPolicy ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Metrics Endpoint Port:" ) )
+                .append( metricsEndpointPort ).append( "\n" );
 
         Set<String> excludedKeys = coreConfigurationParameterKeys();
 
@@ -1380,10 +2452,18 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         {
             return false;
         }
+        if ( timingWheelScheduler != that.timingWheelScheduler )
+        {
+            return false;
+        }
         if ( threadCount != that.threadCount )
         {
             return false;
         }
+        if ( operationExecutorType != that.operationExecutorType )
+        {
+            return false;
+        }
         if ( Double.compare( that.timeCompressionRatio, timeCompressionRatio ) != 0 )
         {
             return false;
@@ -1427,6 +2507,75 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         {
             return false;
         }
+        if ( spinnerWaitStrategyType != that.spinnerWaitStrategyType )
+        {
+            return false;
+        }
+        if ( closedLoopClients != that.closedLoopClients )
+        {
+            return false;
+        }
+        if ( thinkTimeAsMilli != that.thinkTimeAsMilli )
+        {
+            return false;
+        }
+        if ( throughputSearchTrials != that.throughputSearchTrials )
+        {
+            return false;
+        }
+        if ( dispatchWindowAsMilli != that.dispatchWindowAsMilli )
+        {
+            return false;
+        }
+        if ( blockingStreamThreadCount != that.blockingStreamThreadCount )
+        {
+            return false;
+        }
+        if ( completionTimeServiceType != that.completionTimeServiceType )
+        {
+            return false;
+        }
+        if ( completionTimeWindowAsMilli != that.completionTimeWindowAsMilli )
+        {
+            return false;
+        }
+        if ( completionTimeFilePath != null ? !completionTimeFilePath.equals( that.completionTimeFilePath )
+                                            : that.completionTimeFilePath != null )
+        {
+            return false;
+        }
+        if ( completionTimeProcessCount != that.completionTimeProcessCount )
+        {
+            return false;
+        }
+        if ( completionTimeStartTimeoutAsMilli != that.completionTimeStartTimeoutAsMilli )
+        {
+            return false;
+        }
+        if ( latencyLogIntervalAsMilli != that.latencyLogIntervalAsMilli )
+        {
+            return false;
+        }
+        if ( metricsServiceType != that.metricsServiceType )
+        {
+            return false;
+        }
+        if ( resultsLogFormat != that.resultsLogFormat )
+        {
+            return false;
+        }
+        if ( resultsLogBufferSize != that.resultsLogBufferSize )
+        {
+            return false;
+        }
+        if ( resultsLogFullBuffersPolicy != that.resultsLogFullBuffersPolicy )
+        {
+            return false;
+        }
+        if ( metricsEndpointPort != that.metricsEndpointPort )
+        {
+            return false;
+        }
 
         return true;
     }
@@ -1443,6 +2592,7 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         result = 31 * result + (int) (warmupCount ^ (warmupCount >>> 32));
         result = 31 * result + (int) (skipCount ^ (skipCount >>> 32));
         result = 31 * result + threadCount;
+        result = 31 * result + (operationExecutorType != null ? operationExecutorType.hashCode() : 0);
         result = 31 * result + statusDisplayIntervalAsSeconds;
         result = 31 * result + (timeUnit != null ? timeUnit.hashCode() : 0);
         result = 31 * result + (resultDirPath != null ? resultDirPath.hashCode() : 0);
@@ -1454,6 +2604,25 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         result = 31 * result + (int) (spinnerSleepDurationAsMilli ^ (spinnerSleepDurationAsMilli >>> 32));
         result = 31 * result + (printHelp ? 1 : 0);
         result = 31 * result + (ignoreScheduledStartTimes ? 1 : 0);
+        result = 31 * result + (timingWheelScheduler ? 1 : 0);
+        result = 31 * result + (spinnerWaitStrategyType != null ? spinnerWaitStrategyType.hashCode() : 0);
+        result = 31 * result + closedLoopClients;
+        result = 31 * result + (int) (thinkTimeAsMilli ^ (thinkTimeAsMilli >>> 32));
+        result = 31 * result + throughputSearchTrials;
+        result = 31 * result + (int) (dispatchWindowAsMilli ^ (dispatchWindowAsMilli >>> 32));
+        result = 31 * result + blockingStreamThreadCount;
+        result = 31 * result + (completionTimeServiceType != null ? completionTimeServiceType.hashCode() : 0);
+        result = 31 * result + (int) (completionTimeWindowAsMilli ^ (completionTimeWindowAsMilli >>> 32));
+        result = 31 * result + (completionTimeFilePath != null ? completionTimeFilePath.hashCode() : 0);
+        result = 31 * result + completionTimeProcessCount;
+        result = 31 * result +
+                 (int) (completionTimeStartTimeoutAsMilli ^ (completionTimeStartTimeoutAsMilli >>> 32));
+        result = 31 * result + (int) (latencyLogIntervalAsMilli ^ (latencyLogIntervalAsMilli >>> 32));
+        result = 31 * result + (metricsServiceType != null ? metricsServiceType.hashCode() : 0);
+        result = 31 * result + (resultsLogFormat != null ? resultsLogFormat.hashCode() : 0);
+        result = 31 * result + resultsLogBufferSize;
+        result = 31 * result + (resultsLogFullBuffersPolicy != null ? resultsLogFullBuffersPolicy.hashCode() : 0);
+        result = 31 * result + metricsEndpointPort;
         return result;
     }
 
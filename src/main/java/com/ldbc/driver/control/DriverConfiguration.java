@@ -1,5 +1,12 @@
 package com.ldbc.driver.control;
 
+import com.ldbc.driver.runtime.coordination.CompletionTimeServiceType;
+import com.ldbc.driver.runtime.executor.OperationExecutorType;
+import com.ldbc.driver.runtime.metrics.AsyncResultsLogWriter;
+import com.ldbc.driver.runtime.metrics.MetricsServiceType;
+import com.ldbc.driver.runtime.metrics.ResultsLogFormat;
+import com.ldbc.driver.runtime.scheduling.SpinnerWaitStrategyType;
+
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
@@ -41,6 +48,44 @@ public interface DriverConfiguration
 
     long skipCount();
 
+    OperationExecutorType operationExecutorType();
+
+    boolean timingWheelScheduler();
+
+    SpinnerWaitStrategyType spinnerWaitStrategyType();
+
+    int closedLoopClients();
+
+    long thinkTimeAsMilli();
+
+    int throughputSearchTrials();
+
+    long dispatchWindowAsMilli();
+
+    int blockingStreamThreadCount();
+
+    CompletionTimeServiceType completionTimeServiceType();
+
+    long completionTimeWindowAsMilli();
+
+    String completionTimeFilePath();
+
+    int completionTimeProcessCount();
+
+    long completionTimeStartTimeoutAsMilli();
+
+    long latencyLogIntervalAsMilli();
+
+    MetricsServiceType metricsServiceType();
+
+    ResultsLogFormat resultsLogFormat();
+
+    int resultsLogBufferSize();
+
+    AsyncResultsLogWriter.FullBuffersPolicy resultsLogFullBuffersPolicy();
+
+    int metricsEndpointPort();
+
     String toPropertiesString() throws DriverConfigurationException;
 
     Map<String,String> asMap();
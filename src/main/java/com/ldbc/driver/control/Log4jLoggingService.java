@@ -1,5 +1,6 @@
 package com.ldbc.driver.control;
 
+import com.ldbc.driver.runtime.metrics.DriverInternalMetricsSnapshot;
 import com.ldbc.driver.runtime.metrics.SimpleDetailedWorkloadMetricsFormatter;
 import com.ldbc.driver.runtime.metrics.SimpleSummaryWorkloadMetricsFormatter;
 import com.ldbc.driver.runtime.metrics.WorkloadMetricsFormatter;
@@ -45,6 +46,16 @@ public class Log4jLoggingService implements LoggingService
             WorkloadStatusSnapshot status,
             RecentThroughputAndDuration recentThroughputAndDuration,
             long completionTimeAsMilli )
+    {
+        status( status, recentThroughputAndDuration, completionTimeAsMilli, null );
+    }
+
+    @Override
+    public void status(
+            WorkloadStatusSnapshot status,
+            RecentThroughputAndDuration recentThroughputAndDuration,
+            long completionTimeAsMilli,
+            DriverInternalMetricsSnapshot driverInternals )
     {
         String statusString;
         statusString = (detailedStatus) ?
@@ -63,6 +74,10 @@ public class Log4jLoggingService implements LoggingService
                                status.throughput(),
                                recentThroughputAndDuration.throughput(),
                                recentThroughputAndDuration.duration() );
+        if ( detailedStatus && null != driverInternals )
+        {
+            statusString += ", Driver: " + driverInternals;
+        }
         logger.info( statusString );
     }
 
@@ -1,5 +1,6 @@
 package com.ldbc.driver.control;
 
+import com.ldbc.driver.runtime.metrics.DriverInternalMetricsSnapshot;
 import com.ldbc.driver.runtime.metrics.WorkloadResultsSnapshot;
 import com.ldbc.driver.runtime.metrics.WorkloadStatusSnapshot;
 
@@ -11,6 +12,17 @@ public interface LoggingService
             RecentThroughputAndDuration recentThroughputAndDuration,
             long completionTimeAsMilli );
 
+    /**
+     * @param driverInternals may be null, ignored unless implementation overrides this method
+     */
+    default void status( WorkloadStatusSnapshot workloadStatusSnapshot,
+            RecentThroughputAndDuration recentThroughputAndDuration,
+            long completionTimeAsMilli,
+            DriverInternalMetricsSnapshot driverInternals )
+    {
+        status( workloadStatusSnapshot, recentThroughputAndDuration, completionTimeAsMilli );
+    }
+
     void summaryResult( WorkloadResultsSnapshot workloadResultsSnapshot );
 
     void detailedResult( WorkloadResultsSnapshot workloadResultsSnapshot );
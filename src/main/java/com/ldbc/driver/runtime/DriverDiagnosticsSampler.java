@@ -0,0 +1,452 @@
+package com.ldbc.driver.runtime;
+
+import com.ldbc.driver.csv.simple.SimpleCsvFileWriter;
+import com.ldbc.driver.runtime.metrics.DriverDiagnosticsSnapshot;
+import com.ldbc.driver.temporal.TimeSource;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Periodically samples CPU time of driver thread groups, allocation, GC and heap use of the driver JVM, through JMX,
+ * to show whether the driver itself was the bottleneck of a run.
+ * <p/>
+ * Thread CPU time and allocated bytes are only sampled for live threads, so whatever a thread used between its last
+ * sample and its death is not counted. Results are only safe to read after stop() returned.
+ * <p/>
+ * Virtual threads are not visible through JMX, so when operations execute on virtual threads, CPU time of workers is
+ * that of the carrier threads of the default virtual thread scheduler. Carrier threads also run any other virtual
+ * threads of the driver JVM, e.g., of a database connector, which are counted as workers too.
+ */
+public class DriverDiagnosticsSampler
+{
+    public static final long DEFAULT_SAMPLING_INTERVAL_AS_MILLI = TimeUnit.SECONDS.toMillis( 1 );
+    private static final String HEADER_TIME = "time";
+    private static final String HEADER_PROCESS_CPU_UTILIZATION = "process_cpu_utilization";
+    private static final String HEADER_CPU_TIME_PREFIX = "cpu_time_ms_";
+    private static final String HEADER_ALLOCATED_BYTES = "allocated_bytes";
+    private static final String HEADER_GC_COUNT = "gc_count";
+    private static final String HEADER_GC_TIME = "gc_time_ms";
+    private static final String HEADER_HEAP_USED_BYTES = "heap_used_bytes";
+    // threads of default virtual thread scheduler, a fork join pool without thread factory
+    private static final Pattern VIRTUAL_THREAD_CARRIER_NAME = Pattern.compile( "ForkJoinPool-\\d+-worker-\\d+" );
+
+    /**
+     * Groups driver threads by name, all driver threads are named after the class that creates them
+     */
+    public enum DriverThreadGroup
+    {
+        WORKERS(
+                "ThreadPoolOperationExecutor",
+                "AsyncOperationExecutor",
+                "ConflictAwareOperationExecutor",
+                "WorkStealingOperationExecutor",
+                "ClosedLoopOperationExecutor",
+                "SingleThreadOperationExecutorThread" ),
+        DISPATCHERS(
+                "OperationStreamExecutorServiceThread",
+                "TimingWheelSchedulerThread",
+                "CompletionTimeReleasingOperationExecutor" ),
+        METRICS(
+                "DisruptorSbeMetricsService",
+                "ThreadedQueuedMetricsServiceThread",
+                "AsyncResultsLogWriter" ),
+        COMPLETION_TIME(
+                "DisruptorCompletionTimeService",
+                "ThreadedQueuedCompletionTimeServiceThread",
+                "SharedFileCompletionTimeService" ),
+        OTHER;
+
+        private final String[] threadNamePrefixes;
+
+        DriverThreadGroup( String... threadNamePrefixes )
+        {
+            this.threadNamePrefixes = threadNamePrefixes;
+        }
+
+        static DriverThreadGroup forThreadName( String threadName )
+        {
+            for ( DriverThreadGroup group : values() )
+            {
+                for ( String threadNamePrefix : group.threadNamePrefixes )
+                {
+                    if ( threadName.startsWith( threadNamePrefix ) )
+                    {
+                        return group;
+                    }
+                }
+            }
+            return OTHER;
+        }
+
+        static DriverThreadGroup forThreadName( String threadName, boolean virtualThreadWorkers )
+        {
+            return (virtualThreadWorkers && VIRTUAL_THREAD_CARRIER_NAME.matcher( threadName ).matches())
+                   ? WORKERS
+                   : forThreadName( threadName );
+        }
+    }
+
+    private final TimeSource timeSource;
+    private final long samplingIntervalAsMilli;
+    private final boolean virtualThreadWorkers;
+    private final ThreadMXBean threadMXBean;
+    private final com.sun.management.ThreadMXBean extendedThreadMXBean;
+    private final com.sun.management.OperatingSystemMXBean extendedOperatingSystemMXBean;
+    private final List<GarbageCollectorMXBean> garbageCollectorMXBeans;
+    private final List<MemoryPoolMXBean> heapMemoryPoolMXBeans;
+    private final int availableProcessors;
+    private final boolean threadCpuTimeSupported;
+    private final boolean threadAllocatedBytesSupported;
+    private final CountDownLatch stopped = new CountDownLatch( 1 );
+    private Thread samplingThread = null;
+
+    // only accessed by sampling thread, or once it has terminated
+    private final Map<Long,DriverThreadGroup> threadGroups = new HashMap<>();
+    private final Map<Long,Long> previousThreadCpuTimesAsNano = new HashMap<>();
+    private final Map<Long,Long> previousThreadAllocatedBytes = new HashMap<>();
+    private final List<long[]> samples = new ArrayList<>();
+    private final long[] groupCpuTimesAsNano = new long[DriverThreadGroup.values().length];
+    private long allocatedBytes = 0;
+    private long firstSampleTimeAsMilli = -1;
+    private long previousSampleTimeAsMilli = -1;
+    private long firstProcessCpuTimeAsNano = -1;
+    private long previousProcessCpuTimeAsNano = -1;
+    private long firstGcCount = 0;
+    private long previousGcCount = 0;
+    private long firstGcTimeAsMilli = 0;
+    private long previousGcTimeAsMilli = 0;
+    private double maxProcessCpuUtilization = 0;
+    private double maxAllocationRate = 0;
+    private long maxIntervalGcTimeAsMilli = 0;
+    private long maxHeapUsedBytes = 0;
+
+    public DriverDiagnosticsSampler( TimeSource timeSource, long samplingIntervalAsMilli )
+    {
+        this( timeSource, samplingIntervalAsMilli, false );
+    }
+
+    /**
+     * @param virtualThreadWorkers operations execute on virtual threads, so carrier threads are counted as workers
+     */
+    public DriverDiagnosticsSampler( TimeSource timeSource, long samplingIntervalAsMilli, boolean virtualThreadWorkers )
+    {
+        this.timeSource = timeSource;
+        this.samplingIntervalAsMilli = samplingIntervalAsMilli;
+        this.virtualThreadWorkers = virtualThreadWorkers;
+        this.threadMXBean = ManagementFactory.getThreadMXBean();
+        this.extendedThreadMXBean = (threadMXBean instanceof com.sun.management.ThreadMXBean)
+                                    ? (com.sun.management.ThreadMXBean) threadMXBean
+                                    : null;
+        OperatingSystemMXBean operatingSystemMXBean = ManagementFactory.getOperatingSystemMXBean();
+        this.extendedOperatingSystemMXBean =
+                (operatingSystemMXBean instanceof com.sun.management.OperatingSystemMXBean)
+                ? (com.sun.management.OperatingSystemMXBean) operatingSystemMXBean
+                : null;
+        this.garbageCollectorMXBeans = ManagementFactory.getGarbageCollectorMXBeans();
+        this.heapMemoryPoolMXBeans = new ArrayList<>();
+        for ( MemoryPoolMXBean memoryPoolMXBean : ManagementFactory.getMemoryPoolMXBeans() )
+        {
+            if ( MemoryType.HEAP == memoryPoolMXBean.getType() && memoryPoolMXBean.isValid() )
+            {
+                heapMemoryPoolMXBeans.add( memoryPoolMXBean );
+            }
+        }
+        this.availableProcessors = operatingSystemMXBean.getAvailableProcessors();
+        this.threadCpuTimeSupported = threadMXBean.isThreadCpuTimeSupported();
+        if ( threadCpuTimeSupported && false == threadMXBean.isThreadCpuTimeEnabled() )
+        {
+            threadMXBean.setThreadCpuTimeEnabled( true );
+        }
+        this.threadAllocatedBytesSupported =
+                null != extendedThreadMXBean && extendedThreadMXBean.isThreadAllocatedMemorySupported();
+        if ( threadAllocatedBytesSupported && false == extendedThreadMXBean.isThreadAllocatedMemoryEnabled() )
+        {
+            extendedThreadMXBean.setThreadAllocatedMemoryEnabled( true );
+        }
+    }
+
+    synchronized public void start()
+    {
+        if ( null != samplingThread )
+        {
+            throw new IllegalStateException( "Sampler has already been started" );
+        }
+        for ( MemoryPoolMXBean heapMemoryPoolMXBean : heapMemoryPoolMXBeans )
+        {
+            heapMemoryPoolMXBean.resetPeakUsage();
+        }
+        // baseline, so that only what is used from now on is counted
+        sample();
+        samplingThread = new Thread(
+                this::sampleUntilStopped,
+                DriverDiagnosticsSampler.class.getSimpleName() + "-" + System.currentTimeMillis() );
+        samplingThread.setDaemon( true );
+        samplingThread.start();
+    }
+
+    /**
+     * Stops sampling thread and takes one last sample
+     */
+    synchronized public void stop() throws InterruptedException
+    {
+        if ( null == samplingThread || 0 == stopped.getCount() )
+        {
+            return;
+        }
+        stopped.countDown();
+        samplingThread.join();
+        sample();
+    }
+
+    public DriverDiagnosticsSnapshot snapshot()
+    {
+        Map<String,Long> threadGroupCpuTimesAsNano = new LinkedHashMap<>();
+        for ( DriverThreadGroup group : DriverThreadGroup.values() )
+        {
+            threadGroupCpuTimesAsNano.put(
+                    group.name(),
+                    (threadCpuTimeSupported) ? groupCpuTimesAsNano[group.ordinal()] : -1 );
+        }
+        Map<String,Long> memoryPoolPeakUsedBytes = new LinkedHashMap<>();
+        for ( MemoryPoolMXBean heapMemoryPoolMXBean : heapMemoryPoolMXBeans )
+        {
+            if ( heapMemoryPoolMXBean.isValid() && null != heapMemoryPoolMXBean.getPeakUsage() )
+            {
+                memoryPoolPeakUsedBytes.put(
+                        heapMemoryPoolMXBean.getName(),
+                        heapMemoryPoolMXBean.getPeakUsage().getUsed() );
+            }
+        }
+        return new DriverDiagnosticsSnapshot(
+                samples.size(),
+                previousSampleTimeAsMilli - firstSampleTimeAsMilli,
+                availableProcessors,
+                (null == extendedOperatingSystemMXBean)
+                ? -1
+                : previousProcessCpuTimeAsNano - firstProcessCpuTimeAsNano,
+                maxProcessCpuUtilization,
+                threadGroupCpuTimesAsNano,
+                (threadAllocatedBytesSupported) ? allocatedBytes : -1,
+                maxAllocationRate,
+                previousGcCount - firstGcCount,
+                previousGcTimeAsMilli - firstGcTimeAsMilli,
+                maxIntervalGcTimeAsMilli,
+                maxHeapUsedBytes,
+                memoryPoolPeakUsedBytes
+        );
+    }
+
+    /**
+     * Writes one row per sample, the baseline sample excluded, values are of the interval that ends with the sample
+     */
+    public void writeCsv( File file ) throws IOException
+    {
+        DriverThreadGroup[] groups = DriverThreadGroup.values();
+        try ( SimpleCsvFileWriter writer =
+                      new SimpleCsvFileWriter( file, SimpleCsvFileWriter.DEFAULT_COLUMN_SEPARATOR ) )
+        {
+            String[] header = new String[6 + groups.length];
+            header[0] = HEADER_TIME;
+            header[1] = HEADER_PROCESS_CPU_UTILIZATION;
+            for ( DriverThreadGroup group : groups )
+            {
+                header[2 + group.ordinal()] = HEADER_CPU_TIME_PREFIX + group.name();
+            }
+            header[2 + groups.length] = HEADER_ALLOCATED_BYTES;
+            header[3 + groups.length] = HEADER_GC_COUNT;
+            header[4 + groups.length] = HEADER_GC_TIME;
+            header[5 + groups.length] = HEADER_HEAP_USED_BYTES;
+            writer.writeRow( header );
+            long previousTimeAsMilli = -1;
+            long previousProcessCpuTime = -1;
+            for ( long[] sample : samples )
+            {
+                if ( -1 != previousTimeAsMilli )
+                {
+                    String[] row = new String[header.length];
+                    row[0] = Long.toString( sample[0] );
+                    row[1] = Double.toString(
+                            processCpuUtilization( sample[1] - previousProcessCpuTime,
+                                    sample[0] - previousTimeAsMilli ) );
+                    for ( DriverThreadGroup group : groups )
+                    {
+                        row[2 + group.ordinal()] =
+                                Long.toString( TimeUnit.NANOSECONDS.toMillis( sample[2 + group.ordinal()] ) );
+                    }
+                    for ( int i = 2 + groups.length; i < row.length; i++ )
+                    {
+                        row[i] = Long.toString( sample[i] );
+                    }
+                    writer.writeRow( row );
+                }
+                previousTimeAsMilli = sample[0];
+                previousProcessCpuTime = sample[1];
+            }
+        }
+    }
+
+    private void sampleUntilStopped()
+    {
+        try
+        {
+            while ( false == stopped.await( samplingIntervalAsMilli, TimeUnit.MILLISECONDS ) )
+            {
+                sample();
+            }
+        }
+        catch ( InterruptedException e )
+        {
+            // diagnostics must never fail a run, sampling simply ends early
+        }
+    }
+
+    private void sample()
+    {
+        DriverThreadGroup[] groups = DriverThreadGroup.values();
+        // time, process CPU time, CPU time per group, allocated bytes, GC count, GC time, heap used
+        long[] sample = new long[6 + groups.length];
+        long timeAsMilli = timeSource.nowAsMilli();
+        long processCpuTimeAsNano =
+                (null == extendedOperatingSystemMXBean) ? -1 : extendedOperatingSystemMXBean.getProcessCpuTime();
+        sample[0] = timeAsMilli;
+        sample[1] = processCpuTimeAsNano;
+
+        long intervalAllocatedBytes = sampleThreads( sample );
+        sample[2 + groups.length] = intervalAllocatedBytes;
+
+        long gcCount = 0;
+        long gcTimeAsMilli = 0;
+        for ( GarbageCollectorMXBean garbageCollectorMXBean : garbageCollectorMXBeans )
+        {
+            // -1 if undefined for collector
+            gcCount += Math.max( 0, garbageCollectorMXBean.getCollectionCount() );
+            gcTimeAsMilli += Math.max( 0, garbageCollectorMXBean.getCollectionTime() );
+        }
+        long heapUsedBytes = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        maxHeapUsedBytes = Math.max( maxHeapUsedBytes, heapUsedBytes );
+        sample[5 + groups.length] = heapUsedBytes;
+
+        if ( -1 == firstSampleTimeAsMilli )
+        {
+            firstSampleTimeAsMilli = timeAsMilli;
+            firstProcessCpuTimeAsNano = processCpuTimeAsNano;
+            firstGcCount = gcCount;
+            firstGcTimeAsMilli = gcTimeAsMilli;
+        }
+        else
+        {
+            long intervalDurationAsMilli = timeAsMilli - previousSampleTimeAsMilli;
+            long intervalGcTimeAsMilli = gcTimeAsMilli - previousGcTimeAsMilli;
+            sample[3 + groups.length] = gcCount - previousGcCount;
+            sample[4 + groups.length] = intervalGcTimeAsMilli;
+            maxIntervalGcTimeAsMilli = Math.max( maxIntervalGcTimeAsMilli, intervalGcTimeAsMilli );
+            maxProcessCpuUtilization = Math.max(
+                    maxProcessCpuUtilization,
+                    processCpuUtilization( processCpuTimeAsNano - previousProcessCpuTimeAsNano,
+                            intervalDurationAsMilli ) );
+            if ( intervalDurationAsMilli > 0 )
+            {
+                maxAllocationRate = Math.max(
+                        maxAllocationRate,
+                        intervalAllocatedBytes / (intervalDurationAsMilli / 1000d) );
+            }
+            allocatedBytes += intervalAllocatedBytes;
+            for ( DriverThreadGroup group : groups )
+            {
+                groupCpuTimesAsNano[group.ordinal()] += sample[2 + group.ordinal()];
+            }
+        }
+        previousSampleTimeAsMilli = timeAsMilli;
+        previousProcessCpuTimeAsNano = processCpuTimeAsNano;
+        previousGcCount = gcCount;
+        previousGcTimeAsMilli = gcTimeAsMilli;
+        samples.add( sample );
+    }
+
+    /**
+     * Adds CPU time each group used since previous sample to sample
+     *
+     * @return bytes allocated by all threads since previous sample
+     */
+    private long sampleThreads( long[] sample )
+    {
+        long[] threadIds = threadMXBean.getAllThreadIds();
+        long[] threadAllocatedBytes = (threadAllocatedBytesSupported)
+                                      ? extendedThreadMXBean.getThreadAllocatedBytes( threadIds )
+                                      : null;
+        long intervalAllocatedBytes = 0;
+        Map<Long,Long> liveThreadCpuTimesAsNano = new HashMap<>();
+        Map<Long,Long> liveThreadAllocatedBytes = new HashMap<>();
+        Map<Long,DriverThreadGroup> liveThreadGroups = new HashMap<>();
+        for ( int i = 0; i < threadIds.length; i++ )
+        {
+            long threadId = threadIds[i];
+            DriverThreadGroup group = threadGroups.get( threadId );
+            if ( null == group )
+            {
+                ThreadInfo threadInfo = threadMXBean.getThreadInfo( threadId );
+                if ( null == threadInfo )
+                {
+                    // thread terminated since ids were retrieved
+                    continue;
+                }
+                group = DriverThreadGroup.forThreadName( threadInfo.getThreadName(), virtualThreadWorkers );
+            }
+            liveThreadGroups.put( threadId, group );
+            if ( threadCpuTimeSupported )
+            {
+                long threadCpuTimeAsNano = threadMXBean.getThreadCpuTime( threadId );
+                if ( threadCpuTimeAsNano >= 0 )
+                {
+                    Long previousThreadCpuTimeAsNano = previousThreadCpuTimesAsNano.get( threadId );
+                    sample[2 + group.ordinal()] += threadCpuTimeAsNano -
+                                                   ((null == previousThreadCpuTimeAsNano)
+                                                    ? 0
+                                                    : previousThreadCpuTimeAsNano);
+                    liveThreadCpuTimesAsNano.put( threadId, threadCpuTimeAsNano );
+                }
+            }
+            if ( null != threadAllocatedBytes && threadAllocatedBytes[i] >= 0 )
+            {
+                Long previousAllocatedBytes = previousThreadAllocatedBytes.get( threadId );
+                intervalAllocatedBytes +=
+                        threadAllocatedBytes[i] - ((null == previousAllocatedBytes) ? 0 : previousAllocatedBytes);
+                liveThreadAllocatedBytes.put( threadId, threadAllocatedBytes[i] );
+            }
+        }
+        // forget terminated threads, thread ids are never reused
+        previousThreadCpuTimesAsNano.clear();
+        previousThreadCpuTimesAsNano.putAll( liveThreadCpuTimesAsNano );
+        previousThreadAllocatedBytes.clear();
+        previousThreadAllocatedBytes.putAll( liveThreadAllocatedBytes );
+        threadGroups.clear();
+        threadGroups.putAll( liveThreadGroups );
+        return intervalAllocatedBytes;
+    }
+
+    private double processCpuUtilization( long processCpuTimeAsNano, long intervalDurationAsMilli )
+    {
+        if ( null == extendedOperatingSystemMXBean || intervalDurationAsMilli <= 0 )
+        {
+            return 0;
+        }
+        return processCpuTimeAsNano / (double) (TimeUnit.MILLISECONDS.toNanos( intervalDurationAsMilli ) *
+                                                availableProcessors);
+    }
+}
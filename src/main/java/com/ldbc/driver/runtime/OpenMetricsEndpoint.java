@@ -0,0 +1,182 @@
+package com.ldbc.driver.runtime;
+
+import com.ldbc.driver.control.RecentThroughputAndDuration;
+import com.ldbc.driver.runtime.metrics.ContinuousMetricSnapshot;
+import com.ldbc.driver.runtime.metrics.OperationMetricsSnapshot;
+import com.ldbc.driver.runtime.metrics.WorkloadResultsSnapshot;
+import com.ldbc.driver.runtime.metrics.WorkloadStatusSnapshot;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves live driver metrics at /metrics, in Prometheus text exposition format.
+ * <p/>
+ * Scrapes never touch metrics service, completion time service, or executors. The status thread renders a page
+ * each time it publishes, and scrapes return the most recently rendered page, so scrape rate has no effect on the
+ * workload. Per operation type metrics are snapshots of all histograms, so the status thread only refreshes them every
+ * 30 seconds, whereas the other metrics are refreshed with every status update.
+ * <p/>
+ * Completion time is in operation time stamps, so to compare it with wall clock it is mapped the way scheduled start
+ * times of operations are, i.e., offset from minimum time stamp to workload start time, then compressed.
+ */
+class OpenMetricsEndpoint
+{
+    static final String PATH = "/metrics";
+    static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final String PREFIX = "ldbc_driver_";
+    private static final double[] QUANTILES = new double[]{0.5, 0.9, 0.95, 0.99, 0.999};
+
+    private final HttpServer server;
+    private final long workloadStartTimeAsMilli;
+    private final long minimumTimeStamp;
+    private final double timeCompressionRatio;
+    private volatile byte[] page = new byte[0];
+
+    OpenMetricsEndpoint(
+            int port,
+            long workloadStartTimeAsMilli,
+            long minimumTimeStamp,
+            double timeCompressionRatio ) throws IOException
+    {
+        this.workloadStartTimeAsMilli = workloadStartTimeAsMilli;
+        this.minimumTimeStamp = minimumTimeStamp;
+        this.timeCompressionRatio = timeCompressionRatio;
+        this.server = HttpServer.create( new InetSocketAddress( port ), 0 );
+        server.createContext( PATH, this::handle );
+        // single thread, serving a scrape is only a copy of the latest page
+        server.setExecutor( null );
+    }
+
+    void start()
+    {
+        server.start();
+    }
+
+    void stop()
+    {
+        server.stop( 0 );
+    }
+
+    int port()
+    {
+        return server.getAddress().getPort();
+    }
+
+    void publish(
+            WorkloadStatusSnapshot status,
+            RecentThroughputAndDuration recentThroughputAndDuration,
+            WorkloadResultsSnapshot results,
+            long completionTimeAsMilli,
+            long nowAsMilli,
+            long executorQueueDepth )
+    {
+        StringBuilder sb = new StringBuilder();
+        gauge( sb, "run_duration_seconds", "Duration since first operation started",
+                status.runDurationAsMilli() / 1000d );
+        counter( sb, "operations_total", "Operations completed", status.operationCount() );
+        gauge( sb, "throughput", "Operations completed per second, since first operation started",
+                status.throughput() );
+        gauge( sb, "recent_throughput", "Operations completed per second, over recent status updates",
+                recentThroughputAndDuration.throughput() );
+        // completion time is not known until first dependency operations complete
+        boolean completionTimeKnown = completionTimeAsMilli >= 0 && completionTimeAsMilli < Long.MAX_VALUE - 1;
+        gauge( sb, "completion_time_seconds", "Completion time, as operation time stamp in seconds since epoch",
+                (completionTimeKnown) ? completionTimeAsMilli / 1000d : Double.NaN );
+        gauge( sb, "completion_time_lag_seconds",
+                "How far completion time, mapped to wall clock like scheduled start times, lags behind wall clock",
+                (completionTimeKnown)
+                ? (nowAsMilli - completionTimeAsWallClockAsMilli( completionTimeAsMilli )) / 1000d
+                : Double.NaN );
+        gauge( sb, "executor_queue_depth", "Operations handed to executors that have not yet completed",
+                executorQueueDepth );
+
+        sb.append( "# HELP " ).append( PREFIX )
+                .append( "operations_by_type_total Operations completed, by operation type\n" );
+        sb.append( "# TYPE " ).append( PREFIX ).append( "operations_by_type_total counter\n" );
+        for ( OperationMetricsSnapshot operationMetrics : results.allMetrics() )
+        {
+            sample( sb, "operations_by_type_total", operationMetrics.name(), null,
+                    Long.toString( operationMetrics.count() ) );
+        }
+        sb.append( "# HELP " ).append( PREFIX )
+                .append( "operation_run_time_seconds Operation run time, by operation type\n" );
+        sb.append( "# TYPE " ).append( PREFIX ).append( "operation_run_time_seconds summary\n" );
+        for ( OperationMetricsSnapshot operationMetrics : results.allMetrics() )
+        {
+            ContinuousMetricSnapshot runTime = operationMetrics.runTimeMetric();
+            long[] quantileValues = new long[]{
+                    runTime.percentile50(),
+                    runTime.percentile90(),
+                    runTime.percentile95(),
+                    runTime.percentile99(),
+                    runTime.percentile99_9()
+            };
+            for ( int i = 0; i < QUANTILES.length; i++ )
+            {
+                sample( sb, "operation_run_time_seconds", operationMetrics.name(), Double.toString( QUANTILES[i] ),
+                        Double.toString( asSeconds( quantileValues[i], runTime.unit() ) ) );
+            }
+            sample( sb, "operation_run_time_seconds_sum", operationMetrics.name(), null,
+                    Double.toString( runTime.mean() * runTime.count() * runTime.unit().toNanos( 1 ) / 1000000000d ) );
+            sample( sb, "operation_run_time_seconds_count", operationMetrics.name(), null,
+                    Long.toString( runTime.count() ) );
+        }
+        page = sb.toString().getBytes( StandardCharsets.UTF_8 );
+    }
+
+    private void handle( HttpExchange exchange ) throws IOException
+    {
+        byte[] currentPage = page;
+        exchange.getResponseHeaders().set( "Content-Type", CONTENT_TYPE );
+        exchange.sendResponseHeaders( 200, currentPage.length );
+        try ( OutputStream body = exchange.getResponseBody() )
+        {
+            body.write( currentPage );
+        }
+    }
+
+    // same mapping as WorkloadStreams.timeOffsetAndCompressWorkloadStreams
+    private long completionTimeAsWallClockAsMilli( long completionTimeAsMilli )
+    {
+        return workloadStartTimeAsMilli +
+               Math.round( (completionTimeAsMilli - minimumTimeStamp) * timeCompressionRatio );
+    }
+
+    private static double asSeconds( long value, TimeUnit unit )
+    {
+        return unit.toNanos( value ) / 1000000000d;
+    }
+
+    private static void gauge( StringBuilder sb, String name, String help, double value )
+    {
+        metric( sb, name, help, "gauge", Double.toString( value ) );
+    }
+
+    private static void counter( StringBuilder sb, String name, String help, long value )
+    {
+        metric( sb, name, help, "counter", Long.toString( value ) );
+    }
+
+    private static void metric( StringBuilder sb, String name, String help, String type, String value )
+    {
+        sb.append( "# HELP " ).append( PREFIX ).append( name ).append( " " ).append( help ).append( "\n" );
+        sb.append( "# TYPE " ).append( PREFIX ).append( name ).append( " " ).append( type ).append( "\n" );
+        sb.append( PREFIX ).append( name ).append( " " ).append( value ).append( "\n" );
+    }
+
+    private static void sample( StringBuilder sb, String name, String operation, String quantile, String value )
+    {
+        sb.append( PREFIX ).append( name ).append( "{operation=\"" ).append( operation ).append( "\"" );
+        if ( null != quantile )
+        {
+            sb.append( ",quantile=\"" ).append( quantile ).append( "\"" );
+        }
+        sb.append( "} " ).append( value ).append( "\n" );
+    }
+}
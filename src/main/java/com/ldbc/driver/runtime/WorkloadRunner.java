@@ -3,21 +3,34 @@ package com.ldbc.driver.runtime;
 import com.ldbc.driver.Db;
 import com.ldbc.driver.WorkloadException;
 import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.control.LoggingService;
 import com.ldbc.driver.control.LoggingServiceFactory;
 import com.ldbc.driver.runtime.coordination.CompletionTimeException;
 import com.ldbc.driver.runtime.coordination.CompletionTimeService;
 import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
 import com.ldbc.driver.runtime.coordination.DummyCompletionTimeWriter;
+import com.ldbc.driver.runtime.coordination.WindowedCompletionTimeWriter;
+import com.ldbc.driver.runtime.executor.AsyncOperationExecutor;
+import com.ldbc.driver.runtime.executor.ClosedLoopOperationExecutor;
+import com.ldbc.driver.runtime.executor.CompletionTimeReleasingOperationExecutor;
+import com.ldbc.driver.runtime.executor.ConflictAwareOperationExecutor;
 import com.ldbc.driver.runtime.executor.OperationExecutor;
 import com.ldbc.driver.runtime.executor.OperationExecutorException;
+import com.ldbc.driver.runtime.executor.OperationExecutorType;
 import com.ldbc.driver.runtime.executor.OperationStreamExecutorService;
 import com.ldbc.driver.runtime.executor.SameThreadOperationExecutor;
 import com.ldbc.driver.runtime.executor.ThreadPoolOperationExecutor;
+import com.ldbc.driver.runtime.executor.TimingWheelOperationExecutor;
+import com.ldbc.driver.runtime.executor.VirtualThreadOperationExecutor;
+import com.ldbc.driver.runtime.executor.WorkStealingOperationExecutor;
+import com.ldbc.driver.runtime.metrics.DriverInternalMetrics;
 import com.ldbc.driver.runtime.metrics.MetricsCollectionException;
 import com.ldbc.driver.runtime.metrics.MetricsService;
 import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.runtime.scheduling.SpinnerWaitStrategyType;
 import com.ldbc.driver.temporal.TimeSource;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
@@ -49,7 +62,20 @@ public class WorkloadRunner
             long statusDisplayIntervalAsSeconds,
             long spinnerSleepDurationAsMilli,
             boolean ignoreScheduleStartTimes,
-            int operationHandlerExecutorsBoundedQueueSize ) throws WorkloadException, MetricsCollectionException
+            int operationHandlerExecutorsBoundedQueueSize,
+            OperationExecutorType operationExecutorType,
+            boolean timingWheelScheduler,
+            SpinnerWaitStrategyType spinnerWaitStrategyType,
+            int closedLoopClients,
+            long thinkTimeAsMilli,
+            long dispatchWindowAsMilli,
+            int blockingStreamThreadCount,
+            long completionTimeWindowAsMilli,
+            int metricsEndpointPort,
+            long workloadStartTimeAsMilli,
+            long minimumTimeStamp,
+            double timeCompressionRatio,
+            DriverInternalMetrics driverInternalMetrics ) throws WorkloadException, MetricsCollectionException
     {
         this.workloadRunnerFuture = new WorkloadRunnerFuture(
                 timeSource,
@@ -63,7 +89,20 @@ public class WorkloadRunner
                 statusDisplayIntervalAsSeconds,
                 spinnerSleepDurationAsMilli,
                 ignoreScheduleStartTimes,
-                operationHandlerExecutorsBoundedQueueSize
+                operationHandlerExecutorsBoundedQueueSize,
+                operationExecutorType,
+                timingWheelScheduler,
+                spinnerWaitStrategyType,
+                closedLoopClients,
+                thinkTimeAsMilli,
+                dispatchWindowAsMilli,
+                blockingStreamThreadCount,
+                completionTimeWindowAsMilli,
+                metricsEndpointPort,
+                workloadStartTimeAsMilli,
+                minimumTimeStamp,
+                timeCompressionRatio,
+                driverInternalMetrics
         );
     }
 
@@ -93,7 +132,20 @@ public class WorkloadRunner
                 long statusDisplayIntervalAsSeconds,
                 long spinnerSleepDurationAsMilli,
                 boolean ignoreScheduleStartTimes,
-                int operationHandlerExecutorsBoundedQueueSize ) throws MetricsCollectionException, WorkloadException
+                int operationHandlerExecutorsBoundedQueueSize,
+                OperationExecutorType operationExecutorType,
+                boolean timingWheelScheduler,
+                SpinnerWaitStrategyType spinnerWaitStrategyType,
+                int closedLoopClients,
+                long thinkTimeAsMilli,
+                long dispatchWindowAsMilli,
+                int blockingStreamThreadCount,
+                long completionTimeWindowAsMilli,
+                int metricsEndpointPort,
+                long workloadStartTimeAsMilli,
+                long minimumTimeStamp,
+                double timeCompressionRatio,
+                DriverInternalMetrics driverInternalMetrics ) throws MetricsCollectionException, WorkloadException
         {
             this.workloadRunnerThread = new WorkloadRunnerThread(
                     timeSource,
@@ -107,7 +159,20 @@ public class WorkloadRunner
                     statusDisplayIntervalAsSeconds,
                     spinnerSleepDurationAsMilli,
                     ignoreScheduleStartTimes,
-                    operationHandlerExecutorsBoundedQueueSize
+                    operationHandlerExecutorsBoundedQueueSize,
+                    operationExecutorType,
+                    timingWheelScheduler,
+                    spinnerWaitStrategyType,
+                    closedLoopClients,
+                    thinkTimeAsMilli,
+                    dispatchWindowAsMilli,
+                    blockingStreamThreadCount,
+                    completionTimeWindowAsMilli,
+                    metricsEndpointPort,
+                    workloadStartTimeAsMilli,
+                    minimumTimeStamp,
+                    timeCompressionRatio,
+                    driverInternalMetrics
             );
             this.timeSource = timeSource;
             this.errorReporter = errorReporter;
@@ -270,9 +335,13 @@ public class WorkloadRunner
     private static class WorkloadRunnerThread extends Thread
     {
         private final Spinner spinner;
+        private final LoggingService loggingService;
+        private final boolean reportStartTimeJitter;
         private WorkloadStatusThread workloadStatusThread;
+        private OpenMetricsEndpoint openMetricsEndpoint = null;
         private final ConcurrentErrorReporter errorReporter;
         private final OperationExecutor executorForAsynchronous;
+        private ClosedLoopOperationExecutor closedLoopExecutor = null;
         private final List<OperationExecutor> executorsForBlocking = new ArrayList<>();
         private final OperationStreamExecutorService asynchronousStreamExecutorService;
         private final List<OperationStreamExecutorService> blockingStreamExecutorServices = new ArrayList<>();
@@ -296,23 +365,44 @@ public class WorkloadRunner
                 long statusDisplayIntervalAsSeconds,
                 long spinnerSleepDurationAsMilli,
                 boolean ignoreScheduleStartTimes,
-                int operationHandlerExecutorsBoundedQueueSize ) throws WorkloadException, MetricsCollectionException
+                int operationHandlerExecutorsBoundedQueueSize,
+                OperationExecutorType operationExecutorType,
+                boolean timingWheelScheduler,
+                SpinnerWaitStrategyType spinnerWaitStrategyType,
+                int closedLoopClients,
+                long thinkTimeAsMilli,
+                long dispatchWindowAsMilli,
+                int blockingStreamThreadCount,
+                long completionTimeWindowAsMilli,
+                int metricsEndpointPort,
+                long workloadStartTimeAsMilli,
+                long minimumTimeStamp,
+                double timeCompressionRatio,
+                DriverInternalMetrics driverInternalMetrics ) throws WorkloadException, MetricsCollectionException
         {
             this.errorReporter = errorReporter;
             this.statusDisplayIntervalAsMilli = statusDisplayIntervalAsSeconds;
 
-            this.spinner = new Spinner( timeSource, spinnerSleepDurationAsMilli, ignoreScheduleStartTimes );
+            // closed-loop clients start operations as soon as they are free, regardless of schedule
+            boolean closedLoop = closedLoopClients > 0;
+            ignoreScheduleStartTimes = ignoreScheduleStartTimes || closedLoop;
+            this.spinner = new Spinner(
+                    timeSource,
+                    spinnerSleepDurationAsMilli,
+                    ignoreScheduleStartTimes,
+                    spinnerWaitStrategyType,
+                    driverInternalMetrics
+            );
+            db.setDriverInternalMetrics( driverInternalMetrics );
+            this.loggingService = loggingServiceFactory.loggingServiceFor( getClass().getSimpleName() );
+            this.reportStartTimeJitter = false == ignoreScheduleStartTimes;
 
-            if ( statusDisplayIntervalAsSeconds > 0 )
+            if ( metricsEndpointPort > 0 && statusDisplayIntervalAsSeconds <= 0 )
             {
-                this.workloadStatusThread = new WorkloadStatusThread(
-                        TimeUnit.SECONDS.toMillis( statusDisplayIntervalAsSeconds ),
-                        metricsService.getWriter(),
-                        errorReporter,
-                        completionTimeService,
-                        loggingServiceFactory
-                );
+                throw new WorkloadException( "Metrics endpoint is refreshed by status thread, " +
+                                             "it requires status display interval to be greater than 0" );
             }
+
             // only create a completion time writer for an executor if it contains at least one READ_WRITE operation
             // otherwise it will cause completion time to stall
             WorkloadStreamDefinition asynchronousStream = workloadStreams.asynchronousStream();
@@ -320,31 +410,101 @@ public class WorkloadRunner
             try
             {
                 completionTimeWriterForAsynchronous = (asynchronousStream.dependencyOperations().hasNext())
-                                                      ? completionTimeService.newCompletionTimeWriter()
+                                                      ? newCompletionTimeWriter( completionTimeService,
+                        completionTimeWindowAsMilli )
                                                       : DUMMY_COMPLETION_TIME_WRITER;
             }
             catch ( CompletionTimeException e )
             {
                 throw new WorkloadException( "Error while attempting to create completion time writer", e );
             }
-            this.executorForAsynchronous = new ThreadPoolOperationExecutor(
-                    threadCount,
-                    operationHandlerExecutorsBoundedQueueSize,
-                    db,
-                    asynchronousStream,
-                    completionTimeWriterForAsynchronous,
-                    completionTimeService,
-                    spinner,
-                    timeSource,
-                    errorReporter,
-                    metricsService,
-                    asynchronousStream.childOperationGenerator()
-            );
+            OperationExecutor executor;
+            if ( closedLoop )
+            {
+                try
+                {
+                    this.closedLoopExecutor = new ClosedLoopOperationExecutor(
+                            closedLoopClients,
+                            thinkTimeAsMilli,
+                            db,
+                            asynchronousStream,
+                            completionTimeWriterForAsynchronous,
+                            completionTimeService,
+                            spinner,
+                            timeSource,
+                            errorReporter,
+                            metricsService,
+                            asynchronousStream.childOperationGenerator()
+                    );
+                }
+                catch ( OperationExecutorException e )
+                {
+                    throw new WorkloadException( "Error while attempting to create closed-loop executor", e );
+                }
+                executor = closedLoopExecutor;
+            }
+            else if ( timingWheelScheduler && false == ignoreScheduleStartTimes )
+            {
+                // executor only waits on dependencies, timing wheel waits for scheduled start times
+                executor = new TimingWheelOperationExecutor(
+                        newExecutorForAsynchronous(
+                                operationExecutorType,
+                                threadCount,
+                                operationHandlerExecutorsBoundedQueueSize,
+                                db,
+                                asynchronousStream,
+                                completionTimeWriterForAsynchronous,
+                                completionTimeService,
+                                new Spinner(
+                                        timeSource,
+                                        spinnerSleepDurationAsMilli,
+                                        true,
+                                        spinnerWaitStrategyType,
+                                        driverInternalMetrics ),
+                                timeSource,
+                                errorReporter,
+                                metricsService
+                        ),
+                        timeSource,
+                        errorReporter,
+                        spinner.startTimeJitter(),
+                        operationHandlerExecutorsBoundedQueueSize
+                );
+            }
+            else
+            {
+                executor = newExecutorForAsynchronous(
+                        operationExecutorType,
+                        threadCount,
+                        operationHandlerExecutorsBoundedQueueSize,
+                        db,
+                        asynchronousStream,
+                        completionTimeWriterForAsynchronous,
+                        completionTimeService,
+                        spinner,
+                        timeSource,
+                        errorReporter,
+                        metricsService
+                );
+            }
+            // dependent operations wait for completion time without occupying executor threads,
+            // unless in closed loop, where handing over an operation must block until a client is idle, or no
+            // operation depends on completion time
+            this.executorForAsynchronous = (closedLoop || asynchronousStream.dependentOperationTypes().isEmpty())
+                                           ? executor
+                                           : new CompletionTimeReleasingOperationExecutor(
+                                                   executor,
+                                                   completionTimeService,
+                                                   asynchronousStream.dependentOperationTypes(),
+                                                   errorReporter
+                                           );
             this.asynchronousStreamExecutorService = new OperationStreamExecutorService(
                     errorReporter,
                     asynchronousStream,
                     executorForAsynchronous,
-                    completionTimeWriterForAsynchronous
+                    completionTimeWriterForAsynchronous,
+                    dispatchWindowAsMilli,
+                    driverInternalMetrics
             );
 
             for ( WorkloadStreamDefinition blockingStream : workloadStreams.blockingStreamDefinitions() )
@@ -355,37 +515,206 @@ public class WorkloadRunner
                 try
                 {
                     completionTimeWriterForBlocking = (blockingStream.dependencyOperations().hasNext())
-                                                      ? completionTimeService.newCompletionTimeWriter()
+                                                      ? newCompletionTimeWriter( completionTimeService,
+                            completionTimeWindowAsMilli )
                                                       : DUMMY_COMPLETION_TIME_WRITER;
                 }
                 catch ( CompletionTimeException e )
                 {
                     throw new WorkloadException( "Error while attempting to create completion time writer", e );
                 }
-                OperationExecutor executorForBlocking = new SameThreadOperationExecutor(
-                        db,
-                        blockingStream,
-                        completionTimeWriterForBlocking,
-                        completionTimeService,
-                        spinner,
-                        timeSource,
-                        errorReporter,
-                        metricsService,
-                        blockingStream.childOperationGenerator()
-                );
+                OperationExecutor executorForBlocking;
+                // operations of a stream can only execute concurrently if it is known which of them conflict
+                if ( blockingStreamThreadCount > 1 && null != blockingStream.operationConflictKeys() )
+                {
+                    try
+                    {
+                        executorForBlocking = new ConflictAwareOperationExecutor(
+                                blockingStreamThreadCount,
+                                blockingStream.operationConflictKeys(),
+                                db,
+                                blockingStream,
+                                completionTimeWriterForBlocking,
+                                completionTimeService,
+                                spinner,
+                                timeSource,
+                                errorReporter,
+                                metricsService,
+                                blockingStream.childOperationGenerator()
+                        );
+                    }
+                    catch ( OperationExecutorException e )
+                    {
+                        throw new WorkloadException( "Error while attempting to create blocking stream executor", e );
+                    }
+                }
+                else
+                {
+                    executorForBlocking = new SameThreadOperationExecutor(
+                            db,
+                            blockingStream,
+                            completionTimeWriterForBlocking,
+                            completionTimeService,
+                            spinner,
+                            timeSource,
+                            errorReporter,
+                            metricsService,
+                            blockingStream.childOperationGenerator()
+                    );
+                }
                 this.executorsForBlocking.add( executorForBlocking );
                 this.blockingStreamExecutorServices.add(
                         new OperationStreamExecutorService(
                                 errorReporter,
                                 blockingStream,
                                 executorForBlocking,
-                                completionTimeWriterForBlocking
+                                completionTimeWriterForBlocking,
+                                driverInternalMetrics
                         )
                 );
             }
+
+            if ( statusDisplayIntervalAsSeconds > 0 )
+            {
+                if ( metricsEndpointPort > 0 )
+                {
+                    try
+                    {
+                        this.openMetricsEndpoint = new OpenMetricsEndpoint(
+                                metricsEndpointPort,
+                                workloadStartTimeAsMilli,
+                                minimumTimeStamp,
+                                timeCompressionRatio );
+                    }
+                    catch ( IOException e )
+                    {
+                        throw new WorkloadException(
+                                format( "Error while attempting to create metrics endpoint on port %s",
+                                        metricsEndpointPort ), e );
+                    }
+                }
+                List<OperationExecutor> executors = new ArrayList<>();
+                executors.add( executorForAsynchronous );
+                executors.addAll( executorsForBlocking );
+                this.workloadStatusThread = new WorkloadStatusThread(
+                        TimeUnit.SECONDS.toMillis( statusDisplayIntervalAsSeconds ),
+                        metricsService.getWriter(),
+                        errorReporter,
+                        completionTimeService,
+                        loggingServiceFactory,
+                        timeSource,
+                        openMetricsEndpoint,
+                        executors,
+                        driverInternalMetrics
+                );
+            }
             this.stateRef = new AtomicReference<>( WorkloadRunnerThreadState.NOT_STARTED );
         }
 
+        private static CompletionTimeWriter newCompletionTimeWriter(
+                CompletionTimeService completionTimeService,
+                long completionTimeWindowAsMilli ) throws CompletionTimeException
+        {
+            CompletionTimeWriter completionTimeWriter = completionTimeService.newCompletionTimeWriter();
+            return (completionTimeWindowAsMilli > 0)
+                   ? new WindowedCompletionTimeWriter( completionTimeWriter, completionTimeWindowAsMilli )
+                   : completionTimeWriter;
+        }
+
+        private static OperationExecutor newExecutorForAsynchronous(
+                OperationExecutorType operationExecutorType,
+                int threadCount,
+                int operationHandlerExecutorsBoundedQueueSize,
+                Db db,
+                WorkloadStreamDefinition asynchronousStream,
+                CompletionTimeWriter completionTimeWriterForAsynchronous,
+                CompletionTimeService completionTimeService,
+                Spinner spinner,
+                TimeSource timeSource,
+                ConcurrentErrorReporter errorReporter,
+                MetricsService metricsService ) throws WorkloadException
+        {
+            switch ( operationExecutorType )
+            {
+            case THREAD_POOL:
+                return new ThreadPoolOperationExecutor(
+                        threadCount,
+                        operationHandlerExecutorsBoundedQueueSize,
+                        db,
+                        asynchronousStream,
+                        completionTimeWriterForAsynchronous,
+                        completionTimeService,
+                        spinner,
+                        timeSource,
+                        errorReporter,
+                        metricsService,
+                        asynchronousStream.childOperationGenerator()
+                );
+            case WORK_STEALING:
+                return new WorkStealingOperationExecutor(
+                        threadCount,
+                        operationHandlerExecutorsBoundedQueueSize,
+                        db,
+                        asynchronousStream,
+                        completionTimeWriterForAsynchronous,
+                        completionTimeService,
+                        spinner,
+                        timeSource,
+                        errorReporter,
+                        metricsService,
+                        asynchronousStream.childOperationGenerator()
+                );
+            case VIRTUAL_THREAD:
+                try
+                {
+                    // as many handlers as thread pool could hold (running + queued), but all of them running
+                    return new VirtualThreadOperationExecutor(
+                            threadCount + operationHandlerExecutorsBoundedQueueSize,
+                            db,
+                            asynchronousStream,
+                            completionTimeWriterForAsynchronous,
+                            completionTimeService,
+                            spinner,
+                            timeSource,
+                            errorReporter,
+                            metricsService,
+                            asynchronousStream.childOperationGenerator()
+                    );
+                }
+                catch ( OperationExecutorException e )
+                {
+                    throw new WorkloadException( "Error while attempting to create virtual thread executor", e );
+                }
+            case ASYNC:
+                try
+                {
+                    // as many operations in flight as thread pool could hold (running + queued)
+                    return new AsyncOperationExecutor(
+                            threadCount,
+                            threadCount + operationHandlerExecutorsBoundedQueueSize,
+                            db,
+                            asynchronousStream,
+                            completionTimeWriterForAsynchronous,
+                            completionTimeService,
+                            spinner,
+                            timeSource,
+                            errorReporter,
+                            metricsService,
+                            asynchronousStream.childOperationGenerator()
+                    );
+                }
+                catch ( OperationExecutorException e )
+                {
+                    throw new WorkloadException( "Error while attempting to create asynchronous executor", e );
+                }
+            default:
+                throw new WorkloadException(
+                        format( "Unrecognized %s: %s",
+                                OperationExecutorType.class.getSimpleName(),
+                                operationExecutorType ) );
+            }
+        }
+
         private WorkloadRunnerThreadState state()
         {
             return stateRef.get();
@@ -394,6 +723,12 @@ public class WorkloadRunner
         @Override
         public void run()
         {
+            if ( null != openMetricsEndpoint )
+            {
+                openMetricsEndpoint.start();
+                loggingService.info( format( "Serving metrics at http://localhost:%s%s",
+                        openMetricsEndpoint.port(), OpenMetricsEndpoint.PATH ) );
+            }
             if ( statusDisplayIntervalAsMilli > 0 )
             {
                 workloadStatusThread.start();
@@ -452,6 +787,14 @@ public class WorkloadRunner
                 }
                 else
                 {
+                    if ( reportStartTimeJitter )
+                    {
+                        loggingService.info( spinner.startTimeJitter().toString() );
+                    }
+                    if ( null != closedLoopExecutor )
+                    {
+                        loggingService.info( closedLoopExecutor.throughputSummary() );
+                    }
                     stateRef.set( WorkloadRunnerThreadState.COMPLETED_SUCCEEDED );
                 }
             }
@@ -559,6 +902,11 @@ public class WorkloadRunner
                     // do nothing
                 }
             }
+
+            if ( null != openMetricsEndpoint )
+            {
+                openMetricsEndpoint.stop();
+            }
         }
     }
 }
@@ -4,21 +4,34 @@ import com.ldbc.driver.control.LoggingService;
 import com.ldbc.driver.control.LoggingServiceFactory;
 import com.ldbc.driver.control.RecentThroughputAndDuration;
 import com.ldbc.driver.runtime.coordination.CompletionTimeService;
+import com.ldbc.driver.runtime.executor.OperationExecutor;
+import com.ldbc.driver.runtime.metrics.DriverInternalMetrics;
 import com.ldbc.driver.runtime.metrics.MetricsService.MetricsServiceWriter;
+import com.ldbc.driver.runtime.metrics.WorkloadResultsSnapshot;
 import com.ldbc.driver.runtime.metrics.WorkloadStatusSnapshot;
 import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.TimeSource;
 
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static java.lang.String.format;
 
 class WorkloadStatusThread extends Thread
 {
+    // per operation type metrics are snapshots of all histograms, computed by metrics collection thread
+    private static final long OPERATION_METRICS_PUBLISH_INTERVAL_AS_MILLI = TimeUnit.SECONDS.toMillis( 30 );
+
     private final long statusUpdateIntervalAsMilli;
     private final MetricsServiceWriter metricsServiceWriter;
     private final ConcurrentErrorReporter errorReporter;
     private final CompletionTimeService completionTimeService;
     private final LoggingService loggingService;
+    private final TimeSource timeSource;
+    private final OpenMetricsEndpoint openMetricsEndpoint;
+    private final List<OperationExecutor> executors;
+    private final DriverInternalMetrics driverInternalMetrics;
     private AtomicBoolean continueRunning = new AtomicBoolean( true );
 
     WorkloadStatusThread(
@@ -26,7 +39,11 @@ class WorkloadStatusThread extends Thread
             MetricsServiceWriter metricsServiceWriter,
             ConcurrentErrorReporter errorReporter,
             CompletionTimeService completionTimeService,
-            LoggingServiceFactory loggingServiceFactory )
+            LoggingServiceFactory loggingServiceFactory,
+            TimeSource timeSource,
+            OpenMetricsEndpoint openMetricsEndpoint,
+            List<OperationExecutor> executors,
+            DriverInternalMetrics driverInternalMetrics )
     {
         super( WorkloadStatusThread.class.getSimpleName() + "-" + System.currentTimeMillis() );
         this.statusUpdateIntervalAsMilli = statusUpdateIntervalAsMilli;
@@ -34,6 +51,10 @@ class WorkloadStatusThread extends Thread
         this.errorReporter = errorReporter;
         this.completionTimeService = completionTimeService;
         this.loggingService = loggingServiceFactory.loggingServiceFor( getClass().getSimpleName() );
+        this.timeSource = timeSource;
+        this.openMetricsEndpoint = openMetricsEndpoint;
+        this.executors = executors;
+        this.driverInternalMetrics = driverInternalMetrics;
     }
 
     @Override
@@ -49,6 +70,8 @@ class WorkloadStatusThread extends Thread
             operationCountsAtDurations[i][1] = -1;
         }
         int statusRecencyIndex = 0;
+        WorkloadResultsSnapshot operationMetrics = null;
+        long operationMetricsTimeAsMilli = -1;
 
         while ( continueRunning.get() )
         {
@@ -60,12 +83,40 @@ class WorkloadStatusThread extends Thread
                 statusRecencyIndex = (statusRecencyIndex + 1) % statusRecency;
                 updateRecentThroughput( operationCountsAtDurations, settableRecentThroughputAndDuration );
 
+                long completionTimeAsMilli = completionTimeService.completionTimeAsMilli();
                 loggingService.status(
                         status,
                         settableRecentThroughputAndDuration,
-                        completionTimeService.completionTimeAsMilli()
+                        completionTimeAsMilli,
+                        driverInternalMetrics.snapshot()
                 );
 
+                if ( null != openMetricsEndpoint )
+                {
+                    // per operation type metrics are only computed here, never while serving a scrape, and far less
+                    // often than status, which is cheap to compute
+                    long nowAsMilli = timeSource.nowAsMilli();
+                    if ( null == operationMetrics ||
+                         nowAsMilli - operationMetricsTimeAsMilli >= OPERATION_METRICS_PUBLISH_INTERVAL_AS_MILLI )
+                    {
+                        operationMetrics = metricsServiceWriter.results();
+                        operationMetricsTimeAsMilli = nowAsMilli;
+                    }
+                    long executorQueueDepth = 0;
+                    for ( int i = 0; i < executors.size(); i++ )
+                    {
+                        executorQueueDepth += executors.get( i ).uncompletedOperationHandlerCount();
+                    }
+                    openMetricsEndpoint.publish(
+                            status,
+                            settableRecentThroughputAndDuration,
+                            operationMetrics,
+                            completionTimeAsMilli,
+                            nowAsMilli,
+                            executorQueueDepth
+                    );
+                }
+
                 Spinner.powerNap( statusUpdateIntervalAsMilli );
             }
             catch ( Throwable e )
@@ -0,0 +1,12 @@
+package com.ldbc.driver.runtime.coordination;
+
+public interface CompletionTimeListener
+{
+    /**
+     * Called once completion time has reached the time that was subscribed to.
+     * Called from the thread that advanced completion time, so it must return quickly and must not block.
+     *
+     * @param completionTimeAsMilli completion time that was reached, at or after the time subscribed to
+     */
+    void onCompletionTimeReached( long completionTimeAsMilli );
+}
@@ -11,5 +11,15 @@ public interface CompletionTimeService extends CompletionTimeReader
 
     List<CompletionTimeWriter> getAllWriters() throws CompletionTimeException;
 
+    /**
+     * Subscribes listener to be notified, once, as soon as completion time reaches the given time.
+     *
+     * @param timeAsMilli time that completion time must reach
+     * @param listener notified from the thread that advances completion time
+     * @return false, without subscribing listener, if completion time has already reached the time
+     * @throws CompletionTimeException
+     */
+    boolean subscribe( long timeAsMilli, CompletionTimeListener listener ) throws CompletionTimeException;
+
     void shutdown() throws CompletionTimeException;
 }
@@ -3,9 +3,17 @@ package com.ldbc.driver.runtime.coordination;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
 import com.ldbc.driver.runtime.scheduling.Spinner;
 import com.ldbc.driver.temporal.TimeSource;
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.BusySpinWaitStrategy;
+import com.lmax.disruptor.SleepingWaitStrategy;
+import com.lmax.disruptor.WaitStrategy;
+import com.lmax.disruptor.YieldingWaitStrategy;
 
+import java.io.File;
 import java.util.List;
 
+import static java.lang.String.format;
+
 public class CompletionTimeServiceAssistant
 {
     public void writeInitiatedAndCompletedTimesToAllWriters(
@@ -32,9 +40,7 @@ public class CompletionTimeServiceAssistant
         while ( timeSource.nowAsMilli() < timeoutTimeAsMilli )
         {
             long currentCompletionTimeAsMilli = completionTimeService.completionTimeAsMilli();
-            if ( -1 == currentCompletionTimeAsMilli )
-            { continue; }
-            if ( completionTimeToWaitForAsMilli <= currentCompletionTimeAsMilli )
+            if ( -1 != currentCompletionTimeAsMilli && completionTimeToWaitForAsMilli <= currentCompletionTimeAsMilli )
             { return true; }
             if ( errorReporter.errorEncountered() )
             {
@@ -56,4 +62,48 @@ public class CompletionTimeServiceAssistant
     {
         return new ThreadedQueuedCompletionTimeService( timeSource, errorReporter );
     }
+
+    public DisruptorCompletionTimeService newDisruptorCompletionTimeService(
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            WaitStrategy waitStrategy ) throws CompletionTimeException
+    {
+        return new DisruptorCompletionTimeService( timeSource, errorReporter, waitStrategy );
+    }
+
+    public SharedFileCompletionTimeService newSharedFileCompletionTimeService(
+            File sharedFile,
+            int expectedProcessCount ) throws CompletionTimeException
+    {
+        return new SharedFileCompletionTimeService( sharedFile, expectedProcessCount );
+    }
+
+    public CompletionTimeService newCompletionTimeService(
+            CompletionTimeServiceType completionTimeServiceType,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter ) throws CompletionTimeException
+    {
+        switch ( completionTimeServiceType )
+        {
+        case THREADED_QUEUED:
+            return newThreadedQueuedCompletionTimeService( timeSource, errorReporter );
+        case DISRUPTOR_BLOCKING:
+            return newDisruptorCompletionTimeService( timeSource, errorReporter, new BlockingWaitStrategy() );
+        case DISRUPTOR_SLEEPING:
+            return newDisruptorCompletionTimeService( timeSource, errorReporter, new SleepingWaitStrategy() );
+        case DISRUPTOR_YIELDING:
+            return newDisruptorCompletionTimeService( timeSource, errorReporter, new YieldingWaitStrategy() );
+        case DISRUPTOR_BUSY_SPIN:
+            return newDisruptorCompletionTimeService( timeSource, errorReporter, new BusySpinWaitStrategy() );
+        case SHARED_FILE:
+            throw new CompletionTimeException(
+                    format( "%s requires a file and process count, use newSharedFileCompletionTimeService()",
+                            completionTimeServiceType ) );
+        default:
+            throw new CompletionTimeException(
+                    format( "Unsupported %s: %s",
+                            CompletionTimeServiceType.class.getSimpleName(),
+                            completionTimeServiceType ) );
+        }
+    }
 }
@@ -0,0 +1,33 @@
+package com.ldbc.driver.runtime.coordination;
+
+/**
+ * Completion time service implementation used while executing workloads
+ */
+public enum CompletionTimeServiceType
+{
+    /**
+     * Completion time events are allocated per submitted time and passed to the service thread via a bounded queue
+     */
+    THREADED_QUEUED,
+    /**
+     * Completion time events are written to pre-allocated slots of a ring buffer, service thread blocks on a lock
+     * while waiting for events, lowest CPU usage
+     */
+    DISRUPTOR_BLOCKING,
+    /**
+     * As DISRUPTOR_BLOCKING, service thread spins, then yields, then sleeps while waiting for events
+     */
+    DISRUPTOR_SLEEPING,
+    /**
+     * As DISRUPTOR_BLOCKING, service thread spins, then yields while waiting for events, occupies a core
+     */
+    DISRUPTOR_YIELDING,
+    /**
+     * As DISRUPTOR_BLOCKING, service thread busy spins while waiting for events, lowest latency, occupies a core
+     */
+    DISRUPTOR_BUSY_SPIN,
+    /**
+     * Completion time is shared by several driver processes on the same host, via a memory-mapped file
+     */
+    SHARED_FILE
+}
@@ -7,6 +7,7 @@ import com.ldbc.driver.util.Function1;
 import com.ldbc.driver.util.Function2;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
@@ -26,8 +27,8 @@ import static java.lang.String.format;
 public class CompletionTimeStateManager implements CompletionTimeReaderWriter
 {
     private long completionTimeAsMilli = -1;
-    private final InitiatedTimeTracker initiatedTimeTracker = InitiatedTimeTrackerImpl.createUsingTreeMultiSet();
-    private final CompletedTimeTracker completedTimeTracker = CompletedTimeTrackerImpl.createUsingTreeMultiSet();
+    private final InitiatedTimeTracker initiatedTimeTracker = new RingBufferInitiatedTimeTracker();
+    private final CompletedTimeTracker completedTimeTracker = new MinHeapCompletedTimeTracker();
     private long lastKnownLowestInitiatedTimeAsMilli = -1;
 
     CompletionTimeStateManager()
@@ -323,4 +324,270 @@ public class CompletionTimeStateManager implements CompletionTimeReaderWriter
                    '}';
         }
     }
+
+    /**
+     * Completed times in a min-heap of primitive longs, to not box times or allocate nodes on every submission.
+     * Only allocates when heap is full, when its capacity is doubled.
+     */
+    static class MinHeapCompletedTimeTracker implements CompletedTimeTracker
+    {
+        private static final int DEFAULT_INITIAL_CAPACITY = 1024;
+
+        private long[] completedTimesAsMilli;
+        private int size = 0;
+
+        MinHeapCompletedTimeTracker()
+        {
+            this( DEFAULT_INITIAL_CAPACITY );
+        }
+
+        MinHeapCompletedTimeTracker( int initialCapacity )
+        {
+            this.completedTimesAsMilli = new long[Math.max( 1, initialCapacity )];
+        }
+
+        @Override
+        public void addCompletedTimeAsMilli( long completedTimeAsMilli )
+        {
+            if ( size == completedTimesAsMilli.length )
+            {
+                completedTimesAsMilli = Arrays.copyOf( completedTimesAsMilli, size * 2 );
+            }
+            // sift up
+            int index = size;
+            while ( index > 0 )
+            {
+                int parentIndex = (index - 1) >>> 1;
+                if ( completedTimesAsMilli[parentIndex] <= completedTimeAsMilli )
+                {
+                    break;
+                }
+                completedTimesAsMilli[index] = completedTimesAsMilli[parentIndex];
+                index = parentIndex;
+            }
+            completedTimesAsMilli[index] = completedTimeAsMilli;
+            size++;
+        }
+
+        @Override
+        public long removeTimesLowerThanAndReturnHighestRemoved( long timeAsMilli )
+        {
+            // times are removed in ascending order, so the last one removed is the highest
+            long highestRemovedAsMilli = -1;
+            while ( size > 0 && completedTimesAsMilli[0] < timeAsMilli )
+            {
+                highestRemovedAsMilli = completedTimesAsMilli[0];
+                removeLowest();
+            }
+            return highestRemovedAsMilli;
+        }
+
+        private void removeLowest()
+        {
+            size--;
+            long lastTimeAsMilli = completedTimesAsMilli[size];
+            // sift down
+            int index = 0;
+            int halfSize = size >>> 1;
+            while ( index < halfSize )
+            {
+                int childIndex = (index << 1) + 1;
+                int rightChildIndex = childIndex + 1;
+                if ( rightChildIndex < size &&
+                     completedTimesAsMilli[rightChildIndex] < completedTimesAsMilli[childIndex] )
+                {
+                    childIndex = rightChildIndex;
+                }
+                if ( lastTimeAsMilli <= completedTimesAsMilli[childIndex] )
+                {
+                    break;
+                }
+                completedTimesAsMilli[index] = completedTimesAsMilli[childIndex];
+                index = childIndex;
+            }
+            completedTimesAsMilli[index] = lastTimeAsMilli;
+        }
+
+        @Override
+        public String toString()
+        {
+            return "MinHeapCompletedTimeTracker{" +
+                   "completedTimesAsMilli=" + Arrays.toString( Arrays.copyOf( completedTimesAsMilli, size ) ) +
+                   '}';
+        }
+    }
+
+    /**
+     * Initiated times in a ring buffer of primitive longs, to not box times or allocate nodes on every submission.
+     * As initiated times arrive in ascending order, they are appended to the tail of the buffer, which remains sorted,
+     * and are found again on completion via binary search. Equal times share an entry, which counts them.
+     * Entries are freed when every time before and including them has completed, so the lowest uncompleted time is
+     * always at the head. Only allocates when buffer is full, when its capacity is doubled.
+     */
+    static class RingBufferInitiatedTimeTracker implements InitiatedTimeTracker
+    {
+        private static final int DEFAULT_INITIAL_CAPACITY = 1024;
+
+        private final TemporalUtil temporalUtil = new TemporalUtil();
+        private long[] initiatedTimesAsMilli;
+        private int[] uncompletedCounts;
+        // capacity is a power of two
+        private int mask;
+        private int head = 0;
+        private int size = 0;
+        private long lastKnownLowestInitiatedTimeAsMilli = -1;
+        private long highestInitiatedTimeAsMilli = -1;
+        private int uncompletedInitiatedTimes = 0;
+
+        RingBufferInitiatedTimeTracker()
+        {
+            this( DEFAULT_INITIAL_CAPACITY );
+        }
+
+        RingBufferInitiatedTimeTracker( int initialCapacity )
+        {
+            int capacity = Integer.highestOneBit( Math.max( 1, initialCapacity ) );
+            if ( capacity < initialCapacity )
+            {
+                capacity = capacity << 1;
+            }
+            this.initiatedTimesAsMilli = new long[capacity];
+            this.uncompletedCounts = new int[capacity];
+            this.mask = capacity - 1;
+        }
+
+        @Override
+        public long addInitiatedTimeAndReturnLastKnownLowestTimeAsMilli( long initiatedTimeAsMilli )
+                throws CompletionTimeException
+        {
+            if ( -1 != highestInitiatedTimeAsMilli && initiatedTimeAsMilli < highestInitiatedTimeAsMilli )
+            {
+                String errMsg = format( "Submitted initiated time is lower than previously submitted initiated time\n"
+                                        + "  Submitted: %s (%s ms)\n"
+                                        + "  Previous: %s (%s ms)",
+                        temporalUtil.milliTimeToDateTimeString( initiatedTimeAsMilli ), initiatedTimeAsMilli,
+                        temporalUtil.milliTimeToDateTimeString( highestInitiatedTimeAsMilli ),
+                        highestInitiatedTimeAsMilli
+                );
+                throw new CompletionTimeException( errMsg );
+            }
+            highestInitiatedTimeAsMilli = initiatedTimeAsMilli;
+
+            if ( 0 == uncompletedInitiatedTimes )
+            { lastKnownLowestInitiatedTimeAsMilli = initiatedTimeAsMilli; }
+            int tail = (head + size - 1) & mask;
+            if ( size > 0 && initiatedTimesAsMilli[tail] == initiatedTimeAsMilli )
+            {
+                uncompletedCounts[tail]++;
+            }
+            else
+            {
+                if ( size == initiatedTimesAsMilli.length )
+                {
+                    doubleCapacity();
+                }
+                int index = (head + size) & mask;
+                initiatedTimesAsMilli[index] = initiatedTimeAsMilli;
+                uncompletedCounts[index] = 1;
+                size++;
+            }
+            uncompletedInitiatedTimes++;
+            return lastKnownLowestInitiatedTimeAsMilli;
+        }
+
+        @Override
+        public long removeTimeAndReturnLastKnownLowestTimeAsMilli( long timeAsMilli ) throws CompletionTimeException
+        {
+            int offset = offsetOf( timeAsMilli );
+            int index = (head + offset) & mask;
+            if ( -1 == offset || 0 == uncompletedCounts[index] )
+            {
+                throw new CompletionTimeException( format(
+                        "Initiated time [%s] of completed event does not map to any uncompleted operation",
+                        timeAsMilli ) );
+            }
+            uncompletedCounts[index]--;
+            uncompletedInitiatedTimes--;
+            // free entries at head once all their times have completed
+            while ( size > 0 && 0 == uncompletedCounts[head] )
+            {
+                head = (head + 1) & mask;
+                size--;
+            }
+            if ( 0 == uncompletedInitiatedTimes )
+            { lastKnownLowestInitiatedTimeAsMilli = highestInitiatedTimeAsMilli; }
+            else
+            { lastKnownLowestInitiatedTimeAsMilli = initiatedTimesAsMilli[head]; }
+            return lastKnownLowestInitiatedTimeAsMilli;
+        }
+
+        // binary search over entries, which are sorted from head to tail, returns -1 when not found
+        private int offsetOf( long timeAsMilli )
+        {
+            int low = 0;
+            int high = size - 1;
+            while ( low <= high )
+            {
+                int middle = (low + high) >>> 1;
+                long middleTimeAsMilli = initiatedTimesAsMilli[(head + middle) & mask];
+                if ( middleTimeAsMilli < timeAsMilli )
+                {
+                    low = middle + 1;
+                }
+                else if ( middleTimeAsMilli > timeAsMilli )
+                {
+                    high = middle - 1;
+                }
+                else
+                {
+                    return middle;
+                }
+            }
+            return -1;
+        }
+
+        private void doubleCapacity()
+        {
+            int capacity = initiatedTimesAsMilli.length;
+            long[] newInitiatedTimesAsMilli = new long[capacity * 2];
+            int[] newUncompletedCounts = new int[capacity * 2];
+            for ( int offset = 0; offset < size; offset++ )
+            {
+                newInitiatedTimesAsMilli[offset] = initiatedTimesAsMilli[(head + offset) & mask];
+                newUncompletedCounts[offset] = uncompletedCounts[(head + offset) & mask];
+            }
+            initiatedTimesAsMilli = newInitiatedTimesAsMilli;
+            uncompletedCounts = newUncompletedCounts;
+            mask = capacity * 2 - 1;
+            head = 0;
+        }
+
+        @Override
+        public long highestInitiatedTimeAsMilli()
+        {
+            return highestInitiatedTimeAsMilli;
+        }
+
+        @Override
+        public int uncompletedInitiatedTimes()
+        {
+            return uncompletedInitiatedTimes;
+        }
+
+        @Override
+        public String toString()
+        {
+            return "RingBufferInitiatedTimeTracker{" +
+                   "entries=" + size +
+                   ", capacity=" + initiatedTimesAsMilli.length +
+                   ", lastKnownLowestInitiatedTimeAsMilli=" + lastKnownLowestInitiatedTimeAsMilli +
+                   ", lastKnownLowestInitiatedTimeAsMilli=" +
+                   temporalUtil.milliTimeToDateTimeString( lastKnownLowestInitiatedTimeAsMilli ) +
+                   ", highestInitiatedTimeAsMilli=" + highestInitiatedTimeAsMilli +
+                   ", highestInitiatedTimeAsMilli=" +
+                   temporalUtil.milliTimeToDateTimeString( highestInitiatedTimeAsMilli ) +
+                   ", uncompletedInitiatedTimes=" + uncompletedInitiatedTimes +
+                   '}';
+        }
+    }
 }
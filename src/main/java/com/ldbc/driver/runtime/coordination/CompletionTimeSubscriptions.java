@@ -0,0 +1,79 @@
+package com.ldbc.driver.runtime.coordination;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Listeners waiting for completion time to reach some time, in a min-heap ordered by that time.
+ * Whenever completion time advances, listeners are removed from the head of the heap and notified, until the head is
+ * waiting for a time after the new completion time. Thread-safe.
+ */
+class CompletionTimeSubscriptions
+{
+    private final PriorityQueue<Subscription> subscriptions = new PriorityQueue<>();
+    private long completionTimeAsMilli = -1;
+
+    /**
+     * @return false, without subscribing listener, if completion time has already reached the time
+     */
+    synchronized boolean subscribe( long timeAsMilli, CompletionTimeListener listener )
+    {
+        if ( -1 != completionTimeAsMilli && completionTimeAsMilli >= timeAsMilli )
+        {
+            return false;
+        }
+        subscriptions.add( new Subscription( timeAsMilli, listener ) );
+        return true;
+    }
+
+    /**
+     * Notifies, on the calling thread, listeners waiting for times at or before the new completion time.
+     * Completion times lower than the highest one received so far are ignored, as they may arrive out of order
+     * when completion time is advanced by multiple threads.
+     */
+    void advanceTo( long newCompletionTimeAsMilli )
+    {
+        List<Subscription> dueSubscriptions;
+        synchronized ( this )
+        {
+            if ( newCompletionTimeAsMilli <= completionTimeAsMilli )
+            {
+                return;
+            }
+            completionTimeAsMilli = newCompletionTimeAsMilli;
+            if ( subscriptions.isEmpty() || subscriptions.peek().timeAsMilli > newCompletionTimeAsMilli )
+            {
+                return;
+            }
+            dueSubscriptions = new ArrayList<>();
+            while ( false == subscriptions.isEmpty() && subscriptions.peek().timeAsMilli <= newCompletionTimeAsMilli )
+            {
+                dueSubscriptions.add( subscriptions.poll() );
+            }
+        }
+        // outside of lock, listeners may subscribe again
+        for ( int i = 0; i < dueSubscriptions.size(); i++ )
+        {
+            dueSubscriptions.get( i ).listener.onCompletionTimeReached( newCompletionTimeAsMilli );
+        }
+    }
+
+    private static class Subscription implements Comparable<Subscription>
+    {
+        private final long timeAsMilli;
+        private final CompletionTimeListener listener;
+
+        private Subscription( long timeAsMilli, CompletionTimeListener listener )
+        {
+            this.timeAsMilli = timeAsMilli;
+            this.listener = listener;
+        }
+
+        @Override
+        public int compareTo( Subscription other )
+        {
+            return Long.compare( timeAsMilli, other.timeAsMilli );
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package com.ldbc.driver.runtime.coordination;
+
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.coordination.ThreadedQueuedCompletionTimeService.CompletionTimeFuture;
+import com.ldbc.driver.runtime.metrics.DisruptorExceptionHandler;
+import com.ldbc.driver.temporal.TimeSource;
+import com.lmax.disruptor.EventFactory;
+import com.lmax.disruptor.EventHandler;
+import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.TimeoutException;
+import com.lmax.disruptor.WaitStrategy;
+import com.lmax.disruptor.dsl.Disruptor;
+import com.lmax.disruptor.dsl.ProducerType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+/**
+ * Equivalent of ThreadedQueuedCompletionTimeService, but initiated and completed times are written into pre-allocated
+ * events of a ring buffer, rather than allocating an event per time and passing it through a lock guarded queue.
+ * Events are applied to completion time state by a single service thread, which publishes completion time, and
+ * notifies subscribers, once per batch of events rather than once per event.
+ */
+public class DisruptorCompletionTimeService implements CompletionTimeService
+{
+    private static final long SHUTDOWN_WAIT_TIMEOUT_AS_MILLI = TimeUnit.SECONDS.toMillis( 10 );
+    // must be a power of 2
+    private static final int RING_BUFFER_SIZE = 16384;
+
+    private final TimeSource timeSource;
+    private final MultiWriterCompletionTimeStateManager completionTimeStateManager;
+    private final AtomicLong sharedCtReference = new AtomicLong( -1 );
+    private final AtomicBoolean sharedIsShuttingDownReference = new AtomicBoolean( false );
+    private final CompletionTimeSubscriptions subscriptions = new CompletionTimeSubscriptions();
+    private final List<CompletionTimeWriter> writers = Collections.synchronizedList(
+            new ArrayList<CompletionTimeWriter>() );
+    private final ExecutorService executor;
+    private final Disruptor<CompletionTimeRingEvent> disruptor;
+    private final RingBuffer<CompletionTimeRingEvent> ringBuffer;
+
+    DisruptorCompletionTimeService( TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            WaitStrategy waitStrategy ) throws CompletionTimeException
+    {
+        this.timeSource = timeSource;
+        this.completionTimeStateManager = new MultiWriterCompletionTimeStateManager();
+        // named, so that its CPU time can be attributed to completion time tracking
+        this.executor = Executors.newSingleThreadExecutor(
+                runnable -> new Thread(
+                        runnable,
+                        DisruptorCompletionTimeService.class.getSimpleName() + "-" + System.currentTimeMillis() )
+        );
+        this.disruptor = new Disruptor<>(
+                new CompletionTimeRingEventFactory(),
+                RING_BUFFER_SIZE,
+                executor,
+                ProducerType.MULTI,
+                waitStrategy
+        );
+        CompletionTimeRingEventHandler eventHandler = new CompletionTimeRingEventHandler();
+        disruptor.handleEventsWith( eventHandler );
+        DisruptorExceptionHandler exceptionHandler = new DisruptorExceptionHandler( errorReporter );
+        disruptor.handleExceptionsFor( eventHandler ).with( exceptionHandler );
+        disruptor.handleExceptionsWith( exceptionHandler );
+        this.ringBuffer = disruptor.start();
+    }
+
+    @Override
+    public long completionTimeAsMilli()
+    {
+        return sharedCtReference.get();
+    }
+
+    @Override
+    public CompletionTimeWriter newCompletionTimeWriter() throws CompletionTimeException
+    {
+        // state manager is safe to add writers to while service thread submits times of other writers
+        MultiWriterCompletionTimeStateManagerWriter stateManagerWriter =
+                (MultiWriterCompletionTimeStateManagerWriter) completionTimeStateManager.newCompletionTimeWriter();
+        CompletionTimeWriter writer = new DisruptorCompletionTimeWriter(
+                stateManagerWriter.id(),
+                sharedIsShuttingDownReference,
+                ringBuffer );
+        writers.add( writer );
+        return writer;
+    }
+
+    @Override
+    public Future<Long> completionTimeAsMilliFuture() throws CompletionTimeException
+    {
+        CompletionTimeFuture future = new CompletionTimeFuture( timeSource );
+        long sequence = ringBuffer.next();
+        try
+        {
+            ringBuffer.get( sequence ).set( CompletionTimeRingEvent.READ_CT_FUTURE, -1, -1, future );
+        }
+        finally
+        {
+            ringBuffer.publish( sequence );
+        }
+        return future;
+    }
+
+    @Override
+    public List<CompletionTimeWriter> getAllWriters() throws CompletionTimeException
+    {
+        return writers;
+    }
+
+    @Override
+    public boolean subscribe( long timeAsMilli, CompletionTimeListener listener )
+    {
+        return subscriptions.subscribe( timeAsMilli, listener );
+    }
+
+    @Override
+    public long lastKnownLowestInitiatedTimeAsMilli() throws CompletionTimeException
+    {
+        throw new UnsupportedOperationException( "Method not supported" );
+    }
+
+    @Override
+    synchronized public void shutdown() throws CompletionTimeException
+    {
+        if ( sharedIsShuttingDownReference.get() )
+        {
+            return;
+        }
+        sharedIsShuttingDownReference.set( true );
+        try
+        {
+            // waits for all published events to be processed
+            disruptor.shutdown( SHUTDOWN_WAIT_TIMEOUT_AS_MILLI, TimeUnit.MILLISECONDS );
+        }
+        catch ( TimeoutException e )
+        {
+            throw new CompletionTimeException( "Service took too long to shutdown", e );
+        }
+        executor.shutdown();
+    }
+
+    static class DisruptorCompletionTimeWriter implements CompletionTimeWriter
+    {
+        private final int writerId;
+        private final AtomicBoolean sharedIsShuttingDownReference;
+        private final RingBuffer<CompletionTimeRingEvent> ringBuffer;
+
+        private DisruptorCompletionTimeWriter( int writerId,
+                AtomicBoolean sharedIsShuttingDownReference,
+                RingBuffer<CompletionTimeRingEvent> ringBuffer )
+        {
+            this.writerId = writerId;
+            this.sharedIsShuttingDownReference = sharedIsShuttingDownReference;
+            this.ringBuffer = ringBuffer;
+        }
+
+        @Override
+        public void submitInitiatedTime( long timeAsMilli ) throws CompletionTimeException
+        {
+            if ( sharedIsShuttingDownReference.get() )
+            {
+                throw new CompletionTimeException( "Can not submit initiated time after calling shutdown" );
+            }
+            publish( CompletionTimeRingEvent.WRITE_INITIATED_TIME, timeAsMilli );
+        }
+
+        @Override
+        public void submitCompletedTime( long timeAsMilli ) throws CompletionTimeException
+        {
+            publish( CompletionTimeRingEvent.WRITE_COMPLETED_TIME, timeAsMilli );
+        }
+
+        private void publish( int type, long timeAsMilli )
+        {
+            // --- BLOCKING CALL (when ring buffer is full) ---
+            long sequence = ringBuffer.next();
+            try
+            {
+                ringBuffer.get( sequence ).set( type, writerId, timeAsMilli, null );
+            }
+            finally
+            {
+                ringBuffer.publish( sequence );
+            }
+        }
+
+        @Override
+        public String toString()
+        {
+            return "DisruptorCompletionTimeWriter{" + "writerId=" + writerId + '}';
+        }
+    }
+
+    /**
+     * Flyweight over a slot of the ring buffer, its fields are overwritten by every event written to the slot
+     */
+    static class CompletionTimeRingEvent
+    {
+        static final int WRITE_INITIATED_TIME = 1;
+        static final int WRITE_COMPLETED_TIME = 2;
+        static final int READ_CT_FUTURE = 3;
+
+        private int type;
+        private int writerId;
+        private long timeAsMilli;
+        private CompletionTimeFuture future;
+
+        private void set( int type, int writerId, long timeAsMilli, CompletionTimeFuture future )
+        {
+            this.type = type;
+            this.writerId = writerId;
+            this.timeAsMilli = timeAsMilli;
+            this.future = future;
+        }
+
+        @Override
+        public String toString()
+        {
+            return "CompletionTimeRingEvent{" +
+                   "type=" + type +
+                   ", writerId=" + writerId +
+                   ", timeAsMilli=" + timeAsMilli +
+                   '}';
+        }
+    }
+
+    private static class CompletionTimeRingEventFactory implements EventFactory<CompletionTimeRingEvent>
+    {
+        @Override
+        public CompletionTimeRingEvent newInstance()
+        {
+            return new CompletionTimeRingEvent();
+        }
+    }
+
+    private class CompletionTimeRingEventHandler implements EventHandler<CompletionTimeRingEvent>
+    {
+        @Override
+        public void onEvent( CompletionTimeRingEvent event, long sequence, boolean endOfBatch ) throws Exception
+        {
+            switch ( event.type )
+            {
+            case CompletionTimeRingEvent.WRITE_INITIATED_TIME:
+            {
+                completionTimeStateManager.submitInitiatedTime( event.writerId, event.timeAsMilli );
+                break;
+            }
+            case CompletionTimeRingEvent.WRITE_COMPLETED_TIME:
+            {
+                completionTimeStateManager.submitCompletedTime( event.writerId, event.timeAsMilli );
+                break;
+            }
+            case CompletionTimeRingEvent.READ_CT_FUTURE:
+            {
+                // reflect every time submitted before the request
+                updateCompletionTime();
+                CompletionTimeFuture future = event.future;
+                event.future = null;
+                future.set( sharedCtReference.get() );
+                break;
+            }
+            default:
+            {
+                throw new CompletionTimeException( format( "Encountered unexpected event type: %s", event.type ) );
+            }
+            }
+            if ( endOfBatch )
+            {
+                updateCompletionTime();
+            }
+        }
+
+        private void updateCompletionTime() throws CompletionTimeException
+        {
+            long newCompletionTimeAsMilli = completionTimeStateManager.completionTimeAsMilli();
+            // state manager never returns completion time lower than a previous one
+            if ( newCompletionTimeAsMilli > sharedCtReference.get() )
+            {
+                sharedCtReference.set( newCompletionTimeAsMilli );
+                // release operations waiting for this completion time, no need for them to poll
+                subscriptions.advanceTo( newCompletionTimeAsMilli );
+            }
+        }
+    }
+}
@@ -1,7 +1,8 @@
 package com.ldbc.driver.runtime.coordination;
 
-import java.util.ArrayList;
-import java.util.List;
+import com.lmax.disruptor.Sequence;
+
+import java.util.Arrays;
 
 import static java.lang.String.format;
 
@@ -15,21 +16,20 @@ import static java.lang.String.format;
  * <p/>
  * This class performs the logic of tracking completion time.
  * It can be written to by multiple threads in a thread-safe manner.
+ * <p/>
+ * Writers do not contend with each other: every writer tracks its own initiated and completed times, under its own
+ * lock, and publishes its lowest initiated time and its completion time through padded sequences.
+ * Readers compute completion time lazily from the published times, without locking, so they never block writers.
+ * Published times of every writer only ever increase, so completion time computed from times published at different
+ * moments is never higher than the real one, and as computed completion times may then arrive out of order, only ever
+ * the highest one is kept.
  */
 public class MultiWriterCompletionTimeStateManager implements CompletionTimeReader
 {
-    private enum Event
-    {
-        READ_LAST_KNOWN_IT,
-        READ_CT,
-        WRITE_IT,
-        WRITE_CT,
-        ADD_WRITER
-    }
-
-    private final List<CompletionTimeReaderWriter> completionTimeReaderWriters = new ArrayList<>();
-    private long completionTimeAsMilli = -1;
-    private long initiationTimeAsMilli = -1;
+    // replaced, never modified, when a writer is added
+    private volatile WriterState[] writerStates = new WriterState[0];
+    private final Sequence completionTimeAsMilli = new Sequence( -1 );
+    private final Sequence initiationTimeAsMilli = new Sequence( -1 );
 
     MultiWriterCompletionTimeStateManager()
     {
@@ -38,23 +38,35 @@ public class MultiWriterCompletionTimeStateManager implements CompletionTimeRead
     @Override
     public long lastKnownLowestInitiatedTimeAsMilli() throws CompletionTimeException
     {
-        return (long) processEvent( Event.READ_LAST_KNOWN_IT, -1, -1 );
+        updateCompletionTime();
+        return initiationTimeAsMilli.get();
     }
 
     @Override
     public long completionTimeAsMilli() throws CompletionTimeException
     {
-        return (long) processEvent( Event.READ_CT, -1, -1 );
+        updateCompletionTime();
+        return completionTimeAsMilli.get();
     }
 
     void submitInitiatedTime( int writerId, long scheduledStartTimeAsMilli ) throws CompletionTimeException
     {
-        processEvent( Event.WRITE_IT, writerId, scheduledStartTimeAsMilli );
+        WriterState writerState = writerState( writerId );
+        synchronized ( writerState )
+        {
+            writerState.completionTimeStateManager.submitInitiatedTime( scheduledStartTimeAsMilli );
+            writerState.publish();
+        }
     }
 
     void submitCompletedTime( int writerId, long scheduledStartTimeAsMilli ) throws CompletionTimeException
     {
-        processEvent( Event.WRITE_CT, writerId, scheduledStartTimeAsMilli );
+        WriterState writerState = writerState( writerId );
+        synchronized ( writerState )
+        {
+            writerState.completionTimeStateManager.submitCompletedTime( scheduledStartTimeAsMilli );
+            writerState.publish();
+        }
     }
 
     /**
@@ -63,108 +75,89 @@ public class MultiWriterCompletionTimeStateManager implements CompletionTimeRead
      * @return new writer
      * @throws CompletionTimeException
      */
-    CompletionTimeWriter newCompletionTimeWriter() throws CompletionTimeException
+    synchronized CompletionTimeWriter newCompletionTimeWriter() throws CompletionTimeException
     {
-        return (CompletionTimeWriter) processEvent( Event.ADD_WRITER, -1, -1 );
+        int nextWriterId = writerStates.length;
+        WriterState[] newWriterStates = Arrays.copyOf( writerStates, nextWriterId + 1 );
+        newWriterStates[nextWriterId] = new WriterState();
+        writerStates = newWriterStates;
+        return new MultiWriterCompletionTimeStateManagerWriter( nextWriterId, this );
     }
 
-    synchronized private Object processEvent( Event event, int writerId, long scheduledStartTimeAsMilli )
-            throws CompletionTimeException
+    private WriterState writerState( int writerId ) throws CompletionTimeException
     {
-        switch ( event )
-        {
-        case READ_LAST_KNOWN_IT:
-        {
-            return initiationTimeAsMilli;
-        }
-        case READ_CT:
-        {
-            return completionTimeAsMilli;
-        }
-        case WRITE_IT:
-        {
-            CompletionTimeWriter completionTimeWriter = completionTimeReaderWriters.get( writerId );
-            if ( null == completionTimeWriter )
-            { throw new CompletionTimeException( format( "Writer ID %s does not exist", writerId ) ); }
-            completionTimeWriter.submitInitiatedTime( scheduledStartTimeAsMilli );
-            updateCompletionTime();
-            return null;
-        }
-        case WRITE_CT:
-        {
-            CompletionTimeWriter completionTimeWriter = completionTimeReaderWriters.get( writerId );
-            if ( null == completionTimeWriter )
-            { throw new CompletionTimeException( format( "Writer ID %s does not exist", writerId ) ); }
-            completionTimeWriter.submitCompletedTime( scheduledStartTimeAsMilli );
-            updateCompletionTime();
-            return null;
-        }
-        case ADD_WRITER:
-        {
-            int nextWriterId = completionTimeReaderWriters.size();
-            CompletionTimeReaderWriter completionTimeReaderWriter = new CompletionTimeStateManager();
-            CompletionTimeWriter completionTimeWriter =
-                    new MultiWriterCompletionTimeStateManagerWriter( nextWriterId, this );
-            completionTimeReaderWriters.add( completionTimeReaderWriter );
-            return completionTimeWriter;
-        }
-        default:
-        {
-            throw new CompletionTimeException( "This should never happen" );
-        }
-        }
+        WriterState[] currentWriterStates = writerStates;
+        if ( writerId < 0 || writerId >= currentWriterStates.length )
+        { throw new CompletionTimeException( format( "Writer ID %s does not exist", writerId ) ); }
+        return currentWriterStates[writerId];
     }
 
-    private void updateCompletionTime() throws CompletionTimeException
+    private void updateCompletionTime()
     {
+        WriterState[] currentWriterStates = writerStates;
         long tempInitiationTimeAsMilli = -1;
-        for ( CompletionTimeReader reader : completionTimeReaderWriters )
+        for ( int i = 0; i < currentWriterStates.length; i++ )
         {
-            long readerInitiationTimeAsMilli = reader.lastKnownLowestInitiatedTimeAsMilli();
-            if ( -1 == readerInitiationTimeAsMilli )
+            long writerInitiationTimeAsMilli = currentWriterStates[i].initiationTimeAsMilli.get();
+            if ( -1 == writerInitiationTimeAsMilli )
             {
                 // if any initiation times are null, initiation time and completion time are undefined
                 return;
             }
             else if ( -1 == tempInitiationTimeAsMilli ||
-                      readerInitiationTimeAsMilli < tempInitiationTimeAsMilli )
+                      writerInitiationTimeAsMilli < tempInitiationTimeAsMilli )
             {
-                tempInitiationTimeAsMilli = readerInitiationTimeAsMilli;
+                tempInitiationTimeAsMilli = writerInitiationTimeAsMilli;
             }
-            else
+        }
+        if ( -1 == tempInitiationTimeAsMilli )
+        {
+            // no writers
+            return;
+        }
+        advance( initiationTimeAsMilli, tempInitiationTimeAsMilli );
+
+        long tempCompletionTimeAsMilli = -1;
+        for ( int i = 0; i < currentWriterStates.length; i++ )
+        {
+            long writerCompletionTimeAsMilli = currentWriterStates[i].completionTimeAsMilli.get();
+            // null completion time of a writer does not make completion time null, as initiation time already tells
+            // that no more times will arrive BELOW it, and completion time must be lower than initiation time
+            if ( -1 != writerCompletionTimeAsMilli &&
+                 writerCompletionTimeAsMilli < tempInitiationTimeAsMilli &&
+                 writerCompletionTimeAsMilli > tempCompletionTimeAsMilli )
             {
-                // reader has initiation time, but it is greater than minimum initiation time
+                tempCompletionTimeAsMilli = writerCompletionTimeAsMilli;
             }
         }
+        if ( -1 != tempCompletionTimeAsMilli )
+        {
+            advance( completionTimeAsMilli, tempCompletionTimeAsMilli );
+        }
+    }
 
-        initiationTimeAsMilli = tempInitiationTimeAsMilli;
+    private static void advance( Sequence timeAsMilli, long newTimeAsMilli )
+    {
+        long currentTimeAsMilli = timeAsMilli.get();
+        while ( newTimeAsMilli > currentTimeAsMilli &&
+                false == timeAsMilli.compareAndSet( currentTimeAsMilli, newTimeAsMilli ) )
+        {
+            currentTimeAsMilli = timeAsMilli.get();
+        }
+    }
 
-        long tempCompletionTimeAsMilli = completionTimeAsMilli;
-        for ( CompletionTimeReader reader : completionTimeReaderWriters )
+    private static class WriterState
+    {
+        // only accessed while holding lock of writer state
+        private final CompletionTimeStateManager completionTimeStateManager = new CompletionTimeStateManager();
+        // padded, so writers publishing their times do not invalidate cache lines of other writers
+        private final Sequence initiationTimeAsMilli = new Sequence( -1 );
+        private final Sequence completionTimeAsMilli = new Sequence( -1 );
+
+        private void publish() throws CompletionTimeException
         {
-            long readerCompletionTimeAsMilli = reader.completionTimeAsMilli();
-            if ( -1 == readerCompletionTimeAsMilli )
-            {
-                // reader has non-null initiation time and null completion time
-                // if at least one reader has non-null completion time it is still possible that completion
-                // time is non-null
-                // initiation time already tells us that no more times will arrive BELOW that time
-                // continue checking completion times of other readers
-            }
-            else if ( readerCompletionTimeAsMilli < tempInitiationTimeAsMilli )
-            {
-                if ( -1 == tempCompletionTimeAsMilli ||
-                     readerCompletionTimeAsMilli > tempCompletionTimeAsMilli )
-                {
-                    tempCompletionTimeAsMilli = readerCompletionTimeAsMilli;
-                }
-            }
-            else
-            {
-                // completion time must be lower than initiation time
-                // continue checking completion times of other readers
-            }
+            initiationTimeAsMilli.set( completionTimeStateManager.lastKnownLowestInitiatedTimeAsMilli() );
+            completionTimeAsMilli.set( completionTimeStateManager.completionTimeAsMilli() );
         }
-        completionTimeAsMilli = tempCompletionTimeAsMilli;
     }
 }
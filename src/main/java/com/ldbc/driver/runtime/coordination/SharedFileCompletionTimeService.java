@@ -0,0 +1,472 @@
+package com.ldbc.driver.runtime.coordination;
+
+import com.ldbc.driver.runtime.coordination.ThreadedQueuedCompletionTimeService.CompletionTimeFuture;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.temporal.TemporalUtil;
+import com.lmax.disruptor.Sequence;
+import com.lmax.disruptor.util.Util;
+import sun.misc.Unsafe;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.Buffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.lang.String.format;
+
+/**
+ * Completion time service shared by several driver processes on the same host, e.g., each executing a different
+ * partition of the update streams, so dependencies hold across processes.
+ * <p/>
+ * Every writer, of every process, owns a slot of a memory-mapped file, where it publishes its lowest initiated time
+ * and its completion time. Every process computes global completion time from all slots, the same way
+ * MultiWriterCompletionTimeStateManager does for the writers of one process. Times of a slot only ever increase, so
+ * slots read at different moments never make completion time too high.
+ * <p/>
+ * Slots and header counts are read by other processes without any lock, so they are accessed directly on the mapped
+ * memory, in native byte order, with ordered writes and volatile reads. A writer publishes its completion time before
+ * its initiated time, and readers read all initiated times before any completion time, so a reader that sees an
+ * initiated time also sees the completion time published with it, or a later one. Header counts are incremented
+ * while holding the file lock, and slots are initialized before the file is unlocked, so a slot counted by the
+ * writer count is never read before it is initialized.
+ * <p/>
+ * Completion time stays undefined until the expected number of processes have started submitting times, as writers
+ * of processes that have not registered yet would otherwise not hold it back. Processes register when any of their
+ * writers first submits a time, so every process must create all its writers before then.
+ * <p/>
+ * The file must not exist, or be deleted, before a run. A file left over from an earlier run, i.e., one all of whose
+ * processes have already registered, or one created for a different number of processes, is rejected when opened.
+ * Slots of processes that die are never released.
+ */
+public class SharedFileCompletionTimeService implements CompletionTimeService
+{
+    private static final int MAGIC = 0x4C444243;
+    private static final int DEFAULT_SLOT_CAPACITY = 1024;
+    private static final long POLLING_INTERVAL_AS_NANO = TimeUnit.MILLISECONDS.toNanos( 1 );
+    // header: magic (int), slot capacity (int), writer count (long), registered process count (long),
+    // expected process count (long), creation time (long)
+    private static final int MAGIC_OFFSET = 0;
+    private static final int SLOT_CAPACITY_OFFSET = 4;
+    private static final int WRITER_COUNT_OFFSET = 8;
+    private static final int PROCESS_COUNT_OFFSET = 16;
+    private static final int EXPECTED_PROCESS_COUNT_OFFSET = 24;
+    private static final int CREATION_TIME_OFFSET = 32;
+    private static final int HEADER_SIZE = 64;
+    // times of a slot are on different cache lines, so writers do not invalidate cache lines of other writers
+    private static final int SLOT_SIZE = 128;
+    private static final int SLOT_INITIATED_TIME_OFFSET = 0;
+    private static final int SLOT_COMPLETION_TIME_OFFSET = 64;
+    // guards the file lock, which can only be held once per JVM
+    private static final Object FILE_LOCK_GUARD = new Object();
+    private static final TemporalUtil TEMPORAL_UTIL = new TemporalUtil();
+    private static final Unsafe UNSAFE = Util.getUnsafe();
+
+    private final int expectedProcessCount;
+    private final RandomAccessFile file;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    // address of mapped memory, all slot and header count accesses go through it
+    private final long address;
+    private final int slotCapacity;
+    private final Sequence completionTimeAsMilli = new Sequence( -1 );
+    private final Sequence initiationTimeAsMilli = new Sequence( -1 );
+    private final AtomicBoolean registered = new AtomicBoolean( false );
+    private final AtomicBoolean shutdown = new AtomicBoolean( false );
+    private final List<CompletionTimeWriter> writers =
+            Collections.synchronizedList( new ArrayList<CompletionTimeWriter>() );
+    private final CompletionTimeSubscriptions subscriptions = new CompletionTimeSubscriptions();
+    private final Thread pollingThread;
+
+    SharedFileCompletionTimeService( File sharedFile, int expectedProcessCount ) throws CompletionTimeException
+    {
+        this( sharedFile, expectedProcessCount, DEFAULT_SLOT_CAPACITY );
+    }
+
+    SharedFileCompletionTimeService( File sharedFile, int expectedProcessCount, int slotCapacity )
+            throws CompletionTimeException
+    {
+        if ( expectedProcessCount < 1 )
+        {
+            throw new CompletionTimeException( format( "Process count must be positive: %s", expectedProcessCount ) );
+        }
+        this.expectedProcessCount = expectedProcessCount;
+        try
+        {
+            this.file = new RandomAccessFile( sharedFile, "rw" );
+            this.channel = file.getChannel();
+            synchronized ( FILE_LOCK_GUARD )
+            {
+                try ( FileLock ignored = channel.lock() )
+                {
+                    if ( 0 == file.length() )
+                    {
+                        // first process to open the file lays it out
+                        this.buffer = channel.map( FileChannel.MapMode.READ_WRITE, 0, fileSize( slotCapacity ) );
+                        buffer.order( ByteOrder.nativeOrder() );
+                        this.slotCapacity = slotCapacity;
+                        buffer.putInt( SLOT_CAPACITY_OFFSET, slotCapacity );
+                        buffer.putLong( WRITER_COUNT_OFFSET, 0 );
+                        buffer.putLong( PROCESS_COUNT_OFFSET, 0 );
+                        buffer.putLong( EXPECTED_PROCESS_COUNT_OFFSET, expectedProcessCount );
+                        buffer.putLong( CREATION_TIME_OFFSET, System.currentTimeMillis() );
+                        for ( int slot = 0; slot < slotCapacity; slot++ )
+                        {
+                            buffer.putLong( slotOffset( slot ) + SLOT_INITIATED_TIME_OFFSET, -1 );
+                            buffer.putLong( slotOffset( slot ) + SLOT_COMPLETION_TIME_OFFSET, -1 );
+                        }
+                        buffer.putInt( MAGIC_OFFSET, MAGIC );
+                    }
+                    else
+                    {
+                        MappedByteBuffer header = channel.map( FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE );
+                        header.order( ByteOrder.nativeOrder() );
+                        if ( MAGIC != header.getInt( MAGIC_OFFSET ) )
+                        {
+                            throw new CompletionTimeException(
+                                    format( "Not a completion time file: %s", sharedFile.getAbsolutePath() ) );
+                        }
+                        assertNotFromEarlierRun( header, expectedProcessCount, sharedFile );
+                        this.slotCapacity = header.getInt( SLOT_CAPACITY_OFFSET );
+                        this.buffer =
+                                channel.map( FileChannel.MapMode.READ_WRITE, 0, fileSize( this.slotCapacity ) );
+                        buffer.order( ByteOrder.nativeOrder() );
+                    }
+                }
+            }
+            this.address = addressOf( buffer );
+        }
+        catch ( IOException e )
+        {
+            throw new CompletionTimeException(
+                    format( "Error opening completion time file: %s", sharedFile.getAbsolutePath() ), e );
+        }
+        // completion time is also advanced by other processes, so their progress is polled to release subscribers
+        if ( expectedProcessCount > 1 )
+        {
+            this.pollingThread = new PollingThread(
+                    SharedFileCompletionTimeService.class.getSimpleName() + "-" + System.currentTimeMillis() );
+            this.pollingThread.start();
+        }
+        else
+        {
+            this.pollingThread = null;
+        }
+    }
+
+    @Override
+    public long completionTimeAsMilli() throws CompletionTimeException
+    {
+        updateCompletionTime();
+        return completionTimeAsMilli.get();
+    }
+
+    @Override
+    public long lastKnownLowestInitiatedTimeAsMilli() throws CompletionTimeException
+    {
+        updateCompletionTime();
+        return initiationTimeAsMilli.get();
+    }
+
+    /**
+     * IMPORTANT: not safe to call after IT/CT times have been submitted by this process
+     */
+    @Override
+    public CompletionTimeWriter newCompletionTimeWriter() throws CompletionTimeException
+    {
+        int slot = (int) incrementHeaderCount( WRITER_COUNT_OFFSET, slotCapacity, "writers" );
+        CompletionTimeWriter writer = new SharedFileCompletionTimeWriter( slot );
+        writers.add( writer );
+        return writer;
+    }
+
+    /**
+     * @return number of processes that have started submitting times, completion time is undefined until all have
+     */
+    public long registeredProcessCount()
+    {
+        return getLongVolatile( PROCESS_COUNT_OFFSET );
+    }
+
+    @Override
+    public Future<Long> completionTimeAsMilliFuture() throws CompletionTimeException
+    {
+        CompletionTimeFuture future = new CompletionTimeFuture( new SystemTimeSource() );
+        future.set( completionTimeAsMilli() );
+        return future;
+    }
+
+    @Override
+    public List<CompletionTimeWriter> getAllWriters() throws CompletionTimeException
+    {
+        return writers;
+    }
+
+    @Override
+    public boolean subscribe( long timeAsMilli, CompletionTimeListener listener ) throws CompletionTimeException
+    {
+        return subscriptions.subscribe( timeAsMilli, listener );
+    }
+
+    @Override
+    synchronized public void shutdown() throws CompletionTimeException
+    {
+        if ( shutdown.get() )
+        {
+            return;
+        }
+        shutdown.set( true );
+        try
+        {
+            if ( null != pollingThread )
+            {
+                pollingThread.join( TimeUnit.SECONDS.toMillis( 1 ) );
+            }
+            // leaves file in place, for processes that are still running
+            file.close();
+        }
+        catch ( InterruptedException | IOException e )
+        {
+            throw new CompletionTimeException( "Error closing completion time file", e );
+        }
+    }
+
+    private void updateCompletionTime()
+    {
+        if ( getLongVolatile( PROCESS_COUNT_OFFSET ) < expectedProcessCount )
+        {
+            // writers of processes that have not yet registered do not hold back completion time
+            return;
+        }
+        long writerCount = getLongVolatile( WRITER_COUNT_OFFSET );
+        long tempInitiationTimeAsMilli = -1;
+        for ( int slot = 0; slot < writerCount; slot++ )
+        {
+            long slotInitiationTimeAsMilli = getLongVolatile( slotOffset( slot ) + SLOT_INITIATED_TIME_OFFSET );
+            if ( -1 == slotInitiationTimeAsMilli )
+            {
+                // if any initiation times are null, initiation time and completion time are undefined
+                return;
+            }
+            else if ( -1 == tempInitiationTimeAsMilli || slotInitiationTimeAsMilli < tempInitiationTimeAsMilli )
+            {
+                tempInitiationTimeAsMilli = slotInitiationTimeAsMilli;
+            }
+        }
+        if ( -1 == tempInitiationTimeAsMilli )
+        {
+            // no writers
+            return;
+        }
+        advance( initiationTimeAsMilli, tempInitiationTimeAsMilli );
+
+        long tempCompletionTimeAsMilli = -1;
+        for ( int slot = 0; slot < writerCount; slot++ )
+        {
+            long slotCompletionTimeAsMilli = getLongVolatile( slotOffset( slot ) + SLOT_COMPLETION_TIME_OFFSET );
+            if ( -1 != slotCompletionTimeAsMilli &&
+                 slotCompletionTimeAsMilli < tempInitiationTimeAsMilli &&
+                 slotCompletionTimeAsMilli > tempCompletionTimeAsMilli )
+            {
+                tempCompletionTimeAsMilli = slotCompletionTimeAsMilli;
+            }
+        }
+        if ( -1 != tempCompletionTimeAsMilli )
+        {
+            advance( completionTimeAsMilli, tempCompletionTimeAsMilli );
+        }
+    }
+
+    private void updateCompletionTimeAndSubscriptions()
+    {
+        updateCompletionTime();
+        subscriptions.advanceTo( completionTimeAsMilli.get() );
+    }
+
+    // processes of one run all open the file before any of them has registered all its writers
+    private static void assertNotFromEarlierRun( MappedByteBuffer header, int expectedProcessCount, File sharedFile )
+            throws CompletionTimeException
+    {
+        long fileExpectedProcessCount = header.getLong( EXPECTED_PROCESS_COUNT_OFFSET );
+        long fileProcessCount = header.getLong( PROCESS_COUNT_OFFSET );
+        String fileCreationTime = TEMPORAL_UTIL.milliTimeToDateTimeString( header.getLong( CREATION_TIME_OFFSET ) );
+        if ( expectedProcessCount != fileExpectedProcessCount )
+        {
+            throw new CompletionTimeException(
+                    format( "Completion time file was created (%s) for %s processes, not %s, " +
+                            "delete it if it is left over from an earlier run: %s",
+                            fileCreationTime,
+                            fileExpectedProcessCount,
+                            expectedProcessCount,
+                            sharedFile.getAbsolutePath() ) );
+        }
+        if ( fileProcessCount >= fileExpectedProcessCount )
+        {
+            throw new CompletionTimeException(
+                    format( "Completion time file is left over from an earlier run (created %s), " +
+                            "all %s of its processes have already registered, delete it before a run: %s",
+                            fileCreationTime,
+                            fileProcessCount,
+                            sharedFile.getAbsolutePath() ) );
+        }
+    }
+
+    private void register() throws CompletionTimeException
+    {
+        if ( false == registered.get() && registered.compareAndSet( false, true ) )
+        {
+            incrementHeaderCount( PROCESS_COUNT_OFFSET, expectedProcessCount, "processes" );
+        }
+    }
+
+    // increments count in header, while holding file lock, and returns previous count
+    private long incrementHeaderCount( int offset, long maxCount, String countName ) throws CompletionTimeException
+    {
+        synchronized ( FILE_LOCK_GUARD )
+        {
+            try ( FileLock ignored = channel.lock() )
+            {
+                long count = getLongVolatile( offset );
+                if ( count >= maxCount )
+                {
+                    throw new CompletionTimeException(
+                            format( "Completion time file supports at most %s %s", maxCount, countName ) );
+                }
+                putLongOrdered( offset, count + 1 );
+                return count;
+            }
+            catch ( IOException e )
+            {
+                throw new CompletionTimeException( "Error locking completion time file", e );
+            }
+        }
+    }
+
+    private long getLongVolatile( int offset )
+    {
+        return UNSAFE.getLongVolatile( null, address + offset );
+    }
+
+    private void putLongOrdered( int offset, long value )
+    {
+        UNSAFE.putOrderedLong( null, address + offset, value );
+    }
+
+    private static long addressOf( MappedByteBuffer buffer ) throws CompletionTimeException
+    {
+        try
+        {
+            return UNSAFE.getLong( buffer, UNSAFE.objectFieldOffset( Buffer.class.getDeclaredField( "address" ) ) );
+        }
+        catch ( NoSuchFieldException e )
+        {
+            throw new CompletionTimeException( "Error getting address of memory-mapped completion time file", e );
+        }
+    }
+
+    private static void advance( Sequence timeAsMilli, long newTimeAsMilli )
+    {
+        long currentTimeAsMilli = timeAsMilli.get();
+        while ( newTimeAsMilli > currentTimeAsMilli &&
+                false == timeAsMilli.compareAndSet( currentTimeAsMilli, newTimeAsMilli ) )
+        {
+            currentTimeAsMilli = timeAsMilli.get();
+        }
+    }
+
+    private static int slotOffset( int slot )
+    {
+        return HEADER_SIZE + slot * SLOT_SIZE;
+    }
+
+    private static long fileSize( int slotCapacity )
+    {
+        return HEADER_SIZE + (long) slotCapacity * SLOT_SIZE;
+    }
+
+    private class SharedFileCompletionTimeWriter implements CompletionTimeWriter
+    {
+        private final int slot;
+        // only accessed while holding lock of writer
+        private final CompletionTimeStateManager completionTimeStateManager = new CompletionTimeStateManager();
+
+        private SharedFileCompletionTimeWriter( int slot )
+        {
+            this.slot = slot;
+        }
+
+        @Override
+        public void submitInitiatedTime( long timeAsMilli ) throws CompletionTimeException
+        {
+            if ( shutdown.get() )
+            {
+                throw new CompletionTimeException( "Can not submit initiated time after calling shutdown" );
+            }
+            register();
+            synchronized ( this )
+            {
+                completionTimeStateManager.submitInitiatedTime( timeAsMilli );
+                publish();
+            }
+            updateCompletionTimeAndSubscriptions();
+        }
+
+        @Override
+        public void submitCompletedTime( long timeAsMilli ) throws CompletionTimeException
+        {
+            register();
+            synchronized ( this )
+            {
+                completionTimeStateManager.submitCompletedTime( timeAsMilli );
+                publish();
+            }
+            updateCompletionTimeAndSubscriptions();
+        }
+
+        // must hold lock, completion time is published before initiated time, see class comment
+        private void publish() throws CompletionTimeException
+        {
+            putLongOrdered(
+                    slotOffset( slot ) + SLOT_COMPLETION_TIME_OFFSET,
+                    completionTimeStateManager.completionTimeAsMilli() );
+            putLongOrdered(
+                    slotOffset( slot ) + SLOT_INITIATED_TIME_OFFSET,
+                    completionTimeStateManager.lastKnownLowestInitiatedTimeAsMilli() );
+        }
+
+        @Override
+        public String toString()
+        {
+            return "SharedFileCompletionTimeWriter{" + "slot=" + slot + '}';
+        }
+    }
+
+    private class PollingThread extends Thread
+    {
+        private PollingThread( String name )
+        {
+            super( name );
+            setDaemon( true );
+        }
+
+        @Override
+        public void run()
+        {
+            while ( false == shutdown.get() )
+            {
+                updateCompletionTimeAndSubscriptions();
+                LockSupport.parkNanos( POLLING_INTERVAL_AS_NANO );
+            }
+        }
+    }
+}
@@ -9,11 +9,10 @@ public class SynchronizedCompletionTimeService implements CompletionTimeService
 {
     private final MultiWriterCompletionTimeStateManager completionTimeStateManager;
     private final List<CompletionTimeWriter> completionTimeWriters;
+    private final CompletionTimeSubscriptions subscriptions = new CompletionTimeSubscriptions();
 
     private enum Event
     {
-        READ_COMPLETION_TIME,
-        READ_FUTURE_COMPLETION_TIME,
         CREATE_NEW_COMPLETION_TIME_WRITER,
         GET_ALL_WRITERS
     }
@@ -40,7 +39,8 @@ public class SynchronizedCompletionTimeService implements CompletionTimeService
     @Override
     public Future<Long> completionTimeAsMilliFuture() throws CompletionTimeException
     {
-        return (CompletionTimeAsMilliFuture) processEvent( Event.READ_FUTURE_COMPLETION_TIME );
+        // state manager can be read without locking
+        return new CompletionTimeAsMilliFuture( completionTimeStateManager.completionTimeAsMilli() );
     }
 
     @Override
@@ -59,7 +59,7 @@ public class SynchronizedCompletionTimeService implements CompletionTimeService
     @Override
     public long completionTimeAsMilli() throws CompletionTimeException
     {
-        return (long) processEvent( Event.READ_COMPLETION_TIME );
+        return completionTimeStateManager.completionTimeAsMilli();
     }
 
     @Override
@@ -68,6 +68,12 @@ public class SynchronizedCompletionTimeService implements CompletionTimeService
         return (CompletionTimeWriter) processEvent( Event.CREATE_NEW_COMPLETION_TIME_WRITER );
     }
 
+    @Override
+    public boolean subscribe( long timeAsMilli, CompletionTimeListener listener )
+    {
+        return subscriptions.subscribe( timeAsMilli, listener );
+    }
+
     @Override
     public void shutdown() throws CompletionTimeException
     {
@@ -79,17 +85,11 @@ public class SynchronizedCompletionTimeService implements CompletionTimeService
         {
             switch ( event )
             {
-            case READ_COMPLETION_TIME:
-            {
-                return completionTimeStateManager.completionTimeAsMilli();
-            }
-            case READ_FUTURE_COMPLETION_TIME:
-            {
-                return new CompletionTimeAsMilliFuture( completionTimeStateManager.completionTimeAsMilli() );
-            }
             case CREATE_NEW_COMPLETION_TIME_WRITER:
             {
-                CompletionTimeWriter completionTimeWriter = completionTimeStateManager.newCompletionTimeWriter();
+                CompletionTimeWriter completionTimeWriter = new SubscriptionsAdvancingCompletionTimeWriter(
+                        completionTimeStateManager.newCompletionTimeWriter()
+                );
                 completionTimeWriters.add( completionTimeWriter );
                 return completionTimeWriter;
             }
@@ -105,6 +105,37 @@ public class SynchronizedCompletionTimeService implements CompletionTimeService
         }
     }
 
+    // completion time only changes when times are written, so subscriptions are advanced by the writers
+    private class SubscriptionsAdvancingCompletionTimeWriter implements CompletionTimeWriter
+    {
+        private final CompletionTimeWriter completionTimeWriter;
+
+        private SubscriptionsAdvancingCompletionTimeWriter( CompletionTimeWriter completionTimeWriter )
+        {
+            this.completionTimeWriter = completionTimeWriter;
+        }
+
+        @Override
+        public void submitInitiatedTime( long timeAsMilli ) throws CompletionTimeException
+        {
+            completionTimeWriter.submitInitiatedTime( timeAsMilli );
+            subscriptions.advanceTo( completionTimeStateManager.completionTimeAsMilli() );
+        }
+
+        @Override
+        public void submitCompletedTime( long timeAsMilli ) throws CompletionTimeException
+        {
+            completionTimeWriter.submitCompletedTime( timeAsMilli );
+            subscriptions.advanceTo( completionTimeStateManager.completionTimeAsMilli() );
+        }
+
+        @Override
+        public String toString()
+        {
+            return completionTimeWriter.toString();
+        }
+    }
+
     private static class CompletionTimeAsMilliFuture implements Future<Long>
     {
         private final long completionTimeValueAsMilli;
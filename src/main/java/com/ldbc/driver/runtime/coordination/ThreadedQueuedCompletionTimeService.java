@@ -30,6 +30,7 @@ public class ThreadedQueuedCompletionTimeService implements CompletionTimeServic
     private final AtomicBoolean sharedIsShuttingDownReference = new AtomicBoolean( false );
     private final ConcurrentErrorReporter errorReporter;
     private final List<CompletionTimeWriter> writers = new ArrayList<>();
+    private final CompletionTimeSubscriptions subscriptions = new CompletionTimeSubscriptions();
 
     ThreadedQueuedCompletionTimeService( TimeSource timeSource,
             ConcurrentErrorReporter errorReporter ) throws CompletionTimeException
@@ -43,7 +44,8 @@ public class ThreadedQueuedCompletionTimeService implements CompletionTimeServic
         threadedQueuedCompletionTimeServiceThread = new ThreadedQueuedCompletionTimeServiceThread(
                 completionTimeEventQueue,
                 errorReporter,
-                sharedCtReference );
+                sharedCtReference,
+                subscriptions );
         threadedQueuedCompletionTimeServiceThread.start();
     }
 
@@ -106,6 +108,12 @@ public class ThreadedQueuedCompletionTimeService implements CompletionTimeServic
         return writers;
     }
 
+    @Override
+    public boolean subscribe( long timeAsMilli, CompletionTimeListener listener )
+    {
+        return subscriptions.subscribe( timeAsMilli, listener );
+    }
+
     @Override
     // TODO remove from interface
     public long lastKnownLowestInitiatedTimeAsMilli() throws CompletionTimeException
@@ -216,7 +224,7 @@ public class ThreadedQueuedCompletionTimeService implements CompletionTimeServic
         private final AtomicBoolean done = new AtomicBoolean( false );
         private final AtomicLong completionTimeReference = new AtomicLong( -1 );
 
-        private CompletionTimeFuture( TimeSource timeSource )
+        CompletionTimeFuture( TimeSource timeSource )
         {
             this.timeSource = timeSource;
         }
@@ -39,11 +39,13 @@ public class ThreadedQueuedCompletionTimeServiceThread extends Thread
     private Long expectedEventCount = null;
     private final Map<Integer,CompletionTimeWriter> completionTimeWriters;
     private final AtomicBoolean shutdownComplete = new AtomicBoolean( false );
+    private final CompletionTimeSubscriptions subscriptions;
 
     ThreadedQueuedCompletionTimeServiceThread(
             Queue<CompletionTimeEvent> completionTimeQueue,
             ConcurrentErrorReporter errorReporter,
-            AtomicLong completionTimeSharedReference ) throws CompletionTimeException
+            AtomicLong completionTimeSharedReference,
+            CompletionTimeSubscriptions subscriptions ) throws CompletionTimeException
     {
         super( ThreadedQueuedCompletionTimeServiceThread.class.getSimpleName() + "-" +
                System.currentTimeMillis() );
@@ -66,6 +68,7 @@ public class ThreadedQueuedCompletionTimeServiceThread extends Thread
         this.errorReporter = errorReporter;
         this.completionTimeSharedReference = completionTimeSharedReference;
         this.completionTimeSharedReference.set( completionTimeStateManager.completionTimeAsMilli() );
+        this.subscriptions = subscriptions;
     }
 
     @Override
@@ -190,6 +193,8 @@ public class ThreadedQueuedCompletionTimeServiceThread extends Thread
         else
         {
             completionTimeSharedReference.set( newCompletionTimeAsMilli );
+            // release operations waiting for this completion time, no need for them to poll
+            subscriptions.advanceTo( newCompletionTimeAsMilli );
         }
     }
 }
@@ -0,0 +1,92 @@
+package com.ldbc.driver.runtime.coordination;
+
+import static java.lang.String.format;
+
+/**
+ * Tracks initiated and completed times locally, and only forwards a summary of them to the completion time service
+ * once the lowest initiated time has advanced by at least one window of scheduled time, rather than every single
+ * initiated and completed time.
+ * <p/>
+ * The service is always left with exactly one uncompleted initiated time of this writer, the lowest initiated time
+ * at the last flush, which is a time at or before every operation that is still uncompleted. A flush completes it,
+ * along with the local completion time, and initiates the new lowest initiated time, so completion time never runs
+ * ahead of an uncompleted operation, but lags behind local completion time by less than one window.
+ * <p/>
+ * Window must therefore be shorter than the shortest time between an operation and its dependency time stamp,
+ * otherwise dependent operations may wait for operations that can only complete after them.
+ * <p/>
+ * Thread-safe, as initiated and completed times of one writer are usually submitted by different threads.
+ */
+public class WindowedCompletionTimeWriter implements CompletionTimeWriter
+{
+    private final CompletionTimeWriter delegate;
+    private final long windowDurationAsMilli;
+    private final CompletionTimeStateManager localCompletionTimeStateManager = new CompletionTimeStateManager();
+    // lowest initiated time at last flush, only uncompleted initiated time of this writer known to delegate
+    private long flushedInitiatedTimeAsMilli = -1;
+
+    public WindowedCompletionTimeWriter( CompletionTimeWriter delegate, long windowDurationAsMilli )
+            throws CompletionTimeException
+    {
+        if ( windowDurationAsMilli < 1 )
+        {
+            throw new CompletionTimeException(
+                    format( "Window duration must be positive: %s", windowDurationAsMilli ) );
+        }
+        this.delegate = delegate;
+        this.windowDurationAsMilli = windowDurationAsMilli;
+    }
+
+    @Override
+    synchronized public void submitInitiatedTime( long timeAsMilli ) throws CompletionTimeException
+    {
+        localCompletionTimeStateManager.submitInitiatedTime( timeAsMilli );
+        flushIfWindowElapsed();
+    }
+
+    @Override
+    synchronized public void submitCompletedTime( long timeAsMilli ) throws CompletionTimeException
+    {
+        localCompletionTimeStateManager.submitCompletedTime( timeAsMilli );
+        flushIfWindowElapsed();
+    }
+
+    // must hold lock
+    private void flushIfWindowElapsed() throws CompletionTimeException
+    {
+        long initiatedTimeAsMilli = localCompletionTimeStateManager.lastKnownLowestInitiatedTimeAsMilli();
+        if ( -1 == flushedInitiatedTimeAsMilli )
+        {
+            // until then completion time of every writer is unknown
+            delegate.submitInitiatedTime( initiatedTimeAsMilli );
+            flushedInitiatedTimeAsMilli = initiatedTimeAsMilli;
+        }
+        else if ( initiatedTimeAsMilli > flushedInitiatedTimeAsMilli &&
+                  initiatedTimeAsMilli - flushedInitiatedTimeAsMilli >= windowDurationAsMilli )
+        {
+            // lowest initiated time only advances once the previously flushed one has completed, and local completion
+            // time is then at or after it, and below the new lowest initiated time
+            long completionTimeAsMilli = localCompletionTimeStateManager.completionTimeAsMilli();
+            if ( completionTimeAsMilli > flushedInitiatedTimeAsMilli )
+            {
+                delegate.submitInitiatedTime( completionTimeAsMilli );
+            }
+            delegate.submitInitiatedTime( initiatedTimeAsMilli );
+            delegate.submitCompletedTime( flushedInitiatedTimeAsMilli );
+            if ( completionTimeAsMilli > flushedInitiatedTimeAsMilli )
+            {
+                delegate.submitCompletedTime( completionTimeAsMilli );
+            }
+            flushedInitiatedTimeAsMilli = initiatedTimeAsMilli;
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        return "WindowedCompletionTimeWriter{" +
+               "delegate=" + delegate +
+               ", windowDurationAsMilli=" + windowDurationAsMilli +
+               '}';
+    }
+}
@@ -0,0 +1,293 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.ldbc.driver.ChildOperationGenerator;
+import com.ldbc.driver.Db;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationHandlerRunnableContext;
+import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.coordination.CompletionTimeReader;
+import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.MetricsService;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.TimeSource;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+/**
+ * Executor for handlers implementing AsyncOperationHandler.
+ * A small pool of dispatcher threads waits for scheduled start times and dependencies, then issues operations without
+ * waiting for them to complete, so in-flight operations do not hold a thread each.
+ * Completion time and metrics are submitted, and child operations generated, once the handler's stage completes.
+ * Child operations are issued from dispatcher threads, never from the thread that completed the stage, which is
+ * typically owned by the connector's client library.
+ * Handlers that are not asynchronous are run to completion by the dispatcher threads, as with a thread pool.
+ * Number of in-flight operations is bounded, execute() blocks when the bound is reached.
+ */
+public class AsyncOperationExecutor implements OperationExecutor
+{
+    private static final long SHUTDOWN_POLLING_INTERVAL_AS_MILLI = 10;
+    private static final CompletableFuture<Void> COMPLETED = CompletableFuture.completedFuture( null );
+
+    private final ExecutorService dispatcherExecutorService;
+    private final Semaphore inFlightPermits;
+    private final AtomicLong uncompletedHandlers = new AtomicLong( 0 );
+    private final AtomicBoolean shutdown = new AtomicBoolean( false );
+    private final OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever;
+    private final ChildOperationGenerator childOperationGenerator;
+    private final ConcurrentErrorReporter errorReporter;
+
+    public AsyncOperationExecutor( int dispatcherThreadCount,
+            int maxInFlightOperations,
+            Db db,
+            WorkloadStreams.WorkloadStreamDefinition streamDefinition,
+            CompletionTimeWriter completionTimeWriter,
+            CompletionTimeReader completionTimeReader,
+            Spinner spinner,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            MetricsService metricsService,
+            ChildOperationGenerator childOperationGenerator ) throws OperationExecutorException
+    {
+        if ( dispatcherThreadCount < 1 )
+        {
+            throw new OperationExecutorException(
+                    format( "Dispatcher thread count must be positive: %s", dispatcherThreadCount ) );
+        }
+        if ( maxInFlightOperations < 1 )
+        {
+            throw new OperationExecutorException(
+                    format( "Maximum in-flight operation count must be positive: %s", maxInFlightOperations ) );
+        }
+        this.operationHandlerRunnableContextRetriever = new OperationHandlerRunnableContextRetriever(
+                streamDefinition,
+                db,
+                completionTimeWriter,
+                completionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService
+        );
+        ThreadFactory threadFactory = new ThreadFactory()
+        {
+            private final long factoryTimeStampId = System.currentTimeMillis();
+            int count = 0;
+
+            @Override
+            public Thread newThread( Runnable runnable )
+            {
+                return new Thread(
+                        runnable,
+                        AsyncOperationExecutor.class.getSimpleName() + "-id(" + factoryTimeStampId + ")" +
+                        "-thread(" + count++ + ")"
+                );
+            }
+        };
+        // queue is bounded by in-flight permits
+        this.dispatcherExecutorService = Executors.newFixedThreadPool( dispatcherThreadCount, threadFactory );
+        this.inFlightPermits = new Semaphore( maxInFlightOperations );
+        this.childOperationGenerator = childOperationGenerator;
+        this.errorReporter = errorReporter;
+    }
+
+    @Override
+    public final void execute( Operation operation ) throws OperationExecutorException
+    {
+        if ( shutdown.get() )
+        {
+            throw new OperationExecutorException( "Executor has already been shutdown" );
+        }
+        uncompletedHandlers.incrementAndGet();
+        boolean permitAcquired = false;
+        try
+        {
+            inFlightPermits.acquire();
+            permitAcquired = true;
+            OperationHandlerRunnableContext operationHandlerRunnableContext =
+                    operationHandlerRunnableContextRetriever.getInitializedHandlerFor( operation );
+            dispatcherExecutorService.execute( new DispatchRunnable( operationHandlerRunnableContext ) );
+        }
+        catch ( Throwable e )
+        {
+            uncompletedHandlers.decrementAndGet();
+            if ( permitAcquired )
+            {
+                inFlightPermits.release();
+            }
+            throw new OperationExecutorException(
+                    format( "Error retrieving handler\nOperation: %s\n%s",
+                            operation,
+                            ConcurrentErrorReporter.stackTraceToString( e ) ),
+                    e );
+        }
+    }
+
+    @Override
+    synchronized public final void shutdown( long waitAsMilli ) throws OperationExecutorException
+    {
+        if ( shutdown.get() )
+        {
+            throw new OperationExecutorException( "Executor has already been shutdown" );
+        }
+        shutdown.set( true );
+        long endTimeAsMilli = System.currentTimeMillis() + waitAsMilli;
+        while ( uncompletedHandlers.get() > 0 && System.currentTimeMillis() < endTimeAsMilli )
+        {
+            Spinner.powerNap( SHUTDOWN_POLLING_INTERVAL_AS_MILLI );
+        }
+        long stillRunningHandlers = uncompletedHandlers.get();
+        dispatcherExecutorService.shutdownNow();
+        try
+        {
+            dispatcherExecutorService.awaitTermination(
+                    Math.max( 1, endTimeAsMilli - System.currentTimeMillis() ),
+                    TimeUnit.MILLISECONDS );
+        }
+        catch ( InterruptedException e )
+        {
+            throw new OperationExecutorException( "Interrupted while waiting for dispatcher threads to terminate", e );
+        }
+        if ( stillRunningHandlers > 0 )
+        {
+            throw new OperationExecutorException(
+                    format( "%s shutdown before all handlers could complete\n%s operations were still in flight",
+                            getClass().getSimpleName(),
+                            stillRunningHandlers ) );
+        }
+    }
+
+    @Override
+    public long uncompletedOperationHandlerCount()
+    {
+        return uncompletedHandlers.get();
+    }
+
+    private CompletionStage<Void> runWithChildOperations( final OperationHandlerRunnableContext context )
+    {
+        if ( null == childOperationGenerator )
+        {
+            return context.runAsync().whenComplete(
+                    ( ignored, throwable ) -> context.cleanup()
+            );
+        }
+        return context.runAsync().thenComposeAsync(
+                ignored ->
+                {
+                    try
+                    {
+                        double state = childOperationGenerator.initialState();
+                        Operation childOperation = childOperationGenerator.nextOperation(
+                                state,
+                                context.operation(),
+                                context.resultReporter().result(),
+                                context.resultReporter().actualStartTimeAsMilli(),
+                                context.resultReporter().runDurationAsNano()
+                        );
+                        return runChildOperations( state, childOperation );
+                    }
+                    catch ( Throwable e )
+                    {
+                        return failed( e );
+                    }
+                    finally
+                    {
+                        context.cleanup();
+                    }
+                },
+                dispatcherExecutorService
+        );
+    }
+
+    // same sequence as ChildOperationExecutor, each child is issued once its predecessor has completed
+    private CompletionStage<Void> runChildOperations( final double state, final Operation childOperation )
+            throws Exception
+    {
+        if ( null == childOperation )
+        {
+            return COMPLETED;
+        }
+        final OperationHandlerRunnableContext childContext =
+                operationHandlerRunnableContextRetriever.getInitializedHandlerFor( childOperation );
+        return childContext.runAsync().thenComposeAsync(
+                ignored ->
+                {
+                    try
+                    {
+                        double newState = childOperationGenerator.updateState( state, childOperation.type() );
+                        Operation nextChildOperation = childOperationGenerator.nextOperation(
+                                newState,
+                                childContext.operation(),
+                                childContext.resultReporter().result(),
+                                childContext.resultReporter().actualStartTimeAsMilli(),
+                                childContext.resultReporter().runDurationAsNano()
+                        );
+                        return runChildOperations( newState, nextChildOperation );
+                    }
+                    catch ( Throwable e )
+                    {
+                        return failed( e );
+                    }
+                    finally
+                    {
+                        childContext.cleanup();
+                    }
+                },
+                dispatcherExecutorService
+        );
+    }
+
+    private static CompletionStage<Void> failed( Throwable e )
+    {
+        CompletableFuture<Void> failed = new CompletableFuture<>();
+        failed.completeExceptionally( e );
+        return failed;
+    }
+
+    private class DispatchRunnable implements Runnable
+    {
+        private final OperationHandlerRunnableContext operationHandlerRunnableContext;
+
+        private DispatchRunnable( OperationHandlerRunnableContext operationHandlerRunnableContext )
+        {
+            this.operationHandlerRunnableContext = operationHandlerRunnableContext;
+        }
+
+        @Override
+        public void run()
+        {
+            CompletionStage<Void> processed;
+            try
+            {
+                processed = runWithChildOperations( operationHandlerRunnableContext );
+            }
+            catch ( Throwable e )
+            {
+                processed = failed( e );
+            }
+            processed.whenComplete(
+                    ( ignored, throwable ) ->
+                    {
+                        if ( null != throwable )
+                        {
+                            errorReporter.reportError( this,
+                                    format( "Error executing handler\n%s",
+                                            ConcurrentErrorReporter.stackTraceToString( throwable ) ) );
+                        }
+                        uncompletedHandlers.decrementAndGet();
+                        inFlightPermits.release();
+                    }
+            );
+        }
+    }
+}
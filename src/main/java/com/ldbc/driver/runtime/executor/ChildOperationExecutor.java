@@ -6,9 +6,18 @@ import com.ldbc.driver.Operation;
 import com.ldbc.driver.OperationHandlerRunnableContext;
 import com.ldbc.driver.WorkloadException;
 import com.ldbc.driver.runtime.coordination.CompletionTimeException;
+import com.ldbc.driver.runtime.metrics.DriverInternalMetrics;
+import com.ldbc.driver.runtime.metrics.StripedTimer;
 
 public class ChildOperationExecutor
 {
+    private final StripedTimer generationTimer;
+
+    public ChildOperationExecutor( DriverInternalMetrics driverInternalMetrics )
+    {
+        this.generationTimer = driverInternalMetrics.childOperationGeneration();
+    }
+
     public void execute(
             ChildOperationGenerator childOperationGenerator,
             Operation operation,
@@ -26,6 +35,7 @@ public class ChildOperationExecutor
         {
             if ( null != childOperationGenerator )
             {
+                long generationStartAsNano = System.nanoTime();
                 double state = childOperationGenerator.initialState();
                 operation = childOperationGenerator.nextOperation(
                         state,
@@ -34,11 +44,13 @@ public class ChildOperationExecutor
                         actualStartTimeAsMilli,
                         runDurationAsNano
                 );
+                generationTimer.record( System.nanoTime() - generationStartAsNano );
                 while ( null != operation )
                 {
                     OperationHandlerRunnableContext childOperationHandlerRunnableContext =
                             operationHandlerRunnableContextRetriever.getInitializedHandlerFor( operation );
                     childOperationHandlerRunnableContext.run();
+                    generationStartAsNano = System.nanoTime();
                     state = childOperationGenerator.updateState( state, operation.type() );
                     operation = childOperationGenerator.nextOperation(
                             state,
@@ -47,6 +59,7 @@ public class ChildOperationExecutor
                             childOperationHandlerRunnableContext.resultReporter().actualStartTimeAsMilli(),
                             childOperationHandlerRunnableContext.resultReporter().runDurationAsNano()
                     );
+                    generationTimer.record( System.nanoTime() - generationStartAsNano );
                     childOperationHandlerRunnableContext.cleanup();
                 }
             }
@@ -0,0 +1,253 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.ldbc.driver.ChildOperationGenerator;
+import com.ldbc.driver.Db;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationHandlerRunnableContext;
+import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.coordination.CompletionTimeReader;
+import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.MetricsService;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.TimeSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+/**
+ * Closed-loop executor: a fixed number of clients, each executing one operation at a time.
+ * An operation is only handed over once a client is idle, so execute() blocks until then and at most client count
+ * operations are ever in flight. After completing an operation a client waits for the think time before taking the
+ * next one.
+ * Scheduled start times are meant to be ignored by the spinner, dependencies are still waited on.
+ */
+public class ClosedLoopOperationExecutor implements OperationExecutor
+{
+    private static final long SHUTDOWN_POLLING_INTERVAL_AS_MILLI = 10;
+    private static final long CLIENT_POLLING_INTERVAL_AS_MILLI = 100;
+
+    private final int clientCount;
+    private final long thinkTimeAsMilli;
+    private final TimeSource timeSource;
+    private final SynchronousQueue<OperationHandlerRunnableContext> handOff = new SynchronousQueue<>();
+    private final AtomicLong uncompletedHandlers = new AtomicLong( 0 );
+    private final AtomicBoolean shutdown = new AtomicBoolean( false );
+    private final AtomicBoolean clientsShouldContinue = new AtomicBoolean( true );
+    private final AtomicLong completedOperations = new AtomicLong( 0 );
+    private final AtomicLong totalResponseTimeAsNano = new AtomicLong( 0 );
+    private final AtomicLong firstStartTimeAsMilli = new AtomicLong( -1 );
+    private final AtomicLong lastCompletionTimeAsMilli = new AtomicLong( -1 );
+    private final OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever;
+    private final ChildOperationGenerator childOperationGenerator;
+    private final ChildOperationExecutor childOperationExecutor;
+    private final ConcurrentErrorReporter errorReporter;
+    private final List<ClosedLoopClientThread> clientThreads = new ArrayList<>();
+
+    public ClosedLoopOperationExecutor( int clientCount,
+            long thinkTimeAsMilli,
+            Db db,
+            WorkloadStreams.WorkloadStreamDefinition streamDefinition,
+            CompletionTimeWriter completionTimeWriter,
+            CompletionTimeReader completionTimeReader,
+            Spinner spinner,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            MetricsService metricsService,
+            ChildOperationGenerator childOperationGenerator ) throws OperationExecutorException
+    {
+        if ( clientCount < 1 )
+        {
+            throw new OperationExecutorException( format( "Client count must be positive: %s", clientCount ) );
+        }
+        if ( thinkTimeAsMilli < 0 )
+        {
+            throw new OperationExecutorException( format( "Think time must not be negative: %s", thinkTimeAsMilli ) );
+        }
+        this.clientCount = clientCount;
+        this.thinkTimeAsMilli = thinkTimeAsMilli;
+        this.timeSource = timeSource;
+        this.operationHandlerRunnableContextRetriever = new OperationHandlerRunnableContextRetriever(
+                streamDefinition,
+                db,
+                completionTimeWriter,
+                completionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService
+        );
+        this.childOperationExecutor = new ChildOperationExecutor( spinner.driverInternalMetrics() );
+        this.childOperationGenerator = childOperationGenerator;
+        this.errorReporter = errorReporter;
+        long factoryTimeStampId = System.currentTimeMillis();
+        for ( int i = 0; i < clientCount; i++ )
+        {
+            ClosedLoopClientThread clientThread = new ClosedLoopClientThread(
+                    ClosedLoopOperationExecutor.class.getSimpleName() + "-id(" + factoryTimeStampId + ")" +
+                    "-client(" + i + ")"
+            );
+            clientThreads.add( clientThread );
+            clientThread.start();
+        }
+    }
+
+    @Override
+    public final void execute( Operation operation ) throws OperationExecutorException
+    {
+        if ( shutdown.get() )
+        {
+            throw new OperationExecutorException( "Executor has already been shutdown" );
+        }
+        uncompletedHandlers.incrementAndGet();
+        try
+        {
+            OperationHandlerRunnableContext operationHandlerRunnableContext =
+                    operationHandlerRunnableContextRetriever.getInitializedHandlerFor( operation );
+            firstStartTimeAsMilli.compareAndSet( -1, timeSource.nowAsMilli() );
+            // --- BLOCKING CALL (until a client is idle) ---
+            handOff.put( operationHandlerRunnableContext );
+        }
+        catch ( Throwable e )
+        {
+            uncompletedHandlers.decrementAndGet();
+            throw new OperationExecutorException(
+                    format( "Error retrieving handler\nOperation: %s\n%s",
+                            operation,
+                            ConcurrentErrorReporter.stackTraceToString( e ) ),
+                    e );
+        }
+    }
+
+    @Override
+    synchronized public final void shutdown( long waitAsMilli ) throws OperationExecutorException
+    {
+        if ( shutdown.get() )
+        {
+            throw new OperationExecutorException( "Executor has already been shutdown" );
+        }
+        shutdown.set( true );
+        long endTimeAsMilli = System.currentTimeMillis() + waitAsMilli;
+        while ( uncompletedHandlers.get() > 0 && System.currentTimeMillis() < endTimeAsMilli )
+        {
+            Spinner.powerNap( SHUTDOWN_POLLING_INTERVAL_AS_MILLI );
+        }
+        long stillRunningHandlers = uncompletedHandlers.get();
+        clientsShouldContinue.set( false );
+        for ( ClosedLoopClientThread clientThread : clientThreads )
+        {
+            try
+            {
+                clientThread.join( Math.max( 1, endTimeAsMilli - System.currentTimeMillis() ) );
+            }
+            catch ( InterruptedException e )
+            {
+                throw new OperationExecutorException( "Interrupted while waiting for client threads to terminate", e );
+            }
+        }
+        if ( stillRunningHandlers > 0 )
+        {
+            throw new OperationExecutorException(
+                    format( "%s shutdown before all handlers could complete\n%s handlers were mid-execution",
+                            getClass().getSimpleName(),
+                            stillRunningHandlers ) );
+        }
+    }
+
+    @Override
+    public long uncompletedOperationHandlerCount()
+    {
+        return uncompletedHandlers.get();
+    }
+
+    /**
+     * @return throughput achieved with this executor's concurrency, from first operation handed over to last
+     * operation completed, along with mean response time and the number of concurrently busy clients derived from
+     * them (Little's law), which falls short of client count when think time or the operation stream limits load
+     */
+    public String throughputSummary()
+    {
+        long operationCount = completedOperations.get();
+        long durationAsMilli = Math.max( 0, lastCompletionTimeAsMilli.get() - firstStartTimeAsMilli.get() );
+        double throughputPerSecond = (0 == durationAsMilli)
+                                     ? 0
+                                     : operationCount / (durationAsMilli / 1000d);
+        double meanResponseTimeAsMilli = (0 == operationCount)
+                                         ? 0
+                                         : (totalResponseTimeAsNano.get() / (double) operationCount) / 1000000d;
+        double busyClients = throughputPerSecond * (meanResponseTimeAsMilli / 1000d);
+        return format( "Closed Loop -- Clients: %s  Think Time: %s ms  Operations: %s  Duration: %s ms  " +
+                       "Throughput: %.2f op/s  Mean Response Time: %.3f ms  Busy Clients: %.2f",
+                clientCount,
+                thinkTimeAsMilli,
+                operationCount,
+                durationAsMilli,
+                throughputPerSecond,
+                meanResponseTimeAsMilli,
+                busyClients );
+    }
+
+    private class ClosedLoopClientThread extends Thread
+    {
+        private ClosedLoopClientThread( String name )
+        {
+            super( name );
+            setDaemon( true );
+        }
+
+        @Override
+        public void run()
+        {
+            while ( clientsShouldContinue.get() )
+            {
+                OperationHandlerRunnableContext operationHandlerRunnableContext;
+                try
+                {
+                    operationHandlerRunnableContext =
+                            handOff.poll( CLIENT_POLLING_INTERVAL_AS_MILLI, TimeUnit.MILLISECONDS );
+                }
+                catch ( InterruptedException e )
+                {
+                    continue;
+                }
+                if ( null == operationHandlerRunnableContext )
+                {
+                    continue;
+                }
+                long startTimeAsNano = timeSource.nanoSnapshot();
+                try
+                {
+                    operationHandlerRunnableContext.run();
+                    childOperationExecutor.execute(
+                            childOperationGenerator,
+                            operationHandlerRunnableContext.operation(),
+                            operationHandlerRunnableContext.resultReporter().result(),
+                            operationHandlerRunnableContext.resultReporter().actualStartTimeAsMilli(),
+                            operationHandlerRunnableContext.resultReporter().runDurationAsNano(),
+                            operationHandlerRunnableContextRetriever
+                    );
+                }
+                catch ( Throwable e )
+                {
+                    errorReporter.reportError( this,
+                            format( "Error executing handler\n%s", ConcurrentErrorReporter.stackTraceToString( e ) ) );
+                }
+                finally
+                {
+                    totalResponseTimeAsNano.addAndGet( timeSource.nanoSnapshot() - startTimeAsNano );
+                    completedOperations.incrementAndGet();
+                    lastCompletionTimeAsMilli.accumulateAndGet( timeSource.nowAsMilli(), Math::max );
+                    operationHandlerRunnableContext.cleanup();
+                    uncompletedHandlers.decrementAndGet();
+                }
+                Spinner.powerNap( thinkTimeAsMilli );
+            }
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.coordination.CompletionTimeException;
+import com.ldbc.driver.runtime.coordination.CompletionTimeListener;
+import com.ldbc.driver.runtime.coordination.CompletionTimeService;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+/**
+ * Parks dependent operations until completion time has reached their dependency time stamp, then hands them to the
+ * delegate executor.
+ * Without it, dependent operations are handed over immediately, and each one occupies an executor thread that polls
+ * completion time until it is reached. Instead, dependent operations whose dependency time stamp completion time has
+ * not yet reached are parked, and the first parked one is subscribed to the completion time service, which releases
+ * it as soon as completion time advances, without holding executor threads meanwhile.
+ * Parked operations are ordered by scheduled start time, then dependency time stamp, and operations scheduled to
+ * start after the first parked one are parked behind it, even when they could execute. Delegate executors take
+ * operations in the order they are handed over, so an operation released late would otherwise queue behind operations
+ * scheduled after it, and wait for their scheduled start times. Operations scheduled no later than any parked one are
+ * handed to the delegate immediately.
+ * Released operations are handed to the delegate by a release thread, as the thread that advances completion time
+ * must not block. Delegate still checks dependencies before execution, which then pass immediately.
+ */
+public class CompletionTimeReleasingOperationExecutor implements OperationExecutor
+{
+    private static final long SHUTDOWN_POLLING_INTERVAL_AS_MILLI = 10;
+    private static final long RELEASE_POLLING_INTERVAL_AS_MILLI = 100;
+
+    private final OperationExecutor delegate;
+    private final CompletionTimeService completionTimeService;
+    private final Set<Class<? extends Operation>> dependentOperationTypes;
+    private final ConcurrentErrorReporter errorReporter;
+    // guards parked operations, and hand over of operations to delegate, so delegate is only called by one thread
+    private final Object lock = new Object();
+    private final PriorityQueue<Operation> parkedOperations =
+            new PriorityQueue<>( 16, new ScheduledStartTimeComparator() );
+    // parked, or released but not yet handed to delegate
+    private final AtomicLong parkedOperationCount = new AtomicLong( 0 );
+    // permit is released when completion time reaches dependency time stamp of first parked operation
+    private final Semaphore releaseSignal = new Semaphore( 0 );
+    private final CompletionTimeListener releaseListener = new CompletionTimeListener()
+    {
+        @Override
+        public void onCompletionTimeReached( long completionTimeAsMilli )
+        {
+            releaseSignal.release();
+        }
+    };
+    private final AtomicBoolean shutdown = new AtomicBoolean( false );
+    private final AtomicBoolean releaseThreadShouldContinue = new AtomicBoolean( true );
+    private final ReleaseThread releaseThread;
+
+    public CompletionTimeReleasingOperationExecutor( OperationExecutor delegate,
+            CompletionTimeService completionTimeService,
+            Set<Class<? extends Operation>> dependentOperationTypes,
+            ConcurrentErrorReporter errorReporter )
+    {
+        this.delegate = delegate;
+        this.completionTimeService = completionTimeService;
+        this.dependentOperationTypes = dependentOperationTypes;
+        this.errorReporter = errorReporter;
+        this.releaseThread = new ReleaseThread(
+                CompletionTimeReleasingOperationExecutor.class.getSimpleName() + "-" + System.currentTimeMillis()
+        );
+        this.releaseThread.start();
+    }
+
+    @Override
+    public void execute( Operation operation ) throws OperationExecutorException
+    {
+        if ( shutdown.get() )
+        {
+            throw new OperationExecutorException( "Executor has already been shutdown" );
+        }
+        synchronized ( lock )
+        {
+            if ( false == park( operation ) )
+            {
+                delegate.execute( operation );
+            }
+        }
+    }
+
+    @Override
+    public void executeBatch( List<Operation> operations ) throws OperationExecutorException
+    {
+        if ( shutdown.get() )
+        {
+            throw new OperationExecutorException( "Executor has already been shutdown" );
+        }
+        synchronized ( lock )
+        {
+            List<Operation> executableOperations = null;
+            for ( int i = 0; i < operations.size(); i++ )
+            {
+                Operation operation = operations.get( i );
+                if ( park( operation ) )
+                {
+                    if ( null == executableOperations )
+                    {
+                        executableOperations = new ArrayList<>( operations.subList( 0, i ) );
+                    }
+                }
+                else if ( null != executableOperations )
+                {
+                    executableOperations.add( operation );
+                }
+            }
+            if ( null == executableOperations )
+            {
+                delegate.executeBatch( operations );
+            }
+            else if ( false == executableOperations.isEmpty() )
+            {
+                delegate.executeBatch( executableOperations );
+            }
+        }
+    }
+
+    @Override
+    synchronized public void shutdown( long waitAsMilli ) throws OperationExecutorException
+    {
+        if ( shutdown.get() )
+        {
+            throw new OperationExecutorException( "Executor has already been shutdown" );
+        }
+        shutdown.set( true );
+        long endTimeAsMilli = System.currentTimeMillis() + waitAsMilli;
+        while ( parkedOperationCount.get() > 0 && System.currentTimeMillis() < endTimeAsMilli )
+        {
+            Spinner.powerNap( SHUTDOWN_POLLING_INTERVAL_AS_MILLI );
+        }
+        long stillParkedOperations = parkedOperationCount.get();
+        releaseThreadShouldContinue.set( false );
+        try
+        {
+            releaseThread.join( Math.max( 1, endTimeAsMilli - System.currentTimeMillis() ) );
+        }
+        catch ( InterruptedException e )
+        {
+            throw new OperationExecutorException( "Interrupted while waiting for release thread to terminate", e );
+        }
+        delegate.shutdown( Math.max( 1, endTimeAsMilli - System.currentTimeMillis() ) );
+        if ( stillParkedOperations > 0 )
+        {
+            throw new OperationExecutorException(
+                    format( "%s shutdown before all operations could be released\n" +
+                            "%s operations were still parked",
+                            getClass().getSimpleName(),
+                            stillParkedOperations ) );
+        }
+    }
+
+    @Override
+    public long uncompletedOperationHandlerCount()
+    {
+        // read parked first, an operation is counted by delegate before it stops being counted as parked
+        long parked = parkedOperationCount.get();
+        return parked + delegate.uncompletedOperationHandlerCount();
+    }
+
+    // must hold lock
+    private boolean park( Operation operation ) throws OperationExecutorException
+    {
+        Operation firstParkedOperation = parkedOperations.peek();
+        // scheduled after first parked operation, which is subscribed to, so operation is released after it and
+        // subscribed to once it is first
+        boolean mustWait =
+                (null != firstParkedOperation &&
+                 operation.scheduledStartTimeAsMilli() > firstParkedOperation.scheduledStartTimeAsMilli()) ||
+                mustWaitForCompletionTime( operation );
+        if ( mustWait )
+        {
+            parkedOperations.add( operation );
+            parkedOperationCount.incrementAndGet();
+        }
+        return mustWait;
+    }
+
+    // must hold lock, subscribes release listener when operation must wait
+    private boolean mustWaitForCompletionTime( Operation operation ) throws OperationExecutorException
+    {
+        if ( false == dependentOperationTypes.contains( operation.getClass() ) )
+        {
+            return false;
+        }
+        try
+        {
+            return completionTimeService.subscribe( operation.dependencyTimeStamp(), releaseListener );
+        }
+        catch ( CompletionTimeException e )
+        {
+            throw new OperationExecutorException(
+                    format( "Error subscribing to completion time\nOperation: %s", operation ), e );
+        }
+    }
+
+    // hands parked operations to delegate, in order, until one must still wait for completion time, and subscribes
+    // to its dependency time stamp
+    private void releaseParkedOperations() throws OperationExecutorException
+    {
+        synchronized ( lock )
+        {
+            Operation operation = parkedOperations.peek();
+            while ( null != operation && false == mustWaitForCompletionTime( operation ) )
+            {
+                // --- BLOCKING CALL (when delegate is full) ---
+                delegate.execute( operation );
+                parkedOperations.poll();
+                parkedOperationCount.decrementAndGet();
+                operation = parkedOperations.peek();
+            }
+        }
+    }
+
+    private static class ScheduledStartTimeComparator implements Comparator<Operation>
+    {
+        @Override
+        public int compare( Operation operation1, Operation operation2 )
+        {
+            int scheduledStartTimeComparison =
+                    Long.compare( operation1.scheduledStartTimeAsMilli(), operation2.scheduledStartTimeAsMilli() );
+            return (0 != scheduledStartTimeComparison)
+                   ? scheduledStartTimeComparison
+                   : Long.compare( operation1.dependencyTimeStamp(), operation2.dependencyTimeStamp() );
+        }
+    }
+
+    private class ReleaseThread extends Thread
+    {
+        private ReleaseThread( String name )
+        {
+            super( name );
+            setDaemon( true );
+        }
+
+        @Override
+        public void run()
+        {
+            while ( releaseThreadShouldContinue.get() )
+            {
+                try
+                {
+                    if ( false == releaseSignal.tryAcquire( RELEASE_POLLING_INTERVAL_AS_MILLI, TimeUnit.MILLISECONDS ) )
+                    {
+                        continue;
+                    }
+                }
+                catch ( InterruptedException e )
+                {
+                    continue;
+                }
+                try
+                {
+                    releaseParkedOperations();
+                }
+                catch ( Throwable e )
+                {
+                    errorReporter.reportError( this,
+                            format( "Error executing released operations\n%s",
+                                    ConcurrentErrorReporter.stackTraceToString( e ) ) );
+                    return;
+                }
+            }
+        }
+    }
+}
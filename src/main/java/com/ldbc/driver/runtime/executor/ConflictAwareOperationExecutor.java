@@ -0,0 +1,295 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.ldbc.driver.ChildOperationGenerator;
+import com.ldbc.driver.Db;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationConflictKeys;
+import com.ldbc.driver.OperationHandlerRunnableContext;
+import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.coordination.CompletionTimeReader;
+import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.MetricsService;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.TimeSource;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+/**
+ * Executor for blocking streams that runs operations concurrently, unless they conflict.
+ * Each conflict key of an operation is hashed to one of a fixed number of slots. An operation is only started once
+ * none of its slots is in use by a running operation, and execute() blocks until then, so operations that share a
+ * key (or merely a slot) still execute in stream order. Operations without keys run alone.
+ * Initiated times are still submitted in stream order by the stream executor, completion times may now be submitted
+ * out of order, as they are for the asynchronous stream.
+ */
+public class ConflictAwareOperationExecutor implements OperationExecutor
+{
+    private static final int SLOT_COUNT_BITS = 10;
+    private static final int SLOT_COUNT = 1 << SLOT_COUNT_BITS;
+
+    private final int threadCount;
+    private final OperationConflictKeys operationConflictKeys;
+    private final ExecutorService threadPoolExecutorService;
+    private final AtomicLong uncompletedHandlers = new AtomicLong( 0 );
+    private final AtomicBoolean shutdown = new AtomicBoolean( false );
+    private final OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever;
+    private final ChildOperationGenerator childOperationGenerator;
+    private final ChildOperationExecutor childOperationExecutor;
+    private final ConcurrentErrorReporter errorReporter;
+    // guarded by slotsLock
+    private final Object slotsLock = new Object();
+    private final int[] slotUsages = new int[SLOT_COUNT];
+    private int runningHandlers = 0;
+    private boolean exclusiveHandlerRunning = false;
+
+    public ConflictAwareOperationExecutor( int threadCount,
+            OperationConflictKeys operationConflictKeys,
+            Db db,
+            WorkloadStreams.WorkloadStreamDefinition streamDefinition,
+            CompletionTimeWriter completionTimeWriter,
+            CompletionTimeReader completionTimeReader,
+            Spinner spinner,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            MetricsService metricsService,
+            ChildOperationGenerator childOperationGenerator ) throws OperationExecutorException
+    {
+        if ( threadCount < 1 )
+        {
+            throw new OperationExecutorException( format( "Thread count must be positive: %s", threadCount ) );
+        }
+        if ( null == operationConflictKeys )
+        {
+            throw new OperationExecutorException( "Operation conflict keys must be provided" );
+        }
+        this.threadCount = threadCount;
+        this.operationConflictKeys = operationConflictKeys;
+        this.operationHandlerRunnableContextRetriever = new OperationHandlerRunnableContextRetriever(
+                streamDefinition,
+                db,
+                completionTimeWriter,
+                completionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService
+        );
+        this.childOperationExecutor = new ChildOperationExecutor( spinner.driverInternalMetrics() );
+        this.childOperationGenerator = childOperationGenerator;
+        this.errorReporter = errorReporter;
+        ThreadFactory threadFactory = new ThreadFactory()
+        {
+            private final long factoryTimeStampId = System.currentTimeMillis();
+            int count = 0;
+
+            @Override
+            public Thread newThread( Runnable runnable )
+            {
+                return new Thread(
+                        runnable,
+                        ConflictAwareOperationExecutor.class.getSimpleName() + "-id(" + factoryTimeStampId + ")" +
+                        "-thread(" + count++ + ")"
+                );
+            }
+        };
+        // no more than thread count handlers are ever submitted at once, the queue need not be bounded
+        this.threadPoolExecutorService = Executors.newFixedThreadPool( threadCount, threadFactory );
+    }
+
+    @Override
+    public final void execute( Operation operation ) throws OperationExecutorException
+    {
+        if ( shutdown.get() )
+        {
+            throw new OperationExecutorException( "Executor has already been shutdown" );
+        }
+        long[] conflictKeys = operationConflictKeys.conflictKeysFor( operation );
+        uncompletedHandlers.incrementAndGet();
+        OperationHandlerRunnableContext operationHandlerRunnableContext = null;
+        boolean slotsAcquired = false;
+        try
+        {
+            operationHandlerRunnableContext =
+                    operationHandlerRunnableContextRetriever.getInitializedHandlerFor( operation );
+            // --- BLOCKING CALL (until no conflicting operation is running and a thread is free) ---
+            acquireSlots( conflictKeys );
+            slotsAcquired = true;
+            threadPoolExecutorService.execute(
+                    new ConflictAwareHandlerRunnable( operationHandlerRunnableContext, conflictKeys )
+            );
+        }
+        catch ( Throwable e )
+        {
+            if ( slotsAcquired )
+            {
+                releaseSlots( conflictKeys );
+            }
+            if ( null != operationHandlerRunnableContext )
+            {
+                operationHandlerRunnableContext.cleanup();
+            }
+            uncompletedHandlers.decrementAndGet();
+            throw new OperationExecutorException(
+                    format( "Error retrieving or submitting handler\nOperation: %s\n%s",
+                            operation,
+                            ConcurrentErrorReporter.stackTraceToString( e ) ),
+                    e );
+        }
+    }
+
+    @Override
+    synchronized public final void shutdown( long waitAsMilli ) throws OperationExecutorException
+    {
+        if ( shutdown.get() )
+        {
+            throw new OperationExecutorException( "Executor has already been shutdown" );
+        }
+        try
+        {
+            threadPoolExecutorService.shutdown();
+            boolean allHandlersCompleted =
+                    threadPoolExecutorService.awaitTermination( waitAsMilli, TimeUnit.MILLISECONDS );
+            if ( !allHandlersCompleted )
+            {
+                threadPoolExecutorService.shutdownNow();
+                throw new OperationExecutorException(
+                        format( "%s shutdown before all handlers could complete\n%s handlers were mid-execution",
+                                getClass().getSimpleName(),
+                                uncompletedHandlers.get() ) );
+            }
+        }
+        catch ( InterruptedException e )
+        {
+            throw new OperationExecutorException( "Error encountered while trying to shutdown", e );
+        }
+        finally
+        {
+            shutdown.set( true );
+        }
+    }
+
+    @Override
+    public long uncompletedOperationHandlerCount()
+    {
+        return uncompletedHandlers.get();
+    }
+
+    private void acquireSlots( long[] conflictKeys ) throws InterruptedException
+    {
+        synchronized ( slotsLock )
+        {
+            while ( false == canStart( conflictKeys ) )
+            {
+                slotsLock.wait();
+            }
+            runningHandlers++;
+            if ( null == conflictKeys )
+            {
+                exclusiveHandlerRunning = true;
+            }
+            else
+            {
+                for ( long conflictKey : conflictKeys )
+                {
+                    slotUsages[slotFor( conflictKey )]++;
+                }
+            }
+        }
+    }
+
+    private void releaseSlots( long[] conflictKeys )
+    {
+        synchronized ( slotsLock )
+        {
+            runningHandlers--;
+            if ( null == conflictKeys )
+            {
+                exclusiveHandlerRunning = false;
+            }
+            else
+            {
+                for ( long conflictKey : conflictKeys )
+                {
+                    slotUsages[slotFor( conflictKey )]--;
+                }
+            }
+            slotsLock.notifyAll();
+        }
+    }
+
+    // guarded by slotsLock
+    private boolean canStart( long[] conflictKeys )
+    {
+        if ( runningHandlers >= threadCount || exclusiveHandlerRunning )
+        {
+            return false;
+        }
+        if ( null == conflictKeys )
+        {
+            return 0 == runningHandlers;
+        }
+        for ( long conflictKey : conflictKeys )
+        {
+            if ( 0 != slotUsages[slotFor( conflictKey )] )
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // fibonacci hashing, spreads sequential identifiers over all slots
+    private static int slotFor( long conflictKey )
+    {
+        return (int) ((conflictKey * 0x9E3779B97F4A7C15L) >>> (64 - SLOT_COUNT_BITS));
+    }
+
+    private class ConflictAwareHandlerRunnable implements Runnable
+    {
+        private final OperationHandlerRunnableContext operationHandlerRunnableContext;
+        private final long[] conflictKeys;
+
+        private ConflictAwareHandlerRunnable( OperationHandlerRunnableContext operationHandlerRunnableContext,
+                long[] conflictKeys )
+        {
+            this.operationHandlerRunnableContext = operationHandlerRunnableContext;
+            this.conflictKeys = conflictKeys;
+        }
+
+        @Override
+        public void run()
+        {
+            try
+            {
+                operationHandlerRunnableContext.run();
+                childOperationExecutor.execute(
+                        childOperationGenerator,
+                        operationHandlerRunnableContext.operation(),
+                        operationHandlerRunnableContext.resultReporter().result(),
+                        operationHandlerRunnableContext.resultReporter().actualStartTimeAsMilli(),
+                        operationHandlerRunnableContext.resultReporter().runDurationAsNano(),
+                        operationHandlerRunnableContextRetriever
+                );
+            }
+            catch ( Throwable e )
+            {
+                errorReporter.reportError( this,
+                        format( "Error executing handler\n%s", ConcurrentErrorReporter.stackTraceToString( e ) ) );
+            }
+            finally
+            {
+                releaseSlots( conflictKeys );
+                operationHandlerRunnableContext.cleanup();
+                uncompletedHandlers.decrementAndGet();
+            }
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.ldbc.driver.runtime.executor;
 
 import com.ldbc.driver.Operation;
 
+import java.util.List;
+
 public interface OperationExecutor {
     /**
      * @param operation
@@ -9,6 +11,19 @@ public interface OperationExecutor {
      */
     public void execute(Operation operation) throws OperationExecutorException;
 
+    /**
+     * Executes operations in the given order, as if execute() was called for each of them, but lets implementations
+     * amortize per operation synchronization across the batch
+     *
+     * @param operations
+     * @throws OperationExecutorException
+     */
+    default void executeBatch(List<Operation> operations) throws OperationExecutorException {
+        for (int i = 0; i < operations.size(); i++) {
+            execute(operations.get(i));
+        }
+    }
+
     /**
      * Returns after executor has completed shutting down
      *
@@ -0,0 +1,25 @@
+package com.ldbc.driver.runtime.executor;
+
+/**
+ * Executor implementation used to run operation handlers of the asynchronous stream
+ */
+public enum OperationExecutorType
+{
+    /**
+     * Fixed size pool of platform threads, sized by thread count
+     */
+    THREAD_POOL,
+    /**
+     * Fork join pool of platform threads, sized by thread count, workers steal queued handlers from one another
+     */
+    WORK_STEALING,
+    /**
+     * One virtual thread per operation handler, requires a JVM with virtual thread support (Java 21+)
+     */
+    VIRTUAL_THREAD,
+    /**
+     * Fixed size pool of dispatcher threads, sized by thread count, issuing operations of asynchronous handlers
+     * without waiting for them to complete
+     */
+    ASYNC
+}
@@ -3,6 +3,7 @@ package com.ldbc.driver.runtime.executor;
 import com.ldbc.driver.WorkloadStreams.WorkloadStreamDefinition;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
 import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.DriverInternalMetrics;
 
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -24,7 +25,23 @@ public class OperationStreamExecutorService
             ConcurrentErrorReporter errorReporter,
             WorkloadStreamDefinition streamDefinition,
             OperationExecutor operationExecutor,
-            CompletionTimeWriter completionTimeWriter )
+            CompletionTimeWriter completionTimeWriter,
+            DriverInternalMetrics driverInternalMetrics )
+    {
+        this( errorReporter, streamDefinition, operationExecutor, completionTimeWriter, 0, driverInternalMetrics );
+    }
+
+    /**
+     * @param dispatchWindowAsMilli operations scheduled to start within this duration of one another are handed to
+     * the executor as one batch, 0 to hand them over one at a time
+     */
+    public OperationStreamExecutorService(
+            ConcurrentErrorReporter errorReporter,
+            WorkloadStreamDefinition streamDefinition,
+            OperationExecutor operationExecutor,
+            CompletionTimeWriter completionTimeWriter,
+            long dispatchWindowAsMilli,
+            DriverInternalMetrics driverInternalMetrics )
     {
         this.errorReporter = errorReporter;
         if ( streamDefinition.dependencyOperations().hasNext() || streamDefinition.nonDependencyOperations().hasNext() )
@@ -35,7 +52,9 @@ public class OperationStreamExecutorService
                     streamDefinition,
                     hasFinished,
                     forceThreadToTerminate,
-                    completionTimeWriter );
+                    completionTimeWriter,
+                    dispatchWindowAsMilli,
+                    driverInternalMetrics );
         }
         else
         {
@@ -3,27 +3,37 @@ package com.ldbc.driver.runtime.executor;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.WorkloadStreams.WorkloadStreamDefinition;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.coordination.CompletionTimeException;
 import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.DriverInternalMetrics;
+import com.ldbc.driver.runtime.metrics.StripedTimer;
 import com.ldbc.driver.runtime.scheduling.Spinner;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 class OperationStreamExecutorServiceThread extends Thread
 {
     private static final long POLL_INTERVAL_WHILE_WAITING_FOR_LAST_HANDLER_TO_FINISH_AS_MILLI = 100;
+    static final int MAX_BATCH_SIZE = 128;
 
     private final OperationExecutor operationExecutor;
     private final ConcurrentErrorReporter errorReporter;
     private final AtomicBoolean hasFinished;
     private final AtomicBoolean forcedTerminate;
     private final InitiatedTimeSubmittingOperationRetriever initiatedTimeSubmittingOperationRetriever;
+    private final long dispatchWindowAsMilli;
+    private final StripedTimer dispatchBlockedTimer;
 
     public OperationStreamExecutorServiceThread( OperationExecutor operationExecutor,
             ConcurrentErrorReporter errorReporter,
             WorkloadStreamDefinition streamDefinition,
             AtomicBoolean hasFinished,
             AtomicBoolean forcedTerminate,
-            CompletionTimeWriter completionTimeWriter )
+            CompletionTimeWriter completionTimeWriter,
+            long dispatchWindowAsMilli,
+            DriverInternalMetrics driverInternalMetrics )
     {
         super( OperationStreamExecutorServiceThread.class.getSimpleName() + "-" + System.currentTimeMillis() );
         this.operationExecutor = operationExecutor;
@@ -34,6 +44,8 @@ class OperationStreamExecutorServiceThread extends Thread
                 streamDefinition,
                 completionTimeWriter
         );
+        this.dispatchWindowAsMilli = dispatchWindowAsMilli;
+        this.dispatchBlockedTimer = driverInternalMetrics.dispatchBlocked();
     }
 
     @Override
@@ -41,11 +53,20 @@ class OperationStreamExecutorServiceThread extends Thread
     {
         try
         {
-            while ( initiatedTimeSubmittingOperationRetriever.hasNextOperation() && !forcedTerminate.get() )
+            if ( dispatchWindowAsMilli > 0 )
             {
-                Operation operation = initiatedTimeSubmittingOperationRetriever.nextOperation();
-                // --- BLOCKING CALL (when bounded queue is full) ---
-                operationExecutor.execute( operation );
+                executeBatches();
+            }
+            else
+            {
+                while ( initiatedTimeSubmittingOperationRetriever.hasNextOperation() && !forcedTerminate.get() )
+                {
+                    Operation operation = initiatedTimeSubmittingOperationRetriever.nextOperation();
+                    long dispatchStartAsNano = System.nanoTime();
+                    // --- BLOCKING CALL (when bounded queue is full) ---
+                    operationExecutor.execute( operation );
+                    dispatchBlockedTimer.record( System.nanoTime() - dispatchStartAsNano );
+                }
             }
         }
         catch ( Throwable e )
@@ -61,4 +82,39 @@ class OperationStreamExecutorServiceThread extends Thread
             this.hasFinished.set( true );
         }
     }
+
+    /*
+    batch = next operation, plus all that follow it and are scheduled to start within the dispatch window of it.
+    the operation that ends a batch has already been retrieved (and its initiated time submitted), it starts the next
+    */
+    private void executeBatches() throws OperationExecutorException, CompletionTimeException
+    {
+        List<Operation> batch = new ArrayList<>( MAX_BATCH_SIZE );
+        Operation nextBatchFirstOperation = null;
+        while ( (null != nextBatchFirstOperation || initiatedTimeSubmittingOperationRetriever.hasNextOperation()) &&
+                !forcedTerminate.get() )
+        {
+            Operation firstOperation = (null != nextBatchFirstOperation)
+                                       ? nextBatchFirstOperation
+                                       : initiatedTimeSubmittingOperationRetriever.nextOperation();
+            nextBatchFirstOperation = null;
+            batch.add( firstOperation );
+            long windowEndAsMilli = firstOperation.scheduledStartTimeAsMilli() + dispatchWindowAsMilli;
+            while ( batch.size() < MAX_BATCH_SIZE && initiatedTimeSubmittingOperationRetriever.hasNextOperation() )
+            {
+                Operation operation = initiatedTimeSubmittingOperationRetriever.nextOperation();
+                if ( operation.scheduledStartTimeAsMilli() > windowEndAsMilli )
+                {
+                    nextBatchFirstOperation = operation;
+                    break;
+                }
+                batch.add( operation );
+            }
+            long dispatchStartAsNano = System.nanoTime();
+            // --- BLOCKING CALL (when bounded queue is full) ---
+            operationExecutor.executeBatch( batch );
+            dispatchBlockedTimer.record( System.nanoTime() - dispatchStartAsNano );
+            batch.clear();
+        }
+    }
 }
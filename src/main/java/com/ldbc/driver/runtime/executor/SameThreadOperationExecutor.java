@@ -33,7 +33,7 @@ public class SameThreadOperationExecutor implements OperationExecutor
             MetricsService metricsService,
             ChildOperationGenerator childOperationGenerator )
     {
-        this.childOperationExecutor = new ChildOperationExecutor();
+        this.childOperationExecutor = new ChildOperationExecutor( spinner.driverInternalMetrics() );
         this.childOperationGenerator = childOperationGenerator;
         this.operationHandlerRunnableContextRetriever = new OperationHandlerRunnableContextRetriever(
                 streamDefinition,
@@ -84,7 +84,8 @@ public class SingleThreadOperationExecutor implements OperationExecutor
                 errorReporter,
                 uncompletedHandlers,
                 operationHandlerRunnableContextInitializer,
-                childOperationGenerator
+                childOperationGenerator,
+                new ChildOperationExecutor( spinner.driverInternalMetrics() )
         );
         this.executorThread.start();
     }
@@ -26,10 +26,11 @@ public class SingleThreadOperationExecutorThread extends Thread
             ConcurrentErrorReporter errorReporter,
             AtomicLong uncompletedHandlers,
             OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever,
-            ChildOperationGenerator childOperationGenerator )
+            ChildOperationGenerator childOperationGenerator,
+            ChildOperationExecutor childOperationExecutor )
     {
         super( SingleThreadOperationExecutorThread.class.getSimpleName() + "-" + System.currentTimeMillis() );
-        this.childOperationExecutor = new ChildOperationExecutor();
+        this.childOperationExecutor = childOperationExecutor;
         this.operationQueueEventFetcher = QueueEventFetcher.queueEventFetcherFor( operationHandlerRunnerQueue );
         this.errorReporter = errorReporter;
         this.uncompletedHandlers = uncompletedHandlers;
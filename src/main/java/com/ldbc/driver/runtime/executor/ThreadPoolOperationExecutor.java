@@ -74,6 +74,7 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
                 uncompletedHandlers,
                 boundedQueueSize,
                 childOperationGenerator,
+                new ChildOperationExecutor( spinner.driverInternalMetrics() ),
                 operationHandlerRunnableContextRetriever,
                 errorReporter
         );
@@ -99,6 +100,9 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
         }
     }
 
+    // executeBatch() is left to the default, one execute() per operation: thread pool has no bulk submit, and
+    // publishing a batch as one task would run its operations one after the other, on a single worker
+
     @Override
     synchronized public final void shutdown( long waitAsMilli ) throws OperationExecutorException
     {
@@ -154,6 +158,7 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
                 AtomicLong uncompletedHandlers,
                 int boundedQueueSize,
                 ChildOperationGenerator childOperationGenerator,
+                ChildOperationExecutor childOperationExecutor,
                 OperationHandlerRunnableContextRetriever operationHandlerRunnableContextInitializer,
                 ConcurrentErrorReporter errorReporter )
         {
@@ -171,6 +176,7 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
                     threadFactory,
                     uncompletedHandlers,
                     childOperationGenerator,
+                    childOperationExecutor,
                     operationHandlerRunnableContextInitializer,
                     errorReporter
             );
@@ -186,11 +192,12 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
                 ThreadFactory threadFactory,
                 AtomicLong uncompletedHandlers,
                 ChildOperationGenerator childOperationGenerator,
+                ChildOperationExecutor childOperationExecutor,
                 OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever,
                 ConcurrentErrorReporter errorReporter )
         {
             super( corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory );
-            this.childOperationExecutor = new ChildOperationExecutor();
+            this.childOperationExecutor = childOperationExecutor;
             this.uncompletedHandlers = uncompletedHandlers;
             this.childOperationGenerator = childOperationGenerator;
             this.operationHandlerRunnableContextRetriever = operationHandlerRunnableContextRetriever;
@@ -0,0 +1,232 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.scheduling.HashedTimingWheel;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.runtime.scheduling.StartTimeJitter;
+import com.ldbc.driver.temporal.TimeSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.lang.String.format;
+
+/**
+ * Scheduling stage in front of another executor.
+ * Operations are held in a hashed timing wheel and only passed on to the wrapped executor once their scheduled start
+ * time has been reached, so the wrapped executor should use a spinner that does not wait for scheduled start times
+ * (it must still perform dependency checks).
+ * Number of operations held in the wheel is bounded, execute() blocks when it is full.
+ * Lateness of released operations is recorded in the given start time jitter.
+ * Operations that become due at the same tick are passed on to the wrapped executor as one batch.
+ */
+public class TimingWheelOperationExecutor implements OperationExecutor
+{
+    private static final long SHUTDOWN_POLLING_INTERVAL_AS_MILLI = 10;
+
+    private final OperationExecutor delegate;
+    private final TimeSource timeSource;
+    private final int capacity;
+    private final Semaphore capacityPermits;
+    private final Queue<Operation> inbox = new ConcurrentLinkedQueue<>();
+    private final AtomicLong scheduledOperations = new AtomicLong( 0 );
+    private final AtomicBoolean shutdown = new AtomicBoolean( false );
+    private final TimingWheelSchedulerThread schedulerThread;
+
+    public TimingWheelOperationExecutor( OperationExecutor delegate,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            StartTimeJitter startTimeJitter,
+            int capacity )
+    {
+        this(
+                delegate,
+                timeSource,
+                errorReporter,
+                startTimeJitter,
+                capacity,
+                HashedTimingWheel.DEFAULT_WHEEL_SIZE,
+                HashedTimingWheel.DEFAULT_TICK_DURATION_AS_MILLI
+        );
+    }
+
+    public TimingWheelOperationExecutor( OperationExecutor delegate,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            StartTimeJitter startTimeJitter,
+            int capacity,
+            int wheelSize,
+            long tickDurationAsMilli )
+    {
+        this.delegate = delegate;
+        this.timeSource = timeSource;
+        this.capacity = capacity;
+        this.capacityPermits = new Semaphore( capacity );
+        this.schedulerThread = new TimingWheelSchedulerThread(
+                new HashedTimingWheel( wheelSize, tickDurationAsMilli, timeSource.nowAsMilli() ),
+                errorReporter,
+                startTimeJitter
+        );
+        this.schedulerThread.start();
+    }
+
+    @Override
+    public final void execute( Operation operation ) throws OperationExecutorException
+    {
+        if ( shutdown.get() )
+        {
+            throw new OperationExecutorException( "Executor has already been shutdown" );
+        }
+        try
+        {
+            capacityPermits.acquire();
+        }
+        catch ( InterruptedException e )
+        {
+            throw new OperationExecutorException(
+                    format( "Interrupted while waiting to schedule operation\nOperation: %s", operation ), e );
+        }
+        scheduledOperations.incrementAndGet();
+        inbox.add( operation );
+    }
+
+    @Override
+    public final void executeBatch( List<Operation> operations ) throws OperationExecutorException
+    {
+        if ( shutdown.get() )
+        {
+            throw new OperationExecutorException( "Executor has already been shutdown" );
+        }
+        // permits for a batch are acquired at once, so a batch must not exceed capacity
+        for ( int from = 0; from < operations.size(); from += capacity )
+        {
+            List<Operation> boundedBatch = operations.subList( from, Math.min( operations.size(), from + capacity ) );
+            try
+            {
+                capacityPermits.acquire( boundedBatch.size() );
+            }
+            catch ( InterruptedException e )
+            {
+                throw new OperationExecutorException(
+                        format( "Interrupted while waiting to schedule %s operations", boundedBatch.size() ), e );
+            }
+            scheduledOperations.addAndGet( boundedBatch.size() );
+            inbox.addAll( boundedBatch );
+        }
+    }
+
+    @Override
+    synchronized public final void shutdown( long waitAsMilli ) throws OperationExecutorException
+    {
+        if ( shutdown.get() )
+        {
+            throw new OperationExecutorException( "Executor has already been shutdown" );
+        }
+        shutdown.set( true );
+        long endTimeAsMilli = System.currentTimeMillis() + waitAsMilli;
+        while ( scheduledOperations.get() > 0 && System.currentTimeMillis() < endTimeAsMilli &&
+                schedulerThread.isAlive() )
+        {
+            Spinner.powerNap( SHUTDOWN_POLLING_INTERVAL_AS_MILLI );
+        }
+        long stillScheduledOperations = scheduledOperations.get();
+        schedulerThread.shutdown();
+        try
+        {
+            schedulerThread.join( Math.max( 1, endTimeAsMilli - System.currentTimeMillis() ) );
+        }
+        catch ( InterruptedException e )
+        {
+            throw new OperationExecutorException( "Interrupted while waiting for scheduler thread to terminate", e );
+        }
+        delegate.shutdown( Math.max( 1, endTimeAsMilli - System.currentTimeMillis() ) );
+        if ( stillScheduledOperations > 0 )
+        {
+            throw new OperationExecutorException(
+                    format( "%s shutdown before all operations were released\n%s operations were still scheduled",
+                            getClass().getSimpleName(),
+                            stillScheduledOperations ) );
+        }
+    }
+
+    @Override
+    public long uncompletedOperationHandlerCount()
+    {
+        // read scheduled first: an operation is counted by delegate before it stops being counted as scheduled
+        long stillScheduledOperations = scheduledOperations.get();
+        return stillScheduledOperations + delegate.uncompletedOperationHandlerCount();
+    }
+
+    private class TimingWheelSchedulerThread extends Thread
+    {
+        private final HashedTimingWheel timingWheel;
+        private final ConcurrentErrorReporter errorReporter;
+        private final StartTimeJitter startTimeJitter;
+        private final List<Operation> dueOperations = new ArrayList<>();
+        private final AtomicBoolean continueRunning = new AtomicBoolean( true );
+
+        private TimingWheelSchedulerThread( HashedTimingWheel timingWheel,
+                ConcurrentErrorReporter errorReporter,
+                StartTimeJitter startTimeJitter )
+        {
+            super( TimingWheelSchedulerThread.class.getSimpleName() + "-" + System.currentTimeMillis() );
+            this.timingWheel = timingWheel;
+            this.errorReporter = errorReporter;
+            this.startTimeJitter = startTimeJitter;
+            setDaemon( true );
+        }
+
+        @Override
+        public void run()
+        {
+            try
+            {
+                while ( continueRunning.get() )
+                {
+                    Operation operation;
+                    while ( null != (operation = inbox.poll()) )
+                    {
+                        timingWheel.add( operation );
+                    }
+                    timingWheel.advanceTo( timeSource.nowAsMilli(), dueOperations );
+                    if ( false == dueOperations.isEmpty() )
+                    {
+                        for ( int i = 0; i < dueOperations.size(); i++ )
+                        {
+                            startTimeJitter.record( dueOperations.get( i ).scheduledStartTimeAsMilli() );
+                        }
+                        delegate.executeBatch( dueOperations );
+                        scheduledOperations.addAndGet( -dueOperations.size() );
+                        capacityPermits.release( dueOperations.size() );
+                        dueOperations.clear();
+                    }
+                    long waitAsMilli = timingWheel.nextTickTimeAsMilli() - timeSource.nowAsMilli();
+                    if ( waitAsMilli > 0 && inbox.isEmpty() )
+                    {
+                        LockSupport.parkNanos( TimeUnit.MILLISECONDS.toNanos( waitAsMilli ) );
+                    }
+                }
+            }
+            catch ( Throwable e )
+            {
+                errorReporter.reportError(
+                        this,
+                        format( "Encountered error while releasing operations from timing wheel\n%s",
+                                ConcurrentErrorReporter.stackTraceToString( e ) ) );
+            }
+        }
+
+        private void shutdown()
+        {
+            continueRunning.set( false );
+        }
+    }
+}
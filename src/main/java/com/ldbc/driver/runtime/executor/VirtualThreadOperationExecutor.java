@@ -0,0 +1,216 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.ldbc.driver.ChildOperationGenerator;
+import com.ldbc.driver.Db;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationHandlerRunnableContext;
+import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.coordination.CompletionTimeReader;
+import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.MetricsService;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.TimeSource;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+/**
+ * Runs every operation handler on its own virtual thread, so handlers waiting on their scheduled start time or on
+ * blocking I/O do not hold a platform thread.
+ * Virtual threads are looked up reflectively, as the driver is still compiled for Java 8.
+ * Number of in-flight handlers is bounded, to provide the same back-pressure a bounded thread pool queue would.
+ */
+public class VirtualThreadOperationExecutor implements OperationExecutor
+{
+    private static final long SHUTDOWN_POLLING_INTERVAL_AS_MILLI = 10;
+
+    public static boolean isSupported()
+    {
+        try
+        {
+            newVirtualThreadFactory( VirtualThreadOperationExecutor.class.getSimpleName() );
+            return true;
+        }
+        catch ( OperationExecutorException e )
+        {
+            return false;
+        }
+    }
+
+    private static ThreadFactory newVirtualThreadFactory( String threadNamePrefix ) throws OperationExecutorException
+    {
+        try
+        {
+            Class<?> builderClass = Class.forName( "java.lang.Thread$Builder" );
+            Method ofVirtual = Thread.class.getMethod( "ofVirtual" );
+            Method name = builderClass.getMethod( "name", String.class, long.class );
+            Method factory = builderClass.getMethod( "factory" );
+            Object builder = ofVirtual.invoke( null );
+            builder = name.invoke( builder, threadNamePrefix, 0L );
+            return (ThreadFactory) factory.invoke( builder );
+        }
+        catch ( Throwable e )
+        {
+            throw new OperationExecutorException(
+                    format( "Virtual threads are not supported by this JVM (%s %s)",
+                            System.getProperty( "java.vm.name" ),
+                            System.getProperty( "java.version" ) ),
+                    e );
+        }
+    }
+
+    private final ThreadFactory threadFactory;
+    private final Semaphore inFlightPermits;
+    private final AtomicLong uncompletedHandlers = new AtomicLong( 0 );
+    private final AtomicBoolean shutdown = new AtomicBoolean( false );
+    private final OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever;
+    private final ChildOperationGenerator childOperationGenerator;
+    private final ChildOperationExecutor childOperationExecutor;
+    private final ConcurrentErrorReporter errorReporter;
+
+    public VirtualThreadOperationExecutor( int maxInFlightHandlers,
+            Db db,
+            WorkloadStreams.WorkloadStreamDefinition streamDefinition,
+            CompletionTimeWriter completionTimeWriter,
+            CompletionTimeReader completionTimeReader,
+            Spinner spinner,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            MetricsService metricsService,
+            ChildOperationGenerator childOperationGenerator ) throws OperationExecutorException
+    {
+        if ( maxInFlightHandlers < 1 )
+        {
+            throw new OperationExecutorException(
+                    format( "Maximum in-flight handler count must be positive: %s", maxInFlightHandlers ) );
+        }
+        this.threadFactory = newVirtualThreadFactory(
+                VirtualThreadOperationExecutor.class.getSimpleName() + "-id(" + System.currentTimeMillis() + ")" +
+                "-thread-" );
+        this.inFlightPermits = new Semaphore( maxInFlightHandlers );
+        this.operationHandlerRunnableContextRetriever = new OperationHandlerRunnableContextRetriever(
+                streamDefinition,
+                db,
+                completionTimeWriter,
+                completionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService
+        );
+        this.childOperationExecutor = new ChildOperationExecutor( spinner.driverInternalMetrics() );
+        this.childOperationGenerator = childOperationGenerator;
+        this.errorReporter = errorReporter;
+    }
+
+    @Override
+    public final void execute( Operation operation ) throws OperationExecutorException
+    {
+        if ( shutdown.get() )
+        {
+            throw new OperationExecutorException( "Executor has already been shutdown" );
+        }
+        uncompletedHandlers.incrementAndGet();
+        boolean permitAcquired = false;
+        OperationHandlerRunnableContext operationHandlerRunnableContext = null;
+        try
+        {
+            inFlightPermits.acquire();
+            permitAcquired = true;
+            operationHandlerRunnableContext =
+                    operationHandlerRunnableContextRetriever.getInitializedHandlerFor( operation );
+            threadFactory.newThread( new VirtualThreadHandlerRunnable( operationHandlerRunnableContext ) ).start();
+        }
+        catch ( Throwable e )
+        {
+            // thread did not start, so handler will never run and release its context
+            if ( null != operationHandlerRunnableContext )
+            {
+                operationHandlerRunnableContext.cleanup();
+            }
+            uncompletedHandlers.decrementAndGet();
+            if ( permitAcquired )
+            {
+                inFlightPermits.release();
+            }
+            throw new OperationExecutorException(
+                    format( "Error retrieving handler\nOperation: %s\n%s",
+                            operation,
+                            ConcurrentErrorReporter.stackTraceToString( e ) ),
+                    e );
+        }
+    }
+
+    @Override
+    synchronized public final void shutdown( long waitAsMilli ) throws OperationExecutorException
+    {
+        if ( shutdown.get() )
+        {
+            throw new OperationExecutorException( "Executor has already been shutdown" );
+        }
+        shutdown.set( true );
+        long endTimeAsMilli = System.currentTimeMillis() + waitAsMilli;
+        while ( uncompletedHandlers.get() > 0 && System.currentTimeMillis() < endTimeAsMilli )
+        {
+            Spinner.powerNap( SHUTDOWN_POLLING_INTERVAL_AS_MILLI );
+        }
+        long stillRunningHandlers = uncompletedHandlers.get();
+        if ( stillRunningHandlers > 0 )
+        {
+            throw new OperationExecutorException(
+                    format( "%s shutdown before all handlers could complete\n%s handlers were mid-execution",
+                            getClass().getSimpleName(),
+                            stillRunningHandlers ) );
+        }
+    }
+
+    @Override
+    public long uncompletedOperationHandlerCount()
+    {
+        return uncompletedHandlers.get();
+    }
+
+    private class VirtualThreadHandlerRunnable implements Runnable
+    {
+        private final OperationHandlerRunnableContext operationHandlerRunnableContext;
+
+        private VirtualThreadHandlerRunnable( OperationHandlerRunnableContext operationHandlerRunnableContext )
+        {
+            this.operationHandlerRunnableContext = operationHandlerRunnableContext;
+        }
+
+        @Override
+        public void run()
+        {
+            try
+            {
+                operationHandlerRunnableContext.run();
+                childOperationExecutor.execute(
+                        childOperationGenerator,
+                        operationHandlerRunnableContext.operation(),
+                        operationHandlerRunnableContext.resultReporter().result(),
+                        operationHandlerRunnableContext.resultReporter().actualStartTimeAsMilli(),
+                        operationHandlerRunnableContext.resultReporter().runDurationAsNano(),
+                        operationHandlerRunnableContextRetriever
+                );
+            }
+            catch ( Throwable e )
+            {
+                errorReporter.reportError( this,
+                        format( "Error executing handler\n%s", ConcurrentErrorReporter.stackTraceToString( e ) ) );
+            }
+            finally
+            {
+                uncompletedHandlers.decrementAndGet();
+                operationHandlerRunnableContext.cleanup();
+                inFlightPermits.release();
+            }
+        }
+    }
+}
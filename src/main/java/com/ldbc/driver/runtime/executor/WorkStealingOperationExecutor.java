@@ -0,0 +1,287 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.ldbc.driver.ChildOperationGenerator;
+import com.ldbc.driver.Db;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationHandlerRunnableContext;
+import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.coordination.CompletionTimeReader;
+import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.MetricsService;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.TimeSource;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+/**
+ * Runs operation handlers on a fork join pool, in FIFO (async) mode.
+ * Workers take work from their own deque and steal from others, rather than all contending on the single lock of a
+ * blocking queue, as ThreadPoolOperationExecutor workers do.
+ * Fork join pool queues are unbounded, so the number of submitted but uncompleted handlers is bounded separately,
+ * execute() blocks when the bound is reached.
+ * Batches are submitted to the pool as a single task, the worker that takes it forks their handlers onto its own
+ * deque, from where idle workers steal them.
+ */
+public class WorkStealingOperationExecutor implements OperationExecutor
+{
+    private static final long SHUTDOWN_POLLING_INTERVAL_AS_MILLI = 10;
+
+    private final ForkJoinPool forkJoinPool;
+    private final int maxSubmittedHandlers;
+    private final Semaphore submittedPermits;
+    private final AtomicLong uncompletedHandlers = new AtomicLong( 0 );
+    private final AtomicBoolean shutdown = new AtomicBoolean( false );
+    private final OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever;
+    private final ChildOperationGenerator childOperationGenerator;
+    private final ChildOperationExecutor childOperationExecutor;
+    private final ConcurrentErrorReporter errorReporter;
+
+    public WorkStealingOperationExecutor( int threadCount,
+            int boundedQueueSize,
+            Db db,
+            WorkloadStreams.WorkloadStreamDefinition streamDefinition,
+            CompletionTimeWriter completionTimeWriter,
+            CompletionTimeReader completionTimeReader,
+            Spinner spinner,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            MetricsService metricsService,
+            ChildOperationGenerator childOperationGenerator )
+    {
+        this.operationHandlerRunnableContextRetriever = new OperationHandlerRunnableContextRetriever(
+                streamDefinition,
+                db,
+                completionTimeWriter,
+                completionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService
+        );
+        this.childOperationExecutor = new ChildOperationExecutor( spinner.driverInternalMetrics() );
+        ForkJoinPool.ForkJoinWorkerThreadFactory threadFactory = new ForkJoinPool.ForkJoinWorkerThreadFactory()
+        {
+            private final long factoryTimeStampId = System.currentTimeMillis();
+            int count = 0;
+
+            @Override
+            public ForkJoinWorkerThread newThread( ForkJoinPool pool )
+            {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread( pool );
+                thread.setName(
+                        WorkStealingOperationExecutor.class.getSimpleName() + "-id(" + factoryTimeStampId + ")" +
+                        "-thread(" + count++ + ")" );
+                return thread;
+            }
+        };
+        boolean asyncMode = true;
+        this.forkJoinPool = new ForkJoinPool( threadCount, threadFactory, null, asyncMode );
+        // as many handlers as thread pool could hold, running + queued
+        this.maxSubmittedHandlers = threadCount + boundedQueueSize;
+        this.submittedPermits = new Semaphore( maxSubmittedHandlers );
+        this.childOperationGenerator = childOperationGenerator;
+        this.errorReporter = errorReporter;
+    }
+
+    @Override
+    public final void execute( Operation operation ) throws OperationExecutorException
+    {
+        if ( shutdown.get() )
+        {
+            throw new OperationExecutorException( "Executor has already been shutdown" );
+        }
+        uncompletedHandlers.incrementAndGet();
+        boolean permitAcquired = false;
+        OperationHandlerRunnableContext operationHandlerRunnableContext = null;
+        try
+        {
+            submittedPermits.acquire();
+            permitAcquired = true;
+            operationHandlerRunnableContext =
+                    operationHandlerRunnableContextRetriever.getInitializedHandlerFor( operation );
+            forkJoinPool.execute( new WorkStealingHandlerRunnable( operationHandlerRunnableContext ) );
+        }
+        catch ( Throwable e )
+        {
+            // e.g., rejected during shutdown, so handler will never run and release its context
+            if ( null != operationHandlerRunnableContext )
+            {
+                operationHandlerRunnableContext.cleanup();
+            }
+            uncompletedHandlers.decrementAndGet();
+            if ( permitAcquired )
+            {
+                submittedPermits.release();
+            }
+            throw new OperationExecutorException(
+                    format( "Error retrieving handler\nOperation: %s\n%s",
+                            operation,
+                            ConcurrentErrorReporter.stackTraceToString( e ) ),
+                    e );
+        }
+    }
+
+    @Override
+    public final void executeBatch( List<Operation> operations ) throws OperationExecutorException
+    {
+        if ( shutdown.get() )
+        {
+            throw new OperationExecutorException( "Executor has already been shutdown" );
+        }
+        // permits for a batch are acquired at once, so a batch must not exceed the bound
+        for ( int from = 0; from < operations.size(); from += maxSubmittedHandlers )
+        {
+            int to = Math.min( operations.size(), from + maxSubmittedHandlers );
+            executeBoundedBatch( operations.subList( from, to ) );
+        }
+    }
+
+    private void executeBoundedBatch( List<Operation> operations ) throws OperationExecutorException
+    {
+        int operationCount = operations.size();
+        WorkStealingHandlerRunnable[] handlerRunnables = new WorkStealingHandlerRunnable[operationCount];
+        int initializedCount = 0;
+        boolean permitsAcquired = false;
+        uncompletedHandlers.addAndGet( operationCount );
+        try
+        {
+            submittedPermits.acquire( operationCount );
+            permitsAcquired = true;
+            for ( ; initializedCount < operationCount; initializedCount++ )
+            {
+                handlerRunnables[initializedCount] = new WorkStealingHandlerRunnable(
+                        operationHandlerRunnableContextRetriever
+                                .getInitializedHandlerFor( operations.get( initializedCount ) ) );
+            }
+            forkJoinPool.execute( new ForkHandlersAction( handlerRunnables ) );
+        }
+        catch ( Throwable e )
+        {
+            uncompletedHandlers.addAndGet( -operationCount );
+            if ( permitsAcquired )
+            {
+                submittedPermits.release( operationCount );
+            }
+            for ( int i = 0; i < initializedCount; i++ )
+            {
+                handlerRunnables[i].operationHandlerRunnableContext.cleanup();
+            }
+            throw new OperationExecutorException(
+                    format( "Error retrieving handler\nOperation: %s\n%s",
+                            operations.get( Math.min( initializedCount, operationCount - 1 ) ),
+                            ConcurrentErrorReporter.stackTraceToString( e ) ),
+                    e );
+        }
+    }
+
+    @Override
+    synchronized public final void shutdown( long waitAsMilli ) throws OperationExecutorException
+    {
+        if ( shutdown.get() )
+        {
+            throw new OperationExecutorException( "Executor has already been shutdown" );
+        }
+        shutdown.set( true );
+        long endTimeAsMilli = System.currentTimeMillis() + waitAsMilli;
+        while ( uncompletedHandlers.get() > 0 && System.currentTimeMillis() < endTimeAsMilli )
+        {
+            Spinner.powerNap( SHUTDOWN_POLLING_INTERVAL_AS_MILLI );
+        }
+        long stillRunningHandlers = uncompletedHandlers.get();
+        long queuedHandlers = forkJoinPool.getQueuedSubmissionCount() + forkJoinPool.getQueuedTaskCount();
+        forkJoinPool.shutdownNow();
+        try
+        {
+            forkJoinPool.awaitTermination(
+                    Math.max( 1, endTimeAsMilli - System.currentTimeMillis() ),
+                    TimeUnit.MILLISECONDS );
+        }
+        catch ( InterruptedException e )
+        {
+            throw new OperationExecutorException( "Interrupted while waiting for worker threads to terminate", e );
+        }
+        if ( stillRunningHandlers > 0 )
+        {
+            throw new OperationExecutorException(
+                    format( "%s shutdown before all handlers could complete\n%s handlers were queued for execution " +
+                            "but not yet started\n%s handlers were mid-execution",
+                            getClass().getSimpleName(),
+                            queuedHandlers,
+                            stillRunningHandlers - queuedHandlers ) );
+        }
+    }
+
+    @Override
+    public long uncompletedOperationHandlerCount()
+    {
+        return uncompletedHandlers.get();
+    }
+
+    private static class ForkHandlersAction extends RecursiveAction
+    {
+        private final WorkStealingHandlerRunnable[] handlerRunnables;
+
+        private ForkHandlersAction( WorkStealingHandlerRunnable[] handlerRunnables )
+        {
+            this.handlerRunnables = handlerRunnables;
+        }
+
+        @Override
+        protected void compute()
+        {
+            for ( int i = 0; i < handlerRunnables.length; i++ )
+            {
+                ForkJoinTask.adapt( handlerRunnables[i] ).fork();
+            }
+        }
+    }
+
+    private class WorkStealingHandlerRunnable implements Runnable
+    {
+        private final OperationHandlerRunnableContext operationHandlerRunnableContext;
+
+        private WorkStealingHandlerRunnable( OperationHandlerRunnableContext operationHandlerRunnableContext )
+        {
+            this.operationHandlerRunnableContext = operationHandlerRunnableContext;
+        }
+
+        @Override
+        public void run()
+        {
+            try
+            {
+                operationHandlerRunnableContext.run();
+                childOperationExecutor.execute(
+                        childOperationGenerator,
+                        operationHandlerRunnableContext.operation(),
+                        operationHandlerRunnableContext.resultReporter().result(),
+                        operationHandlerRunnableContext.resultReporter().actualStartTimeAsMilli(),
+                        operationHandlerRunnableContext.resultReporter().runDurationAsNano(),
+                        operationHandlerRunnableContextRetriever
+                );
+            }
+            catch ( Throwable e )
+            {
+                errorReporter.reportError( this,
+                        format( "Error executing handler\n%s", ConcurrentErrorReporter.stackTraceToString( e ) ) );
+            }
+            finally
+            {
+                uncompletedHandlers.decrementAndGet();
+                operationHandlerRunnableContext.cleanup();
+                submittedPermits.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.csv.simple.SimpleCsvFileWriter;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.lang.String.format;
+
+/**
+ * Writes results log in the layout of SimpleResultsLogWriter, but formats rows into pre-allocated buffers that a
+ * dedicated thread writes to file, so the thread calling write() never waits for the disk.
+ * <p/>
+ * When every buffer is still waiting to be written, e.g., because results disk stalls, rows are dropped by default, so
+ * metrics collection, and eventually workers, are never back-pressured by the disk, at the cost of an incomplete
+ * results log. Dropped rows are counted, and a results log with dropped rows must not be treated as valid. With the
+ * BLOCK policy the calling thread waits for a buffer to be written instead, which back-pressures workers through
+ * metrics collection and adds disk latency to measured operations.
+ * <p/>
+ * Not thread safe, like other results log writers it expects a single calling thread.
+ */
+public class AsyncResultsLogWriter implements ResultsLogWriter
+{
+    public enum FullBuffersPolicy
+    {
+        BLOCK,
+        DROP
+    }
+
+    public static final int DEFAULT_BUFFER_COUNT = 2;
+    public static final int MIN_BUFFER_SIZE = 4096;
+    private static final byte[] COLUMN_SEPARATOR =
+            SimpleCsvFileWriter.DEFAULT_COLUMN_SEPARATOR.getBytes( StandardCharsets.UTF_8 );
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes( StandardCharsets.UTF_8 );
+    // 4 longs of at most 20 characters, 1 int of at most 11 characters, separators
+    private static final int MAX_ROW_SIZE_WITHOUT_NAME =
+            (4 * 20) + 11 + (5 * COLUMN_SEPARATOR.length) + LINE_SEPARATOR.length;
+    private static final ByteBuffer SHUTDOWN = ByteBuffer.allocate( 0 );
+
+    private final TimeUnit unit;
+    private final FullBuffersPolicy fullBuffersPolicy;
+    private final FileOutputStream fileOutputStream;
+    private final BlockingQueue<ByteBuffer> freeBuffers;
+    private final BlockingQueue<ByteBuffer> filledBuffers;
+    private final Map<String,byte[]> operationNameBytes = new HashMap<>();
+    private final AtomicReference<IOException> writeFailure = new AtomicReference<>();
+    private final AtomicLong writtenBufferCount = new AtomicLong( 0 );
+    private final Thread ioThread;
+    private ByteBuffer buffer;
+    private long droppedWriteCount = 0;
+    private long stallCount = 0;
+    private boolean stalled = false;
+    private boolean closed = false;
+
+    public AsyncResultsLogWriter( File resultsLog, TimeUnit unit, int bufferSize ) throws IOException
+    {
+        this( resultsLog, unit, bufferSize, DEFAULT_BUFFER_COUNT );
+    }
+
+    public AsyncResultsLogWriter( File resultsLog, TimeUnit unit, int bufferSize, int bufferCount ) throws IOException
+    {
+        this( resultsLog, unit, bufferSize, bufferCount, FullBuffersPolicy.DROP );
+    }
+
+    public AsyncResultsLogWriter(
+            File resultsLog,
+            TimeUnit unit,
+            int bufferSize,
+            int bufferCount,
+            FullBuffersPolicy fullBuffersPolicy ) throws IOException
+    {
+        if ( bufferCount < 2 )
+        {
+            throw new IOException( format( "At least 2 buffers are required: %s", bufferCount ) );
+        }
+        if ( bufferSize < MIN_BUFFER_SIZE )
+        {
+            throw new IOException( format( "Buffer size must be at least %s bytes: %s", MIN_BUFFER_SIZE, bufferSize ) );
+        }
+        this.unit = unit;
+        this.fullBuffersPolicy = fullBuffersPolicy;
+        this.fileOutputStream = new FileOutputStream( resultsLog );
+        this.freeBuffers = new ArrayBlockingQueue<>( bufferCount );
+        // room for every buffer and the shutdown marker, so handing over buffers never blocks
+        this.filledBuffers = new ArrayBlockingQueue<>( bufferCount + 1 );
+        for ( int i = 0; i < bufferCount - 1; i++ )
+        {
+            freeBuffers.add( ByteBuffer.allocateDirect( bufferSize ) );
+        }
+        this.buffer = ByteBuffer.allocateDirect( bufferSize );
+        put( ResultsLogWriter.HEADER_OPERATION_TYPE.getBytes( StandardCharsets.UTF_8 ) );
+        put( COLUMN_SEPARATOR );
+        put( ResultsLogWriter.HEADER_SCHEDULED_START_TIME.getBytes( StandardCharsets.UTF_8 ) );
+        put( COLUMN_SEPARATOR );
+        put( ResultsLogWriter.HEADER_ACTUAL_START_TIME.getBytes( StandardCharsets.UTF_8 ) );
+        put( COLUMN_SEPARATOR );
+        put( (ResultsLogWriter.HEADER_EXECUTION_DURATION_PREFIX + unit.name()).getBytes( StandardCharsets.UTF_8 ) );
+        put( COLUMN_SEPARATOR );
+        put( ResultsLogWriter.HEADER_RESULT_CODE.getBytes( StandardCharsets.UTF_8 ) );
+        put( COLUMN_SEPARATOR );
+        put( ResultsLogWriter.HEADER_ORIGINAL_START_TIME.getBytes( StandardCharsets.UTF_8 ) );
+        put( LINE_SEPARATOR );
+        this.ioThread = new Thread( this::writeBuffers, getClass().getSimpleName() + "-" + resultsLog.getName() );
+        ioThread.setDaemon( true );
+        ioThread.start();
+    }
+
+    @Override
+    public void write(
+            String operationName,
+            long scheduledStartTimeAsMilli,
+            long actualStartTimeAsMilli,
+            long runDurationAsNano,
+            int resultCode,
+            long originalStartTime ) throws IOException
+    {
+        if ( closed )
+        {
+            throw new IOException( "Results log writer has already been closed" );
+        }
+        byte[] nameBytes = operationNameBytes.get( operationName );
+        if ( null == nameBytes )
+        {
+            nameBytes = operationName.getBytes( StandardCharsets.UTF_8 );
+            operationNameBytes.put( operationName, nameBytes );
+        }
+        if ( buffer.remaining() < nameBytes.length + MAX_ROW_SIZE_WITHOUT_NAME )
+        {
+            IOException failure = writeFailure.get();
+            if ( null != failure )
+            {
+                throw new IOException( "Error writing results log", failure );
+            }
+            ByteBuffer freeBuffer = freeBuffers.poll();
+            if ( null == freeBuffer )
+            {
+                // every other buffer is still waiting to be written
+                if ( !stalled )
+                {
+                    stalled = true;
+                    stallCount++;
+                }
+                if ( FullBuffersPolicy.DROP == fullBuffersPolicy )
+                {
+                    droppedWriteCount++;
+                    return;
+                }
+                freeBuffer = takeFreeBuffer();
+            }
+            stalled = false;
+            // queue has room for every buffer, never blocks
+            filledBuffers.add( buffer );
+            buffer = freeBuffer;
+        }
+        put( nameBytes );
+        put( COLUMN_SEPARATOR );
+        putLong( scheduledStartTimeAsMilli );
+        put( COLUMN_SEPARATOR );
+        putLong( actualStartTimeAsMilli );
+        put( COLUMN_SEPARATOR );
+        putLong( unit.convert( runDurationAsNano, TimeUnit.NANOSECONDS ) );
+        put( COLUMN_SEPARATOR );
+        putLong( resultCode );
+        put( COLUMN_SEPARATOR );
+        putLong( originalStartTime );
+        put( LINE_SEPARATOR );
+    }
+
+    /**
+     * Rows dropped because every buffer was still waiting to be written, always 0 with the BLOCK policy
+     */
+    public long droppedWriteCount()
+    {
+        return droppedWriteCount;
+    }
+
+    /**
+     * Times every buffer was waiting to be written when another was needed, each followed by waiting for a buffer, or
+     * by one or more dropped rows
+     */
+    public long stallCount()
+    {
+        return stallCount;
+    }
+
+    /**
+     * Buffers written to file, so far
+     */
+    public long writtenBufferCount()
+    {
+        return writtenBufferCount.get();
+    }
+
+    @Override
+    public void close() throws Exception
+    {
+        if ( closed )
+        {
+            return;
+        }
+        closed = true;
+        filledBuffers.put( buffer );
+        filledBuffers.put( SHUTDOWN );
+        ioThread.join();
+        fileOutputStream.close();
+        IOException failure = writeFailure.get();
+        if ( null != failure )
+        {
+            throw new IOException( "Error writing results log", failure );
+        }
+    }
+
+    private ByteBuffer takeFreeBuffer() throws IOException
+    {
+        ByteBuffer freeBuffer = null;
+        while ( null == freeBuffer )
+        {
+            IOException failure = writeFailure.get();
+            if ( null != failure )
+            {
+                throw new IOException( "Error writing results log", failure );
+            }
+            try
+            {
+                // I/O thread returns every buffer, even after it failed, so this does not wait forever
+                freeBuffer = freeBuffers.poll( 100, TimeUnit.MILLISECONDS );
+            }
+            catch ( InterruptedException e )
+            {
+                throw new IOException( "Interrupted while waiting for results log buffer to be written", e );
+            }
+        }
+        return freeBuffer;
+    }
+
+    private void writeBuffers()
+    {
+        FileChannel channel = fileOutputStream.getChannel();
+        try
+        {
+            ByteBuffer filledBuffer;
+            while ( SHUTDOWN != (filledBuffer = filledBuffers.take()) )
+            {
+                if ( null == writeFailure.get() )
+                {
+                    try
+                    {
+                        filledBuffer.flip();
+                        while ( filledBuffer.hasRemaining() )
+                        {
+                            channel.write( filledBuffer );
+                        }
+                        writtenBufferCount.incrementAndGet();
+                    }
+                    catch ( IOException e )
+                    {
+                        writeFailure.set( e );
+                    }
+                }
+                filledBuffer.clear();
+                freeBuffers.add( filledBuffer );
+            }
+        }
+        catch ( InterruptedException e )
+        {
+            writeFailure.compareAndSet( null, new IOException( "Results log writer thread was interrupted", e ) );
+        }
+    }
+
+    private void put( byte[] bytes )
+    {
+        buffer.put( bytes );
+    }
+
+    private void putLong( long value )
+    {
+        if ( Long.MIN_VALUE == value )
+        {
+            put( Long.toString( value ).getBytes( StandardCharsets.US_ASCII ) );
+            return;
+        }
+        if ( value < 0 )
+        {
+            buffer.put( (byte) '-' );
+            value = -value;
+        }
+        int digitCount = 1;
+        for ( long remaining = value / 10; remaining > 0; remaining /= 10 )
+        {
+            digitCount++;
+        }
+        int end = buffer.position() + digitCount;
+        for ( int position = end - 1; position >= buffer.position(); position-- )
+        {
+            buffer.put( position, (byte) ('0' + (value % 10)) );
+            value /= 10;
+        }
+        buffer.position( end );
+    }
+}
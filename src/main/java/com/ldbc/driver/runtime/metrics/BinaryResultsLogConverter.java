@@ -0,0 +1,52 @@
+package com.ldbc.driver.runtime.metrics;
+
+import java.io.File;
+
+import static java.lang.String.format;
+
+/**
+ * Converts results logs written by BinaryResultsLogWriter to the layout of SimpleResultsLogWriter, e.g., for the
+ * plotting scripts. Execution durations are written in the time unit the binary results log was written with.
+ * <p/>
+ * Usage: BinaryResultsLogConverter [binary results log] [output csv file]
+ */
+public class BinaryResultsLogConverter
+{
+    public static void main( String[] args ) throws Exception
+    {
+        if ( 2 != args.length )
+        {
+            System.out.println( format( "Usage: %s [binary results log] [output csv]",
+                    BinaryResultsLogConverter.class.getSimpleName() ) );
+            System.exit( 1 );
+        }
+        File binaryResultsLog = new File( args[0] );
+        File csvResultsLog = new File( args[1] );
+        long count = new BinaryResultsLogConverter().convert( binaryResultsLog, csvResultsLog );
+        System.out.println( format( "%s results written to: %s", count, csvResultsLog.getAbsolutePath() ) );
+    }
+
+    /**
+     * @return number of results converted
+     */
+    public long convert( File binaryResultsLog, File csvResultsLog ) throws Exception
+    {
+        long count = 0;
+        try ( ResultsLogReader reader = new BinaryResultsLogReader( binaryResultsLog );
+              ResultsLogWriter writer = new SimpleResultsLogWriter( csvResultsLog, reader.unit() ) )
+        {
+            while ( reader.next() )
+            {
+                writer.write(
+                        reader.getOperationName(),
+                        reader.getScheduledStartTimeAsMilli(),
+                        reader.getActualStartTimeAsMilli(),
+                        reader.getRunDurationAsNano(),
+                        reader.getResultCode(),
+                        reader.getOriginalStartTime() );
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,182 @@
+package com.ldbc.driver.runtime.metrics;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Reads results logs written by BinaryResultsLogWriter
+ */
+public class BinaryResultsLogReader implements ResultsLogReader
+{
+    private final DataInputStream in;
+    private final TimeUnit unit;
+    private final Map<Integer,String> operationTypeToNameMapping;
+    private final byte[] record = new byte[BinaryResultsLogWriter.RECORD_SIZE];
+    private final ByteBuffer recordBuffer = ByteBuffer.wrap( record );
+    private boolean hasRecord = false;
+    private String operationName;
+    private long scheduledStartTimeAsMilli;
+    private long actualStartTimeAsMilli;
+    private long runDurationAsNano;
+    private int resultCode;
+    private long originalStartTime;
+
+    public BinaryResultsLogReader( File resultsLog ) throws IOException
+    {
+        this.in = new DataInputStream( new BufferedInputStream( new FileInputStream( resultsLog ) ) );
+        try
+        {
+            if ( BinaryResultsLogWriter.MAGIC != in.readInt() )
+            {
+                throw new IOException( format( "Not a binary results log: %s", resultsLog.getAbsolutePath() ) );
+            }
+            int version = in.readInt();
+            if ( BinaryResultsLogWriter.VERSION != version )
+            {
+                throw new IOException( format( "Unsupported binary results log version: %s", version ) );
+            }
+            this.unit = TimeUnit.values()[in.readInt()];
+            int operationTypeCount = in.readInt();
+            this.operationTypeToNameMapping = new HashMap<>();
+            for ( int i = 0; i < operationTypeCount; i++ )
+            {
+                int operationType = in.readInt();
+                byte[] operationNameBytes = new byte[in.readInt()];
+                in.readFully( operationNameBytes );
+                operationTypeToNameMapping.put(
+                        operationType,
+                        new String( operationNameBytes, StandardCharsets.UTF_8 ) );
+            }
+        }
+        catch ( EOFException e )
+        {
+            in.close();
+            throw new IOException( format( "Incomplete header in binary results log: %s",
+                    resultsLog.getAbsolutePath() ), e );
+        }
+        catch ( IOException e )
+        {
+            in.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean next()
+    {
+        try
+        {
+            int read = 0;
+            while ( read < record.length )
+            {
+                int readNow = in.read( record, read, record.length - read );
+                if ( -1 == readNow )
+                {
+                    break;
+                }
+                read += readNow;
+            }
+            if ( 0 == read )
+            {
+                hasRecord = false;
+                return false;
+            }
+            else if ( read < record.length )
+            {
+                throw new RuntimeException( format( "Incomplete record at end of binary results log, %s/%s bytes",
+                        read, record.length ) );
+            }
+            recordBuffer.clear();
+            int operationType = recordBuffer.getInt();
+            operationName = operationTypeToNameMapping.get( operationType );
+            if ( null == operationName )
+            {
+                throw new RuntimeException( format( "Unknown operation type: %s", operationType ) );
+            }
+            scheduledStartTimeAsMilli = recordBuffer.getLong();
+            actualStartTimeAsMilli = recordBuffer.getLong();
+            runDurationAsNano = recordBuffer.getLong();
+            resultCode = recordBuffer.getInt();
+            originalStartTime = recordBuffer.getLong();
+            hasRecord = true;
+            return true;
+        }
+        catch ( IOException e )
+        {
+            throw new RuntimeException( "Error reading binary results log", e );
+        }
+    }
+
+    @Override
+    public TimeUnit unit()
+    {
+        return unit;
+    }
+
+    @Override
+    public String getOperationName()
+    {
+        assertHasRecord();
+        return operationName;
+    }
+
+    @Override
+    public long getScheduledStartTimeAsMilli()
+    {
+        assertHasRecord();
+        return scheduledStartTimeAsMilli;
+    }
+
+    @Override
+    public long getActualStartTimeAsMilli()
+    {
+        assertHasRecord();
+        return actualStartTimeAsMilli;
+    }
+
+    @Override
+    public long getRunDurationAsNano()
+    {
+        assertHasRecord();
+        return runDurationAsNano;
+    }
+
+    @Override
+    public int getResultCode()
+    {
+        assertHasRecord();
+        return resultCode;
+    }
+
+    @Override
+    public long getOriginalStartTime()
+    {
+        assertHasRecord();
+        return originalStartTime;
+    }
+
+    private void assertHasRecord()
+    {
+        if ( !hasRecord )
+        {
+            throw new RuntimeException( "Nothing to read. Reader has not been advanced or has reached EOF." );
+        }
+    }
+
+    @Override
+    public void close() throws Exception
+    {
+        in.close();
+    }
+}
@@ -0,0 +1,130 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.Operation;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Appends one fixed width record per operation to a memory-mapped file, with the fields of MetricsEvent and
+ * operation type IDs rather than names, so no row has to be formatted. File is mapped one region at a time, and
+ * truncated to the records written when closed.
+ * <p/>
+ * Layout, big endian:
+ * header: magic (int), version (int), unit ordinal (int), operation type count (int), then per operation type:
+ * operation type (int), name length (int), name (UTF-8 bytes)
+ * record: operation type (int), scheduled start time (long, ms), actual start time (long, ms), run duration (long,
+ * ns), result code (int), original start time (long)
+ * <p/>
+ * Read with BinaryResultsLogReader, or convert to the layout of SimpleResultsLogWriter with BinaryResultsLogConverter.
+ * <p/>
+ * If the driver dies before close, the file is not truncated, and ends with the zero-filled remainder of the last
+ * region, which BinaryResultsLogReader fails on after the last written record, with "Unknown operation type: 0".
+ */
+public class BinaryResultsLogWriter implements ResultsLogWriter
+{
+    public static final String FILENAME_SUFFIX = ".bin";
+    static final int MAGIC = 0x4C524C47;
+    static final int VERSION = 1;
+    static final int RECORD_SIZE = 4 + 8 + 8 + 8 + 4 + 8;
+    private static final long DEFAULT_REGION_SIZE = 64 * 1024 * 1024;
+
+    private final RandomAccessFile file;
+    private final FileChannel channel;
+    private final long regionSize;
+    private final Map<String,Integer> operationNameToTypeMapping;
+    private MappedByteBuffer region;
+    private long regionPosition;
+
+    public BinaryResultsLogWriter(
+            File resultsLog,
+            TimeUnit unit,
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping ) throws IOException
+    {
+        this( resultsLog, unit, operationTypeToClassMapping, DEFAULT_REGION_SIZE );
+    }
+
+    BinaryResultsLogWriter(
+            File resultsLog,
+            TimeUnit unit,
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
+            long regionSize ) throws IOException
+    {
+        this.file = new RandomAccessFile( resultsLog, "rw" );
+        this.channel = file.getChannel();
+        this.operationNameToTypeMapping = new HashMap<>();
+        for ( Map.Entry<Integer,Class<? extends Operation>> entry : operationTypeToClassMapping.entrySet() )
+        {
+            operationNameToTypeMapping.put( entry.getValue().getSimpleName(), entry.getKey() );
+        }
+        int headerSize = 4 * 4;
+        for ( String operationName : operationNameToTypeMapping.keySet() )
+        {
+            headerSize += 4 + 4 + operationName.getBytes( StandardCharsets.UTF_8 ).length;
+        }
+        // region must fit header, and at least one record
+        this.regionSize = Math.max( regionSize, headerSize + RECORD_SIZE );
+        file.setLength( 0 );
+        this.regionPosition = 0;
+        this.region = channel.map( FileChannel.MapMode.READ_WRITE, regionPosition, this.regionSize );
+        region.putInt( MAGIC );
+        region.putInt( VERSION );
+        region.putInt( unit.ordinal() );
+        region.putInt( operationNameToTypeMapping.size() );
+        for ( Map.Entry<String,Integer> entry : operationNameToTypeMapping.entrySet() )
+        {
+            byte[] operationNameBytes = entry.getKey().getBytes( StandardCharsets.UTF_8 );
+            region.putInt( entry.getValue() );
+            region.putInt( operationNameBytes.length );
+            region.put( operationNameBytes );
+        }
+    }
+
+    @Override
+    public void write(
+            String operationName,
+            long scheduledStartTimeAsMilli,
+            long actualStartTimeAsMilli,
+            long runDurationAsNano,
+            int resultCode,
+            long originalStartTime ) throws IOException
+    {
+        Integer operationType = operationNameToTypeMapping.get( operationName );
+        if ( null == operationType )
+        {
+            throw new IOException( format( "Unknown operation: %s", operationName ) );
+        }
+        if ( region.remaining() < RECORD_SIZE )
+        {
+            // flushed, as regions stay mapped until collected, and their dirty pages would otherwise accumulate
+            region.force();
+            regionPosition += region.position();
+            region = channel.map( FileChannel.MapMode.READ_WRITE, regionPosition, regionSize );
+        }
+        region.putInt( operationType );
+        region.putLong( scheduledStartTimeAsMilli );
+        region.putLong( actualStartTimeAsMilli );
+        region.putLong( runDurationAsNano );
+        region.putInt( resultCode );
+        region.putLong( originalStartTime );
+    }
+
+    @Override
+    public void close() throws Exception
+    {
+        long length = regionPosition + region.position();
+        region.force();
+        // unused remainder of last region would otherwise be read as records
+        channel.truncate( length );
+        file.close();
+    }
+}
@@ -28,11 +28,29 @@ public class ContinuousMetricManager
         this.unit = unit;
     }
 
+    /**
+     * Histogram resizes to fit recorded values, for metrics without a known upper bound
+     */
+    public ContinuousMetricManager( String name, TimeUnit unit, int numberOfSignificantDigits )
+    {
+        histogram = new Histogram( numberOfSignificantDigits );
+        this.name = name;
+        this.unit = unit;
+    }
+
     public void addMeasurement( long value )
     {
         histogram.recordValue( value );
     }
 
+    /**
+     * Adds all measurements of other metric to this one, other metric must not be modified concurrently
+     */
+    public void add( ContinuousMetricManager other )
+    {
+        histogram.add( other.histogram );
+    }
+
     public ContinuousMetricSnapshot snapshot()
     {
         return new ContinuousMetricSnapshot(
@@ -52,7 +70,7 @@ public class ContinuousMetricManager
                 stdDev() );
     }
 
-    private long count()
+    long count()
     {
         return histogram.getTotalCount();
     }
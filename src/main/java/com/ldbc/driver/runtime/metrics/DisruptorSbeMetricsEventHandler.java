@@ -31,6 +31,8 @@ class DisruptorSbeMetricsEventHandler implements EventHandler<DirectBuffer>
     DisruptorSbeMetricsEventHandler(
             ConcurrentErrorReporter errorReporter,
             ResultsLogWriter resultsLogWriter,
+            IntervalLatencyLogWriter intervalLatencyLogWriter,
+            ThroughputTimeline throughputTimeline,
             TimeUnit unit,
             TimeSource timeSource,
             long maxRuntimeDurationAsNano,
@@ -44,7 +46,10 @@ class DisruptorSbeMetricsEventHandler implements EventHandler<DirectBuffer>
                 unit,
                 maxRuntimeDurationAsNano,
                 operationTypeToClassMapping,
-                loggingServiceFactory );
+                loggingServiceFactory,
+                intervalLatencyLogWriter,
+                throughputTimeline,
+                OperationTypeMetricsManager.DEFAULT_NUMBER_OF_SIGNIFICANT_DIGITS );
         operationNames = MetricsManager.toOperationNameArray( operationTypeToClassMapping );
         this.metricsEvent = new MetricsEvent();
     }
@@ -93,7 +98,12 @@ class DisruptorSbeMetricsEventHandler implements EventHandler<DirectBuffer>
                     resultCode,
                     originalStartTime );
 
-            metricsManager.measure( actualStartTimeAsMilli, runDurationAsNano, operationType );
+            metricsManager.measure(
+                    scheduledStartTimeAsMilli,
+                    actualStartTimeAsMilli,
+                    runDurationAsNano,
+                    operationType,
+                    resultCode );
             processedEventCount++;
             break;
         }
@@ -47,6 +47,7 @@ public class DisruptorSbeMetricsService implements MetricsService
     private final DisruptorSbeMetricsEventHandler eventHandler;
     private final ConcurrentLinkedQueue<DisruptorSbeMetricsServiceWriter> metricsServiceWriters;
     private final ExecutorService executor;
+    private final DriverInternalMetrics driverInternalMetrics;
 
     public DisruptorSbeMetricsService(
             TimeSource timeSource,
@@ -57,10 +58,95 @@ public class DisruptorSbeMetricsService implements MetricsService
             Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
             LoggingServiceFactory loggingServiceFactory ) throws MetricsCollectionException
     {
+        this(
+                timeSource,
+                errorReporter,
+                timeUnit,
+                maxRuntimeDurationAsNano,
+                resultsLogWriter,
+                new NullIntervalLatencyLogWriter(),
+                operationTypeToClassMapping,
+                loggingServiceFactory
+        );
+    }
+
+    public DisruptorSbeMetricsService(
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            TimeUnit timeUnit,
+            long maxRuntimeDurationAsNano,
+            ResultsLogWriter resultsLogWriter,
+            IntervalLatencyLogWriter intervalLatencyLogWriter,
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
+            LoggingServiceFactory loggingServiceFactory ) throws MetricsCollectionException
+    {
+        this(
+                timeSource,
+                errorReporter,
+                timeUnit,
+                maxRuntimeDurationAsNano,
+                resultsLogWriter,
+                intervalLatencyLogWriter,
+                null,
+                operationTypeToClassMapping,
+                loggingServiceFactory
+        );
+    }
+
+    /**
+     * @param throughputTimeline recorded by metrics collection thread, null if no timeline is recorded, only safe to
+     *                           read once service has been shutdown
+     */
+    public DisruptorSbeMetricsService(
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            TimeUnit timeUnit,
+            long maxRuntimeDurationAsNano,
+            ResultsLogWriter resultsLogWriter,
+            IntervalLatencyLogWriter intervalLatencyLogWriter,
+            ThroughputTimeline throughputTimeline,
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
+            LoggingServiceFactory loggingServiceFactory ) throws MetricsCollectionException
+    {
+        this(
+                timeSource,
+                errorReporter,
+                timeUnit,
+                maxRuntimeDurationAsNano,
+                resultsLogWriter,
+                intervalLatencyLogWriter,
+                throughputTimeline,
+                operationTypeToClassMapping,
+                loggingServiceFactory,
+                new DriverInternalMetrics()
+        );
+    }
+
+    /**
+     * @param driverInternalMetrics where occupancy of ring buffer, and waits for it to have room, are recorded
+     */
+    public DisruptorSbeMetricsService(
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            TimeUnit timeUnit,
+            long maxRuntimeDurationAsNano,
+            ResultsLogWriter resultsLogWriter,
+            IntervalLatencyLogWriter intervalLatencyLogWriter,
+            ThroughputTimeline throughputTimeline,
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
+            LoggingServiceFactory loggingServiceFactory,
+            DriverInternalMetrics driverInternalMetrics ) throws MetricsCollectionException
+    {
+        this.driverInternalMetrics = driverInternalMetrics;
         // Specify the size of the ring buffer, must be power of 2
         int bufferSize = 1024;
 
-        this.executor = Executors.newSingleThreadExecutor();
+        // named, so that its CPU time can be attributed to metrics collection
+        this.executor = Executors.newSingleThreadExecutor(
+                runnable -> new Thread(
+                        runnable,
+                        DisruptorSbeMetricsService.class.getSimpleName() + "-" + System.currentTimeMillis() )
+        );
         // Construct the Disruptor
         disruptor = new Disruptor(
                 new MetricsCollectionEventFactory(),
@@ -81,6 +167,8 @@ public class DisruptorSbeMetricsService implements MetricsService
         eventHandler = new DisruptorSbeMetricsEventHandler(
                 errorReporter,
                 resultsLogWriter,
+                intervalLatencyLogWriter,
+                throughputTimeline,
                 timeUnit,
                 timeSource,
                 maxRuntimeDurationAsNano,
@@ -96,6 +184,10 @@ public class DisruptorSbeMetricsService implements MetricsService
         // Start the Disruptor, starts all threads running  & get the ring buffer from the Disruptor to be used for
         // publishing
         ringBuffer = disruptor.start();
+        driverInternalMetrics.registerMetricsRingBuffer(
+                bufferSize,
+                () -> bufferSize - ringBuffer.remainingCapacity()
+        );
 
         this.timeSource = timeSource;
         metricsServiceWriters = new ConcurrentLinkedQueue<>();
@@ -172,6 +264,7 @@ public class DisruptorSbeMetricsService implements MetricsService
         {
             metricsServiceWriter.setAlreadyShutdownPolicy( alreadyShutdownPolicy );
         }
+        driverInternalMetrics.unregisterMetricsRingBuffer();
         shutdown.set( true );
     }
 
@@ -183,7 +276,11 @@ public class DisruptorSbeMetricsService implements MetricsService
             throw new MetricsCollectionException( "Metrics service has already been shutdown" );
         }
         DisruptorSbeMetricsServiceWriter metricsServiceWriter =
-                new DisruptorSbeMetricsServiceWriter( initiatedEvents, ringBuffer, eventHandler );
+                new DisruptorSbeMetricsServiceWriter(
+                        initiatedEvents,
+                        ringBuffer,
+                        eventHandler,
+                        driverInternalMetrics );
         metricsServiceWriters.add( metricsServiceWriter );
         return metricsServiceWriter;
     }
@@ -196,16 +293,19 @@ public class DisruptorSbeMetricsService implements MetricsService
         private final SubmitOperationResultTranslator submitOperationResultTranslator;
         private final GetWorkloadStatusTranslator getWorkloadStatusTranslator;
         private final GetWorkloadResultsTranslator getWorkloadResultsTranslator;
+        private final DriverInternalMetrics driverInternalMetrics;
 
         private AlreadyShutdownPolicy alreadyShutdownPolicy = null;
 
         public DisruptorSbeMetricsServiceWriter( AtomicLong initiatedEvents,
                 RingBuffer<DirectBuffer> ringBuffer,
-                DisruptorSbeMetricsEventHandler eventHandler )
+                DisruptorSbeMetricsEventHandler eventHandler,
+                DriverInternalMetrics driverInternalMetrics )
         {
             this.initiatedEvents = initiatedEvents;
             this.ringBuffer = ringBuffer;
             this.eventHandler = eventHandler;
+            this.driverInternalMetrics = driverInternalMetrics;
             MetricsEvent metricsEvent = new MetricsEvent();
             this.submitOperationResultTranslator = new SubmitOperationResultTranslator( metricsEvent );
             this.getWorkloadStatusTranslator = new GetWorkloadStatusTranslator( metricsEvent );
@@ -230,6 +330,11 @@ public class DisruptorSbeMetricsService implements MetricsService
                 alreadyShutdownPolicy.apply();
             }
             initiatedEvents.incrementAndGet();
+            if ( !ringBuffer.hasAvailableCapacity( 1 ) )
+            {
+                // publishing will wait for metrics collection to free an entry
+                driverInternalMetrics.metricsRingBufferFull();
+            }
             ringBuffer.publishEvent( submitOperationResultTranslator, operationType, scheduledStartTimeAsMilli,
                     actualStartTimeAsMilli, runDurationAsNano, resultCode, originalStartTime );
         }
@@ -0,0 +1,220 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.text.DecimalFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * CPU, allocation, GC and memory use of the driver JVM while a workload executed, to show whether the driver had
+ * spare capacity, i.e., was not the bottleneck of the run
+ */
+public class DriverDiagnosticsSnapshot
+{
+    private static final DecimalFormat INTEGER_FORMATTER = new DecimalFormat( "###,###,###,###" );
+    private static final DecimalFormat FLOAT_FORMATTER = new DecimalFormat( "###,###,###,##0.00" );
+    private static final double BYTES_PER_MB = 1024 * 1024;
+
+    @JsonProperty( value = "sample_count" )
+    private long sampleCount;
+    @JsonProperty( value = "sampling_duration_ms" )
+    private long samplingDurationAsMilli;
+    @JsonProperty( value = "available_processors" )
+    private int availableProcessors;
+    @JsonProperty( value = "process_cpu_time_ns" )
+    private long processCpuTimeAsNano;
+    @JsonProperty( value = "max_process_cpu_utilization" )
+    private double maxProcessCpuUtilization;
+    @JsonProperty( value = "thread_group_cpu_time_ns" )
+    private Map<String,Long> threadGroupCpuTimesAsNano;
+    @JsonProperty( value = "allocated_bytes" )
+    private long allocatedBytes;
+    @JsonProperty( value = "max_allocation_rate" )
+    private double maxAllocationRate;
+    @JsonProperty( value = "gc_count" )
+    private long gcCount;
+    @JsonProperty( value = "gc_time_ms" )
+    private long gcTimeAsMilli;
+    @JsonProperty( value = "max_interval_gc_time_ms" )
+    private long maxIntervalGcTimeAsMilli;
+    @JsonProperty( value = "max_heap_used_bytes" )
+    private long maxHeapUsedBytes;
+    @JsonProperty( value = "memory_pool_peak_used_bytes" )
+    private Map<String,Long> memoryPoolPeakUsedBytes;
+
+    private DriverDiagnosticsSnapshot()
+    {
+    }
+
+    /**
+     * @param processCpuTimeAsNano             -1 if not supported by JVM
+     * @param maxProcessCpuUtilization         highest CPU use of one sampling interval, as fraction of all processors
+     * @param threadGroupCpuTimesAsNano        in order of thread groups, -1 values if not supported by JVM, workers
+     *                                         are carrier threads when operations execute on virtual threads
+     * @param allocatedBytes                   -1 if not supported by JVM
+     * @param maxAllocationRate                bytes per second, highest of one sampling interval
+     * @param maxIntervalGcTimeAsMilli         highest GC time of one sampling interval
+     */
+    public DriverDiagnosticsSnapshot(
+            long sampleCount,
+            long samplingDurationAsMilli,
+            int availableProcessors,
+            long processCpuTimeAsNano,
+            double maxProcessCpuUtilization,
+            Map<String,Long> threadGroupCpuTimesAsNano,
+            long allocatedBytes,
+            double maxAllocationRate,
+            long gcCount,
+            long gcTimeAsMilli,
+            long maxIntervalGcTimeAsMilli,
+            long maxHeapUsedBytes,
+            Map<String,Long> memoryPoolPeakUsedBytes )
+    {
+        this.sampleCount = sampleCount;
+        this.samplingDurationAsMilli = samplingDurationAsMilli;
+        this.availableProcessors = availableProcessors;
+        this.processCpuTimeAsNano = processCpuTimeAsNano;
+        this.maxProcessCpuUtilization = maxProcessCpuUtilization;
+        this.threadGroupCpuTimesAsNano = new LinkedHashMap<>( threadGroupCpuTimesAsNano );
+        this.allocatedBytes = allocatedBytes;
+        this.maxAllocationRate = maxAllocationRate;
+        this.gcCount = gcCount;
+        this.gcTimeAsMilli = gcTimeAsMilli;
+        this.maxIntervalGcTimeAsMilli = maxIntervalGcTimeAsMilli;
+        this.maxHeapUsedBytes = maxHeapUsedBytes;
+        this.memoryPoolPeakUsedBytes = new LinkedHashMap<>( memoryPoolPeakUsedBytes );
+    }
+
+    public long sampleCount()
+    {
+        return sampleCount;
+    }
+
+    public long samplingDurationAsMilli()
+    {
+        return samplingDurationAsMilli;
+    }
+
+    public int availableProcessors()
+    {
+        return availableProcessors;
+    }
+
+    public long processCpuTimeAsNano()
+    {
+        return processCpuTimeAsNano;
+    }
+
+    public double maxProcessCpuUtilization()
+    {
+        return maxProcessCpuUtilization;
+    }
+
+    public Map<String,Long> threadGroupCpuTimesAsNano()
+    {
+        return threadGroupCpuTimesAsNano;
+    }
+
+    public long allocatedBytes()
+    {
+        return allocatedBytes;
+    }
+
+    /**
+     * Bytes per second, over whole sampling duration
+     */
+    public double meanAllocationRate()
+    {
+        return (samplingDurationAsMilli <= 0 || allocatedBytes < 0)
+               ? 0
+               : allocatedBytes / (samplingDurationAsMilli / 1000d);
+    }
+
+    public double maxAllocationRate()
+    {
+        return maxAllocationRate;
+    }
+
+    public long gcCount()
+    {
+        return gcCount;
+    }
+
+    /**
+     * Accumulated collection time of all collectors, includes concurrent phases of concurrent collectors
+     */
+    public long gcTimeAsMilli()
+    {
+        return gcTimeAsMilli;
+    }
+
+    public long maxIntervalGcTimeAsMilli()
+    {
+        return maxIntervalGcTimeAsMilli;
+    }
+
+    public long maxHeapUsedBytes()
+    {
+        return maxHeapUsedBytes;
+    }
+
+    public Map<String,Long> memoryPoolPeakUsedBytes()
+    {
+        return memoryPoolPeakUsedBytes;
+    }
+
+    void appendTo( StringBuilder sb, String offset, int padRightDistance )
+    {
+        sb.append( offset ).append( format( "%1$-" + padRightDistance + "s", "Sampling:" ) )
+                .append( INTEGER_FORMATTER.format( sampleCount ) ).append( " samples over " )
+                .append( FLOAT_FORMATTER.format( samplingDurationAsMilli / 1000d ) ).append( " s, " )
+                .append( availableProcessors ).append( " processors\n" );
+        sb.append( offset ).append( format( "%1$-" + padRightDistance + "s", "Process CPU:" ) )
+                .append( cpuTimeString( processCpuTimeAsNano ) ).append( ", peak " )
+                .append( FLOAT_FORMATTER.format( maxProcessCpuUtilization * 100 ) ).append( "% of processors\n" );
+        for ( Map.Entry<String,Long> threadGroupCpuTime : threadGroupCpuTimesAsNano.entrySet() )
+        {
+            sb.append( offset ).append( format( "%1$-" + padRightDistance + "s",
+                    "CPU " + threadGroupCpuTime.getKey() + ":" ) )
+                    .append( cpuTimeString( threadGroupCpuTime.getValue() ) ).append( "\n" );
+        }
+        sb.append( offset ).append( format( "%1$-" + padRightDistance + "s", "Allocation:" ) );
+        if ( allocatedBytes < 0 )
+        {
+            sb.append( "not supported by JVM\n" );
+        }
+        else
+        {
+            sb.append( FLOAT_FORMATTER.format( allocatedBytes / BYTES_PER_MB ) ).append( " MB, mean " )
+                    .append( FLOAT_FORMATTER.format( meanAllocationRate() / BYTES_PER_MB ) ).append( " MB/s, peak " )
+                    .append( FLOAT_FORMATTER.format( maxAllocationRate / BYTES_PER_MB ) ).append( " MB/s\n" );
+        }
+        sb.append( offset ).append( format( "%1$-" + padRightDistance + "s", "GC:" ) )
+                .append( INTEGER_FORMATTER.format( gcCount ) ).append( " collections, " )
+                .append( INTEGER_FORMATTER.format( gcTimeAsMilli ) ).append( " ms (" )
+                .append( FLOAT_FORMATTER.format(
+                        (samplingDurationAsMilli <= 0) ? 0 : 100d * gcTimeAsMilli / samplingDurationAsMilli ) )
+                .append( "% of run), peak " )
+                .append( INTEGER_FORMATTER.format( maxIntervalGcTimeAsMilli ) ).append( " ms per interval\n" );
+        sb.append( offset ).append( format( "%1$-" + padRightDistance + "s", "Heap Used Peak:" ) )
+                .append( FLOAT_FORMATTER.format( maxHeapUsedBytes / BYTES_PER_MB ) ).append( " MB\n" );
+        for ( Map.Entry<String,Long> memoryPoolPeakUsed : memoryPoolPeakUsedBytes.entrySet() )
+        {
+            sb.append( offset ).append( format( "%1$-" + padRightDistance + "s",
+                    "Peak " + memoryPoolPeakUsed.getKey() + ":" ) )
+                    .append( FLOAT_FORMATTER.format( memoryPoolPeakUsed.getValue() / BYTES_PER_MB ) )
+                    .append( " MB\n" );
+        }
+    }
+
+    private static String cpuTimeString( long cpuTimeAsNano )
+    {
+        return (cpuTimeAsNano < 0)
+               ? "not supported by JVM"
+               : INTEGER_FORMATTER.format( TimeUnit.NANOSECONDS.toMillis( cpuTimeAsNano ) ) + " ms";
+    }
+}
@@ -0,0 +1,104 @@
+package com.ldbc.driver.runtime.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Counters and timers of driver internals, to tell whether a run that falls behind schedule is held back by the
+ * driver or by the system under test.
+ * <p/>
+ * One instance per run, handed to the components that record into it, so concurrent runs do not mix their metrics.
+ * Recording is striped and never blocks. A new instance is created for each workload execution, e.g., warmup and
+ * measured run, rather than resetting one.
+ */
+public class DriverInternalMetrics
+{
+    private static final LongSupplier NO_OCCUPANCY = () -> 0;
+
+    private final StripedTimer handlerPoolClaim = new StripedTimer();
+    private final LongAdder handlerPoolGrowthCount = new LongAdder();
+    private final LongAccumulator handlerPoolSize = new LongAccumulator( Math::max, 0 );
+    private final StripedTimer dispatchBlocked = new StripedTimer();
+    private final StripedTimer spinnerScheduleWait = new StripedTimer();
+    private final StripedTimer spinnerDependencyWait = new StripedTimer();
+    private final StripedTimer childOperationGeneration = new StripedTimer();
+    private final LongAdder metricsRingBufferFullCount = new LongAdder();
+    private final LongAccumulator metricsRingBufferMaxOccupancy = new LongAccumulator( Math::max, 0 );
+    private volatile long metricsRingBufferCapacity = 0;
+    private volatile LongSupplier metricsRingBufferOccupancy = NO_OCCUPANCY;
+
+    public StripedTimer handlerPoolClaim()
+    {
+        return handlerPoolClaim;
+    }
+
+    public void handlerPoolGrown( int newPoolSize )
+    {
+        handlerPoolGrowthCount.increment();
+        handlerPoolSize.accumulate( newPoolSize );
+    }
+
+    public StripedTimer dispatchBlocked()
+    {
+        return dispatchBlocked;
+    }
+
+    public StripedTimer spinnerScheduleWait()
+    {
+        return spinnerScheduleWait;
+    }
+
+    public StripedTimer spinnerDependencyWait()
+    {
+        return spinnerDependencyWait;
+    }
+
+    public StripedTimer childOperationGeneration()
+    {
+        return childOperationGeneration;
+    }
+
+    public void metricsRingBufferFull()
+    {
+        metricsRingBufferFullCount.increment();
+    }
+
+    /**
+     * @param capacity  size of ring buffer
+     * @param occupancy entries published but not yet consumed, only read when taking snapshots
+     */
+    public void registerMetricsRingBuffer( long capacity, LongSupplier occupancy )
+    {
+        this.metricsRingBufferOccupancy = occupancy;
+        this.metricsRingBufferCapacity = capacity;
+    }
+
+    public void unregisterMetricsRingBuffer()
+    {
+        this.metricsRingBufferCapacity = 0;
+        this.metricsRingBufferOccupancy = NO_OCCUPANCY;
+    }
+
+    /**
+     * Also samples occupancy of metrics ring buffer, so call periodically, e.g., with each status update
+     */
+    public DriverInternalMetricsSnapshot snapshot()
+    {
+        long occupancy = metricsRingBufferOccupancy.getAsLong();
+        metricsRingBufferMaxOccupancy.accumulate( occupancy );
+        return new DriverInternalMetricsSnapshot(
+                new DriverInternalMetricsSnapshot.TimerSnapshot( handlerPoolClaim ),
+                handlerPoolGrowthCount.sum(),
+                handlerPoolSize.get(),
+                new DriverInternalMetricsSnapshot.TimerSnapshot( dispatchBlocked ),
+                new DriverInternalMetricsSnapshot.TimerSnapshot( spinnerScheduleWait ),
+                new DriverInternalMetricsSnapshot.TimerSnapshot( spinnerDependencyWait ),
+                new DriverInternalMetricsSnapshot.TimerSnapshot( childOperationGeneration ),
+                metricsRingBufferCapacity,
+                occupancy,
+                metricsRingBufferMaxOccupancy.get(),
+                metricsRingBufferFullCount.sum()
+        );
+    }
+}
@@ -0,0 +1,241 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.text.DecimalFormat;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+public class DriverInternalMetricsSnapshot
+{
+    private static final DecimalFormat INTEGER_FORMATTER = new DecimalFormat( "###,###,###,###" );
+    private static final DecimalFormat FLOAT_FORMATTER = new DecimalFormat( "###,###,###,##0.00" );
+
+    @JsonProperty( value = "handler_pool_claim" )
+    private TimerSnapshot handlerPoolClaim;
+    @JsonProperty( value = "handler_pool_growth_count" )
+    private long handlerPoolGrowthCount;
+    @JsonProperty( value = "handler_pool_size" )
+    private long handlerPoolSize;
+    @JsonProperty( value = "dispatch_blocked" )
+    private TimerSnapshot dispatchBlocked;
+    @JsonProperty( value = "spinner_schedule_wait" )
+    private TimerSnapshot spinnerScheduleWait;
+    @JsonProperty( value = "spinner_dependency_wait" )
+    private TimerSnapshot spinnerDependencyWait;
+    @JsonProperty( value = "child_operation_generation" )
+    private TimerSnapshot childOperationGeneration;
+    @JsonProperty( value = "metrics_ring_buffer_capacity" )
+    private long metricsRingBufferCapacity;
+    @JsonProperty( value = "metrics_ring_buffer_occupancy" )
+    private long metricsRingBufferOccupancy;
+    @JsonProperty( value = "metrics_ring_buffer_max_occupancy" )
+    private long metricsRingBufferMaxOccupancy;
+    @JsonProperty( value = "metrics_ring_buffer_full_count" )
+    private long metricsRingBufferFullCount;
+
+    private DriverInternalMetricsSnapshot()
+    {
+    }
+
+    DriverInternalMetricsSnapshot(
+            TimerSnapshot handlerPoolClaim,
+            long handlerPoolGrowthCount,
+            long handlerPoolSize,
+            TimerSnapshot dispatchBlocked,
+            TimerSnapshot spinnerScheduleWait,
+            TimerSnapshot spinnerDependencyWait,
+            TimerSnapshot childOperationGeneration,
+            long metricsRingBufferCapacity,
+            long metricsRingBufferOccupancy,
+            long metricsRingBufferMaxOccupancy,
+            long metricsRingBufferFullCount )
+    {
+        this.handlerPoolClaim = handlerPoolClaim;
+        this.handlerPoolGrowthCount = handlerPoolGrowthCount;
+        this.handlerPoolSize = handlerPoolSize;
+        this.dispatchBlocked = dispatchBlocked;
+        this.spinnerScheduleWait = spinnerScheduleWait;
+        this.spinnerDependencyWait = spinnerDependencyWait;
+        this.childOperationGeneration = childOperationGeneration;
+        this.metricsRingBufferCapacity = metricsRingBufferCapacity;
+        this.metricsRingBufferOccupancy = metricsRingBufferOccupancy;
+        this.metricsRingBufferMaxOccupancy = metricsRingBufferMaxOccupancy;
+        this.metricsRingBufferFullCount = metricsRingBufferFullCount;
+    }
+
+    /**
+     * Time to claim an operation handler from the pool of Db
+     */
+    public TimerSnapshot handlerPoolClaim()
+    {
+        return handlerPoolClaim;
+    }
+
+    public long handlerPoolGrowthCount()
+    {
+        return handlerPoolGrowthCount;
+    }
+
+    /**
+     * Largest size operation handler pool grew to, 0 if it never grew
+     */
+    public long handlerPoolSize()
+    {
+        return handlerPoolSize;
+    }
+
+    /**
+     * Time stream dispatchers spent handing operations to executors, mostly blocked on bounded queues
+     */
+    public TimerSnapshot dispatchBlocked()
+    {
+        return dispatchBlocked;
+    }
+
+    /**
+     * Time operations spent in Spinner waiting for their scheduled start times, after dependencies were met
+     */
+    public TimerSnapshot spinnerScheduleWait()
+    {
+        return spinnerScheduleWait;
+    }
+
+    /**
+     * Time operations spent in Spinner waiting for their checks, i.e., dependencies, to pass
+     */
+    public TimerSnapshot spinnerDependencyWait()
+    {
+        return spinnerDependencyWait;
+    }
+
+    public TimerSnapshot childOperationGeneration()
+    {
+        return childOperationGeneration;
+    }
+
+    /**
+     * 0 if metrics service has no ring buffer
+     */
+    public long metricsRingBufferCapacity()
+    {
+        return metricsRingBufferCapacity;
+    }
+
+    public long metricsRingBufferOccupancy()
+    {
+        return metricsRingBufferOccupancy;
+    }
+
+    /**
+     * Highest occupancy of metrics ring buffer, among the snapshots taken so far
+     */
+    public long metricsRingBufferMaxOccupancy()
+    {
+        return metricsRingBufferMaxOccupancy;
+    }
+
+    /**
+     * Operation results that found metrics ring buffer full, so their worker waited for metrics collection
+     */
+    public long metricsRingBufferFullCount()
+    {
+        return metricsRingBufferFullCount;
+    }
+
+    void appendTo( StringBuilder sb, String offset, int padRightDistance )
+    {
+        sb.append( offset ).append( format( "%1$-" + padRightDistance + "s", "Handler Pool Claim:" ) )
+                .append( handlerPoolClaim ).append( "\n" );
+        sb.append( offset ).append( format( "%1$-" + padRightDistance + "s", "Handler Pool Growth:" ) )
+                .append( INTEGER_FORMATTER.format( handlerPoolGrowthCount ) ).append( " (largest size " )
+                .append( INTEGER_FORMATTER.format( handlerPoolSize ) ).append( ")\n" );
+        sb.append( offset ).append( format( "%1$-" + padRightDistance + "s", "Dispatch Blocked:" ) )
+                .append( dispatchBlocked ).append( "\n" );
+        sb.append( offset ).append( format( "%1$-" + padRightDistance + "s", "Spinner Schedule Wait:" ) )
+                .append( spinnerScheduleWait ).append( "\n" );
+        sb.append( offset ).append( format( "%1$-" + padRightDistance + "s", "Spinner Dependency Wait:" ) )
+                .append( spinnerDependencyWait ).append( "\n" );
+        sb.append( offset ).append( format( "%1$-" + padRightDistance + "s", "Child Operation Generation:" ) )
+                .append( childOperationGeneration ).append( "\n" );
+        sb.append( offset ).append( format( "%1$-" + padRightDistance + "s", "Metrics Ring Buffer:" ) )
+                .append( "max occupancy " ).append( INTEGER_FORMATTER.format( metricsRingBufferMaxOccupancy ) )
+                .append( "/" ).append( INTEGER_FORMATTER.format( metricsRingBufferCapacity ) )
+                .append( ", full " ).append( INTEGER_FORMATTER.format( metricsRingBufferFullCount ) )
+                .append( " times\n" );
+    }
+
+    @Override
+    public String toString()
+    {
+        return format( "Pool claim [%s] Dispatch blocked [%s] Schedule wait [%s] Dependency wait [%s] " +
+                       "Child generation [%s] Metrics ring buffer [%s/%s, full %s]",
+                handlerPoolClaim.toShortString(),
+                dispatchBlocked.toShortString(),
+                spinnerScheduleWait.toShortString(),
+                spinnerDependencyWait.toShortString(),
+                childOperationGeneration.toShortString(),
+                metricsRingBufferOccupancy,
+                metricsRingBufferCapacity,
+                metricsRingBufferFullCount );
+    }
+
+    public static class TimerSnapshot
+    {
+        @JsonProperty( value = "count" )
+        private long count;
+        @JsonProperty( value = "total_ns" )
+        private long totalAsNano;
+        @JsonProperty( value = "max_ns" )
+        private long maxAsNano;
+
+        private TimerSnapshot()
+        {
+        }
+
+        TimerSnapshot( StripedTimer timer )
+        {
+            this.totalAsNano = timer.totalAsNano();
+            this.maxAsNano = timer.maxAsNano();
+            this.count = timer.count();
+        }
+
+        public long count()
+        {
+            return count;
+        }
+
+        public long totalAsNano()
+        {
+            return totalAsNano;
+        }
+
+        public long maxAsNano()
+        {
+            return maxAsNano;
+        }
+
+        public double meanAsNano()
+        {
+            return (0 == count) ? 0 : totalAsNano / (double) count;
+        }
+
+        private String toShortString()
+        {
+            return format( "%s ms total, %.1f us mean",
+                    TimeUnit.NANOSECONDS.toMillis( totalAsNano ),
+                    meanAsNano() / 1000 );
+        }
+
+        @Override
+        public String toString()
+        {
+            return format( "count %s, total %s ms, mean %s us, max %s us",
+                    INTEGER_FORMATTER.format( count ),
+                    INTEGER_FORMATTER.format( TimeUnit.NANOSECONDS.toMillis( totalAsNano ) ),
+                    FLOAT_FORMATTER.format( meanAsNano() / 1000 ),
+                    INTEGER_FORMATTER.format( TimeUnit.NANOSECONDS.toMicros( maxAsNano ) ) );
+        }
+    }
+}
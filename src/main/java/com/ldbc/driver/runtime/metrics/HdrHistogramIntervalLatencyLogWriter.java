@@ -0,0 +1,188 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.Operation;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Writes one HdrHistogram interval log per operation type into a directory, each line holding the compressed
+ * histogram of runtimes measured during one interval. Lines are appended as intervals elapse, and interval histograms
+ * are reset once written, so memory stays the same however long the run.
+ * <p/>
+ * Interval histograms keep 3 significant digits, rather than the 4 of the cumulative ones, to keep their footprint
+ * small, as there is one per operation type.
+ * <p/>
+ * Logs can be read with HdrHistogram's HistogramLogReader/HistogramLogProcessor, or IntervalLatencyLogSummarizer.
+ */
+public class HdrHistogramIntervalLatencyLogWriter implements IntervalLatencyLogWriter
+{
+    public static final String LOG_FILENAME_SUFFIX = ".hlog";
+    private static final int NUMBER_OF_SIGNIFICANT_DIGITS = 3;
+
+    private final TimeUnit unit;
+    private final long highestExpectedRuntimeDurationAsNano;
+    private final long intervalAsMilli;
+    private final Histogram[] intervalHistograms;
+    private final PrintStream[] logStreams;
+    private final HistogramLogWriter[] logWriters;
+    private long logStartTimeAsMilli = -1;
+    private long intervalStartTimeAsMilli = -1;
+    private long latestTimeAsMilli = -1;
+
+    public HdrHistogramIntervalLatencyLogWriter(
+            File directory,
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
+            TimeUnit unit,
+            long highestExpectedRuntimeDurationAsNano,
+            long intervalAsMilli ) throws IOException, MetricsCollectionException
+    {
+        if ( intervalAsMilli < 1 )
+        {
+            throw new MetricsCollectionException( format( "Interval must be positive: %s", intervalAsMilli ) );
+        }
+        this.unit = unit;
+        this.highestExpectedRuntimeDurationAsNano = highestExpectedRuntimeDurationAsNano;
+        this.intervalAsMilli = intervalAsMilli;
+        String[] operationNames = MetricsManager.toOperationNameArray( operationTypeToClassMapping );
+        this.intervalHistograms = new Histogram[operationNames.length];
+        this.logStreams = new PrintStream[operationNames.length];
+        this.logWriters = new HistogramLogWriter[operationNames.length];
+        for ( int operationType = 0; operationType < operationNames.length; operationType++ )
+        {
+            if ( null != operationNames[operationType] )
+            {
+                intervalHistograms[operationType] = new Histogram(
+                        1,
+                        unit.convert( highestExpectedRuntimeDurationAsNano, TimeUnit.NANOSECONDS ),
+                        NUMBER_OF_SIGNIFICANT_DIGITS );
+                logStreams[operationType] = new PrintStream(
+                        new BufferedOutputStream( new FileOutputStream(
+                                new File( directory, operationNames[operationType] + LOG_FILENAME_SUFFIX ) ) ),
+                        false,
+                        "UTF-8" );
+                logWriters[operationType] = new HistogramLogWriter( logStreams[operationType] );
+                logWriters[operationType].outputComment( format( "Runtime of %s, in %s, per %s ms interval",
+                        operationNames[operationType], unit.name(), intervalAsMilli ) );
+                logWriters[operationType].outputLogFormatVersion();
+            }
+        }
+    }
+
+    @Override
+    public void record( int operationType, long runDurationAsNano, long timeAsMilli ) throws IOException
+    {
+        if ( -1 == intervalStartTimeAsMilli )
+        {
+            startLogs( timeAsMilli );
+        }
+        else
+        {
+            rotateIfIntervalElapsed( timeAsMilli );
+        }
+        // operations that exceed the highest expected runtime are reported as it, as with cumulative histograms
+        long runDuration = unit.convert(
+                Math.min( runDurationAsNano, highestExpectedRuntimeDurationAsNano ),
+                TimeUnit.NANOSECONDS );
+        intervalHistograms[operationType].recordValue( runDuration );
+    }
+
+    @Override
+    public void rotateIfIntervalElapsed( long timeAsMilli ) throws IOException
+    {
+        if ( timeAsMilli > latestTimeAsMilli )
+        {
+            latestTimeAsMilli = timeAsMilli;
+        }
+        if ( -1 == intervalStartTimeAsMilli )
+        {
+            return;
+        }
+        // intervals without measurements are written too, so stalls show up as gaps in throughput
+        boolean rotated = false;
+        while ( timeAsMilli >= intervalStartTimeAsMilli + intervalAsMilli )
+        {
+            writeInterval( intervalStartTimeAsMilli + intervalAsMilli );
+            intervalStartTimeAsMilli += intervalAsMilli;
+            rotated = true;
+        }
+        if ( rotated )
+        {
+            flushLogs();
+        }
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        if ( -1 != intervalStartTimeAsMilli && latestTimeAsMilli > intervalStartTimeAsMilli )
+        {
+            // last, partial, interval
+            writeInterval( latestTimeAsMilli );
+        }
+        for ( PrintStream logStream : logStreams )
+        {
+            if ( null != logStream )
+            {
+                logStream.close();
+            }
+        }
+    }
+
+    private void startLogs( long timeAsMilli )
+    {
+        logStartTimeAsMilli = timeAsMilli;
+        intervalStartTimeAsMilli = timeAsMilli;
+        latestTimeAsMilli = timeAsMilli;
+        for ( HistogramLogWriter logWriter : logWriters )
+        {
+            if ( null != logWriter )
+            {
+                logWriter.outputStartTime( logStartTimeAsMilli );
+                // interval time stamps are relative to it, readers would otherwise have to guess that
+                logWriter.outputBaseTime( logStartTimeAsMilli );
+                logWriter.outputLegend();
+            }
+        }
+        flushLogs();
+    }
+
+    private void writeInterval( long intervalEndTimeAsMilli )
+    {
+        // interval time stamps are in seconds since start time of log
+        double intervalStartTimeAsSecond = (intervalStartTimeAsMilli - logStartTimeAsMilli) / 1000d;
+        double intervalEndTimeAsSecond = (intervalEndTimeAsMilli - logStartTimeAsMilli) / 1000d;
+        for ( int operationType = 0; operationType < intervalHistograms.length; operationType++ )
+        {
+            Histogram intervalHistogram = intervalHistograms[operationType];
+            if ( null != intervalHistogram )
+            {
+                logWriters[operationType].outputIntervalHistogram(
+                        intervalStartTimeAsSecond,
+                        intervalEndTimeAsSecond,
+                        intervalHistogram );
+                intervalHistogram.reset();
+            }
+        }
+    }
+
+    private void flushLogs()
+    {
+        for ( PrintStream logStream : logStreams )
+        {
+            if ( null != logStream )
+            {
+                logStream.flush();
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.csv.simple.SimpleCsvFileWriter;
+import org.HdrHistogram.EncodableHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogReader;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.lang.String.format;
+
+/**
+ * Computes percentiles of every interval of latency interval logs written by HdrHistogramIntervalLatencyLogWriter,
+ * as one csv row per operation type per interval, so latency spikes can be located in time.
+ * <p/>
+ * Usage: IntervalLatencyLogSummarizer [interval log file | directory of interval log files] [output csv file]
+ */
+public class IntervalLatencyLogSummarizer
+{
+    public static final String HEADER_OPERATION_TYPE = "operation_type";
+    public static final String HEADER_INTERVAL_START_TIME = "interval_start_time";
+    public static final String HEADER_INTERVAL_END_TIME = "interval_end_time";
+    public static final String HEADER_COUNT = "count";
+    public static final String HEADER_MIN = "min";
+    public static final String HEADER_MEAN = "mean";
+    public static final String HEADER_50TH_PERCENTILE = "50th_percentile";
+    public static final String HEADER_90TH_PERCENTILE = "90th_percentile";
+    public static final String HEADER_95TH_PERCENTILE = "95th_percentile";
+    public static final String HEADER_99TH_PERCENTILE = "99th_percentile";
+    public static final String HEADER_99_9TH_PERCENTILE = "99.9th_percentile";
+    public static final String HEADER_MAX = "max";
+
+    public static void main( String[] args ) throws IOException
+    {
+        if ( 2 != args.length )
+        {
+            System.out.println( format( "Usage: %s [interval log file | directory of interval log files] [output csv]",
+                    IntervalLatencyLogSummarizer.class.getSimpleName() ) );
+            System.exit( 1 );
+        }
+        File intervalLogs = new File( args[0] );
+        File csvFile = new File( args[1] );
+        new IntervalLatencyLogSummarizer().summarize( intervalLogs, csvFile );
+        System.out.println( format( "Interval percentiles written to: %s", csvFile.getAbsolutePath() ) );
+    }
+
+    public void summarize( File intervalLogs, File csvFile ) throws IOException
+    {
+        File[] intervalLogFiles = new File[]{intervalLogs};
+        if ( intervalLogs.isDirectory() )
+        {
+            intervalLogFiles = intervalLogs.listFiles(
+                    file -> file.getName().endsWith( HdrHistogramIntervalLatencyLogWriter.LOG_FILENAME_SUFFIX ) );
+        }
+        if ( null == intervalLogFiles )
+        {
+            throw new FileNotFoundException( intervalLogs.getAbsolutePath() );
+        }
+        Arrays.sort( intervalLogFiles );
+        try ( SimpleCsvFileWriter csvWriter =
+                      new SimpleCsvFileWriter( csvFile, SimpleCsvFileWriter.DEFAULT_COLUMN_SEPARATOR ) )
+        {
+            csvWriter.writeRow(
+                    HEADER_OPERATION_TYPE,
+                    HEADER_INTERVAL_START_TIME,
+                    HEADER_INTERVAL_END_TIME,
+                    HEADER_COUNT,
+                    HEADER_MIN,
+                    HEADER_MEAN,
+                    HEADER_50TH_PERCENTILE,
+                    HEADER_90TH_PERCENTILE,
+                    HEADER_95TH_PERCENTILE,
+                    HEADER_99TH_PERCENTILE,
+                    HEADER_99_9TH_PERCENTILE,
+                    HEADER_MAX
+            );
+            for ( File intervalLogFile : intervalLogFiles )
+            {
+                csvWriter.writeRows( summarize( intervalLogFile ).iterator() );
+            }
+        }
+    }
+
+    /**
+     * Interval start and end times are in milliseconds since epoch, latencies in the unit of the log
+     */
+    public List<String[]> summarize( File intervalLogFile ) throws FileNotFoundException
+    {
+        String operationName = intervalLogFile.getName();
+        if ( operationName.endsWith( HdrHistogramIntervalLatencyLogWriter.LOG_FILENAME_SUFFIX ) )
+        {
+            operationName = operationName.substring(
+                    0, operationName.length() - HdrHistogramIntervalLatencyLogWriter.LOG_FILENAME_SUFFIX.length() );
+        }
+        List<String[]> rows = new ArrayList<>();
+        HistogramLogReader reader = new HistogramLogReader( intervalLogFile );
+        EncodableHistogram encodedIntervalHistogram;
+        while ( null != (encodedIntervalHistogram = reader.nextIntervalHistogram()) )
+        {
+            // logs are written by HdrHistogramIntervalLatencyLogWriter, which only writes integer value histograms
+            Histogram intervalHistogram = (Histogram) encodedIntervalHistogram;
+            // reader adds start time of log to interval time stamps
+            boolean empty = 0 == intervalHistogram.getTotalCount();
+            rows.add( new String[]{
+                    operationName,
+                    Long.toString( intervalHistogram.getStartTimeStamp() ),
+                    Long.toString( intervalHistogram.getEndTimeStamp() ),
+                    Long.toString( intervalHistogram.getTotalCount() ),
+                    Long.toString( (empty) ? -1 : intervalHistogram.getMinValue() ),
+                    Double.toString( (empty) ? -1 : intervalHistogram.getMean() ),
+                    Long.toString( (empty) ? -1 : intervalHistogram.getValueAtPercentile( 50 ) ),
+                    Long.toString( (empty) ? -1 : intervalHistogram.getValueAtPercentile( 90 ) ),
+                    Long.toString( (empty) ? -1 : intervalHistogram.getValueAtPercentile( 95 ) ),
+                    Long.toString( (empty) ? -1 : intervalHistogram.getValueAtPercentile( 99 ) ),
+                    Long.toString( (empty) ? -1 : intervalHistogram.getValueAtPercentile( 99.9 ) ),
+                    Long.toString( (empty) ? -1 : intervalHistogram.getMaxValue() )
+            } );
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,14 @@
+package com.ldbc.driver.runtime.metrics;
+
+import java.io.IOException;
+
+/**
+ * Receives every measured operation, on the metrics collection thread, to log its latency per interval of time.
+ * Intervals are only rotated from within these calls, so no other thread touches interval state.
+ */
+public interface IntervalLatencyLogWriter extends AutoCloseable
+{
+    void record( int operationType, long runDurationAsNano, long timeAsMilli ) throws IOException;
+
+    void rotateIfIntervalElapsed( long timeAsMilli ) throws IOException;
+}
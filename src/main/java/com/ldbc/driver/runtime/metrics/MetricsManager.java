@@ -5,9 +5,12 @@ import com.ldbc.driver.Operation;
 import com.ldbc.driver.control.LoggingServiceFactory;
 import com.ldbc.driver.temporal.TimeSource;
 
+import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
@@ -22,6 +25,8 @@ public class MetricsManager
     private long latestFinishTimeAsMilli;
     private final OperationTypeMetricsManager[] operationTypeMetricsManagers;
     private final Map<Integer,Class<? extends Operation>> operationTypeToClassMapping;
+    private final IntervalLatencyLogWriter intervalLatencyLogWriter;
+    private final ThroughputTimeline throughputTimeline;
 
     public static void export(
             WorkloadResultsSnapshot workloadResults,
@@ -46,6 +51,22 @@ public class MetricsManager
             TimeUnit unit,
             long highestExpectedRuntimeDurationAsNano,
             LoggingServiceFactory loggingServiceFactory ) throws MetricsCollectionException
+    {
+        return toOperationTypeMetricsManagerArray(
+                operationTypeToClassMapping,
+                unit,
+                highestExpectedRuntimeDurationAsNano,
+                loggingServiceFactory,
+                OperationTypeMetricsManager.DEFAULT_NUMBER_OF_SIGNIFICANT_DIGITS
+        );
+    }
+
+    public static OperationTypeMetricsManager[] toOperationTypeMetricsManagerArray(
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
+            TimeUnit unit,
+            long highestExpectedRuntimeDurationAsNano,
+            LoggingServiceFactory loggingServiceFactory,
+            int numberOfSignificantDigits ) throws MetricsCollectionException
     {
         if ( operationTypeToClassMapping.isEmpty() )
         {
@@ -76,7 +97,8 @@ public class MetricsManager
                             operationClass.getSimpleName(),
                             unit,
                             highestExpectedRuntimeDurationAsNano,
-                            loggingServiceFactory
+                            loggingServiceFactory,
+                            numberOfSignificantDigits
                     );
                 }
             }
@@ -122,24 +144,91 @@ public class MetricsManager
             long highestExpectedRuntimeDurationAsNano,
             Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
             LoggingServiceFactory loggingServiceFactory ) throws MetricsCollectionException
+    {
+        this(
+                timeSource,
+                unit,
+                highestExpectedRuntimeDurationAsNano,
+                operationTypeToClassMapping,
+                loggingServiceFactory,
+                new NullIntervalLatencyLogWriter()
+        );
+    }
+
+    public MetricsManager( TimeSource timeSource,
+            TimeUnit unit,
+            long highestExpectedRuntimeDurationAsNano,
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
+            LoggingServiceFactory loggingServiceFactory,
+            IntervalLatencyLogWriter intervalLatencyLogWriter ) throws MetricsCollectionException
+    {
+        this(
+                timeSource,
+                unit,
+                highestExpectedRuntimeDurationAsNano,
+                operationTypeToClassMapping,
+                loggingServiceFactory,
+                intervalLatencyLogWriter,
+                OperationTypeMetricsManager.DEFAULT_NUMBER_OF_SIGNIFICANT_DIGITS
+        );
+    }
+
+    public MetricsManager( TimeSource timeSource,
+            TimeUnit unit,
+            long highestExpectedRuntimeDurationAsNano,
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
+            LoggingServiceFactory loggingServiceFactory,
+            IntervalLatencyLogWriter intervalLatencyLogWriter,
+            int numberOfSignificantDigits ) throws MetricsCollectionException
+    {
+        this(
+                timeSource,
+                unit,
+                highestExpectedRuntimeDurationAsNano,
+                operationTypeToClassMapping,
+                loggingServiceFactory,
+                intervalLatencyLogWriter,
+                null,
+                numberOfSignificantDigits
+        );
+    }
+
+    /**
+     * @param throughputTimeline null if no timeline is recorded, only to be used by one metrics manager
+     */
+    public MetricsManager( TimeSource timeSource,
+            TimeUnit unit,
+            long highestExpectedRuntimeDurationAsNano,
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
+            LoggingServiceFactory loggingServiceFactory,
+            IntervalLatencyLogWriter intervalLatencyLogWriter,
+            ThroughputTimeline throughputTimeline,
+            int numberOfSignificantDigits ) throws MetricsCollectionException
     {
         operationTypeMetricsManagers = toOperationTypeMetricsManagerArray(
                 operationTypeToClassMapping,
                 unit,
                 highestExpectedRuntimeDurationAsNano,
-                loggingServiceFactory
+                loggingServiceFactory,
+                numberOfSignificantDigits
         );
         this.operationTypeToClassMapping = operationTypeToClassMapping;
         this.startTimeAsMilli = Long.MAX_VALUE;
         this.latestFinishTimeAsMilli = Long.MIN_VALUE;
         this.timeSource = timeSource;
         this.unit = unit;
+        this.intervalLatencyLogWriter = intervalLatencyLogWriter;
+        this.throughputTimeline = throughputTimeline;
     }
 
     final static long ONE_MS_AS_NS = TimeUnit.MILLISECONDS.toNanos( 1 );
 
-    public void measure( long actualStartTimeAsMilli, long runDurationAsNano, int operationType )
-            throws MetricsCollectionException
+    public void measure(
+            long scheduledStartTimeAsMilli,
+            long actualStartTimeAsMilli,
+            long runDurationAsNano,
+            int operationType,
+            int resultCode ) throws MetricsCollectionException
     {
         if ( actualStartTimeAsMilli < startTimeAsMilli )
         {
@@ -152,7 +241,23 @@ public class MetricsManager
             latestFinishTimeAsMilli = operationFinishTimeAsMilli;
         }
 
-        operationTypeMetricsManagers[operationType].measure( runDurationAsNano );
+        // measured from scheduled start time, so time spent queued behind a saturated executor is not omitted
+        long responseTimeAsNano =
+                TimeUnit.MILLISECONDS.toNanos( actualStartTimeAsMilli - scheduledStartTimeAsMilli ) + runDurationAsNano;
+        operationTypeMetricsManagers[operationType].measure( runDurationAsNano, responseTimeAsNano, resultCode );
+        if ( null != throughputTimeline )
+        {
+            throughputTimeline.record( operationType, runDurationAsNano, operationFinishTimeAsMilli );
+        }
+
+        try
+        {
+            intervalLatencyLogWriter.record( operationType, runDurationAsNano, operationFinishTimeAsMilli );
+        }
+        catch ( IOException e )
+        {
+            throw new MetricsCollectionException( "Error encountered writing latency interval log", e );
+        }
     }
 
     public void applyResultsLog( ResultsLogReader reader ) throws MetricsCollectionException
@@ -161,7 +266,13 @@ public class MetricsManager
         while ( reader.next() )
         {
             int operationType = simpleNameToTypeMapping.get( reader.getOperationName() );
-            measure( reader.getActualStartTimeAsMilli(), reader.getRunDurationAsNano(), operationType );
+            measure(
+                    reader.getScheduledStartTimeAsMilli(),
+                    reader.getActualStartTimeAsMilli(),
+                    reader.getRunDurationAsNano(),
+                    operationType,
+                    reader.getResultCode()
+            );
         }
     }
 
@@ -172,7 +283,34 @@ public class MetricsManager
                 .collect( toMap( entry -> entry.getValue().getSimpleName(), Map.Entry::getKey ) );
     }
 
-    private long totalOperationCount()
+    /**
+     * Adds all measurements of other manager to this one, other must have been created with same operation types, and
+     * must not be modified concurrently
+     */
+    void add( MetricsManager other )
+    {
+        startTimeAsMilli = Math.min( startTimeAsMilli, other.startTimeAsMilli );
+        latestFinishTimeAsMilli = Math.max( latestFinishTimeAsMilli, other.latestFinishTimeAsMilli );
+        for ( int operationType = 0; operationType < operationTypeMetricsManagers.length; operationType++ )
+        {
+            if ( null != operationTypeMetricsManagers[operationType] )
+            {
+                operationTypeMetricsManagers[operationType].add( other.operationTypeMetricsManagers[operationType] );
+            }
+        }
+    }
+
+    long startTimeAsMilli()
+    {
+        return startTimeAsMilli;
+    }
+
+    long latestFinishTimeAsMilli()
+    {
+        return latestFinishTimeAsMilli;
+    }
+
+    long totalOperationCount()
     {
         long count = 0;
         for ( OperationTypeMetricsManager operationTypeMetricsManager : operationTypeMetricsManagers )
@@ -188,41 +326,60 @@ public class MetricsManager
     public WorkloadResultsSnapshot snapshot()
     {
         Map<String,OperationMetricsSnapshot> operationMetricsMap = new HashMap<>();
+        List<ResultCodeMetricsSnapshot> resultCodeMetrics = new ArrayList<>();
         for ( OperationTypeMetricsManager operationTypeMetricsManager : operationTypeMetricsManagers )
         {
             if ( null != operationTypeMetricsManager && operationTypeMetricsManager.count() > 0 )
             {
                 OperationMetricsSnapshot snapshot = operationTypeMetricsManager.snapshot();
                 operationMetricsMap.put( snapshot.name(), snapshot );
+                resultCodeMetrics.addAll( operationTypeMetricsManager.resultCodeSnapshots() );
             }
         }
         return new WorkloadResultsSnapshot(
                 operationMetricsMap.values(),
+                resultCodeMetrics,
                 (startTimeAsMilli == Long.MAX_VALUE) ? -1 : startTimeAsMilli,
                 (latestFinishTimeAsMilli == Long.MIN_VALUE) ? -1 : latestFinishTimeAsMilli,
                 totalOperationCount(),
                 unit );
     }
 
-    WorkloadStatusSnapshot status()
+    WorkloadStatusSnapshot status() throws MetricsCollectionException
     {
         long nowAsMilli = timeSource.nowAsMilli();
+        try
+        {
+            // status is requested periodically, so intervals are also written while no operations complete
+            intervalLatencyLogWriter.rotateIfIntervalElapsed( nowAsMilli );
+        }
+        catch ( IOException e )
+        {
+            throw new MetricsCollectionException( "Error encountered writing latency interval log", e );
+        }
+        return status( nowAsMilli, startTimeAsMilli, latestFinishTimeAsMilli, totalOperationCount() );
+    }
+
+    static WorkloadStatusSnapshot status(
+            long nowAsMilli,
+            long startTimeAsMilli,
+            long latestFinishTimeAsMilli,
+            long operationCount )
+    {
         if ( nowAsMilli < startTimeAsMilli )
         {
             long runDurationAsMilli = 0;
-            long operationCount = 0;
             long durationSinceLastMeasurementAsMilli = 0;
             double operationsPerSecond = 0;
             return new WorkloadStatusSnapshot(
                     runDurationAsMilli,
-                    operationCount,
+                    0,
                     durationSinceLastMeasurementAsMilli,
                     operationsPerSecond );
         }
         else
         {
             long runDurationAsMilli = nowAsMilli - startTimeAsMilli;
-            long operationCount = totalOperationCount();
             long durationSinceLastMeasurementAsMilli =
                     (-1 == latestFinishTimeAsMilli) ? -1 : nowAsMilli - latestFinishTimeAsMilli;
             double operationsPerSecond =
@@ -0,0 +1,17 @@
+package com.ldbc.driver.runtime.metrics;
+
+/**
+ * Metrics service implementation used while executing workloads
+ */
+public enum MetricsServiceType
+{
+    /**
+     * Results are encoded into a ring buffer and recorded, and written to results log, by a single consumer thread
+     */
+    DISRUPTOR_SBE,
+    /**
+     * Every writer records results into its own histograms, which are merged when status or results are requested,
+     * results log is written by the threads that submit results
+     */
+    PER_WRITER_HISTOGRAM
+}
@@ -0,0 +1,24 @@
+package com.ldbc.driver.runtime.metrics;
+
+import java.io.IOException;
+
+public class NullIntervalLatencyLogWriter implements IntervalLatencyLogWriter
+{
+    @Override
+    public void record( int operationType, long runDurationAsNano, long timeAsMilli ) throws IOException
+    {
+        // do nothing
+    }
+
+    @Override
+    public void rotateIfIntervalElapsed( long timeAsMilli ) throws IOException
+    {
+        // do nothing
+    }
+
+    @Override
+    public void close() throws Exception
+    {
+        // do nothing
+    }
+}
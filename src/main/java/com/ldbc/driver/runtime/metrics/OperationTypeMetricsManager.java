@@ -4,7 +4,9 @@ import com.ldbc.driver.control.LoggingService;
 import com.ldbc.driver.control.LoggingServiceFactory;
 import com.ldbc.driver.temporal.TemporalUtil;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import static java.lang.String.format;
@@ -12,19 +14,48 @@ import static java.lang.String.format;
 public class OperationTypeMetricsManager
 {
     private static final String METRIC_RUNTIME = "Runtime";
+    private static final String METRIC_RESPONSE_TIME = "Response Time";
+    static final int DEFAULT_NUMBER_OF_SIGNIFICANT_DIGITS = 4;
+    // result codes are chosen by Db implementations, so their number is bounded to bound memory use
+    static final int MAX_RESULT_CODES = 16;
+    // one histogram per result code, coarser than the per operation type histograms as there can be many of them
+    private static final int RESULT_CODE_NUMBER_OF_SIGNIFICANT_DIGITS = 2;
 
     private final TemporalUtil temporalUtil = new TemporalUtil();
     private final ContinuousMetricManager runTimeMetric;
+    // scheduled start time to completion, includes time spent waiting for a handler to become available.
+    // not bounded by highest expected runtime, it keeps growing for as long as the system under test falls behind
+    private final ContinuousMetricManager responseTimeMetric;
     private final String name;
     private final TimeUnit unit;
     private final long highestExpectedRuntimeDurationAsNano;
     private final LoggingService loggingService;
+    private final int[] resultCodes = new int[MAX_RESULT_CODES];
+    private final ContinuousMetricManager[] resultCodeRunTimeMetrics = new ContinuousMetricManager[MAX_RESULT_CODES];
+    private int resultCodeCount = 0;
+    private boolean resultCodeLimitReported = false;
 
     OperationTypeMetricsManager(
             String name,
             TimeUnit unit,
             long highestExpectedRuntimeDurationAsNano,
             LoggingServiceFactory loggingServiceFactory )
+    {
+        this(
+                name,
+                unit,
+                highestExpectedRuntimeDurationAsNano,
+                loggingServiceFactory,
+                DEFAULT_NUMBER_OF_SIGNIFICANT_DIGITS
+        );
+    }
+
+    OperationTypeMetricsManager(
+            String name,
+            TimeUnit unit,
+            long highestExpectedRuntimeDurationAsNano,
+            LoggingServiceFactory loggingServiceFactory,
+            int numberOfSignificantDigits )
     {
         this.name = name;
         this.unit = unit;
@@ -34,11 +65,16 @@ public class OperationTypeMetricsManager
                 METRIC_RUNTIME,
                 unit,
                 unit.convert( highestExpectedRuntimeDurationAsNano, TimeUnit.NANOSECONDS ),
-                4
+                numberOfSignificantDigits
+        );
+        this.responseTimeMetric = new ContinuousMetricManager(
+                METRIC_RESPONSE_TIME,
+                unit,
+                numberOfSignificantDigits
         );
     }
 
-    void measure( long runDurationAsNano ) throws MetricsCollectionException
+    void measure( long runDurationAsNano, long responseTimeAsNano, int resultCode ) throws MetricsCollectionException
     {
         //
         // Measure operation runtime
@@ -85,11 +121,117 @@ public class OperationTypeMetricsManager
             );
             throw new MetricsCollectionException( errMsg, e );
         }
+        ContinuousMetricManager resultCodeRunTimeMetric = resultCodeRunTimeMetric( resultCode );
+        if ( null != resultCodeRunTimeMetric )
+        {
+            resultCodeRunTimeMetric.addMeasurement( runtimeInAppropriateUnit );
+        }
+
+        //
+        // Measure operation response time
+        //
+        // an operation can not complete faster than it runs, e.g., when scheduled start times are ignored
+        responseTimeAsNano = Math.max( responseTimeAsNano, runDurationAsNano );
+        long responseTimeInAppropriateUnit = unit.convert( responseTimeAsNano, TimeUnit.NANOSECONDS );
+
+        try
+        {
+            responseTimeMetric.addMeasurement( responseTimeInAppropriateUnit );
+        }
+        catch ( Throwable e )
+        {
+            String errMsg = format(
+                    "Error encountered adding response time: %s %s / %s %s\nTo: %s",
+                    responseTimeAsNano,
+                    TimeUnit.NANOSECONDS.name(),
+                    responseTimeInAppropriateUnit,
+                    unit.name(),
+                    name
+            );
+            throw new MetricsCollectionException( errMsg, e );
+        }
     }
 
     public OperationMetricsSnapshot snapshot()
     {
-        return new OperationMetricsSnapshot( name, unit, count(), runTimeMetric.snapshot() );
+        return new OperationMetricsSnapshot(
+                name,
+                unit,
+                count(),
+                runTimeMetric.snapshot(),
+                responseTimeMetric.snapshot()
+        );
+    }
+
+    /**
+     * Run times by result code, in order result codes were first measured
+     */
+    List<ResultCodeMetricsSnapshot> resultCodeSnapshots()
+    {
+        List<ResultCodeMetricsSnapshot> snapshots = new ArrayList<>( resultCodeCount );
+        for ( int i = 0; i < resultCodeCount; i++ )
+        {
+            snapshots.add( new ResultCodeMetricsSnapshot(
+                    name,
+                    resultCodes[i],
+                    unit,
+                    resultCodeRunTimeMetrics[i].count(),
+                    resultCodeRunTimeMetrics[i].snapshot()
+            ) );
+        }
+        return snapshots;
+    }
+
+    /**
+     * Adds all measurements of other operation type to this one, other must not be modified concurrently
+     */
+    void add( OperationTypeMetricsManager other )
+    {
+        runTimeMetric.add( other.runTimeMetric );
+        responseTimeMetric.add( other.responseTimeMetric );
+        for ( int i = 0; i < other.resultCodeCount; i++ )
+        {
+            ContinuousMetricManager resultCodeRunTimeMetric = resultCodeRunTimeMetric( other.resultCodes[i] );
+            if ( null != resultCodeRunTimeMetric )
+            {
+                resultCodeRunTimeMetric.add( other.resultCodeRunTimeMetrics[i] );
+            }
+        }
+    }
+
+    /**
+     * @return null once MAX_RESULT_CODES different result codes have been measured and result code is not one of them
+     */
+    private ContinuousMetricManager resultCodeRunTimeMetric( int resultCode )
+    {
+        // few distinct result codes are expected, so a linear scan is cheaper than a map lookup
+        for ( int i = 0; i < resultCodeCount; i++ )
+        {
+            if ( resultCodes[i] == resultCode )
+            {
+                return resultCodeRunTimeMetrics[i];
+            }
+        }
+        if ( resultCodeCount == MAX_RESULT_CODES )
+        {
+            if ( false == resultCodeLimitReported )
+            {
+                loggingService.info( format(
+                        "%s reported more than %s different result codes, run time of result code %s and of any "
+                        + "further result codes is only measured for %s as a whole",
+                        name, MAX_RESULT_CODES, resultCode, name ) );
+                resultCodeLimitReported = true;
+            }
+            return null;
+        }
+        resultCodes[resultCodeCount] = resultCode;
+        resultCodeRunTimeMetrics[resultCodeCount] = new ContinuousMetricManager(
+                METRIC_RUNTIME,
+                unit,
+                unit.convert( highestExpectedRuntimeDurationAsNano, TimeUnit.NANOSECONDS ),
+                RESULT_CODE_NUMBER_OF_SIGNIFICANT_DIGITS
+        );
+        return resultCodeRunTimeMetrics[resultCodeCount++];
     }
 
     public String name()
@@ -99,7 +241,7 @@ public class OperationTypeMetricsManager
 
     public long count()
     {
-        return runTimeMetric.snapshot().count();
+        return runTimeMetric.count();
     }
 
     static class OperationMetricsNameComparator implements Comparator<OperationMetricsSnapshot>
@@ -0,0 +1,305 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.control.LoggingServiceFactory;
+import com.ldbc.driver.temporal.TimeSource;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Records results on the threads that submit them, into histograms owned by each submitting thread, so no thread
+ * hands results over to, or waits for, a shared consumer. Thread histograms are only merged when status or results
+ * are requested.
+ * <p/>
+ * Histograms are kept per thread rather than per writer, because writers are retrieved once per pooled operation
+ * handler, of which there are far more than executor threads. Virtual threads, of which there is one per operation,
+ * record into one of a set of stripes instead, selected by thread id, with as many stripes as there are processors,
+ * i.e., carrier threads by default, each created on first use. Every set of histograms is guarded by its own lock,
+ * which is uncontended except while being merged, or when virtual threads collide on a stripe, so virtual threads
+ * rarely pin their carrier while waiting for a lock. Histograms keep 3 significant digits, rather than the 4 of other
+ * metrics services, to bound the footprint of every thread.
+ * <p/>
+ * Results log is written by submitting threads too, serialized on the log writer, and is skipped entirely when it is
+ * a NullResultsLogWriter.
+ */
+public class PerWriterHistogramMetricsService implements MetricsService
+{
+    static final int NUMBER_OF_SIGNIFICANT_DIGITS = 3;
+    // null before JDK 21
+    private static final Method IS_VIRTUAL_METHOD = isVirtualMethod();
+
+    private final AtomicBoolean shutdown = new AtomicBoolean( false );
+    private final TimeSource timeSource;
+    private final TimeUnit unit;
+    private final long maxRuntimeDurationAsNano;
+    private final ResultsLogWriter resultsLogWriter;
+    private final Map<Integer,Class<? extends Operation>> operationTypeToClassMapping;
+    private final LoggingServiceFactory loggingServiceFactory;
+    private final String[] operationNames;
+    private final ConcurrentLinkedQueue<MetricsManager> threadMetricsManagers;
+    private final ThreadLocal<MetricsManager> currentThreadMetricsManager;
+    private final PerWriterHistogramMetricsServiceWriter metricsServiceWriter;
+    private final AtomicReferenceArray<MetricsManager> virtualThreadMetricsManagers;
+    private final int virtualThreadStripeMask;
+
+    public PerWriterHistogramMetricsService(
+            TimeSource timeSource,
+            TimeUnit unit,
+            long maxRuntimeDurationAsNano,
+            ResultsLogWriter resultsLogWriter,
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
+            LoggingServiceFactory loggingServiceFactory ) throws MetricsCollectionException
+    {
+        this.timeSource = timeSource;
+        this.unit = unit;
+        this.maxRuntimeDurationAsNano = maxRuntimeDurationAsNano;
+        this.resultsLogWriter = (resultsLogWriter instanceof NullResultsLogWriter) ? null : resultsLogWriter;
+        this.operationTypeToClassMapping = operationTypeToClassMapping;
+        this.loggingServiceFactory = loggingServiceFactory;
+        this.operationNames = MetricsManager.toOperationNameArray( operationTypeToClassMapping );
+        this.threadMetricsManagers = new ConcurrentLinkedQueue<>();
+        this.currentThreadMetricsManager = new ThreadLocal<>();
+        this.metricsServiceWriter = new PerWriterHistogramMetricsServiceWriter( this );
+        int virtualThreadStripeCount = Integer.highestOneBit( Runtime.getRuntime().availableProcessors() * 2 - 1 );
+        this.virtualThreadMetricsManagers = new AtomicReferenceArray<>( virtualThreadStripeCount );
+        this.virtualThreadStripeMask = virtualThreadStripeCount - 1;
+    }
+
+    @Override
+    synchronized public void shutdown() throws MetricsCollectionException
+    {
+        if ( shutdown.get() )
+        {
+            throw new MetricsCollectionException( "Metrics service has already been shutdown" );
+        }
+        metricsServiceWriter.setAlreadyShutdownPolicy( new AlreadyShutdownPolicy() );
+        shutdown.set( true );
+    }
+
+    @Override
+    public MetricsServiceWriter getWriter() throws MetricsCollectionException
+    {
+        if ( shutdown.get() )
+        {
+            throw new MetricsCollectionException( "Metrics service has already been shutdown" );
+        }
+        return metricsServiceWriter;
+    }
+
+    int threadMetricsManagerCount()
+    {
+        return threadMetricsManagers.size();
+    }
+
+    int virtualThreadStripeCount()
+    {
+        return virtualThreadMetricsManagers.length();
+    }
+
+    private MetricsManager metricsManagerForCurrentThread() throws MetricsCollectionException
+    {
+        MetricsManager metricsManager = currentThreadMetricsManager.get();
+        if ( null != metricsManager )
+        {
+            return metricsManager;
+        }
+        Thread currentThread = Thread.currentThread();
+        if ( isVirtual( currentThread ) )
+        {
+            // not thread local, virtual threads are not reused
+            return virtualThreadMetricsManager( (int) (currentThread.getId() & virtualThreadStripeMask) );
+        }
+        metricsManager = newMetricsManager();
+        threadMetricsManagers.add( metricsManager );
+        currentThreadMetricsManager.set( metricsManager );
+        return metricsManager;
+    }
+
+    private MetricsManager virtualThreadMetricsManager( int stripe ) throws MetricsCollectionException
+    {
+        MetricsManager metricsManager = virtualThreadMetricsManagers.get( stripe );
+        if ( null != metricsManager )
+        {
+            return metricsManager;
+        }
+        synchronized ( virtualThreadMetricsManagers )
+        {
+            metricsManager = virtualThreadMetricsManagers.get( stripe );
+            if ( null == metricsManager )
+            {
+                metricsManager = newMetricsManager();
+                threadMetricsManagers.add( metricsManager );
+                virtualThreadMetricsManagers.set( stripe, metricsManager );
+            }
+            return metricsManager;
+        }
+    }
+
+    private static boolean isVirtual( Thread thread )
+    {
+        if ( null == IS_VIRTUAL_METHOD )
+        {
+            return false;
+        }
+        try
+        {
+            return (Boolean) IS_VIRTUAL_METHOD.invoke( thread );
+        }
+        catch ( ReflectiveOperationException e )
+        {
+            return false;
+        }
+    }
+
+    private static Method isVirtualMethod()
+    {
+        try
+        {
+            return Thread.class.getMethod( "isVirtual" );
+        }
+        catch ( NoSuchMethodException e )
+        {
+            return null;
+        }
+    }
+
+    private MetricsManager newMetricsManager() throws MetricsCollectionException
+    {
+        return new MetricsManager(
+                timeSource,
+                unit,
+                maxRuntimeDurationAsNano,
+                operationTypeToClassMapping,
+                loggingServiceFactory,
+                new NullIntervalLatencyLogWriter(),
+                NUMBER_OF_SIGNIFICANT_DIGITS
+        );
+    }
+
+    private WorkloadStatusSnapshot status()
+    {
+        long startTimeAsMilli = Long.MAX_VALUE;
+        long latestFinishTimeAsMilli = Long.MIN_VALUE;
+        long operationCount = 0;
+        for ( MetricsManager metricsManager : threadMetricsManagers )
+        {
+            synchronized ( metricsManager )
+            {
+                startTimeAsMilli = Math.min( startTimeAsMilli, metricsManager.startTimeAsMilli() );
+                latestFinishTimeAsMilli = Math.max( latestFinishTimeAsMilli, metricsManager.latestFinishTimeAsMilli() );
+                operationCount += metricsManager.totalOperationCount();
+            }
+        }
+        return MetricsManager.status( timeSource.nowAsMilli(), startTimeAsMilli, latestFinishTimeAsMilli,
+                operationCount );
+    }
+
+    private WorkloadResultsSnapshot results() throws MetricsCollectionException
+    {
+        MetricsManager mergedMetricsManager = newMetricsManager();
+        for ( MetricsManager metricsManager : threadMetricsManagers )
+        {
+            synchronized ( metricsManager )
+            {
+                mergedMetricsManager.add( metricsManager );
+            }
+        }
+        return mergedMetricsManager.snapshot();
+    }
+
+    private static class PerWriterHistogramMetricsServiceWriter implements MetricsServiceWriter
+    {
+        private final PerWriterHistogramMetricsService metricsService;
+
+        private volatile AlreadyShutdownPolicy alreadyShutdownPolicy = null;
+
+        private PerWriterHistogramMetricsServiceWriter( PerWriterHistogramMetricsService metricsService )
+        {
+            this.metricsService = metricsService;
+        }
+
+        private void setAlreadyShutdownPolicy( AlreadyShutdownPolicy alreadyShutdownPolicy )
+        {
+            this.alreadyShutdownPolicy = alreadyShutdownPolicy;
+        }
+
+        @Override
+        public void submitOperationResult( int operationType,
+                long scheduledStartTimeAsMilli,
+                long actualStartTimeAsMilli,
+                long runDurationAsNano,
+                int resultCode,
+                long originalStartTime ) throws MetricsCollectionException
+        {
+            if ( null != alreadyShutdownPolicy )
+            {
+                alreadyShutdownPolicy.apply();
+            }
+            ResultsLogWriter resultsLogWriter = metricsService.resultsLogWriter;
+            if ( null != resultsLogWriter )
+            {
+                try
+                {
+                    synchronized ( resultsLogWriter )
+                    {
+                        resultsLogWriter.write(
+                                metricsService.operationNames[operationType],
+                                scheduledStartTimeAsMilli,
+                                actualStartTimeAsMilli,
+                                runDurationAsNano,
+                                resultCode,
+                                originalStartTime );
+                    }
+                }
+                catch ( IOException e )
+                {
+                    throw new MetricsCollectionException( "Error encountered writing results log", e );
+                }
+            }
+            MetricsManager metricsManager = metricsService.metricsManagerForCurrentThread();
+            synchronized ( metricsManager )
+            {
+                metricsManager.measure(
+                        scheduledStartTimeAsMilli,
+                        actualStartTimeAsMilli,
+                        runDurationAsNano,
+                        operationType,
+                        resultCode );
+            }
+        }
+
+        @Override
+        public WorkloadStatusSnapshot status() throws MetricsCollectionException
+        {
+            if ( null != alreadyShutdownPolicy )
+            {
+                alreadyShutdownPolicy.apply();
+            }
+            return metricsService.status();
+        }
+
+        @Override
+        public WorkloadResultsSnapshot results() throws MetricsCollectionException
+        {
+            if ( null != alreadyShutdownPolicy )
+            {
+                alreadyShutdownPolicy.apply();
+            }
+            return metricsService.results();
+        }
+    }
+
+    private static class AlreadyShutdownPolicy
+    {
+        void apply() throws MetricsCollectionException
+        {
+            throw new MetricsCollectionException( "Metrics service has already been shutdown" );
+        }
+    }
+}
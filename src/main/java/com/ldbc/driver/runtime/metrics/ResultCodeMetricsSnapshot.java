@@ -0,0 +1,129 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Run time of one operation type, for those operations that reported one result code
+ */
+public class ResultCodeMetricsSnapshot
+{
+    @JsonProperty( value = "name" )
+    private String name;
+    @JsonProperty( value = "result_code" )
+    private int resultCode;
+    @JsonProperty( value = "unit" )
+    private TimeUnit durationUnit;
+    @JsonProperty( value = "count" )
+    private long count;
+    @JsonProperty( value = "run_time" )
+    private ContinuousMetricSnapshot runTimeMetric;
+
+    private ResultCodeMetricsSnapshot()
+    {
+    }
+
+    public ResultCodeMetricsSnapshot(
+            String name,
+            int resultCode,
+            TimeUnit durationUnit,
+            long count,
+            ContinuousMetricSnapshot runTimeMetric )
+    {
+        this.name = name;
+        this.resultCode = resultCode;
+        this.durationUnit = durationUnit;
+        this.count = count;
+        this.runTimeMetric = runTimeMetric;
+    }
+
+    public String name()
+    {
+        return name;
+    }
+
+    public int resultCode()
+    {
+        return resultCode;
+    }
+
+    public TimeUnit durationUnit()
+    {
+        return durationUnit;
+    }
+
+    public long count()
+    {
+        return count;
+    }
+
+    public ContinuousMetricSnapshot runTimeMetric()
+    {
+        return runTimeMetric;
+    }
+
+    @Override
+    public boolean equals( Object o )
+    {
+        if ( this == o )
+        { return true; }
+        if ( o == null || getClass() != o.getClass() )
+        { return false; }
+
+        ResultCodeMetricsSnapshot that = (ResultCodeMetricsSnapshot) o;
+
+        if ( resultCode != that.resultCode )
+        { return false; }
+        if ( count != that.count )
+        { return false; }
+        if ( durationUnit != that.durationUnit )
+        { return false; }
+        if ( name != null ? !name.equals( that.name ) : that.name != null )
+        { return false; }
+        if ( runTimeMetric != null ? !runTimeMetric.equals( that.runTimeMetric ) : that.runTimeMetric != null )
+        { return false; }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int result = name != null ? name.hashCode() : 0;
+        result = 31 * result + resultCode;
+        result = 31 * result + (durationUnit != null ? durationUnit.hashCode() : 0);
+        result = 31 * result + (int) (count ^ (count >>> 32));
+        result = 31 * result + (runTimeMetric != null ? runTimeMetric.hashCode() : 0);
+        return result;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "ResultCodeMetricsSnapshot{" +
+               "name='" + name + '\'' +
+               ", resultCode=" + resultCode +
+               ", durationUnit=" + durationUnit +
+               ", count=" + count +
+               ", runTimeMetric=" + runTimeMetric +
+               '}';
+    }
+
+    static class NameAndResultCodeComparator implements Comparator<ResultCodeMetricsSnapshot>
+    {
+        private static final String EMPTY_STRING = "";
+
+        @Override
+        public int compare( ResultCodeMetricsSnapshot metrics1, ResultCodeMetricsSnapshot metrics2 )
+        {
+            String metrics1Name = (metrics1.name() == null) ? EMPTY_STRING : metrics1.name();
+            String metrics2Name = (metrics2.name() == null) ? EMPTY_STRING : metrics2.name();
+            int nameComparison = metrics1Name.compareTo( metrics2Name );
+            return (0 != nameComparison)
+                   ? nameComparison
+                   : Integer.compare( metrics1.resultCode(), metrics2.resultCode() );
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.ldbc.driver.runtime.metrics;
+
+/**
+ * Format in which results log is written
+ */
+public enum ResultsLogFormat
+{
+    /**
+     * One line per operation, in the layout of SimpleResultsLogWriter
+     */
+    CSV,
+    /**
+     * One fixed width record per operation, in the layout of BinaryResultsLogWriter
+     */
+    BINARY
+}
@@ -5,6 +5,7 @@ import com.ldbc.driver.temporal.TemporalUtil;
 
 import java.text.DecimalFormat;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.TimeZone;
@@ -47,13 +48,27 @@ public class SimpleDetailedWorkloadMetricsFormatter implements WorkloadMetricsFo
         sb.append( "------------------------------------------------------------------------------\n" );
         for ( OperationMetricsSnapshot metric : sortedMetrics )
         {
-            sb.append( formatOneMetricRuntime( OFFSET, metric ) );
+            sb.append( formatOneMetricRuntime( OFFSET, metric,
+                    resultCodeMetricsFor( metric.name(), workloadResultsSnapshot.resultCodeMetrics() ) ) );
         }
         sb.append( "------------------------------------------------------------------------------\n" );
+        if ( null != workloadResultsSnapshot.driverInternals() )
+        {
+            sb.append( "Driver Internals:\n" );
+            workloadResultsSnapshot.driverInternals().appendTo( sb, OFFSET, padRightDistance - OFFSET.length() );
+            sb.append( "------------------------------------------------------------------------------\n" );
+        }
+        if ( null != workloadResultsSnapshot.driverDiagnostics() )
+        {
+            sb.append( "Driver Diagnostics:\n" );
+            workloadResultsSnapshot.driverDiagnostics().appendTo( sb, OFFSET, padRightDistance - OFFSET.length() );
+            sb.append( "------------------------------------------------------------------------------\n" );
+        }
         return sb.toString();
     }
 
-    private String formatOneMetricRuntime( String offset, OperationMetricsSnapshot metric )
+    private String formatOneMetricRuntime( String offset, OperationMetricsSnapshot metric,
+            List<ResultCodeMetricsSnapshot> resultCodeMetrics )
     {
         int padRightDistance = 20;
         String name = (null == metric.name()) ? DEFAULT_NAME : metric.name();
@@ -64,24 +79,62 @@ public class SimpleDetailedWorkloadMetricsFormatter implements WorkloadMetricsFo
                 .append( unit ).append( "\n" );
         sb.append( offset ).append( offset ).append( String.format( "%1$-" + padRightDistance + "s", "Count:" ) )
                 .append( INTEGER_FORMATTER.format( metric.runTimeMetric().count() ) ).append( "\n" );
-        sb.append( offset ).append( offset ).append( String.format( "%1$-" + padRightDistance + "s", "Min:" ) )
-                .append( INTEGER_FORMATTER.format( metric.runTimeMetric().min() ) ).append( "\n" );
-        sb.append( offset ).append( offset ).append( String.format( "%1$-" + padRightDistance + "s", "Max:" ) )
-                .append( INTEGER_FORMATTER.format( metric.runTimeMetric().max() ) ).append( "\n" );
-        sb.append( offset ).append( offset ).append( String.format( "%1$-" + padRightDistance + "s", "Mean:" ) )
-                .append( FLOAT_FORMATTER.format( metric.runTimeMetric().mean() ) ).append( "\n" );
-        sb.append( offset ).append( offset )
-                .append( String.format( "%1$-" + padRightDistance + "s", "50th Percentile:" ) )
-                .append( INTEGER_FORMATTER.format( metric.runTimeMetric().percentile50() ) ).append( "\n" );
-        sb.append( offset ).append( offset )
-                .append( String.format( "%1$-" + padRightDistance + "s", "90th Percentile:" ) )
-                .append( INTEGER_FORMATTER.format( metric.runTimeMetric().percentile90() ) ).append( "\n" );
-        sb.append( offset ).append( offset )
-                .append( String.format( "%1$-" + padRightDistance + "s", "95th Percentile:" ) )
-                .append( INTEGER_FORMATTER.format( metric.runTimeMetric().percentile95() ) ).append( "\n" );
-        sb.append( offset ).append( offset )
-                .append( String.format( "%1$-" + padRightDistance + "s", "99th Percentile:" ) )
-                .append( INTEGER_FORMATTER.format( metric.runTimeMetric().percentile99() ) ).append( "\n" );
+        appendPercentiles( sb, offset + offset, padRightDistance, metric.runTimeMetric() );
+        if ( null != metric.responseTimeMetric() )
+        {
+            // measured from scheduled start time, includes time spent waiting to be executed
+            sb.append( offset ).append( offset ).append( "Response Time:\n" );
+            appendPercentiles( sb, offset + offset + offset, padRightDistance, metric.responseTimeMetric() );
+        }
+        // only worth a breakdown when results differ, e.g., when some operations fail fast
+        if ( resultCodeMetrics.size() > 1 )
+        {
+            for ( ResultCodeMetricsSnapshot resultCodeMetric : resultCodeMetrics )
+            {
+                ContinuousMetricSnapshot runTime = resultCodeMetric.runTimeMetric();
+                sb.append( offset ).append( offset )
+                        .append( String.format( "%1$-" + padRightDistance + "s",
+                                "Result Code " + resultCodeMetric.resultCode() + ":" ) )
+                        .append( "count " ).append( INTEGER_FORMATTER.format( runTime.count() ) )
+                        .append( ", mean " ).append( FLOAT_FORMATTER.format( runTime.mean() ) )
+                        .append( ", 50th " ).append( INTEGER_FORMATTER.format( runTime.percentile50() ) )
+                        .append( ", 99th " ).append( INTEGER_FORMATTER.format( runTime.percentile99() ) )
+                        .append( "\n" );
+            }
+        }
         return sb.toString();
     }
+
+    private List<ResultCodeMetricsSnapshot> resultCodeMetricsFor( String name,
+            List<ResultCodeMetricsSnapshot> allResultCodeMetrics )
+    {
+        List<ResultCodeMetricsSnapshot> resultCodeMetrics = new ArrayList<>();
+        for ( ResultCodeMetricsSnapshot resultCodeMetric : allResultCodeMetrics )
+        {
+            if ( null != name && name.equals( resultCodeMetric.name() ) )
+            {
+                resultCodeMetrics.add( resultCodeMetric );
+            }
+        }
+        return resultCodeMetrics;
+    }
+
+    private void appendPercentiles( StringBuilder sb, String offset, int padRightDistance,
+            ContinuousMetricSnapshot durationMetric )
+    {
+        sb.append( offset ).append( String.format( "%1$-" + padRightDistance + "s", "Min:" ) )
+                .append( INTEGER_FORMATTER.format( durationMetric.min() ) ).append( "\n" );
+        sb.append( offset ).append( String.format( "%1$-" + padRightDistance + "s", "Max:" ) )
+                .append( INTEGER_FORMATTER.format( durationMetric.max() ) ).append( "\n" );
+        sb.append( offset ).append( String.format( "%1$-" + padRightDistance + "s", "Mean:" ) )
+                .append( FLOAT_FORMATTER.format( durationMetric.mean() ) ).append( "\n" );
+        sb.append( offset ).append( String.format( "%1$-" + padRightDistance + "s", "50th Percentile:" ) )
+                .append( INTEGER_FORMATTER.format( durationMetric.percentile50() ) ).append( "\n" );
+        sb.append( offset ).append( String.format( "%1$-" + padRightDistance + "s", "90th Percentile:" ) )
+                .append( INTEGER_FORMATTER.format( durationMetric.percentile90() ) ).append( "\n" );
+        sb.append( offset ).append( String.format( "%1$-" + padRightDistance + "s", "95th Percentile:" ) )
+                .append( INTEGER_FORMATTER.format( durationMetric.percentile95() ) ).append( "\n" );
+        sb.append( offset ).append( String.format( "%1$-" + padRightDistance + "s", "99th Percentile:" ) )
+                .append( INTEGER_FORMATTER.format( durationMetric.percentile99() ) ).append( "\n" );
+    }
 }
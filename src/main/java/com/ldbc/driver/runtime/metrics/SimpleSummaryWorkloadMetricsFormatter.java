@@ -52,6 +52,18 @@ public class SimpleSummaryWorkloadMetricsFormatter implements WorkloadMetricsFor
             sb.append( formatOneMetricRuntime( OFFSET, metric, namePadRightDistance + 2, countPadRightDistance + 2 ) );
         }
         sb.append( "------------------------------------------------------------------------------\n" );
+        if ( null != resultsSnapshot.driverInternals() )
+        {
+            sb.append( "Driver Internals:\n" );
+            resultsSnapshot.driverInternals().appendTo( sb, OFFSET, padRightDistance - OFFSET.length() );
+            sb.append( "------------------------------------------------------------------------------\n" );
+        }
+        if ( null != resultsSnapshot.driverDiagnostics() )
+        {
+            sb.append( "Driver Diagnostics:\n" );
+            resultsSnapshot.driverDiagnostics().appendTo( sb, OFFSET, padRightDistance - OFFSET.length() );
+            sb.append( "------------------------------------------------------------------------------\n" );
+        }
         return sb.toString();
     }
 
@@ -61,15 +73,24 @@ public class SimpleSummaryWorkloadMetricsFormatter implements WorkloadMetricsFor
         String name = (null == metric.name()) ? DEFAULT_NAME : metric.name();
         String unit = (null == metric.durationUnit()) ? DEFAULT_UNIT
                                                       : TEMPORAL_UTIL.abbreviatedTimeUnit( metric.durationUnit() );
-        return new StringBuilder()
+        StringBuilder sb = new StringBuilder()
                 .append( offset )
                 .append( String.format( "%1$-" + namePadRightDistance + "s", name ) )
                 .append( "Count: " )
                 .append( String.format( "%1$-" + countPadRightDistance + "s",
                         INTEGER_FORMATTER.format( metric.runTimeMetric().count() ) ) ).append( " " )
                 .append( "Mean: " )
-                .append( FLOAT_FORMATTER.format( metric.runTimeMetric().mean() ) ).append( " " ).append( unit )
-                .append( "\n" )
-                .toString();
+                .append( FLOAT_FORMATTER.format( metric.runTimeMetric().mean() ) ).append( " " ).append( unit );
+        if ( null != metric.responseTimeMetric() )
+        {
+            sb
+                    .append( "  Response Time Mean: " )
+                    .append( FLOAT_FORMATTER.format( metric.responseTimeMetric().mean() ) ).append( " " )
+                    .append( unit )
+                    .append( "  99th: " )
+                    .append( INTEGER_FORMATTER.format( metric.responseTimeMetric().percentile99() ) ).append( " " )
+                    .append( unit );
+        }
+        return sb.append( "\n" ).toString();
     }
 }
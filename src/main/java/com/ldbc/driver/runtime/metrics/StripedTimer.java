@@ -0,0 +1,38 @@
+package com.ldbc.driver.runtime.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Count, total and max of durations recorded concurrently by many threads. Striped, so recording threads do not
+ * contend on a single cache line, and cheap enough to record on the hot path. Reads are only approximate while
+ * recording is ongoing.
+ */
+public class StripedTimer
+{
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalAsNano = new LongAdder();
+    private final LongAccumulator maxAsNano = new LongAccumulator( Math::max, 0 );
+
+    public void record( long durationAsNano )
+    {
+        count.increment();
+        totalAsNano.add( durationAsNano );
+        maxAsNano.accumulate( durationAsNano );
+    }
+
+    public long count()
+    {
+        return count.sum();
+    }
+
+    public long totalAsNano()
+    {
+        return totalAsNano.sum();
+    }
+
+    public long maxAsNano()
+    {
+        return maxAsNano.get();
+    }
+}
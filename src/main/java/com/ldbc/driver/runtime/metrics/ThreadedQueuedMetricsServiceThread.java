@@ -117,9 +117,11 @@ public class ThreadedQueuedMetricsServiceThread extends Thread
             try
             {
                 metricsManager.measure(
+                        submitOperationResultEvent.scheduledStartTimeAsMilli(),
                         submitOperationResultEvent.actualStartTimeAsMilli(),
                         submitOperationResultEvent.runDurationAsNano(),
-                        submitOperationResultEvent.operationType()
+                        submitOperationResultEvent.operationType(),
+                        submitOperationResultEvent.resultCode()
                 );
             }
             catch ( MetricsCollectionException e )
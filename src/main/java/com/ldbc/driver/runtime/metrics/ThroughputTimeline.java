@@ -0,0 +1,206 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.csv.simple.SimpleCsvFileWriter;
+import org.HdrHistogram.Histogram;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Completed operations and their run times, per operation type, in one second buckets of completion time, so that
+ * throughput collapses and warm up curves are visible without processing the results log.
+ * <p/>
+ * Only to be used by the metrics collection thread. The most recent buckets are kept open, in ring arrays, because
+ * operations do not reach the metrics collection thread exactly in completion order. Once a bucket falls out of the
+ * ring its count, mean and 99th percentile are appended to primitive arrays, and its histograms are reused, so
+ * memory grows by three longs per operation type per second of run. Operations that complete within an already
+ * closed bucket are counted in the oldest open bucket.
+ */
+public class ThroughputTimeline
+{
+    public static final long BUCKET_DURATION_AS_MILLI = TimeUnit.SECONDS.toMillis( 1 );
+    static final int OPEN_BUCKET_COUNT = 4;
+    private static final int INITIAL_BUCKET_CAPACITY = 64;
+    // one histogram per operation type per open bucket, only used for the 99th percentile of each bucket
+    private static final int NUMBER_OF_SIGNIFICANT_DIGITS = 2;
+    private static final String HEADER_BUCKET_START_TIME = "bucket_start_time";
+    private static final String HEADER_OPERATION_TYPE = "operation_type";
+    private static final String HEADER_COUNT = "count";
+    private static final String HEADER_MEAN_RUN_TIME_PREFIX = "mean_run_time_";
+    private static final String HEADER_PERCENTILE_99_RUN_TIME_PREFIX = "99th_percentile_run_time_";
+
+    private final String[] operationNames;
+    private final TimeUnit unit;
+    private final long highestExpectedRuntimeDurationAsNano;
+    private final int operationTypeCount;
+    private final boolean[] measuredOperationTypes;
+    // open buckets, at (bucket % OPEN_BUCKET_COUNT) * operationTypeCount + operationType
+    private final long[] openCounts;
+    private final long[] openRunTimeTotalsAsNano;
+    private final Histogram[] openRunTimes;
+    // closed buckets, at bucket * operationTypeCount + operationType
+    private long[] counts;
+    private long[] runTimeTotalsAsNano;
+    private long[] runTimePercentiles99;
+    private long firstBucketStartTimeAsMilli = -1;
+    private int closedBucketCount = 0;
+    private int latestBucket = -1;
+
+    public ThroughputTimeline(
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
+            TimeUnit unit,
+            long highestExpectedRuntimeDurationAsNano ) throws MetricsCollectionException
+    {
+        this.operationNames = MetricsManager.toOperationNameArray( operationTypeToClassMapping );
+        this.unit = unit;
+        this.highestExpectedRuntimeDurationAsNano = highestExpectedRuntimeDurationAsNano;
+        this.operationTypeCount = operationNames.length;
+        this.measuredOperationTypes = new boolean[operationTypeCount];
+        this.openCounts = new long[OPEN_BUCKET_COUNT * operationTypeCount];
+        this.openRunTimeTotalsAsNano = new long[OPEN_BUCKET_COUNT * operationTypeCount];
+        this.openRunTimes = new Histogram[OPEN_BUCKET_COUNT * operationTypeCount];
+        this.counts = new long[INITIAL_BUCKET_CAPACITY * operationTypeCount];
+        this.runTimeTotalsAsNano = new long[INITIAL_BUCKET_CAPACITY * operationTypeCount];
+        this.runTimePercentiles99 = new long[INITIAL_BUCKET_CAPACITY * operationTypeCount];
+    }
+
+    void record( int operationType, long runDurationAsNano, long timeAsMilli )
+    {
+        if ( -1 == firstBucketStartTimeAsMilli )
+        {
+            // aligned to wall clock seconds, so timelines of different runs and processes line up
+            firstBucketStartTimeAsMilli = timeAsMilli - Math.floorMod( timeAsMilli, BUCKET_DURATION_AS_MILLI );
+        }
+        long bucketAsLong = Math.floorDiv( timeAsMilli - firstBucketStartTimeAsMilli, BUCKET_DURATION_AS_MILLI );
+        int bucket = (int) Math.max( bucketAsLong, closedBucketCount );
+        while ( bucket >= closedBucketCount + OPEN_BUCKET_COUNT )
+        {
+            closeOldestBucket();
+        }
+        latestBucket = Math.max( latestBucket, bucket );
+
+        // operations that exceed the highest expected runtime are reported as it, as with cumulative histograms
+        runDurationAsNano = Math.min( runDurationAsNano, highestExpectedRuntimeDurationAsNano );
+        int index = (bucket % OPEN_BUCKET_COUNT) * operationTypeCount + operationType;
+        openCounts[index]++;
+        openRunTimeTotalsAsNano[index] += runDurationAsNano;
+        if ( null == openRunTimes[index] )
+        {
+            openRunTimes[index] = new Histogram(
+                    1,
+                    unit.convert( highestExpectedRuntimeDurationAsNano, TimeUnit.NANOSECONDS ),
+                    NUMBER_OF_SIGNIFICANT_DIGITS );
+        }
+        openRunTimes[index].recordValue( unit.convert( runDurationAsNano, TimeUnit.NANOSECONDS ) );
+        measuredOperationTypes[operationType] = true;
+    }
+
+    /**
+     * Closes all open buckets, call once no more operations will be recorded
+     */
+    void finish()
+    {
+        while ( closedBucketCount <= latestBucket )
+        {
+            closeOldestBucket();
+        }
+    }
+
+    /**
+     * Finishes timeline and writes one row per bucket per operation type that was measured at least once, buckets
+     * without completed operations included, so stalls show up as rows with a count of 0
+     */
+    public void writeCsv( File file ) throws IOException
+    {
+        finish();
+        try ( SimpleCsvFileWriter writer =
+                      new SimpleCsvFileWriter( file, SimpleCsvFileWriter.DEFAULT_COLUMN_SEPARATOR ) )
+        {
+            writer.writeRow(
+                    HEADER_BUCKET_START_TIME,
+                    HEADER_OPERATION_TYPE,
+                    HEADER_COUNT,
+                    HEADER_MEAN_RUN_TIME_PREFIX + unit.name(),
+                    HEADER_PERCENTILE_99_RUN_TIME_PREFIX + unit.name()
+            );
+            for ( int bucket = 0; bucket < closedBucketCount; bucket++ )
+            {
+                String bucketStartTime = Long.toString( bucketStartTimeAsMilli( bucket ) );
+                for ( int operationType = 0; operationType < operationTypeCount; operationType++ )
+                {
+                    if ( measuredOperationTypes[operationType] )
+                    {
+                        writer.writeRow(
+                                bucketStartTime,
+                                operationNames[operationType],
+                                Long.toString( count( bucket, operationType ) ),
+                                Double.toString(
+                                        meanRunTimeAsNano( bucket, operationType ) / unit.toNanos( 1 ) ),
+                                Long.toString( runTimePercentile99( bucket, operationType ) )
+                        );
+                    }
+                }
+            }
+        }
+    }
+
+    int closedBucketCount()
+    {
+        return closedBucketCount;
+    }
+
+    long bucketStartTimeAsMilli( int bucket )
+    {
+        return firstBucketStartTimeAsMilli + bucket * BUCKET_DURATION_AS_MILLI;
+    }
+
+    long count( int bucket, int operationType )
+    {
+        return counts[bucket * operationTypeCount + operationType];
+    }
+
+    double meanRunTimeAsNano( int bucket, int operationType )
+    {
+        long count = count( bucket, operationType );
+        return (0 == count) ? 0 : runTimeTotalsAsNano[bucket * operationTypeCount + operationType] / (double) count;
+    }
+
+    /**
+     * @return in time unit of timeline, 0 if no operations of type completed within bucket
+     */
+    long runTimePercentile99( int bucket, int operationType )
+    {
+        return runTimePercentiles99[bucket * operationTypeCount + operationType];
+    }
+
+    private void closeOldestBucket()
+    {
+        int closedOffset = closedBucketCount * operationTypeCount;
+        if ( closedOffset + operationTypeCount > counts.length )
+        {
+            counts = Arrays.copyOf( counts, counts.length * 2 );
+            runTimeTotalsAsNano = Arrays.copyOf( runTimeTotalsAsNano, runTimeTotalsAsNano.length * 2 );
+            runTimePercentiles99 = Arrays.copyOf( runTimePercentiles99, runTimePercentiles99.length * 2 );
+        }
+        int openOffset = (closedBucketCount % OPEN_BUCKET_COUNT) * operationTypeCount;
+        for ( int operationType = 0; operationType < operationTypeCount; operationType++ )
+        {
+            int openIndex = openOffset + operationType;
+            if ( openCounts[openIndex] > 0 )
+            {
+                counts[closedOffset + operationType] = openCounts[openIndex];
+                runTimeTotalsAsNano[closedOffset + operationType] = openRunTimeTotalsAsNano[openIndex];
+                runTimePercentiles99[closedOffset + operationType] =
+                        openRunTimes[openIndex].getValueAtPercentile( 99 );
+                openCounts[openIndex] = 0;
+                openRunTimeTotalsAsNano[openIndex] = 0;
+                openRunTimes[openIndex].reset();
+            }
+        }
+        closedBucketCount++;
+    }
+}
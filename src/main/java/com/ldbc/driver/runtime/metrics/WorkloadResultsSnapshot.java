@@ -1,5 +1,6 @@
 package com.ldbc.driver.runtime.metrics;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -8,6 +9,7 @@ import com.ldbc.driver.runtime.ConcurrentErrorReporter;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
@@ -17,6 +19,9 @@ public class WorkloadResultsSnapshot
     @JsonProperty( value = "all_metrics" )
     private List<OperationMetricsSnapshot> metrics;
 
+    @JsonProperty( value = "result_code_metrics" )
+    private List<ResultCodeMetricsSnapshot> resultCodeMetrics = new ArrayList<>();
+
     @JsonProperty( value = "format_version" )
     private int formatVersion = 3;
 
@@ -38,6 +43,14 @@ public class WorkloadResultsSnapshot
     @JsonProperty( value = "throughput" )
     private double throughput;
 
+    @JsonProperty( value = "driver_internals" )
+    @JsonInclude( JsonInclude.Include.NON_NULL )
+    private DriverInternalMetricsSnapshot driverInternals = null;
+
+    @JsonProperty( value = "driver_diagnostics" )
+    @JsonInclude( JsonInclude.Include.NON_NULL )
+    private DriverDiagnosticsSnapshot driverDiagnostics = null;
+
     public static WorkloadResultsSnapshot fromJson( File jsonFile ) throws IOException
     {
         return new ObjectMapper().readValue( jsonFile, WorkloadResultsSnapshot.class );
@@ -59,6 +72,26 @@ public class WorkloadResultsSnapshot
             long operationCount,
             TimeUnit unit )
     {
+        this(
+                metrics,
+                Collections.<ResultCodeMetricsSnapshot>emptyList(),
+                startTimeAsMilli,
+                latestFinishTimeAsMilli,
+                operationCount,
+                unit
+        );
+    }
+
+    public WorkloadResultsSnapshot(
+            Iterable<OperationMetricsSnapshot> metrics,
+            Iterable<ResultCodeMetricsSnapshot> resultCodeMetrics,
+            long startTimeAsMilli,
+            long latestFinishTimeAsMilli,
+            long operationCount,
+            TimeUnit unit )
+    {
+        this.resultCodeMetrics = Lists.newArrayList( resultCodeMetrics );
+        this.resultCodeMetrics.sort( new ResultCodeMetricsSnapshot.NameAndResultCodeComparator() );
         this.metrics = Lists.newArrayList( metrics );
         this.metrics.sort( new OperationTypeMetricsManager.OperationMetricsNameComparator() );
         this.startTimeAsUnit = unit.convert( startTimeAsMilli, TimeUnit.MILLISECONDS );
@@ -82,6 +115,22 @@ public class WorkloadResultsSnapshot
         Collections.sort( metrics, new OperationTypeMetricsManager.OperationMetricsNameComparator() );
     }
 
+    /**
+     * Run times by operation type and result code, empty for results written before they were measured
+     */
+    @JsonProperty( value = "result_code_metrics" )
+    public List<ResultCodeMetricsSnapshot> resultCodeMetrics()
+    {
+        return resultCodeMetrics;
+    }
+
+    @JsonProperty( value = "result_code_metrics" )
+    private void setResultCodeMetrics( List<ResultCodeMetricsSnapshot> resultCodeMetrics )
+    {
+        this.resultCodeMetrics = resultCodeMetrics;
+        Collections.sort( resultCodeMetrics, new ResultCodeMetricsSnapshot.NameAndResultCodeComparator() );
+    }
+
     public TimeUnit unit()
     {
         return unit;
@@ -112,6 +161,32 @@ public class WorkloadResultsSnapshot
         return throughput;
     }
 
+    /**
+     * @return null if driver internals were not attached to these results
+     */
+    public DriverInternalMetricsSnapshot driverInternals()
+    {
+        return driverInternals;
+    }
+
+    public void setDriverInternals( DriverInternalMetricsSnapshot driverInternals )
+    {
+        this.driverInternals = driverInternals;
+    }
+
+    /**
+     * @return null if driver diagnostics were not sampled during the run
+     */
+    public DriverDiagnosticsSnapshot driverDiagnostics()
+    {
+        return driverDiagnostics;
+    }
+
+    public void setDriverDiagnostics( DriverDiagnosticsSnapshot driverDiagnostics )
+    {
+        this.driverDiagnostics = driverDiagnostics;
+    }
+
     public String toJson()
     {
         try
@@ -130,6 +205,7 @@ public class WorkloadResultsSnapshot
     {
         return "WorkloadResultsSnapshot{" +
                "metrics=" + metrics +
+               ", resultCodeMetrics=" + resultCodeMetrics +
                ", unit=" + unit +
                ", startTimeAsUnit=" + startTimeAsUnit +
                ", latestFinishTimeAsUnit=" + latestFinishTimeAsUnit +
@@ -159,6 +235,9 @@ public class WorkloadResultsSnapshot
         { return false; }
         if ( metrics != null ? !metrics.equals( that.metrics ) : that.metrics != null )
         { return false; }
+        if ( resultCodeMetrics != null ? !resultCodeMetrics.equals( that.resultCodeMetrics )
+                                       : that.resultCodeMetrics != null )
+        { return false; }
         if ( unit != that.unit )
         { return false; }
 
@@ -169,6 +248,7 @@ public class WorkloadResultsSnapshot
     public int hashCode()
     {
         int result = metrics != null ? metrics.hashCode() : 0;
+        result = 31 * result + (resultCodeMetrics != null ? resultCodeMetrics.hashCode() : 0);
         result = 31 * result + (unit != null ? unit.hashCode() : 0);
         result = 31 * result + (int) (startTimeAsUnit ^ (startTimeAsUnit >>> 32));
         result = 31 * result + (int) (latestFinishTimeAsUnit ^ (latestFinishTimeAsUnit >>> 32));
@@ -0,0 +1,137 @@
+package com.ldbc.driver.runtime.scheduling;
+
+import com.ldbc.driver.temporal.TimeSource;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Phased back-off: busy spin, then Thread.onSpinWait() (where the JVM provides it), then yield, then short parks.
+ * When waiting for a scheduled start time the thread parks until the final spin window before that time, and only
+ * backs off within that window, giving sub-millisecond accuracy without keeping a core busy for the whole wait.
+ */
+public class AdaptiveSpinnerWaitStrategy implements SpinnerWaitStrategy
+{
+    public static final int DEFAULT_SPIN_ATTEMPTS = 100;
+    public static final int DEFAULT_SPIN_WAIT_ATTEMPTS = 1000;
+    public static final int DEFAULT_YIELD_ATTEMPTS = 100;
+    public static final long DEFAULT_PARK_DURATION_AS_NANO = TimeUnit.MICROSECONDS.toNanos( 100 );
+    public static final long DEFAULT_SPIN_WINDOW_AS_NANO = TimeUnit.MICROSECONDS.toNanos( 200 );
+    // upper bound of a single park, so that changes in time source (e.g., clock adjustments) are noticed
+    public static final long DEFAULT_MAX_PARK_DURATION_AS_NANO = TimeUnit.MILLISECONDS.toNanos( 10 );
+
+    // Thread.onSpinWait() only exists from Java 9, driver is still compiled for Java 8
+    private static final MethodHandle ON_SPIN_WAIT = onSpinWaitHandle();
+
+    private static MethodHandle onSpinWaitHandle()
+    {
+        try
+        {
+            return MethodHandles.lookup().findStatic( Thread.class, "onSpinWait", MethodType.methodType( void.class ) );
+        }
+        catch ( Throwable e )
+        {
+            return null;
+        }
+    }
+
+    private static void onSpinWait()
+    {
+        if ( null != ON_SPIN_WAIT )
+        {
+            try
+            {
+                ON_SPIN_WAIT.invokeExact();
+            }
+            catch ( Throwable e )
+            {
+                // do nothing
+            }
+        }
+    }
+
+    private final TimeSource timeSource;
+    private final CalibratedNanoClock nanoClock;
+    private final int spinAttempts;
+    private final int spinWaitAttempts;
+    private final int yieldAttempts;
+    private final long parkDurationAsNano;
+    private final long spinWindowAsNano;
+    private final long maxParkDurationAsNano;
+
+    public AdaptiveSpinnerWaitStrategy( TimeSource timeSource )
+    {
+        this(
+                timeSource,
+                new CalibratedNanoClock( timeSource ),
+                DEFAULT_SPIN_ATTEMPTS,
+                DEFAULT_SPIN_WAIT_ATTEMPTS,
+                DEFAULT_YIELD_ATTEMPTS,
+                DEFAULT_PARK_DURATION_AS_NANO,
+                DEFAULT_SPIN_WINDOW_AS_NANO,
+                DEFAULT_MAX_PARK_DURATION_AS_NANO
+        );
+    }
+
+    public AdaptiveSpinnerWaitStrategy( TimeSource timeSource,
+            CalibratedNanoClock nanoClock,
+            int spinAttempts,
+            int spinWaitAttempts,
+            int yieldAttempts,
+            long parkDurationAsNano,
+            long spinWindowAsNano,
+            long maxParkDurationAsNano )
+    {
+        this.timeSource = timeSource;
+        this.nanoClock = nanoClock;
+        this.spinAttempts = spinAttempts;
+        this.spinWaitAttempts = spinAttempts + spinWaitAttempts;
+        this.yieldAttempts = spinAttempts + spinWaitAttempts + yieldAttempts;
+        this.parkDurationAsNano = parkDurationAsNano;
+        this.spinWindowAsNano = spinWindowAsNano;
+        this.maxParkDurationAsNano = maxParkDurationAsNano;
+    }
+
+    @Override
+    public void waitUntil( long timeAsMilli )
+    {
+        int attempt = 0;
+        // time source decides when waiting is over, nano clock only decides how to wait
+        while ( timeSource.nowAsMilli() < timeAsMilli )
+        {
+            long remainingAsNano = -nanoClock.nanoSince( timeAsMilli );
+            if ( remainingAsNano > spinWindowAsNano )
+            {
+                LockSupport.parkNanos( Math.min( remainingAsNano - spinWindowAsNano, maxParkDurationAsNano ) );
+            }
+            else
+            {
+                backOff( attempt++ );
+            }
+        }
+    }
+
+    @Override
+    public void backOff( int attempt )
+    {
+        if ( attempt < spinAttempts )
+        {
+            // busy spin
+        }
+        else if ( attempt < spinWaitAttempts )
+        {
+            onSpinWait();
+        }
+        else if ( attempt < yieldAttempts )
+        {
+            Thread.yield();
+        }
+        else
+        {
+            LockSupport.parkNanos( parkDurationAsNano );
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.ldbc.driver.runtime.scheduling;
+
+import com.ldbc.driver.temporal.TimeSource;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Maps millisecond times of a time source onto its nano snapshot clock, so waiting and measuring can be done with
+ * sub-millisecond accuracy.
+ * Calibrated once, on first use rather than on construction, as calibration busy waits for up to 10 ms, on the edges
+ * of a few millisecond ticks of the time source (if it ticks within the calibration period). Nano snapshot is always
+ * taken after a tick is observed, so every edge can only overestimate the offset (e.g., when interrupted by a pause),
+ * and the smallest offset seen is kept.
+ */
+public class CalibratedNanoClock
+{
+    private static final int CALIBRATION_TICKS = 5;
+    private static final long MAX_CALIBRATION_DURATION_AS_NANO = TimeUnit.MILLISECONDS.toNanos( 10 );
+
+    private final TimeSource timeSource;
+    // written before calibrated is set, read after it is
+    private long offsetAsNano;
+    private volatile boolean calibrated = false;
+
+    public CalibratedNanoClock( TimeSource timeSource )
+    {
+        this.timeSource = timeSource;
+    }
+
+    private static long calibrate( TimeSource timeSource )
+    {
+        long calibrationEndAsNano = System.nanoTime() + MAX_CALIBRATION_DURATION_AS_NANO;
+        long previousAsMilli = timeSource.nowAsMilli();
+        long minOffsetAsNano = timeSource.nanoSnapshot() - TimeUnit.MILLISECONDS.toNanos( previousAsMilli );
+        int ticks = 0;
+        while ( ticks < CALIBRATION_TICKS && System.nanoTime() < calibrationEndAsNano )
+        {
+            long nowAsMilli = timeSource.nowAsMilli();
+            long nowAsNano = timeSource.nanoSnapshot();
+            if ( nowAsMilli != previousAsMilli )
+            {
+                long offsetAsNano = nowAsNano - TimeUnit.MILLISECONDS.toNanos( nowAsMilli );
+                minOffsetAsNano = (0 == ticks) ? offsetAsNano : Math.min( minOffsetAsNano, offsetAsNano );
+                previousAsMilli = nowAsMilli;
+                ticks++;
+            }
+        }
+        return minOffsetAsNano;
+    }
+
+    private long offsetAsNano()
+    {
+        if ( !calibrated )
+        {
+            synchronized ( this )
+            {
+                if ( !calibrated )
+                {
+                    offsetAsNano = calibrate( timeSource );
+                    calibrated = true;
+                }
+            }
+        }
+        return offsetAsNano;
+    }
+
+    /**
+     * @param timeAsMilli time source time
+     * @return nano snapshot value at which time source reaches the given time
+     */
+    public long nanoSnapshotAt( long timeAsMilli )
+    {
+        return offsetAsNano() + TimeUnit.MILLISECONDS.toNanos( timeAsMilli );
+    }
+
+    /**
+     * @param timeAsMilli time source time
+     * @return nanoseconds elapsed since the given time, negative if it has not yet been reached
+     */
+    public long nanoSince( long timeAsMilli )
+    {
+        // taken before calibrating, which would otherwise be counted as elapsed on first use
+        long nowAsNano = timeSource.nanoSnapshot();
+        return nowAsNano - nanoSnapshotAt( timeAsMilli );
+    }
+}
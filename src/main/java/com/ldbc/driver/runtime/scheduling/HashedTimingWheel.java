@@ -0,0 +1,140 @@
+package com.ldbc.driver.runtime.scheduling;
+
+import com.ldbc.driver.Operation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.lang.String.format;
+
+/**
+ * Hashed timing wheel of operations, keyed by scheduled start time.
+ * Each bucket covers one tick, operations scheduled more than one revolution ahead stay in their bucket until the
+ * wheel reaches their deadline tick.
+ * An operation is never released before its scheduled start time.
+ * NOT thread safe, intended to be owned by a single scheduling thread.
+ */
+public class HashedTimingWheel
+{
+    public static final int DEFAULT_WHEEL_SIZE = 1024;
+    public static final long DEFAULT_TICK_DURATION_AS_MILLI = 1;
+
+    private final long tickDurationAsMilli;
+    private final int mask;
+    private final List<List<Operation>> buckets;
+    private final List<Operation> overdue = new ArrayList<>();
+    // last tick for which due operations have been released
+    private long currentTick;
+    private long size = 0;
+
+    public HashedTimingWheel( int wheelSize, long tickDurationAsMilli, long startTimeAsMilli )
+    {
+        if ( wheelSize < 1 || Integer.bitCount( wheelSize ) != 1 )
+        {
+            throw new IllegalArgumentException( format( "Wheel size must be a power of two: %s", wheelSize ) );
+        }
+        if ( tickDurationAsMilli < 1 )
+        {
+            throw new IllegalArgumentException( format( "Tick duration must be positive: %s", tickDurationAsMilli ) );
+        }
+        this.tickDurationAsMilli = tickDurationAsMilli;
+        this.mask = wheelSize - 1;
+        this.buckets = new ArrayList<>( wheelSize );
+        for ( int i = 0; i < wheelSize; i++ )
+        {
+            buckets.add( new ArrayList<Operation>() );
+        }
+        this.currentTick = tickOf( startTimeAsMilli );
+    }
+
+    public void add( Operation operation )
+    {
+        long deadlineTick = deadlineTickOf( operation );
+        if ( deadlineTick <= currentTick )
+        {
+            overdue.add( operation );
+        }
+        else
+        {
+            buckets.get( (int) (deadlineTick & mask) ).add( operation );
+        }
+        size++;
+    }
+
+    /**
+     * Moves the wheel forward to the given time, appending all operations that are due by then to the given list,
+     * in the order of their deadline ticks
+     *
+     * @param nowAsMilli current time
+     * @param due list that due operations are appended to
+     * @return number of operations released
+     */
+    public int advanceTo( long nowAsMilli, List<Operation> due )
+    {
+        int released = 0;
+        if ( false == overdue.isEmpty() )
+        {
+            due.addAll( overdue );
+            released += overdue.size();
+            overdue.clear();
+        }
+        long nowTick = tickOf( nowAsMilli );
+        while ( currentTick < nowTick )
+        {
+            currentTick++;
+            released += releaseDue( buckets.get( (int) (currentTick & mask) ), currentTick, due );
+        }
+        size -= released;
+        return released;
+    }
+
+    /**
+     * @return time at which the next tick begins, i.e., earliest time at which advancing may release an operation
+     */
+    public long nextTickTimeAsMilli()
+    {
+        return (currentTick + 1) * tickDurationAsMilli;
+    }
+
+    public long size()
+    {
+        return size;
+    }
+
+    private int releaseDue( List<Operation> bucket, long tick, List<Operation> due )
+    {
+        if ( bucket.isEmpty() )
+        {
+            return 0;
+        }
+        int remaining = 0;
+        int bucketSize = bucket.size();
+        for ( int i = 0; i < bucketSize; i++ )
+        {
+            Operation operation = bucket.get( i );
+            if ( deadlineTickOf( operation ) <= tick )
+            {
+                due.add( operation );
+            }
+            else
+            {
+                bucket.set( remaining++, operation );
+            }
+        }
+        bucket.subList( remaining, bucketSize ).clear();
+        return bucketSize - remaining;
+    }
+
+    private long tickOf( long timeAsMilli )
+    {
+        return timeAsMilli / tickDurationAsMilli;
+    }
+
+    // first tick that begins at or after scheduled start time, so operations are never released early
+    private long deadlineTickOf( Operation operation )
+    {
+        long scheduledStartTimeAsMilli = operation.scheduledStartTimeAsMilli();
+        long tick = scheduledStartTimeAsMilli / tickDurationAsMilli;
+        return (tick * tickDurationAsMilli == scheduledStartTimeAsMilli) ? tick : tick + 1;
+    }
+}
@@ -0,0 +1,30 @@
+package com.ldbc.driver.runtime.scheduling;
+
+import com.ldbc.driver.temporal.TimeSource;
+
+public class SleepingSpinnerWaitStrategy implements SpinnerWaitStrategy
+{
+    private final TimeSource timeSource;
+    private final long sleepDurationAsMilli;
+
+    public SleepingSpinnerWaitStrategy( TimeSource timeSource, long sleepDurationAsMilli )
+    {
+        this.timeSource = timeSource;
+        this.sleepDurationAsMilli = sleepDurationAsMilli;
+    }
+
+    @Override
+    public void waitUntil( long timeAsMilli )
+    {
+        while ( timeSource.nowAsMilli() < timeAsMilli )
+        {
+            Spinner.powerNap( sleepDurationAsMilli );
+        }
+    }
+
+    @Override
+    public void backOff( int attempt )
+    {
+        Spinner.powerNap( sleepDurationAsMilli );
+    }
+}
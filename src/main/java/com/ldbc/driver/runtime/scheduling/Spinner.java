@@ -1,9 +1,13 @@
 package com.ldbc.driver.runtime.scheduling;
 
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.runtime.metrics.DriverInternalMetrics;
+import com.ldbc.driver.runtime.metrics.StripedTimer;
 import com.ldbc.driver.temporal.TimeSource;
 import com.ldbc.driver.util.Function2;
 
+import static java.lang.String.format;
+
 // TODO if error policy DOES NOT terminate benchmark and DOES NOT allow the operation to complete something needs
 // TODO to be done about DEPENDENT/CT, because the IT for the operation has already been reported
 // TODO perhaps the CT for that operation needs to be reported too (to CT service, but not to MetricsService),
@@ -20,15 +24,68 @@ public class Spinner
     public static final SpinnerCheck TRUE_CHECK = new TrueCheck();
 
     private final Function2<Operation,SpinnerCheck,Boolean,RuntimeException> spinFun;
+    private final StartTimeJitter startTimeJitter;
+    private final DriverInternalMetrics driverInternalMetrics;
 
     public Spinner(
             TimeSource timeSource,
             long sleepDurationAsMilli,
             boolean ignoreScheduleStartTimes )
     {
+        this( timeSource, sleepDurationAsMilli, ignoreScheduleStartTimes, SpinnerWaitStrategyType.SLEEP );
+    }
+
+    public Spinner(
+            TimeSource timeSource,
+            long sleepDurationAsMilli,
+            boolean ignoreScheduleStartTimes,
+            SpinnerWaitStrategyType waitStrategyType )
+    {
+        this( timeSource, sleepDurationAsMilli, ignoreScheduleStartTimes, waitStrategyType,
+                new DriverInternalMetrics() );
+    }
+
+    /**
+     * @param driverInternalMetrics where waits of this spinner, and of executors it is handed to, are recorded
+     */
+    public Spinner(
+            TimeSource timeSource,
+            long sleepDurationAsMilli,
+            boolean ignoreScheduleStartTimes,
+            SpinnerWaitStrategyType waitStrategyType,
+            DriverInternalMetrics driverInternalMetrics )
+    {
+        this.driverInternalMetrics = driverInternalMetrics;
+        CalibratedNanoClock nanoClock = new CalibratedNanoClock( timeSource );
+        SpinnerWaitStrategy waitStrategy;
+        switch ( waitStrategyType )
+        {
+        case SLEEP:
+            waitStrategy = new SleepingSpinnerWaitStrategy( timeSource, sleepDurationAsMilli );
+            break;
+        case ADAPTIVE:
+            waitStrategy = new AdaptiveSpinnerWaitStrategy(
+                    timeSource,
+                    nanoClock,
+                    AdaptiveSpinnerWaitStrategy.DEFAULT_SPIN_ATTEMPTS,
+                    AdaptiveSpinnerWaitStrategy.DEFAULT_SPIN_WAIT_ATTEMPTS,
+                    AdaptiveSpinnerWaitStrategy.DEFAULT_YIELD_ATTEMPTS,
+                    AdaptiveSpinnerWaitStrategy.DEFAULT_PARK_DURATION_AS_NANO,
+                    AdaptiveSpinnerWaitStrategy.DEFAULT_SPIN_WINDOW_AS_NANO,
+                    AdaptiveSpinnerWaitStrategy.DEFAULT_MAX_PARK_DURATION_AS_NANO
+            );
+            break;
+        default:
+            throw new IllegalArgumentException(
+                    format( "Unrecognized %s: %s", SpinnerWaitStrategyType.class.getSimpleName(), waitStrategyType ) );
+        }
+        this.startTimeJitter = new StartTimeJitter( nanoClock );
         this.spinFun = (ignoreScheduleStartTimes)
-                       ? new WaitForChecksFun( sleepDurationAsMilli )
-                       : new WaitForChecksAndScheduledStartTimeFun( timeSource, sleepDurationAsMilli );
+                       ? new WaitForChecksFun( waitStrategy, driverInternalMetrics )
+                       : new WaitForChecksAndScheduledStartTimeFun(
+                               waitStrategy,
+                               startTimeJitter,
+                               driverInternalMetrics );
     }
 
     boolean waitForScheduledStartTime( Operation operation )
@@ -54,6 +111,20 @@ public class Spinner
         return spinFun.apply( operation, check );
     }
 
+    /**
+     * @return lateness of operations released by this spinner, nothing is recorded when scheduled start times are
+     * ignored
+     */
+    public StartTimeJitter startTimeJitter()
+    {
+        return startTimeJitter;
+    }
+
+    public DriverInternalMetrics driverInternalMetrics()
+    {
+        return driverInternalMetrics;
+    }
+
     // sleep to reduce CPU load while spinning
     // NOTE: longer sleep == lower scheduling accuracy AND lower achievable throughput
     public static void powerNap( long sleepMs )
@@ -74,15 +145,20 @@ public class Spinner
     private static class WaitForChecksAndScheduledStartTimeFun implements
             Function2<Operation,SpinnerCheck,Boolean,RuntimeException>
     {
-        private final TimeSource timeSource;
-        private final long sleepDurationAsMilli;
+        private final SpinnerWaitStrategy waitStrategy;
+        private final StartTimeJitter startTimeJitter;
+        private final StripedTimer dependencyWaitTimer;
+        private final StripedTimer scheduleWaitTimer;
 
         private WaitForChecksAndScheduledStartTimeFun(
-                TimeSource timeSource,
-                long sleepDurationAsMilli )
+                SpinnerWaitStrategy waitStrategy,
+                StartTimeJitter startTimeJitter,
+                DriverInternalMetrics driverInternalMetrics )
         {
-            this.timeSource = timeSource;
-            this.sleepDurationAsMilli = sleepDurationAsMilli;
+            this.waitStrategy = waitStrategy;
+            this.startTimeJitter = startTimeJitter;
+            this.dependencyWaitTimer = driverInternalMetrics.spinnerDependencyWait();
+            this.scheduleWaitTimer = driverInternalMetrics.spinnerScheduleWait();
         }
 
         @Override
@@ -90,16 +166,19 @@ public class Spinner
         {
             // earliest time at which operation may start
             // wait for checks to have all passed before allowing operation to start
+            long waitStartAsNano = System.nanoTime();
+            int attempt = 0;
             while ( SpinnerCheck.SpinnerCheckResult.STILL_CHECKING == check.doCheck( operation ) )
             {
-                powerNap( sleepDurationAsMilli );
+                waitStrategy.backOff( attempt++ );
             }
+            long checksPassedAsNano = System.nanoTime();
 
             // wait for scheduled operation start time
-            while ( timeSource.nowAsMilli() < operation.scheduledStartTimeAsMilli() )
-            {
-                powerNap( sleepDurationAsMilli );
-            }
+            waitStrategy.waitUntil( operation.scheduledStartTimeAsMilli() );
+            startTimeJitter.record( operation.scheduledStartTimeAsMilli() );
+            dependencyWaitTimer.record( checksPassedAsNano - waitStartAsNano );
+            scheduleWaitTimer.record( System.nanoTime() - checksPassedAsNano );
 
             return SpinnerCheck.SpinnerCheckResult.PASSED == check.doCheck( operation );
         }
@@ -107,21 +186,26 @@ public class Spinner
 
     private static class WaitForChecksFun implements Function2<Operation,SpinnerCheck,Boolean,RuntimeException>
     {
-        private final long sleepDurationAsMilli;
+        private final SpinnerWaitStrategy waitStrategy;
+        private final StripedTimer dependencyWaitTimer;
 
-        private WaitForChecksFun( long sleepDurationAsMilli )
+        private WaitForChecksFun( SpinnerWaitStrategy waitStrategy, DriverInternalMetrics driverInternalMetrics )
         {
-            this.sleepDurationAsMilli = sleepDurationAsMilli;
+            this.waitStrategy = waitStrategy;
+            this.dependencyWaitTimer = driverInternalMetrics.spinnerDependencyWait();
         }
 
         @Override
         public Boolean apply( Operation operation, SpinnerCheck check )
         {
             // wait for checks to have all passed before allowing operation to start
+            long waitStartAsNano = System.nanoTime();
+            int attempt = 0;
             while ( SpinnerCheck.SpinnerCheckResult.STILL_CHECKING == check.doCheck( operation ) )
             {
-                powerNap( sleepDurationAsMilli );
+                waitStrategy.backOff( attempt++ );
             }
+            dependencyWaitTimer.record( System.nanoTime() - waitStartAsNano );
 
             return SpinnerCheck.SpinnerCheckResult.PASSED == check.doCheck( operation );
         }
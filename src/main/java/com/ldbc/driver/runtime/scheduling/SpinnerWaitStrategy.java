@@ -0,0 +1,21 @@
+package com.ldbc.driver.runtime.scheduling;
+
+/**
+ * Decides how a thread passes time while Spinner waits for checks to pass and for scheduled start times
+ */
+public interface SpinnerWaitStrategy
+{
+    /**
+     * Returns once time source has reached the given time, never before
+     *
+     * @param timeAsMilli time to wait for
+     */
+    void waitUntil( long timeAsMilli );
+
+    /**
+     * Called between consecutive checks that have not yet passed
+     *
+     * @param attempt number of checks already performed, starting from 0
+     */
+    void backOff( int attempt );
+}
@@ -0,0 +1,16 @@
+package com.ldbc.driver.runtime.scheduling;
+
+/**
+ * Wait strategy used by Spinner
+ */
+public enum SpinnerWaitStrategyType
+{
+    /**
+     * Sleep for spinner wait duration between checks, scheduling accuracy is bounded by that duration
+     */
+    SLEEP,
+    /**
+     * Park until shortly before scheduled start time, then spin, spin-wait, yield, and park for short periods
+     */
+    ADAPTIVE
+}
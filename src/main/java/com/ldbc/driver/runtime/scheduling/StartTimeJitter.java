@@ -0,0 +1,77 @@
+package com.ldbc.driver.runtime.scheduling;
+
+import com.ldbc.driver.temporal.TimeSource;
+import org.HdrHistogram.AtomicHistogram;
+
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Measures how late operations are released by Spinner, relative to their scheduled start times.
+ * Thread safe, recorded in microseconds.
+ */
+public class StartTimeJitter
+{
+    private static final long HIGHEST_TRACKABLE_LATENESS_AS_MICRO = TimeUnit.HOURS.toMicros( 1 );
+    private static final int NUMBER_OF_SIGNIFICANT_VALUE_DIGITS = 3;
+
+    private final CalibratedNanoClock nanoClock;
+    private final AtomicHistogram latenessAsMicro;
+
+    public StartTimeJitter( TimeSource timeSource )
+    {
+        this( new CalibratedNanoClock( timeSource ) );
+    }
+
+    public StartTimeJitter( CalibratedNanoClock nanoClock )
+    {
+        this.nanoClock = nanoClock;
+        this.latenessAsMicro = new AtomicHistogram( HIGHEST_TRACKABLE_LATENESS_AS_MICRO,
+                NUMBER_OF_SIGNIFICANT_VALUE_DIGITS );
+    }
+
+    /**
+     * Records lateness of an operation released now
+     *
+     * @param scheduledStartTimeAsMilli scheduled start time of operation
+     */
+    public void record( long scheduledStartTimeAsMilli )
+    {
+        long lateness = TimeUnit.NANOSECONDS.toMicros( nanoClock.nanoSince( scheduledStartTimeAsMilli ) );
+        latenessAsMicro.recordValue( Math.min( Math.max( 0, lateness ), HIGHEST_TRACKABLE_LATENESS_AS_MICRO ) );
+    }
+
+    public long count()
+    {
+        return latenessAsMicro.getTotalCount();
+    }
+
+    public double meanAsMicro()
+    {
+        return (0 == count()) ? 0 : latenessAsMicro.getMean();
+    }
+
+    public long percentileAsMicro( double percentile )
+    {
+        return latenessAsMicro.getValueAtPercentile( percentile );
+    }
+
+    public long maxAsMicro()
+    {
+        // HdrHistogram 2.x reports the highest equivalent value of the max, report the recorded one as 1.x did
+        return latenessAsMicro.lowestEquivalentValue( latenessAsMicro.getMaxValue() );
+    }
+
+    @Override
+    public String toString()
+    {
+        return format( "Start time jitter (us): count[%s] mean[%.1f] 50th[%s] 99th[%s] 99.9th[%s] max[%s]",
+                count(),
+                meanAsMicro(),
+                percentileAsMicro( 50 ),
+                percentileAsMicro( 99 ),
+                percentileAsMicro( 99.9 ),
+                maxAsMicro() );
+    }
+}
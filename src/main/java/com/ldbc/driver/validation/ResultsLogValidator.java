@@ -1,6 +1,8 @@
 package com.ldbc.driver.validation;
 
 import com.ldbc.driver.csv.simple.SimpleCsvFileReader;
+import com.ldbc.driver.runtime.metrics.BinaryResultsLogReader;
+import com.ldbc.driver.runtime.metrics.BinaryResultsLogWriter;
 import com.ldbc.driver.temporal.TemporalUtil;
 
 import java.io.File;
@@ -54,77 +56,93 @@ public class ResultsLogValidator
                 maxDelayAsMilli,
                 excessiveDelayThresholdAsMilli
         );
+        forEachResult( resultsLog, ( operationType, scheduledStartTimeAsMilli, actualStartTimeAsMilli ) -> {
+            long delayAsMilli = actualStartTimeAsMilli - scheduledStartTimeAsMilli;
+            calculator.recordDelay( operationType, delayAsMilli );
+        } );
+        return calculator.snapshot();
+    }
 
-        try ( SimpleCsvFileReader reader = new SimpleCsvFileReader(
-                resultsLog,
-                SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING ) )
-        {
-            // skip headers
-            reader.next();
-            while ( reader.hasNext() )
+    private long maxDelayAsMilli( File resultsLog ) throws ValidationException
+    {
+        long[] maxDelayAsMilli = new long[]{0};
+        forEachResult( resultsLog, ( operationType, scheduledStartTimeAsMilli, actualStartTimeAsMilli ) -> {
+            long delayAsMilli = actualStartTimeAsMilli - scheduledStartTimeAsMilli;
+            if ( delayAsMilli < 0 )
             {
-                String[] row = reader.next();
-                String operationType = row[0];
-                long scheduledStartTimeAsMilli = Long.parseLong( row[1] );
-                long actualStartTimeAsMilli = Long.parseLong( row[2] );
-                // duration
-                // result code
-                long delayAsMilli = actualStartTimeAsMilli - scheduledStartTimeAsMilli;
-                calculator.recordDelay( operationType, delayAsMilli );
+                throw new ValidationException(
+                        format( "Delay can not be negative\n" +
+                                "Delay: %s (ms) / %s\n" +
+                                "Scheduled Start Time: %s (ms) / %s\n" +
+                                "Actual Start Time: %s (ms) / %s",
+                                delayAsMilli,
+                                TEMPORAL_UTIL.milliDurationToString( delayAsMilli ),
+                                scheduledStartTimeAsMilli,
+                                TEMPORAL_UTIL.milliTimeToTimeString( scheduledStartTimeAsMilli ),
+                                actualStartTimeAsMilli,
+                                TEMPORAL_UTIL.milliTimeToTimeString( actualStartTimeAsMilli )
+                        )
+                );
             }
-        }
-        catch ( FileNotFoundException e )
-        {
-            throw new ValidationException( format( "Error opening results log: %s", resultsLog.getAbsolutePath() ), e );
-        }
-
-        return calculator.snapshot();
+            if ( delayAsMilli > maxDelayAsMilli[0] )
+            {
+                maxDelayAsMilli[0] = delayAsMilli;
+            }
+        } );
+        return maxDelayAsMilli[0];
     }
 
-    private long maxDelayAsMilli( File resultsLog ) throws ValidationException
+    private void forEachResult( File resultsLog, ResultHandler handler ) throws ValidationException
     {
-        long maxDelayAsMilli = 0;
-        try ( SimpleCsvFileReader reader = new SimpleCsvFileReader(
-                resultsLog,
-                SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING ) )
+        if ( resultsLog.getName().endsWith( BinaryResultsLogWriter.FILENAME_SUFFIX ) )
         {
-            // skip headers
-            reader.next();
-            while ( reader.hasNext() )
+            try ( BinaryResultsLogReader reader = new BinaryResultsLogReader( resultsLog ) )
             {
-                String[] row = reader.next();
-                // operation type
-                long scheduledStartTimeAsMilli = Long.parseLong( row[1] );
-                long actualStartTimeAsMilli = Long.parseLong( row[2] );
-                // duration
-                // result code
-                long delayAsMilli = actualStartTimeAsMilli - scheduledStartTimeAsMilli;
-                if ( delayAsMilli < 0 )
+                while ( reader.next() )
                 {
-                    throw new ValidationException(
-                            format( "Delay can not be negative\n" +
-                                    "Delay: %s (ms) / %s\n" +
-                                    "Scheduled Start Time: %s (ms) / %s\n" +
-                                    "Actual Start Time: %s (ms) / %s",
-                                    delayAsMilli,
-                                    TEMPORAL_UTIL.milliDurationToString( delayAsMilli ),
-                                    scheduledStartTimeAsMilli,
-                                    TEMPORAL_UTIL.milliTimeToTimeString( scheduledStartTimeAsMilli ),
-                                    actualStartTimeAsMilli,
-                                    TEMPORAL_UTIL.milliTimeToTimeString( actualStartTimeAsMilli )
-                            )
-                    );
-                }
-                if ( delayAsMilli > maxDelayAsMilli )
-                {
-                    maxDelayAsMilli = delayAsMilli;
+                    handler.handle(
+                            reader.getOperationName(),
+                            reader.getScheduledStartTimeAsMilli(),
+                            reader.getActualStartTimeAsMilli() );
                 }
             }
+            catch ( ValidationException e )
+            {
+                throw e;
+            }
+            catch ( Exception e )
+            {
+                throw new ValidationException(
+                        format( "Error reading results log: %s", resultsLog.getAbsolutePath() ), e );
+            }
         }
-        catch ( FileNotFoundException e )
+        else
         {
-            throw new ValidationException( format( "Error opening results log: %s", resultsLog.getAbsolutePath() ), e );
+            try ( SimpleCsvFileReader reader = new SimpleCsvFileReader(
+                    resultsLog,
+                    SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING ) )
+            {
+                // skip headers
+                reader.next();
+                while ( reader.hasNext() )
+                {
+                    String[] row = reader.next();
+                    // duration
+                    // result code
+                    handler.handle( row[0], Long.parseLong( row[1] ), Long.parseLong( row[2] ) );
+                }
+            }
+            catch ( FileNotFoundException e )
+            {
+                throw new ValidationException(
+                        format( "Error opening results log: %s", resultsLog.getAbsolutePath() ), e );
+            }
         }
-        return maxDelayAsMilli;
+    }
+
+    private interface ResultHandler
+    {
+        void handle( String operationType, long scheduledStartTimeAsMilli, long actualStartTimeAsMilli )
+                throws ValidationException;
     }
 }
@@ -0,0 +1,77 @@
+package com.ldbc.driver.workloads.ldbc.snb.interactive;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationConflictKeys;
+
+/**
+ * Conflict keys of update operations, the entities each one creates plus those it references that may be created
+ * earlier in the same update stream. Persons are created in person update streams, forum update streams reference
+ * them via dependency time stamps, so persons referenced by forum updates are not keys, other than for friendships.
+ * Keys are tagged with entity type, so entities of different types with equal identifiers do not conflict.
+ */
+public class LdbcSnbInteractiveOperationConflictKeys implements OperationConflictKeys
+{
+    private static final int ENTITY_TYPE_BITS = 2;
+    private static final long PERSON = 0;
+    private static final long FORUM = 1;
+    private static final long POST = 2;
+    private static final long COMMENT = 3;
+
+    @Override
+    public long[] conflictKeysFor( Operation operation )
+    {
+        switch ( operation.type() )
+        {
+        case LdbcUpdate1AddPerson.TYPE:
+        {
+            LdbcUpdate1AddPerson update = (LdbcUpdate1AddPerson) operation;
+            return new long[]{key( PERSON, update.personId() )};
+        }
+        case LdbcUpdate2AddPostLike.TYPE:
+        {
+            LdbcUpdate2AddPostLike update = (LdbcUpdate2AddPostLike) operation;
+            return new long[]{key( POST, update.postId() )};
+        }
+        case LdbcUpdate3AddCommentLike.TYPE:
+        {
+            LdbcUpdate3AddCommentLike update = (LdbcUpdate3AddCommentLike) operation;
+            return new long[]{key( COMMENT, update.commentId() )};
+        }
+        case LdbcUpdate4AddForum.TYPE:
+        {
+            LdbcUpdate4AddForum update = (LdbcUpdate4AddForum) operation;
+            return new long[]{key( FORUM, update.forumId() )};
+        }
+        case LdbcUpdate5AddForumMembership.TYPE:
+        {
+            LdbcUpdate5AddForumMembership update = (LdbcUpdate5AddForumMembership) operation;
+            return new long[]{key( FORUM, update.forumId() )};
+        }
+        case LdbcUpdate6AddPost.TYPE:
+        {
+            LdbcUpdate6AddPost update = (LdbcUpdate6AddPost) operation;
+            return new long[]{key( POST, update.postId() ), key( FORUM, update.forumId() )};
+        }
+        case LdbcUpdate7AddComment.TYPE:
+        {
+            LdbcUpdate7AddComment update = (LdbcUpdate7AddComment) operation;
+            // a comment replies to either a post or a comment, the other identifier is -1
+            return (-1 == update.replyToPostId())
+                   ? new long[]{key( COMMENT, update.commentId() ), key( COMMENT, update.replyToCommentId() )}
+                   : new long[]{key( COMMENT, update.commentId() ), key( POST, update.replyToPostId() )};
+        }
+        case LdbcUpdate8AddFriendship.TYPE:
+        {
+            LdbcUpdate8AddFriendship update = (LdbcUpdate8AddFriendship) operation;
+            return new long[]{key( PERSON, update.person1Id() ), key( PERSON, update.person2Id() )};
+        }
+        default:
+            return null;
+        }
+    }
+
+    private static long key( long entityType, long id )
+    {
+        return (id << ENTITY_TYPE_BITS) | entityType;
+    }
+}
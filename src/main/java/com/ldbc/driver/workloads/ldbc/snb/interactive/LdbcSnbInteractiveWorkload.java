@@ -12,6 +12,7 @@ import com.google.common.collect.PeekingIterator;
 import com.google.common.collect.Sets;
 import com.ldbc.driver.ChildOperationGenerator;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationConflictKeys;
 import com.ldbc.driver.SerializingMarshallingException;
 import com.ldbc.driver.Workload;
 import com.ldbc.driver.WorkloadException;
@@ -485,6 +486,7 @@ public class LdbcSnbInteractiveWorkload extends Workload
         List<Iterator<?>> asynchronousNonDependencyStreamsList = new ArrayList<>();
         Set<Class<? extends Operation>> dependentAsynchronousOperationTypes = Sets.newHashSet();
         Set<Class<? extends Operation>> dependencyAsynchronousOperationTypes = Sets.newHashSet();
+        OperationConflictKeys operationConflictKeys = new LdbcSnbInteractiveOperationConflictKeys();
 
         /* *******
          * *******
@@ -571,7 +573,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
                         dependencyPersonUpdateOperationTypes,
                         filteredPersonUpdateOperations,
                         Collections.<Operation>emptyIterator(),
-                        personUpdateChildOperationGenerator
+                        personUpdateChildOperationGenerator,
+                        operationConflictKeys
                 );
             }
         }
@@ -664,7 +667,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
                         dependencyForumUpdateOperationTypes,
                         Collections.<Operation>emptyIterator(),
                         filteredForumUpdateOperations,
-                        forumUpdateChildOperationGenerator
+                        forumUpdateChildOperationGenerator,
+                        operationConflictKeys
                 );
             }
         }
@@ -0,0 +1,78 @@
+package com.ldbc.driver.client;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.closeTo;
+import static org.junit.Assert.assertThat;
+
+public class TimeCompressionRatioSearchTest
+{
+    private static final double TOLERANCE = 0.000001;
+
+    @Test
+    public void shouldHalveRatioWhilePassingThenBisectOnceBracketed()
+    {
+        // Given
+        // trials pass at ratios of 0.3 and above
+        double boundary = 0.3;
+        TimeCompressionRatioSearch search = new TimeCompressionRatioSearch( 1.0, 5 );
+
+        // When/Then
+        assertThat( search.nextRatio(), equalTo( 1.0 ) );
+        search.report( search.nextRatio(), search.nextRatio() >= boundary );
+        assertThat( search.nextRatio(), equalTo( 0.5 ) );
+        search.report( search.nextRatio(), search.nextRatio() >= boundary );
+        assertThat( search.nextRatio(), equalTo( 0.25 ) );
+        search.report( search.nextRatio(), search.nextRatio() >= boundary );
+        // bracketed by failing 0.25 and passing 0.5
+        assertThat( search.nextRatio(), closeTo( Math.sqrt( 0.25 * 0.5 ), TOLERANCE ) );
+        search.report( search.nextRatio(), search.nextRatio() >= boundary );
+        // 0.3535 passed, bracketed by failing 0.25 and passing 0.3535
+        assertThat( search.nextRatio(), closeTo( Math.sqrt( 0.25 * Math.sqrt( 0.25 * 0.5 ) ), TOLERANCE ) );
+        search.report( search.nextRatio(), search.nextRatio() >= boundary );
+
+        assertThat( search.hasNext(), is( false ) );
+        assertThat( search.hasPassingRatio(), is( true ) );
+        // 0.2973 failed
+        assertThat( search.bestPassingRatio(), closeTo( Math.sqrt( 0.25 * 0.5 ), TOLERANCE ) );
+    }
+
+    @Test
+    public void shouldDoubleRatioWhileFailing()
+    {
+        // Given
+        TimeCompressionRatioSearch search = new TimeCompressionRatioSearch( 1.0, 3 );
+
+        // When
+        search.report( 1.0, false );
+        double secondRatio = search.nextRatio();
+        search.report( secondRatio, false );
+        double thirdRatio = search.nextRatio();
+        search.report( thirdRatio, false );
+
+        // Then
+        assertThat( secondRatio, equalTo( 2.0 ) );
+        assertThat( thirdRatio, equalTo( 4.0 ) );
+        assertThat( search.hasNext(), is( false ) );
+        assertThat( search.hasPassingRatio(), is( false ) );
+    }
+
+    @Test
+    public void shouldDiscardFailureWhenLowerRatioPasses()
+    {
+        // Given
+        TimeCompressionRatioSearch search = new TimeCompressionRatioSearch( 1.0, 10 );
+        search.report( 1.0, true );
+        search.report( 0.5, false );
+
+        // When
+        // noisy result, lower ratio passes after higher ratio failed
+        search.report( 0.4, true );
+
+        // Then
+        assertThat( search.nextRatio(), equalTo( 0.2 ) );
+        assertThat( search.bestPassingRatio(), equalTo( 0.4 ) );
+    }
+}
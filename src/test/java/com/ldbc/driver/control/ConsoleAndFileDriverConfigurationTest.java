@@ -1,6 +1,12 @@
 package com.ldbc.driver.control;
 
 import com.google.common.collect.Lists;
+import com.ldbc.driver.runtime.coordination.CompletionTimeServiceType;
+import com.ldbc.driver.runtime.executor.OperationExecutorType;
+import com.ldbc.driver.runtime.metrics.AsyncResultsLogWriter;
+import com.ldbc.driver.runtime.metrics.MetricsServiceType;
+import com.ldbc.driver.runtime.metrics.ResultsLogFormat;
+import com.ldbc.driver.runtime.scheduling.SpinnerWaitStrategyType;
 import com.ldbc.driver.util.MapUtils;
 import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcSnbInteractiveWorkload;
 import com.ldbc.driver.workloads.ldbc.snb.interactive.db.DummyLdbcSnbInteractiveDb;
@@ -126,7 +132,26 @@ public class ConsoleAndFileDriverConfigurationTest
                 printHelp,
                 ignoreScheduledStartTimes,
                 warmupCount,
-                skipCount
+                skipCount,
+                ConsoleAndFileDriverConfiguration.OPERATION_EXECUTOR_DEFAULT,
+                ConsoleAndFileDriverConfiguration.TIMING_WHEEL_SCHEDULER_DEFAULT,
+                ConsoleAndFileDriverConfiguration.SPINNER_WAIT_STRATEGY_DEFAULT,
+                ConsoleAndFileDriverConfiguration.CLOSED_LOOP_CLIENTS_DEFAULT,
+                ConsoleAndFileDriverConfiguration.THINK_TIME_DEFAULT,
+                ConsoleAndFileDriverConfiguration.THROUGHPUT_SEARCH_TRIALS_DEFAULT,
+                ConsoleAndFileDriverConfiguration.DISPATCH_WINDOW_DEFAULT,
+                ConsoleAndFileDriverConfiguration.BLOCKING_STREAM_THREADS_DEFAULT,
+                ConsoleAndFileDriverConfiguration.COMPLETION_TIME_SERVICE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.COMPLETION_TIME_WINDOW_DEFAULT,
+                ConsoleAndFileDriverConfiguration.COMPLETION_TIME_FILE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.COMPLETION_TIME_PROCESSES_DEFAULT,
+                ConsoleAndFileDriverConfiguration.COMPLETION_TIME_START_TIMEOUT_DEFAULT,
+                ConsoleAndFileDriverConfiguration.LATENCY_LOG_INTERVAL_DEFAULT,
+                ConsoleAndFileDriverConfiguration.METRICS_SERVICE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.RESULTS_LOG_FORMAT_DEFAULT,
+                ConsoleAndFileDriverConfiguration.RESULTS_LOG_BUFFER_SIZE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.RESULTS_LOG_FULL_BUFFERS_POLICY_DEFAULT,
+                ConsoleAndFileDriverConfiguration.METRICS_ENDPOINT_PORT_DEFAULT
         );
 
         DriverConfiguration configurationAfter =
@@ -565,6 +590,25 @@ public class ConsoleAndFileDriverConfigurationTest
         boolean ignoreScheduledStartTimes = false;
         long warmupCount = 10;
         long skipCount = 100;
+        OperationExecutorType operationExecutorType = OperationExecutorType.VIRTUAL_THREAD;
+        SpinnerWaitStrategyType spinnerWaitStrategyType = SpinnerWaitStrategyType.ADAPTIVE;
+        int closedLoopClients = 4;
+        long thinkTimeAsMilli = 5;
+        int throughputSearchTrials = 6;
+        long dispatchWindowAsMilli = 7;
+        int blockingStreamThreadCount = 3;
+        CompletionTimeServiceType completionTimeServiceType = CompletionTimeServiceType.DISRUPTOR_YIELDING;
+        long completionTimeWindowAsMilli = 5;
+        String completionTimeFilePath = "ct_file";
+        int completionTimeProcessCount = 3;
+        long completionTimeStartTimeoutAsMilli = 60000;
+        long latencyLogIntervalAsMilli = 1000;
+        MetricsServiceType metricsServiceType = MetricsServiceType.PER_WRITER_HISTOGRAM;
+        ResultsLogFormat resultsLogFormat = ResultsLogFormat.BINARY;
+        int resultsLogBufferSize = 8192;
+        AsyncResultsLogWriter.FullBuffersPolicy resultsLogFullBuffersPolicy =
+                AsyncResultsLogWriter.FullBuffersPolicy.BLOCK;
+        int metricsEndpointPort = 9090;
 
         ConsoleAndFileDriverConfiguration params = new ConsoleAndFileDriverConfiguration(
                 paramsMap,
@@ -584,7 +628,26 @@ public class ConsoleAndFileDriverConfigurationTest
                 printHelp,
                 ignoreScheduledStartTimes,
                 warmupCount,
-                skipCount
+                skipCount,
+                operationExecutorType,
+                ConsoleAndFileDriverConfiguration.TIMING_WHEEL_SCHEDULER_DEFAULT,
+                spinnerWaitStrategyType,
+                closedLoopClients,
+                thinkTimeAsMilli,
+                throughputSearchTrials,
+                dispatchWindowAsMilli,
+                blockingStreamThreadCount,
+                completionTimeServiceType,
+                completionTimeWindowAsMilli,
+                completionTimeFilePath,
+                completionTimeProcessCount,
+                completionTimeStartTimeoutAsMilli,
+                latencyLogIntervalAsMilli,
+                metricsServiceType,
+                resultsLogFormat,
+                resultsLogBufferSize,
+                resultsLogFullBuffersPolicy,
+                metricsEndpointPort
         );
 
         assertThat( params.asMap(), equalTo( paramsMap ) );
@@ -604,6 +667,24 @@ public class ConsoleAndFileDriverConfigurationTest
         assertThat( params.shouldPrintHelpString(), equalTo( printHelp ) );
         assertThat( params.ignoreScheduledStartTimes(), equalTo( ignoreScheduledStartTimes ) );
         assertThat( params.spinnerSleepDurationAsMilli(), equalTo( spinnerSleepDuration ) );
+        assertThat( params.operationExecutorType(), equalTo( operationExecutorType ) );
+        assertThat( params.spinnerWaitStrategyType(), equalTo( spinnerWaitStrategyType ) );
+        assertThat( params.closedLoopClients(), equalTo( closedLoopClients ) );
+        assertThat( params.thinkTimeAsMilli(), equalTo( thinkTimeAsMilli ) );
+        assertThat( params.throughputSearchTrials(), equalTo( throughputSearchTrials ) );
+        assertThat( params.dispatchWindowAsMilli(), equalTo( dispatchWindowAsMilli ) );
+        assertThat( params.blockingStreamThreadCount(), equalTo( blockingStreamThreadCount ) );
+        assertThat( params.completionTimeServiceType(), equalTo( completionTimeServiceType ) );
+        assertThat( params.completionTimeWindowAsMilli(), equalTo( completionTimeWindowAsMilli ) );
+        assertThat( params.completionTimeFilePath(), equalTo( completionTimeFilePath ) );
+        assertThat( params.completionTimeProcessCount(), equalTo( completionTimeProcessCount ) );
+        assertThat( params.completionTimeStartTimeoutAsMilli(), equalTo( completionTimeStartTimeoutAsMilli ) );
+        assertThat( params.latencyLogIntervalAsMilli(), equalTo( latencyLogIntervalAsMilli ) );
+        assertThat( params.metricsServiceType(), equalTo( metricsServiceType ) );
+        assertThat( params.resultsLogFormat(), equalTo( resultsLogFormat ) );
+        assertThat( params.resultsLogBufferSize(), equalTo( resultsLogBufferSize ) );
+        assertThat( params.resultsLogFullBuffersPolicy(), equalTo( resultsLogFullBuffersPolicy ) );
+        assertThat( params.metricsEndpointPort(), equalTo( metricsEndpointPort ) );
     }
 
     @Test
@@ -381,7 +381,26 @@ public class TimeMappingOperationGeneratorTest
                 printHelp,
                 ignoreScheduledStartTimes,
                 warmupCount,
-                skipCount
+                skipCount,
+                ConsoleAndFileDriverConfiguration.OPERATION_EXECUTOR_DEFAULT,
+                ConsoleAndFileDriverConfiguration.TIMING_WHEEL_SCHEDULER_DEFAULT,
+                ConsoleAndFileDriverConfiguration.SPINNER_WAIT_STRATEGY_DEFAULT,
+                ConsoleAndFileDriverConfiguration.CLOSED_LOOP_CLIENTS_DEFAULT,
+                ConsoleAndFileDriverConfiguration.THINK_TIME_DEFAULT,
+                ConsoleAndFileDriverConfiguration.THROUGHPUT_SEARCH_TRIALS_DEFAULT,
+                ConsoleAndFileDriverConfiguration.DISPATCH_WINDOW_DEFAULT,
+                ConsoleAndFileDriverConfiguration.BLOCKING_STREAM_THREADS_DEFAULT,
+                ConsoleAndFileDriverConfiguration.COMPLETION_TIME_SERVICE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.COMPLETION_TIME_WINDOW_DEFAULT,
+                ConsoleAndFileDriverConfiguration.COMPLETION_TIME_FILE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.COMPLETION_TIME_PROCESSES_DEFAULT,
+                ConsoleAndFileDriverConfiguration.COMPLETION_TIME_START_TIMEOUT_DEFAULT,
+                ConsoleAndFileDriverConfiguration.LATENCY_LOG_INTERVAL_DEFAULT,
+                ConsoleAndFileDriverConfiguration.METRICS_SERVICE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.RESULTS_LOG_FORMAT_DEFAULT,
+                ConsoleAndFileDriverConfiguration.RESULTS_LOG_BUFFER_SIZE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.RESULTS_LOG_FULL_BUFFERS_POLICY_DEFAULT,
+                ConsoleAndFileDriverConfiguration.METRICS_ENDPOINT_PORT_DEFAULT
         );
 
         Map<String,String> updateStreamParams = MapUtils.loadPropertiesToMap(
@@ -0,0 +1,202 @@
+package com.ldbc.driver.runtime;
+
+import com.google.common.collect.Lists;
+import com.ldbc.driver.csv.simple.SimpleCsvFileReader;
+import com.ldbc.driver.runtime.DriverDiagnosticsSampler.DriverThreadGroup;
+import com.ldbc.driver.runtime.executor.VirtualThreadOperationExecutor;
+import com.ldbc.driver.runtime.metrics.DriverDiagnosticsSnapshot;
+import com.ldbc.driver.runtime.metrics.OperationMetricsSnapshot;
+import com.ldbc.driver.runtime.metrics.WorkloadResultsSnapshot;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+public class DriverDiagnosticsSamplerTest
+{
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldGroupThreadsByNameOfClassThatCreatedThem()
+    {
+        assertThat( DriverThreadGroup.forThreadName( "ThreadPoolOperationExecutor-id(1)-thread(2)" ),
+                equalTo( DriverThreadGroup.WORKERS ) );
+        assertThat( DriverThreadGroup.forThreadName( "OperationStreamExecutorServiceThread-1" ),
+                equalTo( DriverThreadGroup.DISPATCHERS ) );
+        assertThat( DriverThreadGroup.forThreadName( "DisruptorSbeMetricsService-1" ),
+                equalTo( DriverThreadGroup.METRICS ) );
+        assertThat( DriverThreadGroup.forThreadName( "SharedFileCompletionTimeService-1" ),
+                equalTo( DriverThreadGroup.COMPLETION_TIME ) );
+        assertThat( DriverThreadGroup.forThreadName( "main" ), equalTo( DriverThreadGroup.OTHER ) );
+    }
+
+    @Test
+    public void shouldGroupVirtualThreadCarriersAsWorkersOnlyWhenOperationsExecuteOnVirtualThreads()
+    {
+        assertThat( DriverThreadGroup.forThreadName( "ForkJoinPool-1-worker-3", true ),
+                equalTo( DriverThreadGroup.WORKERS ) );
+        assertThat( DriverThreadGroup.forThreadName( "ForkJoinPool-1-worker-3", false ),
+                equalTo( DriverThreadGroup.OTHER ) );
+        assertThat( DriverThreadGroup.forThreadName( "ForkJoinPool.commonPool-worker-3", true ),
+                equalTo( DriverThreadGroup.OTHER ) );
+        assertThat( DriverThreadGroup.forThreadName( "DisruptorSbeMetricsService-1", true ),
+                equalTo( DriverThreadGroup.METRICS ) );
+    }
+
+    @Test
+    public void shouldAttributeCpuTimeOfVirtualThreadsToWorkers() throws Exception
+    {
+        assumeTrue( VirtualThreadOperationExecutor.isSupported() );
+
+        // Given
+        DriverDiagnosticsSampler sampler = new DriverDiagnosticsSampler( new SystemTimeSource(), 50, true );
+        Object builder = Thread.class.getMethod( "ofVirtual" ).invoke( null );
+        ThreadFactory virtualThreadFactory =
+                (ThreadFactory) Class.forName( "java.lang.Thread$Builder" ).getMethod( "factory" ).invoke( builder );
+        final AtomicBoolean working = new AtomicBoolean( true );
+        final CountDownLatch sampled = new CountDownLatch( 1 );
+        Thread worker = virtualThreadFactory.newThread( () -> {
+            long count = 0;
+            while ( working.get() )
+            {
+                count++;
+            }
+            try
+            {
+                // keeps carrier alive until last sample
+                sampled.await();
+            }
+            catch ( InterruptedException e )
+            {
+                throw new RuntimeException( e );
+            }
+        } );
+
+        // When
+        sampler.start();
+        worker.start();
+        Thread.sleep( 500 );
+        working.set( false );
+        sampler.stop();
+        sampled.countDown();
+        worker.join();
+        DriverDiagnosticsSnapshot snapshot = sampler.snapshot();
+
+        // Then
+        assertThat( snapshot.threadGroupCpuTimesAsNano().get( DriverThreadGroup.WORKERS.name() ),
+                greaterThan( TimeUnit.MILLISECONDS.toNanos( 10 ) ) );
+    }
+
+    @Test
+    public void shouldAttributeCpuTimeAndAllocationToThreadGroupOfSampledThreads() throws Exception
+    {
+        // Given
+        DriverDiagnosticsSampler sampler = new DriverDiagnosticsSampler( new SystemTimeSource(), 50 );
+        final AtomicBoolean working = new AtomicBoolean( true );
+        final CountDownLatch sampled = new CountDownLatch( 1 );
+        Thread worker = new Thread( "ThreadPoolOperationExecutor-test" )
+        {
+            @Override
+            public void run()
+            {
+                List<long[]> retained = new ArrayList<>();
+                while ( working.get() )
+                {
+                    retained.add( new long[128] );
+                    if ( retained.size() > 1000 )
+                    {
+                        retained.clear();
+                    }
+                }
+                try
+                {
+                    // kept alive until last sample, what a thread used after its last sample is not counted
+                    sampled.await();
+                }
+                catch ( InterruptedException e )
+                {
+                    throw new RuntimeException( e );
+                }
+            }
+        };
+
+        // When
+        sampler.start();
+        worker.start();
+        Thread.sleep( 500 );
+        working.set( false );
+        sampler.stop();
+        sampled.countDown();
+        worker.join();
+        DriverDiagnosticsSnapshot snapshot = sampler.snapshot();
+        File diagnosticsFile = temporaryFolder.newFile();
+        sampler.writeCsv( diagnosticsFile );
+
+        // Then
+        Set<String> groupNames = new HashSet<>();
+        for ( DriverThreadGroup group : DriverThreadGroup.values() )
+        {
+            groupNames.add( group.name() );
+        }
+        assertThat( snapshot.sampleCount(), greaterThanOrEqualTo( 3l ) );
+        assertThat( snapshot.samplingDurationAsMilli(), greaterThanOrEqualTo( 500l ) );
+        assertThat( snapshot.threadGroupCpuTimesAsNano().keySet(), equalTo( groupNames ) );
+        assertThat( snapshot.threadGroupCpuTimesAsNano().get( DriverThreadGroup.WORKERS.name() ),
+                greaterThan( TimeUnit.MILLISECONDS.toNanos( 10 ) ) );
+        assertThat( snapshot.allocatedBytes(), greaterThan( 1000l * 128 * 8 ) );
+        assertThat( snapshot.maxAllocationRate(), greaterThan( 0d ) );
+        assertThat( snapshot.maxHeapUsedBytes(), greaterThan( 0l ) );
+
+        List<String[]> rows;
+        try ( SimpleCsvFileReader reader = new SimpleCsvFileReader(
+                diagnosticsFile, SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING ) )
+        {
+            rows = Lists.newArrayList( reader );
+        }
+        // header, no row for baseline sample
+        assertThat( (long) rows.size(), equalTo( snapshot.sampleCount() ) );
+        assertThat( rows.get( 0 )[0], equalTo( "time" ) );
+        assertThat( rows.get( 0 ).length, equalTo( 6 + DriverThreadGroup.values().length ) );
+        assertThat( rows.get( rows.size() - 1 ).length, equalTo( 6 + DriverThreadGroup.values().length ) );
+
+        WorkloadResultsSnapshot results = new WorkloadResultsSnapshot(
+                Collections.<OperationMetricsSnapshot>emptyList(), 1, 2, 3, TimeUnit.MILLISECONDS );
+        results.setDriverDiagnostics( snapshot );
+        DriverDiagnosticsSnapshot readSnapshot = WorkloadResultsSnapshot.fromJson( results.toJson() )
+                .driverDiagnostics();
+        assertThat( readSnapshot.allocatedBytes(), equalTo( snapshot.allocatedBytes() ) );
+        assertThat( readSnapshot.threadGroupCpuTimesAsNano(), equalTo( snapshot.threadGroupCpuTimesAsNano() ) );
+        assertThat( readSnapshot.memoryPoolPeakUsedBytes(), equalTo( snapshot.memoryPoolPeakUsedBytes() ) );
+    }
+
+    @Test
+    public void shouldIgnoreRepeatedStop() throws Exception
+    {
+        DriverDiagnosticsSampler sampler = new DriverDiagnosticsSampler( new SystemTimeSource(), 50 );
+        sampler.stop();
+        sampler.start();
+        sampler.stop();
+        long sampleCount = sampler.snapshot().sampleCount();
+        sampler.stop();
+        assertThat( sampler.snapshot().sampleCount(), is( sampleCount ) );
+    }
+}
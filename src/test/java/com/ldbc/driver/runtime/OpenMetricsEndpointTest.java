@@ -0,0 +1,164 @@
+package com.ldbc.driver.runtime;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.control.RecentThroughputAndDuration;
+import com.ldbc.driver.runtime.metrics.DisruptorSbeMetricsService;
+import com.ldbc.driver.runtime.metrics.MetricsService;
+import com.ldbc.driver.runtime.metrics.NullResultsLogWriter;
+import com.ldbc.driver.runtime.metrics.PerWriterHistogramMetricsService;
+import com.ldbc.driver.runtime.metrics.WorkloadStatusSnapshot;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery1;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery2;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class OpenMetricsEndpointTest
+{
+    @Test
+    public void shouldServeMostRecentlyPublishedMetrics() throws Exception
+    {
+        // Given
+        Map<Integer,Class<? extends Operation>> operationTypeToClassMapping = new HashMap<>();
+        operationTypeToClassMapping.put( LdbcQuery1.TYPE, LdbcQuery1.class );
+        operationTypeToClassMapping.put( LdbcQuery2.TYPE, LdbcQuery2.class );
+        MetricsService metricsService = new PerWriterHistogramMetricsService(
+                new SystemTimeSource(),
+                TimeUnit.MILLISECONDS,
+                DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                new NullResultsLogWriter(),
+                operationTypeToClassMapping,
+                new Log4jLoggingServiceFactory( false )
+        );
+        MetricsService.MetricsServiceWriter metricsServiceWriter = metricsService.getWriter();
+        for ( int i = 1; i <= 100; i++ )
+        {
+            metricsServiceWriter.submitOperationResult(
+                    LdbcQuery1.TYPE, i, i, TimeUnit.MILLISECONDS.toNanos( i ), 0, i );
+        }
+        metricsServiceWriter.submitOperationResult( LdbcQuery2.TYPE, 1, 1, TimeUnit.MILLISECONDS.toNanos( 3 ), 0, 1 );
+
+        // operation time stamps from 1000 are scheduled from wall clock 50000, twice as fast
+        long workloadStartTimeAsMilli = 50000;
+        long minimumTimeStamp = 1000;
+        double timeCompressionRatio = 0.5;
+        OpenMetricsEndpoint endpoint =
+                new OpenMetricsEndpoint( 0, workloadStartTimeAsMilli, minimumTimeStamp, timeCompressionRatio );
+        endpoint.start();
+        try
+        {
+            // When
+            String unpublishedPage = scrape( endpoint );
+            endpoint.publish(
+                    new WorkloadStatusSnapshot( 2000, 101, 1000, 50.5 ),
+                    new FixedRecentThroughputAndDuration( 25.0, 4000 ),
+                    metricsServiceWriter.results(),
+                    10000,
+                    57000,
+                    7
+            );
+            String page = scrape( endpoint );
+            endpoint.publish(
+                    new WorkloadStatusSnapshot( 2000, 101, 1000, 50.5 ),
+                    new FixedRecentThroughputAndDuration( 25.0, 4000 ),
+                    metricsServiceWriter.results(),
+                    -1,
+                    57000,
+                    0
+            );
+            String pageWithoutCompletionTime = scrape( endpoint );
+
+            // Then
+            assertThat( unpublishedPage, equalTo( "" ) );
+            assertThat( page, containsString( "ldbc_driver_operations_total 101\n" ) );
+            assertThat( page, containsString( "ldbc_driver_recent_throughput 25.0\n" ) );
+            assertThat( page, containsString( "ldbc_driver_completion_time_seconds 10.0\n" ) );
+            // completion time 10000 is scheduled at 50000 + (10000 - 1000) * 0.5 = 54500
+            assertThat( page, containsString( "ldbc_driver_completion_time_lag_seconds 2.5\n" ) );
+            assertThat( page, containsString( "ldbc_driver_executor_queue_depth 7.0\n" ) );
+            assertThat( page, containsString(
+                    "ldbc_driver_operations_by_type_total{operation=\"LdbcQuery1\"} 100\n" ) );
+            assertThat( page, containsString(
+                    "ldbc_driver_operations_by_type_total{operation=\"LdbcQuery2\"} 1\n" ) );
+            assertThat( page, containsString(
+                    "ldbc_driver_operation_run_time_seconds{operation=\"LdbcQuery1\",quantile=\"0.5\"} 0.05\n" ) );
+            assertThat( page, containsString(
+                    "ldbc_driver_operation_run_time_seconds{operation=\"LdbcQuery2\",quantile=\"0.99\"} 0.003\n" ) );
+            assertThat( page, containsString(
+                    "ldbc_driver_operation_run_time_seconds_count{operation=\"LdbcQuery1\"} 100\n" ) );
+            assertThat( pageWithoutCompletionTime,
+                    containsString( "ldbc_driver_completion_time_seconds NaN\n" ) );
+            assertThat( pageWithoutCompletionTime,
+                    containsString( "ldbc_driver_completion_time_lag_seconds NaN\n" ) );
+        }
+        finally
+        {
+            endpoint.stop();
+            metricsService.shutdown();
+        }
+    }
+
+    private static String scrape( OpenMetricsEndpoint endpoint ) throws IOException
+    {
+        URL url = new URL( "http://localhost:" + endpoint.port() + OpenMetricsEndpoint.PATH );
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        try
+        {
+            assertThat( connection.getResponseCode(), equalTo( 200 ) );
+            assertThat( connection.getContentType(), equalTo( OpenMetricsEndpoint.CONTENT_TYPE ) );
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            try ( InputStream in = connection.getInputStream() )
+            {
+                byte[] bytes = new byte[4096];
+                int read;
+                while ( -1 != (read = in.read( bytes )) )
+                {
+                    body.write( bytes, 0, read );
+                }
+            }
+            return new String( body.toByteArray(), StandardCharsets.UTF_8 );
+        }
+        finally
+        {
+            connection.disconnect();
+        }
+    }
+
+    private static class FixedRecentThroughputAndDuration implements RecentThroughputAndDuration
+    {
+        private final double throughput;
+        private final long duration;
+
+        private FixedRecentThroughputAndDuration( double throughput, long duration )
+        {
+            this.throughput = throughput;
+            this.duration = duration;
+        }
+
+        @Override
+        public double throughput()
+        {
+            return throughput;
+        }
+
+        @Override
+        public long duration()
+        {
+            return duration;
+        }
+    }
+}
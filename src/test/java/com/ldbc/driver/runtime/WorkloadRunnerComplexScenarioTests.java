@@ -17,6 +17,9 @@ import com.ldbc.driver.generator.RandomDataGeneratorFactory;
 import com.ldbc.driver.runtime.coordination.CompletionTimeException;
 import com.ldbc.driver.runtime.coordination.CompletionTimeService;
 import com.ldbc.driver.runtime.coordination.CompletionTimeServiceAssistant;
+import com.ldbc.driver.runtime.executor.OperationExecutorType;
+import com.ldbc.driver.runtime.metrics.DriverInternalMetrics;
+import com.ldbc.driver.runtime.scheduling.SpinnerWaitStrategyType;
 import com.ldbc.driver.runtime.metrics.MetricsCollectionException;
 import com.ldbc.driver.runtime.metrics.MetricsService;
 import com.ldbc.driver.runtime.metrics.ThreadedQueuedMetricsService;
@@ -1757,6 +1760,17 @@ public class WorkloadRunnerComplexScenarioTests
         long statusDisplayIntervalAsMilli = 0;
         long spinnerSleepDurationAsMilli = SPINNER_SLEEP_DURATION_AS_MILLI;
         int operationHandlerExecutorsBoundedQueueSize = 100;
+        boolean timingWheelScheduler = false;
+        int closedLoopClients = 0;
+        long thinkTimeAsMilli = 0;
+        long dispatchWindowAsMilli = 0;
+        int blockingStreamThreadCount = 1;
+        long completionTimeWindowAsMilli = 0;
+        int metricsEndpointPort = 0;
+        // operations of these scenarios are already in wall clock time
+        long workloadStartTimeAsMilli = 0;
+        long minimumTimeStamp = 0;
+        double timeCompressionRatio = 1.0;
         boolean detailedStatus = false;
         LoggingServiceFactory loggingServiceFactory = new Log4jLoggingServiceFactory( detailedStatus );
         WorkloadRunner runner = new WorkloadRunner(
@@ -1771,7 +1785,20 @@ public class WorkloadRunnerComplexScenarioTests
                 statusDisplayIntervalAsMilli,
                 spinnerSleepDurationAsMilli,
                 ignoreScheduledStartTime,
-                operationHandlerExecutorsBoundedQueueSize
+                operationHandlerExecutorsBoundedQueueSize,
+                OperationExecutorType.THREAD_POOL,
+                timingWheelScheduler,
+                SpinnerWaitStrategyType.SLEEP,
+                closedLoopClients,
+                thinkTimeAsMilli,
+                dispatchWindowAsMilli,
+                blockingStreamThreadCount,
+                completionTimeWindowAsMilli,
+                metricsEndpointPort,
+                workloadStartTimeAsMilli,
+                minimumTimeStamp,
+                timeCompressionRatio,
+                new DriverInternalMetrics()
         );
         return new WorkloadRunnerThread( runner, errorReporter );
     }
@@ -22,6 +22,9 @@ import com.ldbc.driver.generator.RandomDataGeneratorFactory;
 import com.ldbc.driver.runtime.coordination.CompletionTimeException;
 import com.ldbc.driver.runtime.coordination.CompletionTimeService;
 import com.ldbc.driver.runtime.coordination.CompletionTimeServiceAssistant;
+import com.ldbc.driver.runtime.executor.OperationExecutorType;
+import com.ldbc.driver.runtime.executor.VirtualThreadOperationExecutor;
+import com.ldbc.driver.runtime.metrics.DriverInternalMetrics;
 import com.ldbc.driver.runtime.metrics.MetricsCollectionException;
 import com.ldbc.driver.runtime.metrics.MetricsService;
 import com.ldbc.driver.runtime.metrics.SimpleDetailedWorkloadMetricsFormatter;
@@ -60,6 +63,7 @@ import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
 
 public class WorkloadRunnerTest
 {
@@ -133,7 +137,26 @@ public class WorkloadRunnerTest
                     printHelp,
                     ignoreScheduledStartTimes,
                     warmupCount,
-                    skipCount
+                    skipCount,
+                    ConsoleAndFileDriverConfiguration.OPERATION_EXECUTOR_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.TIMING_WHEEL_SCHEDULER_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.SPINNER_WAIT_STRATEGY_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.CLOSED_LOOP_CLIENTS_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.THINK_TIME_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.THROUGHPUT_SEARCH_TRIALS_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.DISPATCH_WINDOW_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.BLOCKING_STREAM_THREADS_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.COMPLETION_TIME_SERVICE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.COMPLETION_TIME_WINDOW_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.COMPLETION_TIME_FILE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.COMPLETION_TIME_PROCESSES_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.COMPLETION_TIME_START_TIMEOUT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.LATENCY_LOG_INTERVAL_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_SERVICE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESULTS_LOG_FORMAT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESULTS_LOG_BUFFER_SIZE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESULTS_LOG_FULL_BUFFERS_POLICY_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_ENDPOINT_PORT_DEFAULT
             );
 
             configuration = (ConsoleAndFileDriverConfiguration) configuration
@@ -206,7 +229,20 @@ public class WorkloadRunnerTest
                     controlService.configuration().statusDisplayIntervalAsSeconds(),
                     controlService.configuration().spinnerSleepDurationAsMilli(),
                     controlService.configuration().ignoreScheduledStartTimes(),
-                    boundedQueueSize );
+                    boundedQueueSize,
+                    controlService.configuration().operationExecutorType(),
+                    controlService.configuration().timingWheelScheduler(),
+                    controlService.configuration().spinnerWaitStrategyType(),
+                    controlService.configuration().closedLoopClients(),
+                    controlService.configuration().thinkTimeAsMilli(),
+                    controlService.configuration().dispatchWindowAsMilli(),
+                    controlService.configuration().blockingStreamThreadCount(),
+                    controlService.configuration().completionTimeWindowAsMilli(),
+                    controlService.configuration().metricsEndpointPort(),
+                    controlService.workloadStartTimeAsMilli(),
+                    workloadStreamsAndWorkload._3(),
+                    configuration.timeCompressionRatio(),
+                    new DriverInternalMetrics() );
 
             runner.getFuture().get();
             csvResultsLogWriter.close();
@@ -334,7 +370,26 @@ public class WorkloadRunnerTest
                     printHelp,
                     ignoreScheduledStartTimes,
                     warmupCount,
-                    skipCount
+                    skipCount,
+                    ConsoleAndFileDriverConfiguration.OPERATION_EXECUTOR_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.TIMING_WHEEL_SCHEDULER_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.SPINNER_WAIT_STRATEGY_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.CLOSED_LOOP_CLIENTS_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.THINK_TIME_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.THROUGHPUT_SEARCH_TRIALS_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.DISPATCH_WINDOW_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.BLOCKING_STREAM_THREADS_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.COMPLETION_TIME_SERVICE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.COMPLETION_TIME_WINDOW_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.COMPLETION_TIME_FILE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.COMPLETION_TIME_PROCESSES_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.COMPLETION_TIME_START_TIMEOUT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.LATENCY_LOG_INTERVAL_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_SERVICE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESULTS_LOG_FORMAT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESULTS_LOG_BUFFER_SIZE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESULTS_LOG_FULL_BUFFERS_POLICY_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_ENDPOINT_PORT_DEFAULT
             );
 
             configuration = (ConsoleAndFileDriverConfiguration) configuration
@@ -405,7 +460,20 @@ public class WorkloadRunnerTest
                     controlService.configuration().statusDisplayIntervalAsSeconds(),
                     controlService.configuration().spinnerSleepDurationAsMilli(),
                     controlService.configuration().ignoreScheduledStartTimes(),
-                    boundedQueueSize );
+                    boundedQueueSize,
+                    controlService.configuration().operationExecutorType(),
+                    controlService.configuration().timingWheelScheduler(),
+                    controlService.configuration().spinnerWaitStrategyType(),
+                    controlService.configuration().closedLoopClients(),
+                    controlService.configuration().thinkTimeAsMilli(),
+                    controlService.configuration().dispatchWindowAsMilli(),
+                    controlService.configuration().blockingStreamThreadCount(),
+                    controlService.configuration().completionTimeWindowAsMilli(),
+                    controlService.configuration().metricsEndpointPort(),
+                    controlService.workloadStartTimeAsMilli(),
+                    workloadStreamsAndWorkload._3(),
+                    configuration.timeCompressionRatio(),
+                    new DriverInternalMetrics() );
 
             runner.getFuture().get();
 
@@ -491,17 +559,71 @@ public class WorkloadRunnerTest
     {
         List<Integer> threadCounts = Lists.newArrayList( 1, 2, 4, 8 );
         long operationCount = 10000;
+        boolean timingWheelScheduler = false;
         for ( int threadCount : threadCounts )
         {
             doShouldRunReadWriteLdbcWorkloadWithNothingDbAndReturnExpectedMetricsIncludingResultsLog(
                     threadCount,
-                    operationCount
+                    operationCount,
+                    timingWheelScheduler
+            );
+        }
+    }
+
+    @Test
+    public void shouldRunReadWriteLdbcWorkloadWithNothingDbUsingTimingWheelSchedulerAndReturnExpectedMetrics()
+            throws InterruptedException, DbException, WorkloadException, IOException, MetricsCollectionException,
+            CompletionTimeException, DriverConfigurationException, ExecutionException
+    {
+        List<Integer> threadCounts = Lists.newArrayList( 1, 4 );
+        long operationCount = 10000;
+        boolean timingWheelScheduler = true;
+        for ( int threadCount : threadCounts )
+        {
+            doShouldRunReadWriteLdbcWorkloadWithNothingDbAndReturnExpectedMetricsIncludingResultsLog(
+                    threadCount,
+                    operationCount,
+                    timingWheelScheduler
+            );
+        }
+    }
+
+    @Test
+    public void shouldRunReadWriteLdbcWorkloadWithNothingDbUsingVirtualThreadExecutorAndReturnExpectedMetrics()
+            throws InterruptedException, DbException, WorkloadException, IOException, MetricsCollectionException,
+            CompletionTimeException, DriverConfigurationException, ExecutionException
+    {
+        assumeTrue( VirtualThreadOperationExecutor.isSupported() );
+
+        List<Integer> threadCounts = Lists.newArrayList( 1, 4 );
+        long operationCount = 10000;
+        boolean timingWheelScheduler = false;
+        for ( int threadCount : threadCounts )
+        {
+            doShouldRunReadWriteLdbcWorkloadWithNothingDbAndReturnExpectedMetricsIncludingResultsLog(
+                    threadCount,
+                    operationCount,
+                    timingWheelScheduler,
+                    OperationExecutorType.VIRTUAL_THREAD
             );
         }
     }
 
     public void doShouldRunReadWriteLdbcWorkloadWithNothingDbAndReturnExpectedMetricsIncludingResultsLog(
-            int threadCount, long operationCount )
+            int threadCount, long operationCount, boolean timingWheelScheduler )
+            throws InterruptedException, DbException, WorkloadException, IOException, MetricsCollectionException,
+            CompletionTimeException, DriverConfigurationException, ExecutionException
+    {
+        doShouldRunReadWriteLdbcWorkloadWithNothingDbAndReturnExpectedMetricsIncludingResultsLog(
+                threadCount,
+                operationCount,
+                timingWheelScheduler,
+                ConsoleAndFileDriverConfiguration.OPERATION_EXECUTOR_DEFAULT
+        );
+    }
+
+    public void doShouldRunReadWriteLdbcWorkloadWithNothingDbAndReturnExpectedMetricsIncludingResultsLog(
+            int threadCount, long operationCount, boolean timingWheelScheduler, OperationExecutorType executorType )
             throws InterruptedException, DbException, WorkloadException, IOException, MetricsCollectionException,
             CompletionTimeException, DriverConfigurationException, ExecutionException
     {
@@ -553,7 +675,26 @@ public class WorkloadRunnerTest
                     printHelp,
                     ignoreScheduledStartTimes,
                     warmupCount,
-                    skipCount
+                    skipCount,
+                    executorType,
+                    timingWheelScheduler,
+                    ConsoleAndFileDriverConfiguration.SPINNER_WAIT_STRATEGY_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.CLOSED_LOOP_CLIENTS_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.THINK_TIME_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.THROUGHPUT_SEARCH_TRIALS_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.DISPATCH_WINDOW_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.BLOCKING_STREAM_THREADS_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.COMPLETION_TIME_SERVICE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.COMPLETION_TIME_WINDOW_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.COMPLETION_TIME_FILE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.COMPLETION_TIME_PROCESSES_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.COMPLETION_TIME_START_TIMEOUT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.LATENCY_LOG_INTERVAL_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_SERVICE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESULTS_LOG_FORMAT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESULTS_LOG_BUFFER_SIZE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESULTS_LOG_FULL_BUFFERS_POLICY_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_ENDPOINT_PORT_DEFAULT
             );
 
             configuration = (ConsoleAndFileDriverConfiguration) configuration
@@ -624,7 +765,20 @@ public class WorkloadRunnerTest
                     controlService.configuration().statusDisplayIntervalAsSeconds(),
                     controlService.configuration().spinnerSleepDurationAsMilli(),
                     controlService.configuration().ignoreScheduledStartTimes(),
-                    boundedQueueSize );
+                    boundedQueueSize,
+                    controlService.configuration().operationExecutorType(),
+                    controlService.configuration().timingWheelScheduler(),
+                    controlService.configuration().spinnerWaitStrategyType(),
+                    controlService.configuration().closedLoopClients(),
+                    controlService.configuration().thinkTimeAsMilli(),
+                    controlService.configuration().dispatchWindowAsMilli(),
+                    controlService.configuration().blockingStreamThreadCount(),
+                    controlService.configuration().completionTimeWindowAsMilli(),
+                    controlService.configuration().metricsEndpointPort(),
+                    controlService.workloadStartTimeAsMilli(),
+                    workloadStreamsAndWorkload._3(),
+                    configuration.timeCompressionRatio(),
+                    new DriverInternalMetrics() );
 
             runner.getFuture().get();
 
@@ -818,7 +972,26 @@ public class WorkloadRunnerTest
                     printHelp,
                     ignoreScheduledStartTimes,
                     warmupCount,
-                    skipCount
+                    skipCount,
+                    ConsoleAndFileDriverConfiguration.OPERATION_EXECUTOR_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.TIMING_WHEEL_SCHEDULER_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.SPINNER_WAIT_STRATEGY_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.CLOSED_LOOP_CLIENTS_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.THINK_TIME_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.THROUGHPUT_SEARCH_TRIALS_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.DISPATCH_WINDOW_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.BLOCKING_STREAM_THREADS_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.COMPLETION_TIME_SERVICE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.COMPLETION_TIME_WINDOW_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.COMPLETION_TIME_FILE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.COMPLETION_TIME_PROCESSES_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.COMPLETION_TIME_START_TIMEOUT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.LATENCY_LOG_INTERVAL_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_SERVICE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESULTS_LOG_FORMAT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESULTS_LOG_BUFFER_SIZE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESULTS_LOG_FULL_BUFFERS_POLICY_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_ENDPOINT_PORT_DEFAULT
             );
 
             configuration = (ConsoleAndFileDriverConfiguration) configuration
@@ -883,7 +1056,20 @@ public class WorkloadRunnerTest
                     controlService.configuration().statusDisplayIntervalAsSeconds(),
                     controlService.configuration().spinnerSleepDurationAsMilli(),
                     controlService.configuration().ignoreScheduledStartTimes(),
-                    boundedQueueSize );
+                    boundedQueueSize,
+                    controlService.configuration().operationExecutorType(),
+                    controlService.configuration().timingWheelScheduler(),
+                    controlService.configuration().spinnerWaitStrategyType(),
+                    controlService.configuration().closedLoopClients(),
+                    controlService.configuration().thinkTimeAsMilli(),
+                    controlService.configuration().dispatchWindowAsMilli(),
+                    controlService.configuration().blockingStreamThreadCount(),
+                    controlService.configuration().completionTimeWindowAsMilli(),
+                    controlService.configuration().metricsEndpointPort(),
+                    controlService.workloadStartTimeAsMilli(),
+                    0,
+                    1.0,
+                    new DriverInternalMetrics() );
 
             runner.getFuture().get();
 
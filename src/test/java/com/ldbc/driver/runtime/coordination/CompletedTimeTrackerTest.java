@@ -33,7 +33,13 @@ public class CompletedTimeTrackerTest
         shouldRemoveTimesCorrectlyWhenThereIsOnlyOneTime( CompletionTimeStateManager.CompletedTimeTrackerImpl.createUsingArrayList() );
     }
 
-    private void shouldRemoveTimesCorrectlyWhenThereIsOnlyOneTime( CompletionTimeStateManager.CompletedTimeTrackerImpl tracker )
+    @Test
+    public void shouldRemoveTimesCorrectlyWhenThereIsOnlyOneTime_UsingMinHeap() throws CompletionTimeException
+    {
+        shouldRemoveTimesCorrectlyWhenThereIsOnlyOneTime( new CompletionTimeStateManager.MinHeapCompletedTimeTracker() );
+    }
+
+    private void shouldRemoveTimesCorrectlyWhenThereIsOnlyOneTime( CompletionTimeStateManager.CompletedTimeTracker tracker )
             throws CompletionTimeException
     {
         // Given
@@ -64,8 +70,17 @@ public class CompletedTimeTrackerTest
                 CompletionTimeStateManager.CompletedTimeTrackerImpl.createUsingArrayList() );
     }
 
+    @Test
+    public void shouldRemoveTimesCorrectlyWhenThereIsAreMultipleTimesThatAreAddedInOrder_UsingMinHeap()
+            throws CompletionTimeException
+    {
+        // capacity smaller than number of times, to grow heap
+        shouldRemoveTimesCorrectlyWhenThereIsAreMultipleTimesThatAreAddedInOrder(
+                new CompletionTimeStateManager.MinHeapCompletedTimeTracker( 2 ) );
+    }
+
     private void shouldRemoveTimesCorrectlyWhenThereIsAreMultipleTimesThatAreAddedInOrder(
-            CompletionTimeStateManager.CompletedTimeTrackerImpl tracker ) throws CompletionTimeException
+            CompletionTimeStateManager.CompletedTimeTracker tracker ) throws CompletionTimeException
     {
         // Given
         // tracker
@@ -138,8 +153,17 @@ public class CompletedTimeTrackerTest
                 CompletionTimeStateManager.CompletedTimeTrackerImpl.createUsingArrayList() );
     }
 
+    @Test
+    public void shouldRemoveTimesCorrectlyWhenThereIsAreMultipleTimesThatAreAddedOutOfOrder_UsingMinHeap()
+            throws CompletionTimeException
+    {
+        // capacity smaller than number of times, to grow heap
+        shouldRemoveTimesCorrectlyWhenThereIsAreMultipleTimesThatAreAddedOutOfOrder(
+                new CompletionTimeStateManager.MinHeapCompletedTimeTracker( 2 ) );
+    }
+
     private void shouldRemoveTimesCorrectlyWhenThereIsAreMultipleTimesThatAreAddedOutOfOrder(
-            CompletionTimeStateManager.CompletedTimeTrackerImpl tracker ) throws CompletionTimeException
+            CompletionTimeStateManager.CompletedTimeTracker tracker ) throws CompletionTimeException
     {
         // Given
         // tracker
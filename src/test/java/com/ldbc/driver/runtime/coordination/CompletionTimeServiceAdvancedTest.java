@@ -15,6 +15,7 @@ import com.ldbc.driver.temporal.TimeSource;
 import com.ldbc.driver.testutils.TestUtils;
 import com.ldbc.driver.testutils.ThreadPoolLoadGenerator;
 import com.ldbc.driver.workloads.simple.SimpleWorkload;
+import com.lmax.disruptor.BlockingWaitStrategy;
 import org.junit.Ignore;
 import org.junit.Test;
 
@@ -96,6 +97,7 @@ public class CompletionTimeServiceAdvancedTest
         int testRepetitions = 5;
         long totalTestDurationForSynchronousCts;
         long totalTestDurationForThreadedCts;
+        long totalTestDurationForDisruptorCts;
 
         for ( int workerThreads = 1; workerThreads < 33; workerThreads = workerThreads * 2 )
         {
@@ -127,9 +129,26 @@ public class CompletionTimeServiceAdvancedTest
                         workerThreads );
                 cts.shutdown();
             }
-            System.out.printf( "\t%s=%s\n",
+            System.out.printf( "\t%s=%s",
                     ThreadedQueuedCompletionTimeService.class.getSimpleName(),
                     TEMPORAL_UTIL.milliDurationToString( totalTestDurationForThreadedCts / testRepetitions ) );
+
+            totalTestDurationForDisruptorCts = 0;
+            for ( int i = 0; i < testRepetitions; i++ )
+            {
+                CompletionTimeService cts = completionTimeServiceAssistant.newDisruptorCompletionTimeService(
+                        timeSource,
+                        errorReporter,
+                        new BlockingWaitStrategy() );
+                totalTestDurationForDisruptorCts += parallelCompletionTimeServiceTest(
+                        cts,
+                        errorReporter,
+                        workerThreads );
+                cts.shutdown();
+            }
+            System.out.printf( "\t%s=%s\n",
+                    DisruptorCompletionTimeService.class.getSimpleName(),
+                    TEMPORAL_UTIL.milliDurationToString( totalTestDurationForDisruptorCts / testRepetitions ) );
         }
     }
 
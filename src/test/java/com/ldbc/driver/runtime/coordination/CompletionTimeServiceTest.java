@@ -1,14 +1,21 @@
 package com.ldbc.driver.runtime.coordination;
 
+import com.google.common.collect.Lists;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
 import com.ldbc.driver.temporal.SystemTimeSource;
 import com.ldbc.driver.temporal.TimeSource;
+import com.lmax.disruptor.BlockingWaitStrategy;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
+import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
@@ -54,6 +61,28 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldBehavePredictablyAfterInstantiationWithDisruptorImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts =
+                assistant.newDisruptorCompletionTimeService( timeSource, errorReporter, new BlockingWaitStrategy() );
+
+        // Then
+        try
+        {
+            shouldBehavePredictablyAfterInstantiation( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
     private void shouldBehavePredictablyAfterInstantiation( CompletionTimeService cts )
             throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
     {
@@ -108,6 +137,28 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldAdvanceCtWhenWriterSubmitInitiatedAndCompletedTimesWithDisruptorImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts =
+                assistant.newDisruptorCompletionTimeService( timeSource, errorReporter, new BlockingWaitStrategy() );
+
+        // Then
+        try
+        {
+            shouldAdvanceCtWhenWriterSubmitInitiatedAndCompletedTimes( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
     private void shouldAdvanceCtWhenWriterSubmitInitiatedAndCompletedTimes(
             CompletionTimeService cts )
             throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
@@ -168,6 +219,27 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldReturnAllWritersWithDisruptorImplementation() throws CompletionTimeException
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts =
+                assistant.newDisruptorCompletionTimeService( timeSource, errorReporter, new BlockingWaitStrategy() );
+
+        // Then
+        try
+        {
+            shouldReturnAllWriters( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
     private void shouldReturnAllWriters( CompletionTimeService cts ) throws CompletionTimeException
     {
         // Given
@@ -230,6 +302,28 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldReturnNullWhenNoITNoCTWithDisruptorImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts =
+                assistant.newDisruptorCompletionTimeService( timeSource, errorReporter, new BlockingWaitStrategy() );
+
+        // Then
+        try
+        {
+            doShouldReturnNullWhenNoITNoCT( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
     // IT = none, CT = none --> null
     private void doShouldReturnNullWhenNoITNoCT( CompletionTimeService cts )
             throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
@@ -283,6 +377,28 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldReturnNullWhenSomeITAndNoCTWithDisruptorImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts =
+                assistant.newDisruptorCompletionTimeService( timeSource, errorReporter, new BlockingWaitStrategy() );
+
+        // Then
+        try
+        {
+            doShouldReturnNullWhenSomeITAndNoCT( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
     // IT = some, CT = none --> null
     private void doShouldReturnNullWhenSomeITAndNoCT( CompletionTimeService cts )
             throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
@@ -337,6 +453,28 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldReturnNullWhenSomeITAndSomeCTWithDisruptorImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts =
+                assistant.newDisruptorCompletionTimeService( timeSource, errorReporter, new BlockingWaitStrategy() );
+
+        // Then
+        try
+        {
+            doShouldReturnNullWhenSomeITAndSomeCT( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
     //  IT = some, CT = some --> null
     private void doShouldReturnNullWhenSomeITAndSomeCT( CompletionTimeService cts )
             throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
@@ -392,6 +530,28 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWithDisruptorImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts =
+                assistant.newDisruptorCompletionTimeService( timeSource, errorReporter, new BlockingWaitStrategy() );
+
+        // Then
+        try
+        {
+            doShouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWhen( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
     private void doShouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWhen( CompletionTimeService cts )
             throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
     {
@@ -551,6 +711,35 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWithDuplicateTimesWithDisruptorImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts =
+                assistant.newDisruptorCompletionTimeService( timeSource, errorReporter, new BlockingWaitStrategy() );
+
+        // Then
+        try
+        {
+            doShouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWithDuplicateTimes( cts );
+        }
+        finally
+        {
+            try
+            {
+                cts.shutdown();
+            }
+            catch ( Throwable e )
+            {
+                // do nothing, exception is expected because test was trying to force an error
+            }
+        }
+    }
+
     private void doShouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWithDuplicateTimes( CompletionTimeService cts )
             throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
     {
@@ -629,4 +818,123 @@ public class CompletionTimeServiceTest
         ctWriter.submitInitiatedTime( 6000L );
         assertThat( cts.completionTimeAsMilliFuture().get( 1, TimeUnit.SECONDS ), is( 5000L ) );
     }
+
+    @Test
+    public void shouldNotifySubscribersOnceCtReachesTheirTimeWithSynchronizedImplementation()
+            throws CompletionTimeException, InterruptedException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newSynchronizedCompletionTimeService();
+
+        // Then
+        try
+        {
+            shouldNotifySubscribersOnceCtReachesTheirTime( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldNotifySubscribersOnceCtReachesTheirTimeWithThreadedImplementation()
+            throws CompletionTimeException, InterruptedException
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newThreadedQueuedCompletionTimeService( timeSource, errorReporter );
+
+        // Then
+        try
+        {
+            shouldNotifySubscribersOnceCtReachesTheirTime( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldNotifySubscribersOnceCtReachesTheirTimeWithDisruptorImplementation()
+            throws CompletionTimeException, InterruptedException
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts =
+                assistant.newDisruptorCompletionTimeService( timeSource, errorReporter, new BlockingWaitStrategy() );
+
+        // Then
+        try
+        {
+            shouldNotifySubscribersOnceCtReachesTheirTime( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
+    private void shouldNotifySubscribersOnceCtReachesTheirTime( CompletionTimeService cts )
+            throws CompletionTimeException, InterruptedException
+    {
+        // Given
+        CompletionTimeWriter writer = cts.newCompletionTimeWriter();
+        final List<Long> notifiedTimes = Collections.synchronizedList( new ArrayList<Long>() );
+        final CountDownLatch firstNotified = new CountDownLatch( 1 );
+        final CountDownLatch secondNotified = new CountDownLatch( 1 );
+
+        // When
+        boolean firstSubscribed = cts.subscribe( 2L, new CompletionTimeListener()
+        {
+            @Override
+            public void onCompletionTimeReached( long completionTimeAsMilli )
+            {
+                notifiedTimes.add( completionTimeAsMilli );
+                firstNotified.countDown();
+            }
+        } );
+        boolean secondSubscribed = cts.subscribe( 3L, new CompletionTimeListener()
+        {
+            @Override
+            public void onCompletionTimeReached( long completionTimeAsMilli )
+            {
+                notifiedTimes.add( completionTimeAsMilli );
+                secondNotified.countDown();
+            }
+        } );
+
+        writer.submitInitiatedTime( 1L );
+        writer.submitCompletedTime( 1L );
+        writer.submitInitiatedTime( 2L );
+        writer.submitCompletedTime( 2L );
+        writer.submitInitiatedTime( 3L );
+
+        // Then
+        assertThat( firstSubscribed, is( true ) );
+        assertThat( secondSubscribed, is( true ) );
+        assertThat( firstNotified.await( 1, TimeUnit.SECONDS ), is( true ) );
+        assertThat( notifiedTimes, equalTo( (List<Long>) Lists.newArrayList( 2L ) ) );
+        // CT is 2, time already reached, nothing to wait for
+        assertThat( cts.subscribe( 2L, new CompletionTimeListener()
+        {
+            @Override
+            public void onCompletionTimeReached( long completionTimeAsMilli )
+            {
+                notifiedTimes.add( completionTimeAsMilli );
+            }
+        } ), is( false ) );
+
+        writer.submitCompletedTime( 3L );
+        writer.submitInitiatedTime( 5L );
+
+        assertThat( secondNotified.await( 1, TimeUnit.SECONDS ), is( true ) );
+        assertThat( notifiedTimes, equalTo( (List<Long>) Lists.newArrayList( 2L, 3L ) ) );
+    }
 }
@@ -2,8 +2,12 @@ package com.ldbc.driver.runtime.coordination;
 
 import org.junit.Test;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assume.assumeTrue;
 
 public class CompletionTimeStateManagerTest
 {
@@ -802,4 +806,46 @@ public class CompletionTimeStateManagerTest
         completionTimeStateManager.submitInitiatedTime( 6000L );
         assertThat( completionTimeStateManager.completionTimeAsMilli(), is( 5000L ) );
     }
+
+    @Test
+    public void shouldNotAllocateWhenSubmittingTimesOnceTrackersHaveGrown() throws CompletionTimeException
+    {
+        // Given
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        assumeTrue( threadMXBean instanceof com.sun.management.ThreadMXBean );
+        com.sun.management.ThreadMXBean allocationMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+        assumeTrue( allocationMXBean.isThreadAllocatedMemorySupported() );
+        allocationMXBean.setThreadAllocatedMemoryEnabled( true );
+        CompletionTimeStateManager completionTimeStateManager = new CompletionTimeStateManager();
+        int submissionCount = 1000000;
+        long threadId = Thread.currentThread().getId();
+
+        // When
+        // warm up, trackers grow to hold the window of uncompleted times
+        submitTimesWithOutOfOrderCompletions( completionTimeStateManager, 0, submissionCount );
+        long allocatedBytesBefore = allocationMXBean.getThreadAllocatedBytes( threadId );
+        submitTimesWithOutOfOrderCompletions( completionTimeStateManager, submissionCount, submissionCount );
+        long allocatedBytesAfter = allocationMXBean.getThreadAllocatedBytes( threadId );
+
+        // Then
+        long allocatedBytesPerSubmission = (allocatedBytesAfter - allocatedBytesBefore) / (submissionCount * 2);
+        assertThat( allocatedBytesPerSubmission, is( 0l ) );
+        assertThat( completionTimeStateManager.completionTimeAsMilli(), is( submissionCount * 2L - 64 - 1 ) );
+    }
+
+    // completes times 64 submissions after initiating them, in reverse order within each block of 8 times
+    private static void submitTimesWithOutOfOrderCompletions( CompletionTimeStateManager completionTimeStateManager,
+            long fromTimeAsMilli,
+            int count ) throws CompletionTimeException
+    {
+        for ( long timeAsMilli = fromTimeAsMilli; timeAsMilli < fromTimeAsMilli + count; timeAsMilli++ )
+        {
+            completionTimeStateManager.submitInitiatedTime( timeAsMilli );
+            long completedTimeAsMilli = timeAsMilli - 64;
+            if ( completedTimeAsMilli >= 0 )
+            {
+                completionTimeStateManager.submitCompletedTime( completedTimeAsMilli ^ 7 );
+            }
+        }
+    }
 }
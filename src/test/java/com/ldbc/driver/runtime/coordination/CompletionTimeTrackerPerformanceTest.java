@@ -0,0 +1,78 @@
+package com.ldbc.driver.runtime.coordination;
+
+import com.ldbc.driver.runtime.coordination.CompletionTimeStateManager.CompletedTimeTracker;
+import com.ldbc.driver.runtime.coordination.CompletionTimeStateManager.CompletedTimeTrackerImpl;
+import com.ldbc.driver.runtime.coordination.CompletionTimeStateManager.InitiatedTimeTracker;
+import com.ldbc.driver.runtime.coordination.CompletionTimeStateManager.InitiatedTimeTrackerImpl;
+import com.ldbc.driver.runtime.coordination.CompletionTimeStateManager.MinHeapCompletedTimeTracker;
+import com.ldbc.driver.runtime.coordination.CompletionTimeStateManager.RingBufferInitiatedTimeTracker;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static java.lang.String.format;
+
+@Ignore
+public class CompletionTimeTrackerPerformanceTest
+{
+    private static final int UNCOMPLETED_TIMES = 1000;
+
+    @Test
+    public void trackersPerformanceTest() throws CompletionTimeException
+    {
+        int experimentRepetitions = 10;
+        int submissionCount = 10000000;
+        while ( experimentRepetitions-- > 0 )
+        {
+            trackersPerformanceTest(
+                    "TreeMultiSet",
+                    InitiatedTimeTrackerImpl.createUsingTreeMultiSet(),
+                    CompletedTimeTrackerImpl.createUsingTreeMultiSet(),
+                    submissionCount );
+            trackersPerformanceTest(
+                    "RingBuffer/MinHeap",
+                    new RingBufferInitiatedTimeTracker(),
+                    new MinHeapCompletedTimeTracker(),
+                    submissionCount );
+        }
+    }
+
+    private void trackersPerformanceTest( String name,
+            InitiatedTimeTracker initiatedTimeTracker,
+            CompletedTimeTracker completedTimeTracker,
+            int submissionCount ) throws CompletionTimeException
+    {
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long allocatedBytesBefore = threadMXBean.getThreadAllocatedBytes( threadId );
+        long startTimeAsNano = System.nanoTime();
+        // same sequence of calls as CompletionTimeStateManager makes, completions lag initiations and are out of order
+        for ( long timeAsMilli = 0; timeAsMilli < submissionCount; timeAsMilli++ )
+        {
+            long lowestInitiatedTimeAsMilli =
+                    initiatedTimeTracker.addInitiatedTimeAndReturnLastKnownLowestTimeAsMilli( timeAsMilli );
+            completedTimeTracker.removeTimesLowerThanAndReturnHighestRemoved( lowestInitiatedTimeAsMilli );
+            long completedTimeAsMilli = timeAsMilli - UNCOMPLETED_TIMES;
+            if ( completedTimeAsMilli >= 0 )
+            {
+                completedTimeAsMilli = completedTimeAsMilli ^ 7;
+                lowestInitiatedTimeAsMilli =
+                        initiatedTimeTracker.removeTimeAndReturnLastKnownLowestTimeAsMilli( completedTimeAsMilli );
+                completedTimeTracker.addCompletedTimeAsMilli( completedTimeAsMilli );
+                completedTimeTracker.removeTimesLowerThanAndReturnHighestRemoved( lowestInitiatedTimeAsMilli );
+            }
+        }
+        long durationAsNano = System.nanoTime() - startTimeAsNano;
+        long allocatedBytes = threadMXBean.getThreadAllocatedBytes( threadId ) - allocatedBytesBefore;
+
+        long submissions = submissionCount * 2L - UNCOMPLETED_TIMES;
+        System.out.println( format( "%s: %s submissions, %s ns/submission, %s bytes/submission",
+                name,
+                submissions,
+                durationAsNano / submissions,
+                allocatedBytes / submissions ) );
+    }
+}
@@ -22,6 +22,12 @@ public class InitiatedTimeTrackerTest
         shouldReturnNullsWhenNoTimesHaveBeenSubmitted( InitiatedTimeTrackerImpl.createUsingArrayList() );
     }
 
+    @Test
+    public void shouldReturnNullsWhenNoTimesHaveBeenSubmitted_RingBufferImplementation()
+    {
+        shouldReturnNullsWhenNoTimesHaveBeenSubmitted( new CompletionTimeStateManager.RingBufferInitiatedTimeTracker() );
+    }
+
     private void shouldReturnNullsWhenNoTimesHaveBeenSubmitted( CompletionTimeStateManager.InitiatedTimeTracker
             tracker )
     {
@@ -58,6 +64,50 @@ public class InitiatedTimeTrackerTest
         shouldBehaveAsExpectedUnderScenario1( InitiatedTimeTrackerImpl.createUsingArrayList() );
     }
 
+    @Test
+    public void shouldBehaveAsExpectedUnderScenario1_RingBufferImplementation() throws CompletionTimeException
+    {
+        // capacity smaller than number of times, to grow buffer
+        shouldBehaveAsExpectedUnderScenario1( new CompletionTimeStateManager.RingBufferInitiatedTimeTracker( 2 ) );
+    }
+
+    @Test
+    public void ringBufferShouldTrackTimesWhenWrappingAroundAndGrowing() throws CompletionTimeException
+    {
+        // Given
+        CompletionTimeStateManager.InitiatedTimeTracker tracker =
+                new CompletionTimeStateManager.RingBufferInitiatedTimeTracker( 4 );
+
+        // When/Then
+        // sliding window of uncompleted times, head wraps around buffer many times
+        assertThat( tracker.addInitiatedTimeAndReturnLastKnownLowestTimeAsMilli( 0L ), equalTo( 0L ) );
+        assertThat( tracker.addInitiatedTimeAndReturnLastKnownLowestTimeAsMilli( 1L ), equalTo( 0L ) );
+        for ( long time = 2; time < 100; time++ )
+        {
+            assertThat( tracker.addInitiatedTimeAndReturnLastKnownLowestTimeAsMilli( time ), equalTo( time - 2 ) );
+            assertThat( tracker.addInitiatedTimeAndReturnLastKnownLowestTimeAsMilli( time ), equalTo( time - 2 ) );
+            assertThat( tracker.removeTimeAndReturnLastKnownLowestTimeAsMilli( time - 2 ), is( time - 1 ) );
+            // complete one of two equal times, leaving [time - 1, time]
+            assertThat( tracker.removeTimeAndReturnLastKnownLowestTimeAsMilli( time ), is( time - 1 ) );
+            assertThat( tracker.uncompletedInitiatedTimes(), is( 2 ) );
+        }
+
+        // grow while head is not at start of buffer
+        for ( long time = 100; time < 200; time++ )
+        {
+            assertThat( tracker.addInitiatedTimeAndReturnLastKnownLowestTimeAsMilli( time ), equalTo( 98L ) );
+        }
+        assertThat( tracker.uncompletedInitiatedTimes(), is( 102 ) );
+        for ( long time = 199; time >= 100; time-- )
+        {
+            assertThat( tracker.removeTimeAndReturnLastKnownLowestTimeAsMilli( time ), is( 98L ) );
+        }
+        assertThat( tracker.removeTimeAndReturnLastKnownLowestTimeAsMilli( 98L ), is( 99L ) );
+        assertThat( tracker.removeTimeAndReturnLastKnownLowestTimeAsMilli( 99L ), is( 199L ) );
+        assertThat( tracker.uncompletedInitiatedTimes(), is( 0 ) );
+        assertThat( tracker.highestInitiatedTimeAsMilli(), is( 199L ) );
+    }
+
     private void shouldBehaveAsExpectedUnderScenario1( CompletionTimeStateManager.InitiatedTimeTracker tracker )
             throws CompletionTimeException
     {
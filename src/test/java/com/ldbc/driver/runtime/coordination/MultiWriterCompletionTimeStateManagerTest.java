@@ -1743,6 +1743,94 @@ public class MultiWriterCompletionTimeStateManagerTest
         thread3.shutdown();
     }
 
+    @Test
+    public void completionTimeShouldNeverDecreaseWhileReadConcurrentlyWithWriters() throws Exception
+    {
+        // Given
+        final ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        final MultiWriterCompletionTimeStateManager completionTimeStateManager =
+                new MultiWriterCompletionTimeStateManager();
+        int writerCount = 4;
+        int timesPerWriter = 20000;
+        int uncompletedTimesPerWriter = 8;
+        List<CompletionTimeWriterThread> writerThreads = Lists.newArrayList();
+        for ( int writer = 0; writer < writerCount; writer++ )
+        {
+            // times of writers interleave, each writer completes its times some time after initiating them
+            List<Tuple2<CompletionTimeWriterThread.WriteType,Long>> writeStream = Lists.newArrayList();
+            for ( long i = 0; i < timesPerWriter; i++ )
+            {
+                writeStream.add( Tuple.tuple2(
+                        CompletionTimeWriterThread.WriteType.WRITE_IT,
+                        i * writerCount + writer ) );
+                if ( i >= uncompletedTimesPerWriter )
+                {
+                    writeStream.add( Tuple.tuple2(
+                            CompletionTimeWriterThread.WriteType.WRITE_CT,
+                            (i - uncompletedTimesPerWriter) * writerCount + writer ) );
+                }
+            }
+            writerThreads.add( new CompletionTimeWriterThread(
+                    completionTimeStateManager.newCompletionTimeWriter(),
+                    writeStream.iterator(),
+                    errorReporter ) );
+        }
+        final AtomicBoolean continueReading = new AtomicBoolean( true );
+        Thread readerThread = new Thread()
+        {
+            @Override
+            public void run()
+            {
+                try
+                {
+                    long previousCompletionTimeAsMilli = -1;
+                    while ( continueReading.get() )
+                    {
+                        long completionTimeAsMilli = completionTimeStateManager.completionTimeAsMilli();
+                        if ( completionTimeAsMilli < previousCompletionTimeAsMilli )
+                        {
+                            errorReporter.reportError( this, "Completion time decreased from "
+                                                             + previousCompletionTimeAsMilli + " to "
+                                                             + completionTimeAsMilli );
+                        }
+                        previousCompletionTimeAsMilli = completionTimeAsMilli;
+                    }
+                }
+                catch ( CompletionTimeException e )
+                {
+                    errorReporter.reportError( this, ConcurrentErrorReporter.stackTraceToString( e ) );
+                }
+            }
+        };
+
+        // When
+        readerThread.start();
+        for ( CompletionTimeWriterThread writerThread : writerThreads )
+        {
+            writerThread.start();
+        }
+        boolean writersCompletedOnTime = true;
+        for ( CompletionTimeWriterThread writerThread : writerThreads )
+        {
+            writersCompletedOnTime = waitForCompletionTimeWriterThread( 10000, writerThread ) && writersCompletedOnTime;
+        }
+        continueReading.set( false );
+        readerThread.join();
+        for ( CompletionTimeWriterThread writerThread : writerThreads )
+        {
+            writerThread.shutdown();
+        }
+
+        // Then
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+        assertThat( writersCompletedOnTime, is( true ) );
+        // lowest uncompleted time is that of first writer, highest time before it is that of last writer
+        long lowestUncompletedTimeAsMilli = (timesPerWriter - uncompletedTimesPerWriter) * writerCount;
+        assertThat( completionTimeStateManager.lastKnownLowestInitiatedTimeAsMilli(),
+                is( lowestUncompletedTimeAsMilli ) );
+        assertThat( completionTimeStateManager.completionTimeAsMilli(), is( lowestUncompletedTimeAsMilli - 1 ) );
+    }
+
     private boolean waitForCompletionTimeWriterThread(
             long timeoutDurationAsMilli,
             CompletionTimeWriterThread thread ) throws CompletionTimeException
@@ -0,0 +1,202 @@
+package com.ldbc.driver.runtime.coordination;
+
+import com.google.common.collect.Lists;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class SharedFileCompletionTimeServiceTest
+{
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldBehaveAsCompletionTimeServiceWhenOnlyOneProcess() throws CompletionTimeException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts =
+                assistant.newSharedFileCompletionTimeService( new File( temporaryFolder.getRoot(), "ct" ), 1 );
+        CompletionTimeWriter writer1 = cts.newCompletionTimeWriter();
+        CompletionTimeWriter writer2 = cts.newCompletionTimeWriter();
+
+        // When/Then
+        writer1.submitInitiatedTime( 1 );
+        writer1.submitCompletedTime( 1 );
+        // writer2 has not initiated any times
+        assertThat( cts.completionTimeAsMilli(), is( -1L ) );
+
+        writer2.submitInitiatedTime( 2 );
+        writer1.submitInitiatedTime( 3 );
+        assertThat( cts.completionTimeAsMilli(), is( 1L ) );
+        assertThat( cts.lastKnownLowestInitiatedTimeAsMilli(), is( 2L ) );
+
+        writer2.submitCompletedTime( 2 );
+        // completion time of writer2 stays below its lowest initiated time, which is then its highest one
+        assertThat( cts.completionTimeAsMilli(), is( 1L ) );
+
+        writer2.submitInitiatedTime( 4 );
+        assertThat( cts.completionTimeAsMilli(), is( 2L ) );
+        assertThat( cts.lastKnownLowestInitiatedTimeAsMilli(), is( 3L ) );
+        cts.shutdown();
+    }
+
+    @Test
+    public void shouldNotDefineCompletionTimeUntilAllProcessesHaveRegistered() throws CompletionTimeException
+    {
+        // Given
+        File sharedFile = new File( temporaryFolder.getRoot(), "ct" );
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts1 = assistant.newSharedFileCompletionTimeService( sharedFile, 2 );
+        CompletionTimeService cts2 = assistant.newSharedFileCompletionTimeService( sharedFile, 2 );
+        CompletionTimeWriter writer1 = cts1.newCompletionTimeWriter();
+        CompletionTimeWriter writer2 = cts2.newCompletionTimeWriter();
+
+        // When/Then
+        writer1.submitInitiatedTime( 1 );
+        writer1.submitCompletedTime( 1 );
+        writer1.submitInitiatedTime( 10 );
+        // second process has not registered
+        assertThat( cts1.completionTimeAsMilli(), is( -1L ) );
+        assertThat( cts2.completionTimeAsMilli(), is( -1L ) );
+
+        writer2.submitInitiatedTime( 5 );
+        assertThat( cts1.completionTimeAsMilli(), is( 1L ) );
+        assertThat( cts2.completionTimeAsMilli(), is( 1L ) );
+
+        writer2.submitCompletedTime( 5 );
+        writer2.submitInitiatedTime( 20 );
+        assertThat( cts1.completionTimeAsMilli(), is( 5L ) );
+        assertThat( cts2.completionTimeAsMilli(), is( 5L ) );
+        cts1.shutdown();
+        cts2.shutdown();
+    }
+
+    @Test
+    public void shouldRejectFileLeftOverFromEarlierRun() throws CompletionTimeException
+    {
+        // Given
+        File sharedFile = new File( temporaryFolder.getRoot(), "ct" );
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService earlierRunCts = assistant.newSharedFileCompletionTimeService( sharedFile, 1 );
+        earlierRunCts.newCompletionTimeWriter().submitInitiatedTime( 1 );
+        earlierRunCts.shutdown();
+
+        // When
+        String errorMessage = null;
+        try
+        {
+            assistant.newSharedFileCompletionTimeService( sharedFile, 1 );
+        }
+        catch ( CompletionTimeException e )
+        {
+            errorMessage = e.getMessage();
+        }
+
+        // Then
+        assertThat( errorMessage, containsString( "left over from an earlier run" ) );
+    }
+
+    @Test
+    public void shouldRejectFileCreatedForDifferentProcessCount() throws CompletionTimeException
+    {
+        // Given
+        File sharedFile = new File( temporaryFolder.getRoot(), "ct" );
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newSharedFileCompletionTimeService( sharedFile, 2 );
+
+        // When
+        String errorMessage = null;
+        try
+        {
+            assistant.newSharedFileCompletionTimeService( sharedFile, 3 );
+        }
+        catch ( CompletionTimeException e )
+        {
+            errorMessage = e.getMessage();
+        }
+
+        // Then
+        assertThat( errorMessage, containsString( "for 2 processes, not 3" ) );
+        cts.shutdown();
+    }
+
+    @Test
+    public void shouldShareCompletionTimeWithOtherProcess() throws CompletionTimeException, IOException,
+            InterruptedException
+    {
+        // Given
+        File sharedFile = new File( temporaryFolder.getRoot(), "ct" );
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newSharedFileCompletionTimeService( sharedFile, 2 );
+        CompletionTimeWriter writer = cts.newCompletionTimeWriter();
+        writer.submitInitiatedTime( 0 );
+        writer.submitInitiatedTime( 10 );
+        writer.submitCompletedTime( 0 );
+        assertThat( cts.completionTimeAsMilli(), is( -1L ) );
+
+        // When
+        List<String> command = Lists.newArrayList(
+                new File( new File( System.getProperty( "java.home" ), "bin" ), "java" ).getAbsolutePath(),
+                "-cp",
+                System.getProperty( "java.class.path" ),
+                OtherProcess.class.getName(),
+                sharedFile.getAbsolutePath()
+        );
+        Process process = new ProcessBuilder( command ).redirectErrorStream( true ).start();
+        String output = readFully( process.getInputStream() );
+        assertTrue( "Other process did not finish", process.waitFor( 30, TimeUnit.SECONDS ) );
+        assertThat( output, process.exitValue(), is( 0 ) );
+
+        // Then
+        // other process: initiated 5, completed 5, initiated 20
+        assertThat( cts.completionTimeAsMilli(), is( 5L ) );
+        assertThat( cts.lastKnownLowestInitiatedTimeAsMilli(), is( 10L ) );
+
+        writer.submitInitiatedTime( 30 );
+        writer.submitCompletedTime( 10 );
+        // uncompleted initiated time of other process now holds back completion time
+        assertThat( cts.completionTimeAsMilli(), is( 10L ) );
+        assertThat( cts.lastKnownLowestInitiatedTimeAsMilli(), is( 20L ) );
+        cts.shutdown();
+    }
+
+    private static String readFully( InputStream inputStream ) throws IOException
+    {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        byte[] bytes = new byte[1024];
+        int read;
+        while ( -1 != (read = inputStream.read( bytes )) )
+        {
+            outputStream.write( bytes, 0, read );
+        }
+        return new String( outputStream.toByteArray(), StandardCharsets.UTF_8 );
+    }
+
+    public static class OtherProcess
+    {
+        public static void main( String[] args ) throws CompletionTimeException
+        {
+            CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+            CompletionTimeService cts = assistant.newSharedFileCompletionTimeService( new File( args[0] ), 2 );
+            CompletionTimeWriter writer = cts.newCompletionTimeWriter();
+            writer.submitInitiatedTime( 5 );
+            writer.submitCompletedTime( 5 );
+            writer.submitInitiatedTime( 20 );
+            cts.shutdown();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.ldbc.driver.runtime.coordination;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+public class WindowedCompletionTimeWriterTest
+{
+    @Test
+    public void shouldNotAdvanceCompletionTimePastUncompletedOperation() throws CompletionTimeException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newSynchronizedCompletionTimeService();
+        CompletionTimeWriter writer = new WindowedCompletionTimeWriter( cts.newCompletionTimeWriter(), 10 );
+        long uncompletedTimeAsMilli = 50;
+
+        // When
+        for ( long timeAsMilli = 0; timeAsMilli < 100; timeAsMilli++ )
+        {
+            writer.submitInitiatedTime( timeAsMilli );
+        }
+        for ( long timeAsMilli = 0; timeAsMilli < 100; timeAsMilli++ )
+        {
+            if ( uncompletedTimeAsMilli != timeAsMilli )
+            {
+                writer.submitCompletedTime( timeAsMilli );
+            }
+            // Then
+            assertThat( cts.completionTimeAsMilli(), lessThan( uncompletedTimeAsMilli ) );
+        }
+        // lags behind completion time by less than one window
+        assertThat( cts.completionTimeAsMilli(), is( 49L ) );
+
+        writer.submitCompletedTime( uncompletedTimeAsMilli );
+        // completion time is always lower than lowest initiated time, which is then the highest one, 99
+        assertThat( cts.completionTimeAsMilli(), is( 98L ) );
+        cts.shutdown();
+    }
+
+    @Test
+    public void shouldForwardFarFewerTimesThanSubmitted() throws CompletionTimeException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newSynchronizedCompletionTimeService();
+        CountingCompletionTimeWriter countingWriter = new CountingCompletionTimeWriter( cts.newCompletionTimeWriter() );
+        CompletionTimeWriter writer = new WindowedCompletionTimeWriter( countingWriter, 100 );
+        int operationCount = 10000;
+
+        // When
+        for ( long timeAsMilli = 0; timeAsMilli < operationCount; timeAsMilli++ )
+        {
+            writer.submitInitiatedTime( timeAsMilli );
+            writer.submitCompletedTime( timeAsMilli );
+        }
+        writer.submitInitiatedTime( Long.MAX_VALUE );
+
+        // Then
+        // at most four times forwarded per window, plus the first initiated time
+        assertThat( countingWriter.count, lessThanOrEqualTo( 1 + 4 * (operationCount / 100 + 1) ) );
+        assertThat( cts.completionTimeAsMilli(), is( (long) operationCount - 1 ) );
+        cts.shutdown();
+    }
+
+    @Test
+    public void completionTimeShouldNeverBeAheadOfUnwindowedCompletionTime() throws CompletionTimeException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService windowedCts = assistant.newSynchronizedCompletionTimeService();
+        CompletionTimeService cts = assistant.newSynchronizedCompletionTimeService();
+        CompletionTimeWriter windowedWriter =
+                new WindowedCompletionTimeWriter( windowedCts.newCompletionTimeWriter(), 7 );
+        CompletionTimeWriter writer = cts.newCompletionTimeWriter();
+        Random random = new Random( 42 );
+        List<Long> uncompletedTimesAsMilli = new ArrayList<>();
+        long timeAsMilli = 0;
+
+        // When
+        for ( int i = 0; i < 100000; i++ )
+        {
+            if ( uncompletedTimesAsMilli.isEmpty() || random.nextInt( 3 ) > 0 )
+            {
+                // several operations may share the same time
+                timeAsMilli += random.nextInt( 3 );
+                windowedWriter.submitInitiatedTime( timeAsMilli );
+                writer.submitInitiatedTime( timeAsMilli );
+                uncompletedTimesAsMilli.add( timeAsMilli );
+            }
+            else
+            {
+                // operations complete in any order
+                long completedTimeAsMilli =
+                        uncompletedTimesAsMilli.remove( random.nextInt( uncompletedTimesAsMilli.size() ) );
+                windowedWriter.submitCompletedTime( completedTimeAsMilli );
+                writer.submitCompletedTime( completedTimeAsMilli );
+            }
+
+            // Then
+            assertThat( windowedCts.completionTimeAsMilli(), lessThanOrEqualTo( cts.completionTimeAsMilli() ) );
+        }
+        windowedCts.shutdown();
+        cts.shutdown();
+    }
+
+    private static class CountingCompletionTimeWriter implements CompletionTimeWriter
+    {
+        private final CompletionTimeWriter delegate;
+        private int count = 0;
+
+        private CountingCompletionTimeWriter( CompletionTimeWriter delegate )
+        {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void submitInitiatedTime( long timeAsMilli ) throws CompletionTimeException
+        {
+            count++;
+            delegate.submitInitiatedTime( timeAsMilli );
+        }
+
+        @Override
+        public void submitCompletedTime( long timeAsMilli ) throws CompletionTimeException
+        {
+            count++;
+            delegate.submitCompletedTime( timeAsMilli );
+        }
+    }
+}
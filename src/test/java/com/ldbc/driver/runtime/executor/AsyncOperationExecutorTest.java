@@ -0,0 +1,288 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.ldbc.driver.AsyncOperationHandler;
+import com.ldbc.driver.Db;
+import com.ldbc.driver.DbConnectionState;
+import com.ldbc.driver.DbException;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.ResultReporter;
+import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.control.LoggingService;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
+import com.ldbc.driver.runtime.coordination.DummyCompletionTimeReader;
+import com.ldbc.driver.runtime.coordination.DummyCompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.DummyCountingMetricsService;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.temporal.TimeSource;
+import com.ldbc.driver.workloads.dummy.DummyDb;
+import com.ldbc.driver.workloads.dummy.DummyResult;
+import com.ldbc.driver.workloads.dummy.DummyWorkload;
+import com.ldbc.driver.workloads.dummy.NothingOperation;
+import com.ldbc.driver.workloads.dummy.TimedNamedOperation1;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.Assert.assertThat;
+
+public class AsyncOperationExecutorTest
+{
+    private static final long ASYNC_OPERATION_DURATION_AS_MILLI = 100;
+
+    @Test
+    public void executorShouldKeepMoreOperationsInFlightThanItHasThreads() throws Exception
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        AsyncDummyDb db = initialized( new AsyncDummyDb() );
+        int dispatcherThreadCount = 1;
+        int maxInFlightOperations = 100;
+        OperationExecutor executor = newExecutor(
+                dispatcherThreadCount,
+                maxInFlightOperations,
+                db,
+                timeSource,
+                errorReporter,
+                metricsService
+        );
+
+        int operationCount = 100;
+        long firstScheduledStartTimeAsMilli = timeSource.nowAsMilli() + 100l;
+
+        // When
+        for ( int i = 0; i < operationCount; i++ )
+        {
+            Operation operation = new NothingOperation();
+            operation.setScheduledStartTimeAsMilli( firstScheduledStartTimeAsMilli );
+            operation.setTimeStamp( operation.scheduledStartTimeAsMilli() );
+            operation.setDependencyTimeStamp( 0l );
+            executor.execute( operation );
+        }
+
+        while ( executor.uncompletedOperationHandlerCount() > 0 )
+        {
+            // wait for handlers to finish
+            Spinner.powerNap( 100 );
+        }
+
+        // Then
+        assertThat( metricsService.count(), is( (long) operationCount ) );
+        // single dispatcher thread would only ever have one operation in flight if it waited for completion
+        assertThat( db.connectionState.maxInFlight.get(), greaterThan( dispatcherThreadCount ) );
+        executor.shutdown( 1000l );
+        db.close();
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    @Test
+    public void executorShouldReportOperationsThatCompleteExceptionally() throws Exception
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        AsyncDummyDb db = initialized( new AsyncDummyDb() );
+        OperationExecutor executor = newExecutor( 1, 10, db, timeSource, errorReporter, metricsService );
+
+        Operation operation = new TimedNamedOperation1(
+                timeSource.nowAsMilli(),
+                timeSource.nowAsMilli(),
+                0l,
+                "name"
+        );
+
+        // When
+        executor.execute( operation );
+        executor.shutdown( 1000l );
+
+        // Then
+        assertThat( executor.uncompletedOperationHandlerCount(), is( 0l ) );
+        assertThat( metricsService.count(), is( 0l ) );
+        assertThat( errorReporter.errorEncountered(), is( true ) );
+        db.close();
+    }
+
+    @Test
+    public void executorShouldRunBlockingHandlersToCompletion() throws Exception
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        Db db = initialized( new DummyDb() );
+        OperationExecutor executor = newExecutor( 1, 10, db, timeSource, errorReporter, metricsService );
+
+        Operation operation = new NothingOperation();
+        operation.setScheduledStartTimeAsMilli( timeSource.nowAsMilli() + 200l );
+        operation.setTimeStamp( timeSource.nowAsMilli() + 200l );
+        operation.setDependencyTimeStamp( 0l );
+
+        // When
+        executor.execute( operation );
+        executor.shutdown( 1000l );
+
+        // Then
+        assertThat( metricsService.count(), is( 1l ) );
+        assertThat( executor.uncompletedOperationHandlerCount(), is( 0l ) );
+
+        boolean exceptionThrown = false;
+        try
+        {
+            executor.shutdown( 1000l );
+        }
+        catch ( OperationExecutorException e )
+        {
+            exceptionThrown = true;
+        }
+
+        assertThat( exceptionThrown, is( true ) );
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    private OperationExecutor newExecutor( int dispatcherThreadCount,
+            int maxInFlightOperations,
+            Db db,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            DummyCountingMetricsService metricsService ) throws Exception
+    {
+        boolean ignoreScheduledStartTime = false;
+        Spinner spinner = new Spinner( timeSource, Spinner.DEFAULT_SLEEP_DURATION_10_MILLI, ignoreScheduledStartTime );
+        CompletionTimeWriter dummyCompletionTimeWriter = new DummyCompletionTimeWriter();
+        DummyCompletionTimeReader dummyCompletionTimeReader = new DummyCompletionTimeReader();
+        dummyCompletionTimeReader.setCompletionTimeAsMilli( Long.MAX_VALUE );
+        WorkloadStreams.WorkloadStreamDefinition streamDefinition = new WorkloadStreams.WorkloadStreamDefinition(
+                new HashSet<Class<? extends Operation>>(),
+                new HashSet<Class<? extends Operation>>(),
+                Collections.<Operation>emptyIterator(),
+                Collections.<Operation>emptyIterator(),
+                null
+        );
+        return new AsyncOperationExecutor(
+                dispatcherThreadCount,
+                maxInFlightOperations,
+                db,
+                streamDefinition,
+                dummyCompletionTimeWriter,
+                dummyCompletionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                streamDefinition.childOperationGenerator()
+        );
+    }
+
+    private static <DB extends Db> DB initialized( DB db ) throws DbException
+    {
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        db.init(
+                new HashMap<String,String>(),
+                loggingService,
+                DummyWorkload.OPERATION_TYPE_CLASS_MAPPING
+        );
+        return db;
+    }
+
+    public static class AsyncDummyDb extends Db
+    {
+        private AsyncConnectionState connectionState = null;
+
+        @Override
+        protected void onInit( Map<String,String> properties, LoggingService loggingService ) throws DbException
+        {
+            registerOperationHandler( NothingOperation.class, DelayedNothingOperationHandler.class );
+            registerOperationHandler( TimedNamedOperation1.class, FailingTimedNamedOperation1Handler.class );
+            connectionState = new AsyncConnectionState();
+        }
+
+        @Override
+        protected void onClose() throws IOException
+        {
+            connectionState.close();
+        }
+
+        @Override
+        protected DbConnectionState getConnectionState() throws DbException
+        {
+            return connectionState;
+        }
+    }
+
+    private static class AsyncConnectionState extends DbConnectionState
+    {
+        // stands in for the event loop of a non-blocking client
+        private final ScheduledExecutorService eventLoop = Executors.newSingleThreadScheduledExecutor();
+        private final AtomicInteger inFlight = new AtomicInteger( 0 );
+        private final AtomicInteger maxInFlight = new AtomicInteger( 0 );
+
+        @Override
+        public void close() throws IOException
+        {
+            eventLoop.shutdownNow();
+        }
+    }
+
+    public static class DelayedNothingOperationHandler
+            implements AsyncOperationHandler<NothingOperation,AsyncConnectionState>
+    {
+        @Override
+        public CompletionStage<?> executeOperationAsync( final NothingOperation operation,
+                final AsyncConnectionState connectionState,
+                final ResultReporter resultReporter ) throws DbException
+        {
+            final CompletableFuture<Void> completed = new CompletableFuture<>();
+            int inFlight = connectionState.inFlight.incrementAndGet();
+            connectionState.maxInFlight.accumulateAndGet( inFlight, Math::max );
+            connectionState.eventLoop.schedule(
+                    () ->
+                    {
+                        try
+                        {
+                            connectionState.inFlight.decrementAndGet();
+                            resultReporter.report( 0, new DummyResult(), operation );
+                            completed.complete( null );
+                        }
+                        catch ( DbException e )
+                        {
+                            completed.completeExceptionally( e );
+                        }
+                    },
+                    ASYNC_OPERATION_DURATION_AS_MILLI,
+                    TimeUnit.MILLISECONDS
+            );
+            return completed;
+        }
+    }
+
+    public static class FailingTimedNamedOperation1Handler
+            implements AsyncOperationHandler<TimedNamedOperation1,AsyncConnectionState>
+    {
+        @Override
+        public CompletionStage<?> executeOperationAsync( TimedNamedOperation1 operation,
+                AsyncConnectionState connectionState,
+                ResultReporter resultReporter ) throws DbException
+        {
+            CompletableFuture<Void> failed = new CompletableFuture<>();
+            failed.completeExceptionally( new DbException( "Expected failure" ) );
+            return failed;
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.ldbc.driver.Db;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.control.LoggingService;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
+import com.ldbc.driver.runtime.coordination.DummyCompletionTimeReader;
+import com.ldbc.driver.runtime.coordination.DummyCompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.DummyCountingMetricsService;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.temporal.TimeSource;
+import com.ldbc.driver.workloads.dummy.DummyDb;
+import com.ldbc.driver.workloads.dummy.DummyWorkload;
+import com.ldbc.driver.workloads.dummy.NothingOperation;
+import com.ldbc.driver.workloads.dummy.TimedNamedOperation1;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+public class ClosedLoopOperationExecutorTest
+{
+    @Test
+    public void executorShouldReturnAllResults() throws Exception
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        DummyDb db = initializedDummyDb();
+        int clientCount = 4;
+        long thinkTimeAsMilli = 0;
+        ClosedLoopOperationExecutor executor = newExecutor(
+                clientCount,
+                thinkTimeAsMilli,
+                db,
+                timeSource,
+                errorReporter,
+                metricsService
+        );
+
+        int operationCount = 100;
+
+        // When
+        for ( int i = 0; i < operationCount; i++ )
+        {
+            Operation operation = new NothingOperation();
+            // far in the future, scheduled start times are ignored in closed loop
+            operation.setScheduledStartTimeAsMilli( timeSource.nowAsMilli() + 1000000l );
+            operation.setTimeStamp( operation.scheduledStartTimeAsMilli() );
+            operation.setDependencyTimeStamp( 0l );
+            executor.execute( operation );
+        }
+        executor.shutdown( 5000l );
+
+        // Then
+        assertThat( metricsService.count(), is( (long) operationCount ) );
+        assertThat( executor.uncompletedOperationHandlerCount(), is( 0l ) );
+        db.close();
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    @Test
+    public void executorShouldBlockProducerWhileAllClientsAreBusy() throws Exception
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        DummyDb db = initializedDummyDb();
+        db.setNameAllowedValue( "blocked", false );
+        int clientCount = 2;
+        long thinkTimeAsMilli = 0;
+        final OperationExecutor executor = newExecutor(
+                clientCount,
+                thinkTimeAsMilli,
+                db,
+                timeSource,
+                errorReporter,
+                metricsService
+        );
+
+        long nowAsMilli = timeSource.nowAsMilli();
+        executor.execute( new TimedNamedOperation1( nowAsMilli, nowAsMilli, 0l, "blocked" ) );
+        executor.execute( new TimedNamedOperation1( nowAsMilli, nowAsMilli, 0l, "blocked" ) );
+
+        final AtomicBoolean thirdSubmitted = new AtomicBoolean( false );
+        final Operation thirdOperation = new TimedNamedOperation1( nowAsMilli, nowAsMilli, 0l, "blocked" );
+        Thread producer = new Thread()
+        {
+            @Override
+            public void run()
+            {
+                try
+                {
+                    executor.execute( thirdOperation );
+                    thirdSubmitted.set( true );
+                }
+                catch ( OperationExecutorException e )
+                {
+                    throw new RuntimeException( e );
+                }
+            }
+        };
+
+        // When
+        producer.start();
+        Spinner.powerNap( 500 );
+
+        // Then
+        assertThat( thirdSubmitted.get(), is( false ) );
+        assertThat( executor.uncompletedOperationHandlerCount(), is( 3l ) );
+
+        db.setNameAllowedValue( "blocked", true );
+        producer.join( 1000 );
+        assertThat( thirdSubmitted.get(), is( true ) );
+        executor.shutdown( 1000l );
+        assertThat( metricsService.count(), is( 3l ) );
+        assertThat( executor.uncompletedOperationHandlerCount(), is( 0l ) );
+        db.close();
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    @Test
+    public void clientShouldWaitForThinkTimeBetweenOperations() throws Exception
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        DummyDb db = initializedDummyDb();
+        int clientCount = 1;
+        long thinkTimeAsMilli = 100;
+        ClosedLoopOperationExecutor executor = newExecutor(
+                clientCount,
+                thinkTimeAsMilli,
+                db,
+                timeSource,
+                errorReporter,
+                metricsService
+        );
+
+        int operationCount = 5;
+
+        // When
+        long startTimeAsMilli = timeSource.nowAsMilli();
+        for ( int i = 0; i < operationCount; i++ )
+        {
+            Operation operation = new NothingOperation();
+            operation.setScheduledStartTimeAsMilli( startTimeAsMilli );
+            operation.setTimeStamp( startTimeAsMilli );
+            operation.setDependencyTimeStamp( 0l );
+            executor.execute( operation );
+        }
+        long lastSubmittedTimeAsMilli = timeSource.nowAsMilli();
+        executor.shutdown( 5000l );
+
+        // Then
+        // single client can only take the next operation once it has thought about the previous one
+        assertThat( lastSubmittedTimeAsMilli - startTimeAsMilli,
+                greaterThanOrEqualTo( (operationCount - 1) * thinkTimeAsMilli ) );
+        assertThat( metricsService.count(), is( (long) operationCount ) );
+        db.close();
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    @Test
+    public void executorShouldThrowExceptionIfShutdownMultipleTimes() throws Exception
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        DummyDb db = initializedDummyDb();
+        OperationExecutor executor = newExecutor( 1, 0, db, timeSource, errorReporter, metricsService );
+
+        // When
+        executor.shutdown( 1000l );
+
+        // Then
+        boolean exceptionThrown = false;
+        try
+        {
+            executor.shutdown( 1000l );
+        }
+        catch ( OperationExecutorException e )
+        {
+            exceptionThrown = true;
+        }
+
+        assertThat( exceptionThrown, is( true ) );
+        db.close();
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    private ClosedLoopOperationExecutor newExecutor( int clientCount,
+            long thinkTimeAsMilli,
+            Db db,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            DummyCountingMetricsService metricsService ) throws Exception
+    {
+        boolean ignoreScheduledStartTime = true;
+        Spinner spinner = new Spinner( timeSource, Spinner.DEFAULT_SLEEP_DURATION_10_MILLI, ignoreScheduledStartTime );
+        CompletionTimeWriter dummyCompletionTimeWriter = new DummyCompletionTimeWriter();
+        DummyCompletionTimeReader dummyCompletionTimeReader = new DummyCompletionTimeReader();
+        dummyCompletionTimeReader.setCompletionTimeAsMilli( Long.MAX_VALUE );
+        WorkloadStreams.WorkloadStreamDefinition streamDefinition = new WorkloadStreams.WorkloadStreamDefinition(
+                new HashSet<Class<? extends Operation>>(),
+                new HashSet<Class<? extends Operation>>(),
+                Collections.<Operation>emptyIterator(),
+                Collections.<Operation>emptyIterator(),
+                null
+        );
+        return new ClosedLoopOperationExecutor(
+                clientCount,
+                thinkTimeAsMilli,
+                db,
+                streamDefinition,
+                dummyCompletionTimeWriter,
+                dummyCompletionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                streamDefinition.childOperationGenerator()
+        );
+    }
+
+    private static DummyDb initializedDummyDb() throws Exception
+    {
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        DummyDb db = new DummyDb();
+        db.init(
+                new HashMap<String,String>(),
+                loggingService,
+                DummyWorkload.OPERATION_TYPE_CLASS_MAPPING
+        );
+        return db;
+    }
+}
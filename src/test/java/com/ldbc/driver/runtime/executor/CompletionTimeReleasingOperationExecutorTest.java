@@ -0,0 +1,293 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.ldbc.driver.Db;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.control.LoggingService;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.DefaultQueues;
+import com.ldbc.driver.runtime.coordination.CompletionTimeService;
+import com.ldbc.driver.runtime.coordination.CompletionTimeServiceAssistant;
+import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
+import com.ldbc.driver.runtime.coordination.DummyCompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.DummyCountingMetricsService;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.temporal.TimeSource;
+import com.ldbc.driver.workloads.dummy.DummyDb;
+import com.ldbc.driver.workloads.dummy.DummyWorkload;
+import com.ldbc.driver.workloads.dummy.TimedNamedOperation1;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class CompletionTimeReleasingOperationExecutorTest
+{
+    @Test
+    public void dependentOperationShouldNotOccupyThreadUntilCompletionTimeReachesItsDependency() throws Exception
+    {
+        // Given
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        TimeSource timeSource = new SystemTimeSource();
+        boolean ignoreScheduledStartTime = false;
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        Spinner spinner = new Spinner( timeSource, Spinner.DEFAULT_SLEEP_DURATION_10_MILLI, ignoreScheduledStartTime );
+        CompletionTimeService completionTimeService =
+                new CompletionTimeServiceAssistant().newSynchronizedCompletionTimeService();
+        CompletionTimeWriter dependencyCompletionTimeWriter = completionTimeService.newCompletionTimeWriter();
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        WorkloadStreams.WorkloadStreamDefinition streamDefinition = new WorkloadStreams.WorkloadStreamDefinition(
+                Sets.<Class<? extends Operation>>newHashSet( TimedNamedOperation1.class ),
+                new HashSet<Class<? extends Operation>>(),
+                Collections.<Operation>emptyIterator(),
+                Collections.<Operation>emptyIterator(),
+                null
+        );
+        Db db = new DummyDb();
+        db.init(
+                new HashMap<String,String>(),
+                loggingService,
+                DummyWorkload.OPERATION_TYPE_CLASS_MAPPING
+        );
+
+        int threadCount = 1;
+        OperationExecutor delegate = new ThreadPoolOperationExecutor(
+                threadCount,
+                DefaultQueues.DEFAULT_BOUND_1000,
+                db,
+                streamDefinition,
+                new DummyCompletionTimeWriter(),
+                completionTimeService,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                streamDefinition.childOperationGenerator()
+        );
+        OperationExecutor executor = new CompletionTimeReleasingOperationExecutor(
+                delegate,
+                completionTimeService,
+                streamDefinition.dependentOperationTypes(),
+                errorReporter
+        );
+
+        long nowAsMilli = timeSource.nowAsMilli();
+        Operation dependentOperation = new TimedNamedOperation1( nowAsMilli, nowAsMilli, 10l, "dependent" );
+
+        // When
+        executor.execute( dependentOperation );
+        Spinner.powerNap( 500 );
+
+        // Then
+        assertThat( metricsService.count(), is( 0l ) );
+        assertThat( executor.uncompletedOperationHandlerCount(), is( 1l ) );
+        // single thread of delegate is not waiting for completion time
+        assertThat( delegate.uncompletedOperationHandlerCount(), is( 0l ) );
+
+        // advance completion time to dependency time stamp of dependent operation
+        dependencyCompletionTimeWriter.submitInitiatedTime( 10l );
+        dependencyCompletionTimeWriter.submitCompletedTime( 10l );
+        dependencyCompletionTimeWriter.submitInitiatedTime( 11l );
+
+        while ( executor.uncompletedOperationHandlerCount() > 0 )
+        {
+            // wait for handler to finish
+            Spinner.powerNap( 100 );
+        }
+        assertThat( metricsService.count(), is( 1l ) );
+        executor.shutdown( 1000l );
+        completionTimeService.shutdown();
+        db.close();
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    @Test
+    public void onlyOperationsWaitingForCompletionTimeShouldBeParkedAndReleasedInDependencyTimeStampOrder()
+            throws Exception
+    {
+        // Given
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        TimeSource timeSource = new SystemTimeSource();
+        boolean ignoreScheduledStartTime = false;
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        Spinner spinner = new Spinner( timeSource, Spinner.DEFAULT_SLEEP_DURATION_10_MILLI, ignoreScheduledStartTime );
+        CompletionTimeService completionTimeService =
+                new CompletionTimeServiceAssistant().newSynchronizedCompletionTimeService();
+        CompletionTimeWriter dependencyCompletionTimeWriter = completionTimeService.newCompletionTimeWriter();
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        WorkloadStreams.WorkloadStreamDefinition streamDefinition = new WorkloadStreams.WorkloadStreamDefinition(
+                Sets.<Class<? extends Operation>>newHashSet( TimedNamedOperation1.class ),
+                new HashSet<Class<? extends Operation>>(),
+                Collections.<Operation>emptyIterator(),
+                Collections.<Operation>emptyIterator(),
+                null
+        );
+        Db db = new DummyDb();
+        db.init(
+                new HashMap<String,String>(),
+                loggingService,
+                DummyWorkload.OPERATION_TYPE_CLASS_MAPPING
+        );
+
+        int threadCount = 1;
+        OperationExecutor executor = new CompletionTimeReleasingOperationExecutor(
+                new ThreadPoolOperationExecutor(
+                        threadCount,
+                        DefaultQueues.DEFAULT_BOUND_1000,
+                        db,
+                        streamDefinition,
+                        new DummyCompletionTimeWriter(),
+                        completionTimeService,
+                        spinner,
+                        timeSource,
+                        errorReporter,
+                        metricsService,
+                        streamDefinition.childOperationGenerator()
+                ),
+                completionTimeService,
+                streamDefinition.dependentOperationTypes(),
+                errorReporter
+        );
+
+        long nowAsMilli = timeSource.nowAsMilli();
+        Operation laterDependencyOperation = new TimedNamedOperation1( nowAsMilli, nowAsMilli, 10l, "dependent10" );
+        Operation earlierDependencyOperation = new TimedNamedOperation1( nowAsMilli, nowAsMilli, 5l, "dependent5" );
+        // completion time already reached its dependency, must not wait behind parked operations
+        Operation readyOperation = new TimedNamedOperation1( nowAsMilli, nowAsMilli, 0l, "ready" );
+        dependencyCompletionTimeWriter.submitInitiatedTime( 0l );
+        dependencyCompletionTimeWriter.submitCompletedTime( 0l );
+        dependencyCompletionTimeWriter.submitInitiatedTime( 1l );
+
+        // When
+        executor.executeBatch(
+                Lists.newArrayList( laterDependencyOperation, earlierDependencyOperation, readyOperation ) );
+        Spinner.powerNap( 500 );
+
+        // Then
+        assertThat( metricsService.count(), is( 1l ) );
+        assertThat( executor.uncompletedOperationHandlerCount(), is( 2l ) );
+
+        // advance completion time to dependency time stamp of operation submitted second
+        dependencyCompletionTimeWriter.submitCompletedTime( 1l );
+        dependencyCompletionTimeWriter.submitInitiatedTime( 5l );
+        dependencyCompletionTimeWriter.submitCompletedTime( 5l );
+        dependencyCompletionTimeWriter.submitInitiatedTime( 6l );
+        Spinner.powerNap( 500 );
+
+        // released before operation submitted first, which still waits for its dependency
+        assertThat( metricsService.count(), is( 2l ) );
+        assertThat( executor.uncompletedOperationHandlerCount(), is( 1l ) );
+
+        dependencyCompletionTimeWriter.submitCompletedTime( 6l );
+        dependencyCompletionTimeWriter.submitInitiatedTime( 10l );
+        dependencyCompletionTimeWriter.submitCompletedTime( 10l );
+        dependencyCompletionTimeWriter.submitInitiatedTime( 11l );
+        while ( executor.uncompletedOperationHandlerCount() > 0 )
+        {
+            // wait for handler to finish
+            Spinner.powerNap( 100 );
+        }
+        assertThat( metricsService.count(), is( 3l ) );
+        executor.shutdown( 1000l );
+        completionTimeService.shutdown();
+        db.close();
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    @Test
+    public void operationsScheduledAfterParkedOperationShouldNotBeExecutedBeforeIt() throws Exception
+    {
+        // Given
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        TimeSource timeSource = new SystemTimeSource();
+        boolean ignoreScheduledStartTime = false;
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        Spinner spinner = new Spinner( timeSource, Spinner.DEFAULT_SLEEP_DURATION_10_MILLI, ignoreScheduledStartTime );
+        CompletionTimeService completionTimeService =
+                new CompletionTimeServiceAssistant().newSynchronizedCompletionTimeService();
+        CompletionTimeWriter dependencyCompletionTimeWriter = completionTimeService.newCompletionTimeWriter();
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        WorkloadStreams.WorkloadStreamDefinition streamDefinition = new WorkloadStreams.WorkloadStreamDefinition(
+                Sets.<Class<? extends Operation>>newHashSet( TimedNamedOperation1.class ),
+                new HashSet<Class<? extends Operation>>(),
+                Collections.<Operation>emptyIterator(),
+                Collections.<Operation>emptyIterator(),
+                null
+        );
+        Db db = new DummyDb();
+        db.init(
+                new HashMap<String,String>(),
+                loggingService,
+                DummyWorkload.OPERATION_TYPE_CLASS_MAPPING
+        );
+
+        int threadCount = 1;
+        OperationExecutor executor = new CompletionTimeReleasingOperationExecutor(
+                new ThreadPoolOperationExecutor(
+                        threadCount,
+                        DefaultQueues.DEFAULT_BOUND_1000,
+                        db,
+                        streamDefinition,
+                        new DummyCompletionTimeWriter(),
+                        completionTimeService,
+                        spinner,
+                        timeSource,
+                        errorReporter,
+                        metricsService,
+                        streamDefinition.childOperationGenerator()
+                ),
+                completionTimeService,
+                streamDefinition.dependentOperationTypes(),
+                errorReporter
+        );
+
+        long nowAsMilli = timeSource.nowAsMilli();
+        Operation dependentOperation = new TimedNamedOperation1( nowAsMilli, nowAsMilli, 10l, "dependent" );
+        // may execute, but scheduled after dependent operation, must not hold the only thread of delegate until then
+        long laterAsMilli = nowAsMilli + 3000;
+        Operation laterOperation = new TimedNamedOperation1( laterAsMilli, laterAsMilli, 0l, "later" );
+        dependencyCompletionTimeWriter.submitInitiatedTime( 0l );
+        dependencyCompletionTimeWriter.submitCompletedTime( 0l );
+        dependencyCompletionTimeWriter.submitInitiatedTime( 1l );
+
+        // When
+        executor.execute( dependentOperation );
+        executor.execute( laterOperation );
+        Spinner.powerNap( 500 );
+
+        // Then
+        assertThat( metricsService.count(), is( 0l ) );
+        assertThat( executor.uncompletedOperationHandlerCount(), is( 2l ) );
+
+        // advance completion time to dependency time stamp of dependent operation
+        dependencyCompletionTimeWriter.submitCompletedTime( 1l );
+        dependencyCompletionTimeWriter.submitInitiatedTime( 10l );
+        dependencyCompletionTimeWriter.submitCompletedTime( 10l );
+        dependencyCompletionTimeWriter.submitInitiatedTime( 11l );
+        Spinner.powerNap( 500 );
+
+        // executed before scheduled start time of later operation
+        assertThat( timeSource.nowAsMilli() < laterAsMilli, is( true ) );
+        assertThat( metricsService.count(), is( 1l ) );
+        assertThat( executor.uncompletedOperationHandlerCount(), is( 1l ) );
+
+        while ( executor.uncompletedOperationHandlerCount() > 0 )
+        {
+            // wait for handler to finish
+            Spinner.powerNap( 100 );
+        }
+        assertThat( metricsService.count(), is( 2l ) );
+        executor.shutdown( 1000l );
+        completionTimeService.shutdown();
+        db.close();
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+}
@@ -0,0 +1,212 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.ldbc.driver.Db;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationConflictKeys;
+import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.control.LoggingService;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
+import com.ldbc.driver.runtime.coordination.DummyCompletionTimeReader;
+import com.ldbc.driver.runtime.coordination.DummyCompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.DummyCountingMetricsService;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.temporal.TimeSource;
+import com.ldbc.driver.workloads.dummy.DummyDb;
+import com.ldbc.driver.workloads.dummy.DummyWorkload;
+import com.ldbc.driver.workloads.dummy.NothingOperation;
+import com.ldbc.driver.workloads.dummy.TimedNamedOperation1;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ConflictAwareOperationExecutorTest
+{
+    // key of named operation is the first character of its name
+    private static final OperationConflictKeys NAME_CONFLICT_KEYS = new OperationConflictKeys()
+    {
+        @Override
+        public long[] conflictKeysFor( Operation operation )
+        {
+            return (operation instanceof TimedNamedOperation1)
+                   ? new long[]{((TimedNamedOperation1) operation).name().charAt( 0 )}
+                   : new long[]{operation.timeStamp() % 10};
+        }
+    };
+
+    @Test
+    public void executorShouldReturnAllResults() throws Exception
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        DummyDb db = initializedDummyDb();
+        OperationExecutor executor = newExecutor( 4, db, timeSource, errorReporter, metricsService );
+
+        int operationCount = 100;
+
+        // When
+        long scheduledStartTimeAsMilli = timeSource.nowAsMilli();
+        for ( int i = 0; i < operationCount; i++ )
+        {
+            Operation operation = new NothingOperation();
+            operation.setScheduledStartTimeAsMilli( scheduledStartTimeAsMilli );
+            operation.setTimeStamp( i );
+            operation.setDependencyTimeStamp( 0l );
+            executor.execute( operation );
+        }
+        while ( executor.uncompletedOperationHandlerCount() > 0 )
+        {
+            // wait for handlers to finish
+            Spinner.powerNap( 100 );
+        }
+
+        // Then
+        assertThat( metricsService.count(), is( (long) operationCount ) );
+        executor.shutdown( 1000l );
+        db.close();
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    @Test
+    public void conflictingOperationShouldWaitForRunningOperationWhileOthersExecute() throws Exception
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        DummyDb db = initializedDummyDb();
+        db.setNameAllowedValue( "a1", false );
+        final OperationExecutor executor = newExecutor( 4, db, timeSource, errorReporter, metricsService );
+
+        long nowAsMilli = timeSource.nowAsMilli();
+        executor.execute( new TimedNamedOperation1( nowAsMilli, nowAsMilli, 0l, "a1" ) );
+        // does not conflict with blocked operation
+        executor.execute( new TimedNamedOperation1( nowAsMilli, nowAsMilli, 0l, "b1" ) );
+
+        final AtomicBoolean conflictingSubmitted = new AtomicBoolean( false );
+        final Operation conflictingOperation = new TimedNamedOperation1( nowAsMilli, nowAsMilli, 0l, "a2" );
+        Thread producer = new Thread()
+        {
+            @Override
+            public void run()
+            {
+                try
+                {
+                    executor.execute( conflictingOperation );
+                    conflictingSubmitted.set( true );
+                }
+                catch ( OperationExecutorException e )
+                {
+                    throw new RuntimeException( e );
+                }
+            }
+        };
+
+        // When
+        producer.start();
+        Spinner.powerNap( 500 );
+
+        // Then
+        assertThat( conflictingSubmitted.get(), is( false ) );
+        assertThat( metricsService.count(), is( 1l ) );
+        assertThat( executor.uncompletedOperationHandlerCount(), is( 2l ) );
+
+        db.setNameAllowedValue( "a1", true );
+        producer.join( 1000 );
+        assertThat( conflictingSubmitted.get(), is( true ) );
+        while ( executor.uncompletedOperationHandlerCount() > 0 )
+        {
+            // wait for handlers to finish
+            Spinner.powerNap( 100 );
+        }
+        assertThat( metricsService.count(), is( 3l ) );
+        executor.shutdown( 1000l );
+        db.close();
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    @Test
+    public void executorShouldThrowExceptionIfShutdownMultipleTimes() throws Exception
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        DummyDb db = initializedDummyDb();
+        OperationExecutor executor = newExecutor( 2, db, timeSource, errorReporter, metricsService );
+
+        // When
+        executor.shutdown( 1000l );
+
+        // Then
+        boolean exceptionThrown = false;
+        try
+        {
+            executor.shutdown( 1000l );
+        }
+        catch ( OperationExecutorException e )
+        {
+            exceptionThrown = true;
+        }
+
+        assertThat( exceptionThrown, is( true ) );
+        db.close();
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    private ConflictAwareOperationExecutor newExecutor( int threadCount,
+            Db db,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            DummyCountingMetricsService metricsService ) throws Exception
+    {
+        boolean ignoreScheduledStartTime = false;
+        Spinner spinner = new Spinner( timeSource, Spinner.DEFAULT_SLEEP_DURATION_10_MILLI, ignoreScheduledStartTime );
+        CompletionTimeWriter dummyCompletionTimeWriter = new DummyCompletionTimeWriter();
+        DummyCompletionTimeReader dummyCompletionTimeReader = new DummyCompletionTimeReader();
+        dummyCompletionTimeReader.setCompletionTimeAsMilli( Long.MAX_VALUE );
+        WorkloadStreams.WorkloadStreamDefinition streamDefinition = new WorkloadStreams.WorkloadStreamDefinition(
+                new HashSet<Class<? extends Operation>>(),
+                new HashSet<Class<? extends Operation>>(),
+                Collections.<Operation>emptyIterator(),
+                Collections.<Operation>emptyIterator(),
+                null,
+                NAME_CONFLICT_KEYS
+        );
+        return new ConflictAwareOperationExecutor(
+                threadCount,
+                streamDefinition.operationConflictKeys(),
+                db,
+                streamDefinition,
+                dummyCompletionTimeWriter,
+                dummyCompletionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                streamDefinition.childOperationGenerator()
+        );
+    }
+
+    private static DummyDb initializedDummyDb() throws Exception
+    {
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        DummyDb db = new DummyDb();
+        db.init(
+                new HashMap<String,String>(),
+                loggingService,
+                DummyWorkload.OPERATION_TYPE_CLASS_MAPPING
+        );
+        return db;
+    }
+}
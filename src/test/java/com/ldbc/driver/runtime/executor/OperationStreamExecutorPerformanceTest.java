@@ -14,6 +14,7 @@ import com.ldbc.driver.runtime.coordination.CompletionTimeException;
 import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
 import com.ldbc.driver.runtime.coordination.DummyCompletionTimeReader;
 import com.ldbc.driver.runtime.coordination.DummyCompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.DriverInternalMetrics;
 import com.ldbc.driver.runtime.metrics.DummyCountingMetricsService;
 import com.ldbc.driver.runtime.metrics.MetricsCollectionException;
 import com.ldbc.driver.runtime.metrics.MetricsService;
@@ -22,6 +23,7 @@ import com.ldbc.driver.temporal.ManualTimeSource;
 import com.ldbc.driver.temporal.SystemTimeSource;
 import com.ldbc.driver.temporal.TimeSource;
 import com.ldbc.driver.workloads.dummy.DummyDb;
+import com.ldbc.driver.workloads.dummy.DummyWorkload;
 import com.ldbc.driver.workloads.dummy.TimedNamedOperation1Factory;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -105,7 +107,7 @@ public class OperationStreamExecutorPerformanceTest
                 DummyDb db = new DummyDb();
                 Map<String,String> dummyDbParameters = new HashMap<>();
                 dummyDbParameters.put( DummyDb.ALLOWED_DEFAULT_ARG, Boolean.toString( true ) );
-                db.init( dummyDbParameters, loggingService, new HashMap<Integer,Class<? extends Operation>>() );
+                db.init( dummyDbParameters, loggingService, DummyWorkload.OPERATION_TYPE_CLASS_MAPPING );
                 CompletionTimeWriter completionTimeWriter = new DummyCompletionTimeWriter();
                 MetricsService metricsService = new DummyCountingMetricsService();
                 DummyCompletionTimeReader completionTimeReader = new DummyCompletionTimeReader();
@@ -142,7 +144,8 @@ public class OperationStreamExecutorPerformanceTest
                         executor,
                         completionTimeWriter,
                         executorHasFinished,
-                        forceThreadToTerminate
+                        forceThreadToTerminate,
+                        0
                 );
 
                 threadPoolExecutorTimes.add( doTest( thread, errorReporter, metricsService, operationCount ) );
@@ -159,7 +162,7 @@ public class OperationStreamExecutorPerformanceTest
                 DummyDb db = new DummyDb();
                 Map<String,String> dummyDbParameters = new HashMap<>();
                 dummyDbParameters.put( DummyDb.ALLOWED_DEFAULT_ARG, Boolean.toString( true ) );
-                db.init( dummyDbParameters, loggingService, new HashMap<Integer,Class<? extends Operation>>() );
+                db.init( dummyDbParameters, loggingService, DummyWorkload.OPERATION_TYPE_CLASS_MAPPING );
                 CompletionTimeWriter completionTimeWriter = new DummyCompletionTimeWriter();
                 MetricsService metricsService = new DummyCountingMetricsService();
                 DummyCompletionTimeReader completionTimeReader = new DummyCompletionTimeReader();
@@ -195,7 +198,8 @@ public class OperationStreamExecutorPerformanceTest
                         executor,
                         completionTimeWriter,
                         executorHasFinished,
-                        forceThreadToTerminate
+                        forceThreadToTerminate,
+                        0
                 );
 
                 singleThreadExecutorTimes.add( doTest( thread, errorReporter, metricsService, operationCount ) );
@@ -212,7 +216,7 @@ public class OperationStreamExecutorPerformanceTest
                 DummyDb db = new DummyDb();
                 Map<String,String> dummyDbParameters = new HashMap<>();
                 dummyDbParameters.put( DummyDb.ALLOWED_DEFAULT_ARG, Boolean.toString( true ) );
-                db.init( dummyDbParameters, loggingService, new HashMap<Integer,Class<? extends Operation>>() );
+                db.init( dummyDbParameters, loggingService, DummyWorkload.OPERATION_TYPE_CLASS_MAPPING );
                 CompletionTimeWriter completionTimeWriter = new DummyCompletionTimeWriter();
                 MetricsService metricsService = new DummyCountingMetricsService();
                 DummyCompletionTimeReader completionTimeReader = new DummyCompletionTimeReader();
@@ -247,7 +251,8 @@ public class OperationStreamExecutorPerformanceTest
                         executor,
                         completionTimeWriter,
                         executorHasFinished,
-                        forceThreadToTerminate
+                        forceThreadToTerminate,
+                        0
                 );
 
                 sameThreadExecutorTimes.add( doTest( thread, errorReporter, metricsService, operationCount ) );
@@ -272,6 +277,186 @@ public class OperationStreamExecutorPerformanceTest
         System.out.println();
     }
 
+    @Test
+    public void threadPoolVersusWorkStealingExecutorPerformanceTest()
+            throws CompletionTimeException, MetricsCollectionException, DbException, OperationExecutorException,
+            IOException
+    {
+        int experimentRepetitions = 20;
+        long operationCount = 1000000;
+        long spinnerSleepDuration = 0L;
+        List<Operation> operations = Lists.newArrayList( getOperations( operationCount ) );
+
+        for ( int threadCount : new int[]{1, 2, 4, 8} )
+        {
+            List<Long> threadPoolExecutorTimes = new ArrayList<>();
+            List<Long> workStealingExecutorTimes = new ArrayList<>();
+            for ( int i = 0; i < experimentRepetitions; i++ )
+            {
+                threadPoolExecutorTimes.add( multiThreadedExecutorDuration(
+                        OperationExecutorType.THREAD_POOL,
+                        threadCount,
+                        spinnerSleepDuration,
+                        operations,
+                        operationCount,
+                        0 ) );
+                workStealingExecutorTimes.add( multiThreadedExecutorDuration(
+                        OperationExecutorType.WORK_STEALING,
+                        threadCount,
+                        spinnerSleepDuration,
+                        operations,
+                        operationCount,
+                        0 ) );
+            }
+            long meanThreadPool = meanDuration( threadPoolExecutorTimes );
+            System.out.println( format( "Threads [%s] (thread pool executor) %s ops in %s: %s ops/ms",
+                    threadCount, operationCount, meanThreadPool,
+                    (operationCount / (double) TimeUnit.MILLISECONDS.toNanos( meanThreadPool )) * 1000000 ) );
+            long meanWorkStealing = meanDuration( workStealingExecutorTimes );
+            System.out.println( format( "Threads [%s] (work stealing executor) %s ops in %s: %s ops/ms",
+                    threadCount, operationCount, meanWorkStealing,
+                    (operationCount / (double) TimeUnit.MILLISECONDS.toNanos( meanWorkStealing )) * 1000000 ) );
+            System.out.println();
+        }
+    }
+
+    @Test
+    public void unbatchedVersusBatchedDispatchPerformanceTest()
+            throws CompletionTimeException, MetricsCollectionException, DbException, OperationExecutorException,
+            IOException
+    {
+        int experimentRepetitions = 20;
+        long operationCount = 1000000;
+        long spinnerSleepDuration = 0L;
+        // all operations have the same scheduled start time, every batch is full
+        long dispatchWindowAsMilli = 1;
+        List<Operation> operations = Lists.newArrayList( getOperations( operationCount ) );
+
+        for ( OperationExecutorType operationExecutorType : new OperationExecutorType[]{
+                OperationExecutorType.THREAD_POOL, OperationExecutorType.WORK_STEALING} )
+        {
+            for ( int threadCount : new int[]{1, 4} )
+            {
+                List<Long> unbatchedTimes = new ArrayList<>();
+                List<Long> batchedTimes = new ArrayList<>();
+                for ( int i = 0; i < experimentRepetitions; i++ )
+                {
+                    unbatchedTimes.add( multiThreadedExecutorDuration(
+                            operationExecutorType,
+                            threadCount,
+                            spinnerSleepDuration,
+                            operations,
+                            operationCount,
+                            0 ) );
+                    batchedTimes.add( multiThreadedExecutorDuration(
+                            operationExecutorType,
+                            threadCount,
+                            spinnerSleepDuration,
+                            operations,
+                            operationCount,
+                            dispatchWindowAsMilli ) );
+                }
+                long meanUnbatched = meanDuration( unbatchedTimes );
+                System.out.println( format( "%s Threads [%s] (unbatched dispatch) %s ops in %s: %s ops/ms",
+                        operationExecutorType, threadCount, operationCount, meanUnbatched,
+                        (operationCount / (double) TimeUnit.MILLISECONDS.toNanos( meanUnbatched )) * 1000000 ) );
+                long meanBatched = meanDuration( batchedTimes );
+                System.out.println( format( "%s Threads [%s] (batched dispatch) %s ops in %s: %s ops/ms",
+                        operationExecutorType, threadCount, operationCount, meanBatched,
+                        (operationCount / (double) TimeUnit.MILLISECONDS.toNanos( meanBatched )) * 1000000 ) );
+                System.out.println();
+            }
+        }
+    }
+
+    private long multiThreadedExecutorDuration(
+            OperationExecutorType operationExecutorType,
+            int threadCount,
+            long spinnerSleepDuration,
+            List<Operation> operations,
+            long operationCount,
+            long dispatchWindowAsMilli )
+            throws CompletionTimeException, MetricsCollectionException, DbException, OperationExecutorException,
+            IOException
+    {
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        boolean ignoreScheduledStartTime = false;
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        Spinner spinner = new Spinner( timeSource, spinnerSleepDuration, ignoreScheduledStartTime );
+        DummyDb db = new DummyDb();
+        Map<String,String> dummyDbParameters = new HashMap<>();
+        dummyDbParameters.put( DummyDb.ALLOWED_DEFAULT_ARG, Boolean.toString( true ) );
+        db.init( dummyDbParameters, loggingService, DummyWorkload.OPERATION_TYPE_CLASS_MAPPING );
+        CompletionTimeWriter completionTimeWriter = new DummyCompletionTimeWriter();
+        MetricsService metricsService = new DummyCountingMetricsService();
+        DummyCompletionTimeReader completionTimeReader = new DummyCompletionTimeReader();
+        completionTimeReader.setCompletionTimeAsMilli( 0L );
+        AtomicBoolean executorHasFinished = new AtomicBoolean( false );
+        AtomicBoolean forceThreadToTerminate = new AtomicBoolean( false );
+        timeSource.setNowFromMilli( 0 );
+
+        WorkloadStreams.WorkloadStreamDefinition streamDefinition =
+                new WorkloadStreams.WorkloadStreamDefinition(
+                        new HashSet<Class<? extends Operation>>(),
+                        new HashSet<Class<? extends Operation>>(),
+                        Collections.<Operation>emptyIterator(),
+                        operations.iterator(),
+                        null
+                );
+
+        OperationExecutor executor;
+        switch ( operationExecutorType )
+        {
+        case THREAD_POOL:
+            executor = new ThreadPoolOperationExecutor(
+                    threadCount,
+                    DefaultQueues.DEFAULT_BOUND_1000,
+                    db,
+                    streamDefinition,
+                    completionTimeWriter,
+                    completionTimeReader,
+                    spinner,
+                    timeSource,
+                    errorReporter,
+                    metricsService,
+                    streamDefinition.childOperationGenerator()
+            );
+            break;
+        case WORK_STEALING:
+            executor = new WorkStealingOperationExecutor(
+                    threadCount,
+                    DefaultQueues.DEFAULT_BOUND_1000,
+                    db,
+                    streamDefinition,
+                    completionTimeWriter,
+                    completionTimeReader,
+                    spinner,
+                    timeSource,
+                    errorReporter,
+                    metricsService,
+                    streamDefinition.childOperationGenerator()
+            );
+            break;
+        default:
+            throw new OperationExecutorException( format( "Unsupported executor: %s", operationExecutorType ) );
+        }
+        OperationStreamExecutorServiceThread thread = getNewThread(
+                errorReporter,
+                streamDefinition,
+                executor,
+                completionTimeWriter,
+                executorHasFinished,
+                forceThreadToTerminate,
+                dispatchWindowAsMilli
+        );
+
+        long duration = doTest( thread, errorReporter, metricsService, operationCount );
+        executor.shutdown( 1000L );
+        db.close();
+        metricsService.shutdown();
+        return duration;
+    }
+
     private long meanDuration( List<Long> durations )
     {
         long totalAsMilli = 0;
@@ -329,7 +514,8 @@ public class OperationStreamExecutorPerformanceTest
             OperationExecutor operationExecutor,
             CompletionTimeWriter completionTimeWriter,
             AtomicBoolean executorHasFinished,
-            AtomicBoolean forceThreadToTerminate
+            AtomicBoolean forceThreadToTerminate,
+            long dispatchWindowAsMilli
     ) throws CompletionTimeException, MetricsCollectionException, DbException
     {
         OperationStreamExecutorServiceThread operationStreamExecutorThread =
@@ -339,7 +525,9 @@ public class OperationStreamExecutorPerformanceTest
                         streamDefinition,
                         executorHasFinished,
                         forceThreadToTerminate,
-                        completionTimeWriter
+                        completionTimeWriter,
+                        dispatchWindowAsMilli,
+                        new DriverInternalMetrics()
                 );
 
         return operationStreamExecutorThread;
@@ -19,9 +19,11 @@ import com.ldbc.driver.workloads.dummy.DummyWorkload;
 import com.ldbc.driver.workloads.dummy.NothingOperation;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -164,6 +166,78 @@ public class ThreadPoolOperationExecutorTest
         assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
     }
 
+    @Test
+    public void executorShouldReturnAllResultsOfBatch() throws Exception
+    {
+        // Given
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        TimeSource timeSource = new SystemTimeSource();
+        boolean ignoreScheduledStartTime = false;
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        Spinner spinner = new Spinner( timeSource, Spinner.DEFAULT_SLEEP_DURATION_10_MILLI, ignoreScheduledStartTime );
+        CompletionTimeWriter dummyCompletionTimeWriter = new DummyCompletionTimeWriter();
+        DummyCompletionTimeReader dummyCompletionTimeReader = new DummyCompletionTimeReader();
+        dummyCompletionTimeReader.setCompletionTimeAsMilli( Long.MAX_VALUE );
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        WorkloadStreams.WorkloadStreamDefinition streamDefinition = new WorkloadStreams.WorkloadStreamDefinition(
+                new HashSet<Class<? extends Operation>>(),
+                new HashSet<Class<? extends Operation>>(),
+                Collections.<Operation>emptyIterator(),
+                Collections.<Operation>emptyIterator(),
+                null
+        );
+        Db db = new DummyDb();
+        db.init(
+                new HashMap<String,String>(),
+                loggingService,
+                DummyWorkload.OPERATION_TYPE_CLASS_MAPPING
+        );
+
+        int threadCount = 1;
+        int boundedQueueSize = DefaultQueues.DEFAULT_BOUND_1000;
+
+        OperationExecutor executor = new ThreadPoolOperationExecutor(
+                threadCount,
+                boundedQueueSize,
+                db,
+                streamDefinition,
+                dummyCompletionTimeWriter,
+                dummyCompletionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                streamDefinition.childOperationGenerator()
+        );
+
+        int operationCount = 100;
+        List<Operation> batch = new ArrayList<>();
+        long scheduledStartTimeAsMilli = timeSource.nowAsMilli();
+        for ( int i = 0; i < operationCount; i++ )
+        {
+            Operation operation = new NothingOperation();
+            operation.setScheduledStartTimeAsMilli( scheduledStartTimeAsMilli );
+            operation.setTimeStamp( scheduledStartTimeAsMilli );
+            operation.setDependencyTimeStamp( 0l );
+            batch.add( operation );
+        }
+
+        // When
+
+        executor.executeBatch( batch );
+
+        while ( executor.uncompletedOperationHandlerCount() > 0 )
+        {
+            // wait for handlers to finish
+            Spinner.powerNap( 100 );
+        }
+
+        // Then
+        assertThat( metricsService.count(), is( (long) operationCount ) );
+        executor.shutdown( 1000l );
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
     @Test
     public void executorShouldThrowExceptionIfShutdownMultipleTimes() throws Exception
     {
@@ -0,0 +1,160 @@
+package com.ldbc.driver.runtime.metrics;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class AsyncResultsLogWriterTest
+{
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldWriteSameValuesAsSimpleResultsLogWriter() throws Exception
+    {
+        File resultsLog = temporaryFolder.newFile();
+
+        try ( ResultsLogWriter writer = new AsyncResultsLogWriter( resultsLog, NANOSECONDS, 1024 * 1024 ) )
+        {
+            writer.write( "a", Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE, Integer.MAX_VALUE, Long.MAX_VALUE );
+            writer.write( "b", 0, 0, 0, Integer.MIN_VALUE, 0 );
+            writer.write( "c", Long.MIN_VALUE, -1, 9, -10, Long.MIN_VALUE );
+        }
+
+        try ( ResultsLogReader reader = new SimpleResultsLogReader( resultsLog ) )
+        {
+            assertThat( reader.unit(), equalTo( NANOSECONDS ) );
+            assertTrue( reader.next() );
+            assertThat( reader.getOperationName(), equalTo( "a" ) );
+            assertThat( reader.getScheduledStartTimeAsMilli(), equalTo( Long.MAX_VALUE ) );
+            assertThat( reader.getActualStartTimeAsMilli(), equalTo( Long.MAX_VALUE ) );
+            assertThat( reader.getRunDurationAsNano(), equalTo( Long.MAX_VALUE ) );
+            assertThat( reader.getResultCode(), equalTo( Integer.MAX_VALUE ) );
+            assertThat( reader.getOriginalStartTime(), equalTo( Long.MAX_VALUE ) );
+
+            assertTrue( reader.next() );
+            assertThat( reader.getOperationName(), equalTo( "b" ) );
+            assertThat( reader.getScheduledStartTimeAsMilli(), equalTo( 0L ) );
+            assertThat( reader.getActualStartTimeAsMilli(), equalTo( 0L ) );
+            assertThat( reader.getRunDurationAsNano(), equalTo( 0L ) );
+            assertThat( reader.getResultCode(), equalTo( Integer.MIN_VALUE ) );
+            assertThat( reader.getOriginalStartTime(), equalTo( 0L ) );
+
+            assertTrue( reader.next() );
+            assertThat( reader.getOperationName(), equalTo( "c" ) );
+            assertThat( reader.getScheduledStartTimeAsMilli(), equalTo( Long.MIN_VALUE ) );
+            assertThat( reader.getActualStartTimeAsMilli(), equalTo( -1L ) );
+            assertThat( reader.getRunDurationAsNano(), equalTo( 9L ) );
+            assertThat( reader.getResultCode(), equalTo( -10 ) );
+            assertThat( reader.getOriginalStartTime(), equalTo( Long.MIN_VALUE ) );
+
+            assertFalse( reader.next() );
+        }
+    }
+
+    @Test
+    public void shouldWriteRowsInOrderAcrossBuffersAndCountDroppedRows() throws Exception
+    {
+        File resultsLog = temporaryFolder.newFile();
+        int count = 100000;
+        AsyncResultsLogWriter writer = new AsyncResultsLogWriter(
+                resultsLog,
+                MICROSECONDS,
+                AsyncResultsLogWriter.MIN_BUFFER_SIZE,
+                4,
+                AsyncResultsLogWriter.FullBuffersPolicy.DROP );
+
+        // When
+        for ( int i = 0; i < count; i++ )
+        {
+            writer.write( "operation", i, i, MICROSECONDS.toNanos( i ), i, i );
+        }
+        writer.close();
+
+        // Then
+        // rows are only dropped if I/O thread falls behind, which depends on the machine
+        assertThat( writer.droppedWriteCount() > 0, is( writer.stallCount() > 0 ) );
+        assertThat( writer.writtenBufferCount() > 1, is( true ) );
+        long rowCount = 0;
+        long previous = -1;
+        try ( ResultsLogReader reader = new SimpleResultsLogReader( resultsLog ) )
+        {
+            while ( reader.next() )
+            {
+                long value = reader.getScheduledStartTimeAsMilli();
+                assertThat( value > previous, is( true ) );
+                assertThat( reader.getActualStartTimeAsMilli(), equalTo( value ) );
+                assertThat( reader.getRunDurationAsNano(), equalTo( MICROSECONDS.toNanos( value ) ) );
+                assertThat( (long) reader.getResultCode(), equalTo( value ) );
+                assertThat( reader.getOriginalStartTime(), equalTo( value ) );
+                previous = value;
+                rowCount++;
+            }
+        }
+        assertThat( rowCount + writer.droppedWriteCount(), equalTo( (long) count ) );
+        System.out.println( String.format( "%s buffers written, %s stalls, %s rows dropped",
+                writer.writtenBufferCount(), writer.stallCount(), writer.droppedWriteCount() ) );
+    }
+
+    @Test
+    public void shouldWaitForFreeBufferRatherThanDropRowsWithBlockPolicy() throws Exception
+    {
+        File resultsLog = temporaryFolder.newFile();
+        int count = 100000;
+        AsyncResultsLogWriter writer = new AsyncResultsLogWriter(
+                resultsLog,
+                MICROSECONDS,
+                AsyncResultsLogWriter.MIN_BUFFER_SIZE,
+                AsyncResultsLogWriter.DEFAULT_BUFFER_COUNT,
+                AsyncResultsLogWriter.FullBuffersPolicy.BLOCK );
+
+        // When
+        for ( int i = 0; i < count; i++ )
+        {
+            writer.write( "operation", i, i, MICROSECONDS.toNanos( i ), i, i );
+        }
+        writer.close();
+
+        // Then
+        assertThat( writer.droppedWriteCount(), equalTo( 0l ) );
+        long rowCount = 0;
+        try ( ResultsLogReader reader = new SimpleResultsLogReader( resultsLog ) )
+        {
+            while ( reader.next() )
+            {
+                assertThat( reader.getScheduledStartTimeAsMilli(), equalTo( rowCount ) );
+                rowCount++;
+            }
+        }
+        assertThat( rowCount, equalTo( (long) count ) );
+    }
+
+    @Test
+    public void shouldNotAcceptWritesAfterClose() throws Exception
+    {
+        ResultsLogWriter writer = new AsyncResultsLogWriter(
+                temporaryFolder.newFile(), MICROSECONDS, AsyncResultsLogWriter.MIN_BUFFER_SIZE );
+        writer.close();
+        boolean exceptionThrown = false;
+        try
+        {
+            writer.write( "operation", 1, 1, 1, 1, 1 );
+        }
+        catch ( IOException e )
+        {
+            exceptionThrown = true;
+        }
+        assertThat( exceptionThrown, is( true ) );
+    }
+}
@@ -0,0 +1,158 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.runtime.scheduling.SpinnerWaitStrategyType;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.temporal.TimeSource;
+import com.ldbc.driver.workloads.dummy.TimedNamedOperation1;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class DriverInternalMetricsTest
+{
+    @Test
+    public void shouldAggregateRecordingsOfManyThreads() throws InterruptedException
+    {
+        // Given
+        final DriverInternalMetrics metrics = new DriverInternalMetrics();
+        final int threadCount = 4;
+        final int recordingsPerThread = 10000;
+        List<Thread> threads = new ArrayList<>();
+        for ( int t = 0; t < threadCount; t++ )
+        {
+            threads.add( new Thread()
+            {
+                @Override
+                public void run()
+                {
+                    for ( int i = 1; i <= recordingsPerThread; i++ )
+                    {
+                        metrics.handlerPoolClaim().record( i );
+                        metrics.dispatchBlocked().record( 2 );
+                    }
+                    metrics.metricsRingBufferFull();
+                }
+            } );
+        }
+
+        // When
+        for ( Thread thread : threads )
+        {
+            thread.start();
+        }
+        for ( Thread thread : threads )
+        {
+            thread.join();
+        }
+        metrics.handlerPoolGrown( 8 );
+        metrics.handlerPoolGrown( 16 );
+        DriverInternalMetricsSnapshot snapshot = metrics.snapshot();
+
+        // Then
+        long totalPerThread = (long) recordingsPerThread * (recordingsPerThread + 1) / 2;
+        assertThat( snapshot.handlerPoolClaim().count(), equalTo( (long) threadCount * recordingsPerThread ) );
+        assertThat( snapshot.handlerPoolClaim().totalAsNano(), equalTo( threadCount * totalPerThread ) );
+        assertThat( snapshot.handlerPoolClaim().maxAsNano(), equalTo( (long) recordingsPerThread ) );
+        assertThat( snapshot.dispatchBlocked().meanAsNano(), equalTo( 2d ) );
+        assertThat( snapshot.spinnerScheduleWait().count(), equalTo( 0l ) );
+        assertThat( snapshot.spinnerScheduleWait().meanAsNano(), equalTo( 0d ) );
+        assertThat( snapshot.handlerPoolGrowthCount(), equalTo( 2l ) );
+        assertThat( snapshot.handlerPoolSize(), equalTo( 16l ) );
+        assertThat( snapshot.metricsRingBufferFullCount(), equalTo( (long) threadCount ) );
+    }
+
+    @Test
+    public void shouldSampleOccupancyOfRegisteredRingBufferWithEachSnapshot()
+    {
+        // Given
+        DriverInternalMetrics metrics = new DriverInternalMetrics();
+        final AtomicLong occupancy = new AtomicLong( 0 );
+
+        // When
+        DriverInternalMetricsSnapshot unregistered = metrics.snapshot();
+        metrics.registerMetricsRingBuffer( 1024, occupancy::get );
+        occupancy.set( 100 );
+        metrics.snapshot();
+        occupancy.set( 10 );
+        DriverInternalMetricsSnapshot registered = metrics.snapshot();
+        metrics.unregisterMetricsRingBuffer();
+        DriverInternalMetricsSnapshot afterUnregister = metrics.snapshot();
+
+        // Then
+        assertThat( unregistered.metricsRingBufferCapacity(), equalTo( 0l ) );
+        assertThat( unregistered.metricsRingBufferOccupancy(), equalTo( 0l ) );
+        assertThat( registered.metricsRingBufferCapacity(), equalTo( 1024l ) );
+        assertThat( registered.metricsRingBufferOccupancy(), equalTo( 10l ) );
+        assertThat( registered.metricsRingBufferMaxOccupancy(), equalTo( 100l ) );
+        assertThat( afterUnregister.metricsRingBufferCapacity(), equalTo( 0l ) );
+        assertThat( afterUnregister.metricsRingBufferOccupancy(), equalTo( 0l ) );
+    }
+
+    @Test
+    public void shouldSnapshotMetricsWhenNoRingBufferIsRegistered()
+    {
+        DriverInternalMetricsSnapshot snapshot = new DriverInternalMetrics().snapshot();
+        assertThat( snapshot.metricsRingBufferOccupancy(), equalTo( 0l ) );
+    }
+
+    @Test
+    public void shouldWriteDriverInternalsWithResultsWhenSet() throws IOException
+    {
+        // Given
+        DriverInternalMetrics metrics = new DriverInternalMetrics();
+        metrics.spinnerDependencyWait().record( TimeUnit.MILLISECONDS.toNanos( 3 ) );
+        WorkloadResultsSnapshot withoutInternals = new WorkloadResultsSnapshot(
+                Collections.<OperationMetricsSnapshot>emptyList(), 1, 2, 3, TimeUnit.MILLISECONDS );
+        WorkloadResultsSnapshot withInternals = new WorkloadResultsSnapshot(
+                Collections.<OperationMetricsSnapshot>emptyList(), 1, 2, 3, TimeUnit.MILLISECONDS );
+        withInternals.setDriverInternals( metrics.snapshot() );
+
+        // When
+        WorkloadResultsSnapshot readWithoutInternals = WorkloadResultsSnapshot.fromJson( withoutInternals.toJson() );
+        WorkloadResultsSnapshot readWithInternals = WorkloadResultsSnapshot.fromJson( withInternals.toJson() );
+
+        // Then
+        assertThat( readWithoutInternals.driverInternals(), nullValue() );
+        assertThat( readWithInternals.driverInternals(), notNullValue() );
+        assertThat( readWithInternals.driverInternals().spinnerDependencyWait().count(), equalTo( 1l ) );
+        assertThat( readWithInternals.driverInternals().spinnerDependencyWait().maxAsNano(),
+                equalTo( TimeUnit.MILLISECONDS.toNanos( 3 ) ) );
+        assertThat( readWithInternals, equalTo( withInternals ) );
+    }
+
+    @Test
+    public void shouldOnlyRecordIntoMetricsOfRunThatWaited()
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        DriverInternalMetrics waitingRunMetrics = new DriverInternalMetrics();
+        DriverInternalMetrics otherRunMetrics = new DriverInternalMetrics();
+        Spinner waitingRunSpinner = new Spinner(
+                timeSource, Spinner.DEFAULT_SLEEP_DURATION_10_MILLI, false, SpinnerWaitStrategyType.SLEEP,
+                waitingRunMetrics );
+        new Spinner(
+                timeSource, Spinner.DEFAULT_SLEEP_DURATION_10_MILLI, false, SpinnerWaitStrategyType.SLEEP,
+                otherRunMetrics );
+        long nowAsMilli = timeSource.nowAsMilli();
+
+        // When
+        waitingRunSpinner.waitForScheduledStartTime(
+                new TimedNamedOperation1( nowAsMilli, nowAsMilli, 0l, "name" ),
+                Spinner.TRUE_CHECK );
+
+        // Then
+        assertThat( waitingRunMetrics.snapshot().spinnerScheduleWait().count(), equalTo( 1l ) );
+        assertThat( otherRunMetrics.snapshot().spinnerScheduleWait().count(), equalTo( 0l ) );
+    }
+}
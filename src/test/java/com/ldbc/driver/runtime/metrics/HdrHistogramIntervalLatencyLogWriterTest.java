@@ -0,0 +1,115 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.csv.simple.SimpleCsvFileReader;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery1;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery2;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcSnbInteractiveWorkloadConfiguration;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class HdrHistogramIntervalLatencyLogWriterTest
+{
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldWriteEveryIntervalIncludingThoseWithoutMeasurements() throws Exception
+    {
+        // Given
+        File logsDir = temporaryFolder.newFolder();
+        IntervalLatencyLogWriter writer = new HdrHistogramIntervalLatencyLogWriter(
+                logsDir,
+                LdbcSnbInteractiveWorkloadConfiguration.operationTypeToClassMapping(),
+                TimeUnit.MILLISECONDS,
+                ThreadedQueuedMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                1000
+        );
+
+        // When
+        for ( int i = 0; i < 100; i++ )
+        {
+            writer.record( LdbcQuery1.TYPE, TimeUnit.MILLISECONDS.toNanos( 1 ), 1000 + i );
+        }
+        // nothing completes between 2000 and 3000, e.g., system under test stalls
+        writer.rotateIfIntervalElapsed( 2500 );
+        for ( int i = 0; i < 10; i++ )
+        {
+            writer.record( LdbcQuery1.TYPE, TimeUnit.MILLISECONDS.toNanos( 50 ), 3000 + i );
+        }
+        writer.close();
+
+        // Then
+        IntervalLatencyLogSummarizer summarizer = new IntervalLatencyLogSummarizer();
+        List<String[]> query1Rows = summarizer.summarize(
+                new File( logsDir, LdbcQuery1.class.getSimpleName() +
+                                   HdrHistogramIntervalLatencyLogWriter.LOG_FILENAME_SUFFIX ) );
+        assertThat( query1Rows.size(), equalTo( 3 ) );
+        assertInterval( query1Rows.get( 0 ), LdbcQuery1.class.getSimpleName(), 1000, 2000, 100, 1 );
+        assertInterval( query1Rows.get( 1 ), LdbcQuery1.class.getSimpleName(), 2000, 3000, 0, -1 );
+        assertInterval( query1Rows.get( 2 ), LdbcQuery1.class.getSimpleName(), 3000, 3009, 10, 50 );
+
+        List<String[]> query2Rows = summarizer.summarize(
+                new File( logsDir, LdbcQuery2.class.getSimpleName() +
+                                   HdrHistogramIntervalLatencyLogWriter.LOG_FILENAME_SUFFIX ) );
+        assertThat( query2Rows.size(), equalTo( 3 ) );
+        assertInterval( query2Rows.get( 0 ), LdbcQuery2.class.getSimpleName(), 1000, 2000, 0, -1 );
+    }
+
+    @Test
+    public void shouldSummarizeAllLogsOfDirectoryIntoCsv() throws Exception
+    {
+        // Given
+        File logsDir = temporaryFolder.newFolder();
+        IntervalLatencyLogWriter writer = new HdrHistogramIntervalLatencyLogWriter(
+                logsDir,
+                LdbcSnbInteractiveWorkloadConfiguration.operationTypeToClassMapping(),
+                TimeUnit.MICROSECONDS,
+                ThreadedQueuedMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                100
+        );
+        for ( int i = 0; i < 1000; i++ )
+        {
+            writer.record( LdbcQuery1.TYPE, TimeUnit.MICROSECONDS.toNanos( i ), i );
+        }
+        writer.close();
+        File csvFile = temporaryFolder.newFile();
+
+        // When
+        new IntervalLatencyLogSummarizer().summarize( logsDir, csvFile );
+
+        // Then
+        int operationTypeCount = LdbcSnbInteractiveWorkloadConfiguration.operationTypeToClassMapping().size();
+        int rowCount = 0;
+        try ( SimpleCsvFileReader reader =
+                      new SimpleCsvFileReader( csvFile, SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING ) )
+        {
+            assertThat( reader.next()[0], equalTo( IntervalLatencyLogSummarizer.HEADER_OPERATION_TYPE ) );
+            while ( reader.hasNext() )
+            {
+                reader.next();
+                rowCount++;
+            }
+        }
+        // 10 intervals of 100 ms, the last one partial
+        assertThat( rowCount, equalTo( 10 * operationTypeCount ) );
+    }
+
+    private static void assertInterval( String[] row, String operationName, long startTimeAsMilli,
+            long endTimeAsMilli, long count, long percentile50 ) throws IOException
+    {
+        assertThat( row[0], equalTo( operationName ) );
+        assertThat( Long.parseLong( row[1] ), equalTo( startTimeAsMilli ) );
+        assertThat( Long.parseLong( row[2] ), equalTo( endTimeAsMilli ) );
+        assertThat( Long.parseLong( row[3] ), equalTo( count ) );
+        assertThat( Long.parseLong( row[6] ), equalTo( percentile50 ) );
+    }
+}
@@ -10,9 +10,13 @@ import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcSnbInteractiveWorkload
 import com.ldbc.driver.workloads.ldbc.snb.interactive.db.DummyLdbcSnbInteractiveOperationInstances;
 import org.junit.Test;
 
+import java.io.IOException;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
 import static org.junit.Assert.assertThat;
 
 public class MetricsManagerTest
@@ -43,12 +47,156 @@ public class MetricsManagerTest
         long operation3ActualStartTimeAsMilli = 11;
         long operation3RunDurationAsNano = TimeUnit.MILLISECONDS.toNanos( 5 );
 
-        metricsManager.measure( operation1ActualStartTimeAsMilli, operation1RunDurationAsNano, operation1.type() );
-        metricsManager.measure( operation2ActualStartTimeAsMilli, operation2RunDurationAsNano, operation2.type() );
-        metricsManager.measure( operation3ActualStartTimeAsMilli, operation3RunDurationAsNano, operation3.type() );
+        metricsManager.measure(
+                operation1ActualStartTimeAsMilli,
+                operation1ActualStartTimeAsMilli,
+                operation1RunDurationAsNano,
+                operation1.type(),
+                0 );
+        metricsManager.measure(
+                operation2ActualStartTimeAsMilli,
+                operation2ActualStartTimeAsMilli,
+                operation2RunDurationAsNano,
+                operation2.type(),
+                0 );
+        metricsManager.measure(
+                operation3ActualStartTimeAsMilli,
+                operation3ActualStartTimeAsMilli,
+                operation3RunDurationAsNano,
+                operation3.type(),
+                0 );
 
         WorkloadResultsSnapshot snapshot = metricsManager.snapshot();
         assertThat( snapshot.startTimeAsMilli(), equalTo( 2l ) );
         assertThat( snapshot.latestFinishTimeAsMilli(), equalTo( 16l ) );
     }
+
+    @Test
+    public void shouldMeasureResponseTimeFromScheduledStartTime() throws WorkloadException, MetricsCollectionException
+    {
+        MetricsManager metricsManager = new MetricsManager(
+                timeSource,
+                TimeUnit.MILLISECONDS,
+                ThreadedQueuedMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                LdbcSnbInteractiveWorkloadConfiguration.operationTypeToClassMapping(),
+                loggingServiceFactory
+        );
+
+        Operation operation = DummyLdbcSnbInteractiveOperationInstances.read1();
+
+        // started on time
+        metricsManager.measure( 2, 2, TimeUnit.MILLISECONDS.toNanos( 1 ), operation.type(), 0 );
+        // queued for 10 ms before starting
+        metricsManager.measure( 4, 14, TimeUnit.MILLISECONDS.toNanos( 1 ), operation.type(), 0 );
+        // started before scheduled start time, e.g., when scheduled start times are ignored
+        metricsManager.measure( 30, 20, TimeUnit.MILLISECONDS.toNanos( 1 ), operation.type(), 0 );
+
+        OperationMetricsSnapshot operationMetrics = metricsManager.snapshot().allMetrics().get( 0 );
+        assertThat( operationMetrics.runTimeMetric().max(), equalTo( 1l ) );
+        assertThat( operationMetrics.responseTimeMetric().count(), equalTo( 3l ) );
+        assertThat( operationMetrics.responseTimeMetric().min(), equalTo( 1l ) );
+        assertThat( operationMetrics.responseTimeMetric().max(), equalTo( 11l ) );
+    }
+
+    @Test
+    public void shouldMeasureResponseTimeBeyondHighestExpectedRuntime()
+            throws WorkloadException, MetricsCollectionException
+    {
+        long highestExpectedRuntimeDurationAsNano = TimeUnit.SECONDS.toNanos( 1 );
+        MetricsManager metricsManager = new MetricsManager(
+                timeSource,
+                TimeUnit.MILLISECONDS,
+                highestExpectedRuntimeDurationAsNano,
+                LdbcSnbInteractiveWorkloadConfiguration.operationTypeToClassMapping(),
+                loggingServiceFactory
+        );
+
+        Operation operation = DummyLdbcSnbInteractiveOperationInstances.read1();
+
+        // system under test has fallen a minute behind schedule
+        long lateness = TimeUnit.MINUTES.toMillis( 1 );
+        metricsManager.measure( 0, lateness, TimeUnit.MILLISECONDS.toNanos( 1 ), operation.type(), 0 );
+
+        OperationMetricsSnapshot operationMetrics = metricsManager.snapshot().allMetrics().get( 0 );
+        assertThat( operationMetrics.runTimeMetric().max(), equalTo( 1l ) );
+        // within histogram precision
+        assertThat( operationMetrics.responseTimeMetric().max(), greaterThanOrEqualTo( lateness + 1 ) );
+        assertThat( operationMetrics.responseTimeMetric().max(), lessThan( lateness + 100 ) );
+    }
+
+    @Test
+    public void shouldMeasureRunTimeByResultCode() throws WorkloadException, MetricsCollectionException, IOException
+    {
+        // Given
+        MetricsManager metricsManager = new MetricsManager(
+                timeSource,
+                TimeUnit.MILLISECONDS,
+                ThreadedQueuedMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                LdbcSnbInteractiveWorkloadConfiguration.operationTypeToClassMapping(),
+                loggingServiceFactory
+        );
+        MetricsManager otherMetricsManager = new MetricsManager(
+                timeSource,
+                TimeUnit.MILLISECONDS,
+                ThreadedQueuedMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                LdbcSnbInteractiveWorkloadConfiguration.operationTypeToClassMapping(),
+                loggingServiceFactory
+        );
+        Operation read1 = DummyLdbcSnbInteractiveOperationInstances.read1();
+        Operation read2 = DummyLdbcSnbInteractiveOperationInstances.read2();
+        int okResultCode = 0;
+        int errorResultCode = -1;
+
+        // When
+        for ( int i = 0; i < 10; i++ )
+        {
+            metricsManager.measure( 1, 1, TimeUnit.MILLISECONDS.toNanos( 100 ), read1.type(), okResultCode );
+        }
+        metricsManager.measure( 1, 1, TimeUnit.MILLISECONDS.toNanos( 2 ), read1.type(), errorResultCode );
+        otherMetricsManager.measure( 1, 1, TimeUnit.MILLISECONDS.toNanos( 2 ), read1.type(), errorResultCode );
+        otherMetricsManager.measure( 1, 1, TimeUnit.MILLISECONDS.toNanos( 50 ), read2.type(), okResultCode );
+        metricsManager.add( otherMetricsManager );
+        WorkloadResultsSnapshot snapshot = metricsManager.snapshot();
+
+        // Then
+        List<ResultCodeMetricsSnapshot> resultCodeMetrics = snapshot.resultCodeMetrics();
+        assertThat( resultCodeMetrics.size(), equalTo( 3 ) );
+        // sorted by operation name, then by result code
+        ResultCodeMetricsSnapshot read1Errors = resultCodeMetrics.get( 0 );
+        assertThat( read1Errors.resultCode(), equalTo( errorResultCode ) );
+        assertThat( read1Errors.count(), equalTo( 2l ) );
+        assertThat( read1Errors.runTimeMetric().max(), equalTo( 2l ) );
+        ResultCodeMetricsSnapshot read1Oks = resultCodeMetrics.get( 1 );
+        assertThat( read1Oks.name(), equalTo( read1Errors.name() ) );
+        assertThat( read1Oks.resultCode(), equalTo( okResultCode ) );
+        assertThat( read1Oks.count(), equalTo( 10l ) );
+        assertThat( read1Oks.runTimeMetric().min(), equalTo( 100l ) );
+        ResultCodeMetricsSnapshot read2Oks = resultCodeMetrics.get( 2 );
+        assertThat( read2Oks.count(), equalTo( 1l ) );
+        assertThat( WorkloadResultsSnapshot.fromJson( snapshot.toJson() ), equalTo( snapshot ) );
+    }
+
+    @Test
+    public void shouldBoundNumberOfResultCodesMeasuredPerOperationType()
+            throws WorkloadException, MetricsCollectionException
+    {
+        MetricsManager metricsManager = new MetricsManager(
+                timeSource,
+                TimeUnit.MILLISECONDS,
+                ThreadedQueuedMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                LdbcSnbInteractiveWorkloadConfiguration.operationTypeToClassMapping(),
+                loggingServiceFactory
+        );
+        Operation operation = DummyLdbcSnbInteractiveOperationInstances.read1();
+
+        int resultCodeCount = OperationTypeMetricsManager.MAX_RESULT_CODES * 2;
+        for ( int resultCode = 0; resultCode < resultCodeCount; resultCode++ )
+        {
+            metricsManager.measure( 1, 1, TimeUnit.MILLISECONDS.toNanos( 1 ), operation.type(), resultCode );
+        }
+
+        WorkloadResultsSnapshot snapshot = metricsManager.snapshot();
+        assertThat( snapshot.allMetrics().get( 0 ).count(), equalTo( (long) resultCodeCount ) );
+        assertThat( snapshot.resultCodeMetrics().size(), equalTo( OperationTypeMetricsManager.MAX_RESULT_CODES ) );
+    }
 }
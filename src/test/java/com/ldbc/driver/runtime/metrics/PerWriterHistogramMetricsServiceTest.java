@@ -0,0 +1,229 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.WorkloadException;
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.control.LoggingServiceFactory;
+import com.ldbc.driver.runtime.executor.VirtualThreadOperationExecutor;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.temporal.TimeSource;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery1;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery2;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+public class PerWriterHistogramMetricsServiceTest
+{
+    private TimeSource timeSource = new SystemTimeSource();
+    private LoggingServiceFactory loggingServiceFactory = new Log4jLoggingServiceFactory( false );
+
+    @Test
+    public void shouldNotAcceptOperationResultsAfterShutdown() throws WorkloadException, MetricsCollectionException
+    {
+        MetricsService metricsService = newMetricsService();
+        MetricsService.MetricsServiceWriter metricsServiceWriter = metricsService.getWriter();
+        metricsService.shutdown();
+        boolean exceptionThrown = false;
+        try
+        {
+            metricsServiceWriter.submitOperationResult(
+                    LdbcQuery1.TYPE, 1, 2, TimeUnit.MILLISECONDS.toNanos( 1 ), 0, 1 );
+        }
+        catch ( MetricsCollectionException e )
+        {
+            exceptionThrown = true;
+        }
+        assertThat( exceptionThrown, is( true ) );
+    }
+
+    @Test
+    public void shouldReturnCorrectMeasurements() throws WorkloadException, MetricsCollectionException
+    {
+        MetricsService metricsService = newMetricsService();
+        try
+        {
+            new DisruptorSbeMetricsServiceTest().shouldReturnCorrectMeasurements( metricsService.getWriter() );
+        }
+        finally
+        {
+            metricsService.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldMergeMeasurementsOfAllWriters() throws Exception
+    {
+        // Given
+        MetricsService metricsService = newMetricsService();
+        int writerCount = 4;
+        int operationCountPerWriter = 10000;
+        List<Thread> threads = new ArrayList<>();
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        for ( int i = 0; i < writerCount; i++ )
+        {
+            final MetricsService.MetricsServiceWriter metricsServiceWriter = metricsService.getWriter();
+            final long writerOffset = i * operationCountPerWriter;
+            threads.add( new Thread( () -> {
+                try
+                {
+                    for ( int j = 1; j <= operationCountPerWriter; j++ )
+                    {
+                        int operationType = (0 == j % 2) ? LdbcQuery1.TYPE : LdbcQuery2.TYPE;
+                        // runtimes of all writers together are 1..40000 ms
+                        metricsServiceWriter.submitOperationResult(
+                                operationType,
+                                10,
+                                10 + writerOffset + j,
+                                TimeUnit.MILLISECONDS.toNanos( writerOffset + j ),
+                                0,
+                                10 );
+                    }
+                }
+                catch ( Exception e )
+                {
+                    failure.set( e );
+                }
+            } ) );
+        }
+
+        // When
+        for ( Thread thread : threads )
+        {
+            thread.start();
+        }
+        for ( Thread thread : threads )
+        {
+            thread.join();
+        }
+
+        // Then
+        assertThat( failure.get(), equalTo( null ) );
+        MetricsService.MetricsServiceWriter metricsServiceWriter = metricsService.getWriter();
+        WorkloadStatusSnapshot status = metricsServiceWriter.status();
+        assertThat( status.operationCount(), equalTo( (long) writerCount * operationCountPerWriter ) );
+        WorkloadResultsSnapshot results = metricsServiceWriter.results();
+        long totalCount = writerCount * operationCountPerWriter;
+        assertThat( results.totalOperationCount(), equalTo( totalCount ) );
+        assertThat( results.startTimeAsMilli(), equalTo( 11l ) );
+        assertThat( results.latestFinishTimeAsMilli(), equalTo( 10 + totalCount + totalCount ) );
+        assertThat( results.allMetrics().size(), equalTo( 2 ) );
+        for ( OperationMetricsSnapshot operationMetrics : results.allMetrics() )
+        {
+            assertThat( operationMetrics.count(), equalTo( totalCount / 2 ) );
+            ContinuousMetricSnapshot runTimeMetric = operationMetrics.runTimeMetric();
+            // 3 significant digits
+            assertThat( Math.abs( runTimeMetric.percentile50() - totalCount / 2 ) <= totalCount / 1000, is( true ) );
+            assertThat( Math.abs( runTimeMetric.max() - totalCount ) <= totalCount / 1000, is( true ) );
+        }
+        metricsService.shutdown();
+    }
+
+    @Test
+    public void shouldKeepHistogramsPerSubmittingThreadRatherThanPerWriter() throws Exception
+    {
+        // Given
+        PerWriterHistogramMetricsService metricsService = (PerWriterHistogramMetricsService) newMetricsService();
+        final int writerCount = 512;
+
+        // When
+        // as many writers as there are pooled operation handlers, but only two submitting threads
+        for ( int i = 0; i < writerCount; i++ )
+        {
+            metricsService.getWriter().submitOperationResult(
+                    LdbcQuery1.TYPE, 1, 2, TimeUnit.MILLISECONDS.toNanos( 1 ), 0, 1 );
+        }
+        Thread otherThread = new Thread( () -> {
+            try
+            {
+                metricsService.getWriter().submitOperationResult(
+                        LdbcQuery2.TYPE, 1, 2, TimeUnit.MILLISECONDS.toNanos( 1 ), 0, 1 );
+            }
+            catch ( MetricsCollectionException e )
+            {
+                throw new RuntimeException( e );
+            }
+        } );
+        otherThread.start();
+        otherThread.join();
+
+        // Then
+        assertThat( metricsService.threadMetricsManagerCount(), equalTo( 2 ) );
+        assertThat( metricsService.getWriter().results().totalOperationCount(), equalTo( writerCount + 1l ) );
+        metricsService.shutdown();
+    }
+
+    @Test
+    public void shouldStripeHistogramsOfVirtualThreads() throws Exception
+    {
+        assumeTrue( VirtualThreadOperationExecutor.isSupported() );
+
+        // Given
+        PerWriterHistogramMetricsService metricsService = (PerWriterHistogramMetricsService) newMetricsService();
+        Object builder = Thread.class.getMethod( "ofVirtual" ).invoke( null );
+        ThreadFactory virtualThreadFactory =
+                (ThreadFactory) Class.forName( "java.lang.Thread$Builder" ).getMethod( "factory" ).invoke( builder );
+        final int threadCount = 1000;
+        final AtomicReference<Throwable> error = new AtomicReference<>();
+
+        // When
+        // one virtual thread per operation, as with virtual thread executor
+        List<Thread> threads = new ArrayList<>();
+        for ( int i = 0; i < threadCount; i++ )
+        {
+            threads.add( virtualThreadFactory.newThread( () -> {
+                try
+                {
+                    metricsService.getWriter().submitOperationResult(
+                            LdbcQuery1.TYPE, 1, 2, TimeUnit.MILLISECONDS.toNanos( 1 ), 0, 1 );
+                }
+                catch ( Throwable e )
+                {
+                    error.set( e );
+                }
+            } ) );
+        }
+        for ( Thread thread : threads )
+        {
+            thread.start();
+        }
+        for ( Thread thread : threads )
+        {
+            thread.join();
+        }
+
+        // Then
+        assertThat( error.get(), equalTo( null ) );
+        assertThat( metricsService.threadMetricsManagerCount(),
+                lessThanOrEqualTo( metricsService.virtualThreadStripeCount() ) );
+        assertThat( metricsService.getWriter().results().totalOperationCount(), equalTo( (long) threadCount ) );
+        metricsService.shutdown();
+    }
+
+    private MetricsService newMetricsService() throws MetricsCollectionException
+    {
+        Map<Integer,Class<? extends Operation>> operationTypeToClassMapping = new HashMap<>();
+        operationTypeToClassMapping.put( LdbcQuery1.TYPE, LdbcQuery1.class );
+        operationTypeToClassMapping.put( LdbcQuery2.TYPE, LdbcQuery2.class );
+        return new PerWriterHistogramMetricsService(
+                timeSource,
+                TimeUnit.MILLISECONDS,
+                DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                new NullResultsLogWriter(),
+                operationTypeToClassMapping,
+                loggingServiceFactory
+        );
+    }
+}
@@ -1,12 +1,18 @@
 package com.ldbc.driver.runtime.metrics;
 
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery1;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery2;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
 import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.hamcrest.CoreMatchers.equalTo;
@@ -112,4 +118,94 @@ public class ResultsLogReaderWriterTest
             assertFalse( reader.next() );
         }
     }
+
+    @Test
+    public void shouldWriteAndReadSameValuesWithBinaryResultsLog() throws Exception
+    {
+        File resultsLog = temporaryFolder.newFile();
+        Map<Integer,Class<? extends Operation>> operationTypeToClassMapping = new HashMap<>();
+        operationTypeToClassMapping.put( LdbcQuery1.TYPE, LdbcQuery1.class );
+        operationTypeToClassMapping.put( LdbcQuery2.TYPE, LdbcQuery2.class );
+
+        try ( ResultsLogWriter writer =
+                      new BinaryResultsLogWriter( resultsLog, MILLISECONDS, operationTypeToClassMapping ) )
+        {
+            writer.write(
+                    LdbcQuery1.class.getSimpleName(),
+                    Long.MAX_VALUE,
+                    Long.MAX_VALUE,
+                    Long.MAX_VALUE,
+                    Integer.MAX_VALUE,
+                    Long.MAX_VALUE );
+            writer.write(
+                    LdbcQuery2.class.getSimpleName(),
+                    0,
+                    0,
+                    0,
+                    Integer.MIN_VALUE,
+                    0 );
+        }
+
+        try ( ResultsLogReader reader = new BinaryResultsLogReader( resultsLog ) )
+        {
+            assertThat( reader.unit(), equalTo( MILLISECONDS ) );
+            assertTrue( reader.next() );
+            assertThat( reader.getOperationName(), equalTo( LdbcQuery1.class.getSimpleName() ) );
+            assertThat( reader.getScheduledStartTimeAsMilli(), equalTo( Long.MAX_VALUE ) );
+            assertThat( reader.getActualStartTimeAsMilli(), equalTo( Long.MAX_VALUE ) );
+            // durations are kept in nanoseconds, whatever the unit
+            assertThat( reader.getRunDurationAsNano(), equalTo( Long.MAX_VALUE ) );
+            assertThat( reader.getResultCode(), equalTo( Integer.MAX_VALUE ) );
+            assertThat( reader.getOriginalStartTime(), equalTo( Long.MAX_VALUE ) );
+
+            assertTrue( reader.next() );
+            assertThat( reader.getOperationName(), equalTo( LdbcQuery2.class.getSimpleName() ) );
+            assertThat( reader.getScheduledStartTimeAsMilli(), equalTo( 0L ) );
+            assertThat( reader.getActualStartTimeAsMilli(), equalTo( 0L ) );
+            assertThat( reader.getRunDurationAsNano(), equalTo( 0L ) );
+            assertThat( reader.getResultCode(), equalTo( Integer.MIN_VALUE ) );
+            assertThat( reader.getOriginalStartTime(), equalTo( 0L ) );
+
+            assertFalse( reader.next() );
+        }
+    }
+
+    @Test
+    public void shouldConvertBinaryResultsLogSpanningSeveralRegionsToCsv() throws Exception
+    {
+        File binaryResultsLog = temporaryFolder.newFile();
+        File csvResultsLog = temporaryFolder.newFile();
+        Map<Integer,Class<? extends Operation>> operationTypeToClassMapping = new HashMap<>();
+        operationTypeToClassMapping.put( LdbcQuery1.TYPE, LdbcQuery1.class );
+        int count = 1000;
+
+        // regions of 1 KB, so file is remapped many times
+        try ( ResultsLogWriter writer =
+                      new BinaryResultsLogWriter( binaryResultsLog, MICROSECONDS, operationTypeToClassMapping, 1024 ) )
+        {
+            for ( int i = 0; i < count; i++ )
+            {
+                writer.write( LdbcQuery1.class.getSimpleName(), i, i + 1, MICROSECONDS.toNanos( i ), i % 2, i );
+            }
+        }
+
+        long convertedCount = new BinaryResultsLogConverter().convert( binaryResultsLog, csvResultsLog );
+        assertThat( convertedCount, equalTo( (long) count ) );
+
+        try ( ResultsLogReader reader = new SimpleResultsLogReader( csvResultsLog ) )
+        {
+            assertThat( reader.unit(), equalTo( MICROSECONDS ) );
+            for ( int i = 0; i < count; i++ )
+            {
+                assertTrue( reader.next() );
+                assertThat( reader.getOperationName(), equalTo( LdbcQuery1.class.getSimpleName() ) );
+                assertThat( reader.getScheduledStartTimeAsMilli(), equalTo( (long) i ) );
+                assertThat( reader.getActualStartTimeAsMilli(), equalTo( (long) i + 1 ) );
+                assertThat( reader.getRunDurationAsNano(), equalTo( MICROSECONDS.toNanos( i ) ) );
+                assertThat( reader.getResultCode(), equalTo( i % 2 ) );
+                assertThat( reader.getOriginalStartTime(), equalTo( (long) i ) );
+            }
+            assertFalse( reader.next() );
+        }
+    }
 }
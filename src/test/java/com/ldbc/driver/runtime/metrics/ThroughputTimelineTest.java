@@ -0,0 +1,132 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.google.common.collect.Lists;
+import com.ldbc.driver.csv.simple.SimpleCsvFileReader;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery1;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery2;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcSnbInteractiveWorkloadConfiguration;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class ThroughputTimelineTest
+{
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldRecordEveryBucketIncludingThoseWithoutCompletedOperations() throws Exception
+    {
+        // Given
+        ThroughputTimeline timeline = new ThroughputTimeline(
+                LdbcSnbInteractiveWorkloadConfiguration.operationTypeToClassMapping(),
+                TimeUnit.MILLISECONDS,
+                ThreadedQueuedMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO
+        );
+
+        // When
+        for ( int i = 0; i < 100; i++ )
+        {
+            timeline.record( LdbcQuery1.TYPE, TimeUnit.MILLISECONDS.toNanos( (i < 99) ? 1 : 40 ), 10500 + i );
+        }
+        // nothing completes between 11000 and 13000, e.g., system under test stalls
+        for ( int i = 0; i < 10; i++ )
+        {
+            timeline.record( LdbcQuery1.TYPE, TimeUnit.MILLISECONDS.toNanos( 50 ), 13000 + i );
+        }
+        timeline.record( LdbcQuery2.TYPE, TimeUnit.MILLISECONDS.toNanos( 7 ), 13999 );
+        timeline.finish();
+
+        // Then
+        assertThat( timeline.closedBucketCount(), equalTo( 4 ) );
+        assertThat( timeline.bucketStartTimeAsMilli( 0 ), equalTo( 10000l ) );
+        assertThat( timeline.count( 0, LdbcQuery1.TYPE ), equalTo( 100l ) );
+        assertThat( timeline.meanRunTimeAsNano( 0, LdbcQuery1.TYPE ),
+                equalTo( TimeUnit.MILLISECONDS.toNanos( 99 + 40 ) / 100d ) );
+        assertThat( timeline.runTimePercentile99( 0, LdbcQuery1.TYPE ), equalTo( 1l ) );
+        assertThat( timeline.count( 1, LdbcQuery1.TYPE ), equalTo( 0l ) );
+        assertThat( timeline.count( 2, LdbcQuery1.TYPE ), equalTo( 0l ) );
+        assertThat( timeline.meanRunTimeAsNano( 2, LdbcQuery1.TYPE ), equalTo( 0d ) );
+        assertThat( timeline.count( 3, LdbcQuery1.TYPE ), equalTo( 10l ) );
+        assertThat( timeline.runTimePercentile99( 3, LdbcQuery1.TYPE ), equalTo( 50l ) );
+        assertThat( timeline.count( 3, LdbcQuery2.TYPE ), equalTo( 1l ) );
+        assertThat( timeline.runTimePercentile99( 3, LdbcQuery2.TYPE ), equalTo( 7l ) );
+    }
+
+    @Test
+    public void shouldCountOperationsThatCompleteWithinClosedBucketInOldestOpenBucket() throws Exception
+    {
+        // Given
+        ThroughputTimeline timeline = new ThroughputTimeline(
+                LdbcSnbInteractiveWorkloadConfiguration.operationTypeToClassMapping(),
+                TimeUnit.MILLISECONDS,
+                ThreadedQueuedMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO
+        );
+
+        // When
+        timeline.record( LdbcQuery1.TYPE, TimeUnit.MILLISECONDS.toNanos( 1 ), 1000 );
+        timeline.record( LdbcQuery1.TYPE, TimeUnit.MILLISECONDS.toNanos( 1 ), 3999 );
+        // first bucket still open
+        timeline.record( LdbcQuery1.TYPE, TimeUnit.MILLISECONDS.toNanos( 1 ), 1999 );
+        // closes first bucket
+        timeline.record( LdbcQuery1.TYPE, TimeUnit.MILLISECONDS.toNanos( 1 ), 5000 );
+        timeline.record( LdbcQuery1.TYPE, TimeUnit.MILLISECONDS.toNanos( 1 ), 1500 );
+        timeline.finish();
+
+        // Then
+        assertThat( timeline.closedBucketCount(), equalTo( 5 ) );
+        assertThat( timeline.bucketStartTimeAsMilli( 0 ), equalTo( 1000l ) );
+        assertThat( timeline.count( 0, LdbcQuery1.TYPE ), equalTo( 2l ) );
+        assertThat( timeline.count( 1, LdbcQuery1.TYPE ), equalTo( 1l ) );
+        assertThat( timeline.count( 2, LdbcQuery1.TYPE ), equalTo( 1l ) );
+        assertThat( timeline.count( 3, LdbcQuery1.TYPE ), equalTo( 0l ) );
+        assertThat( timeline.count( 4, LdbcQuery1.TYPE ), equalTo( 1l ) );
+    }
+
+    @Test
+    public void shouldWriteOneRowPerBucketPerMeasuredOperationType() throws Exception
+    {
+        // Given
+        File timelineFile = temporaryFolder.newFile();
+        ThroughputTimeline timeline = new ThroughputTimeline(
+                LdbcSnbInteractiveWorkloadConfiguration.operationTypeToClassMapping(),
+                TimeUnit.MICROSECONDS,
+                ThreadedQueuedMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO
+        );
+        timeline.record( LdbcQuery2.TYPE, TimeUnit.MICROSECONDS.toNanos( 10 ), 0 );
+        // spans enough buckets for arrays of closed buckets to grow
+        int bucketCount = 200;
+        for ( int bucket = 0; bucket < bucketCount; bucket++ )
+        {
+            timeline.record( LdbcQuery1.TYPE, TimeUnit.MICROSECONDS.toNanos( 100 ), bucket * 1000 );
+            timeline.record( LdbcQuery1.TYPE, TimeUnit.MICROSECONDS.toNanos( 200 ), bucket * 1000 + 999 );
+        }
+
+        // When
+        timeline.writeCsv( timelineFile );
+
+        // Then
+        List<String[]> rows;
+        try ( SimpleCsvFileReader reader = new SimpleCsvFileReader(
+                timelineFile, SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING ) )
+        {
+            rows = Lists.newArrayList( reader );
+        }
+        assertThat( rows.size(), equalTo( 1 + bucketCount * 2 ) );
+        assertThat( rows.get( 0 ), equalTo( new String[]{
+                "bucket_start_time", "operation_type", "count", "mean_run_time_MICROSECONDS",
+                "99th_percentile_run_time_MICROSECONDS"} ) );
+        assertThat( rows.get( 1 ), equalTo( new String[]{"0", "LdbcQuery1", "2", "150.0", "200"} ) );
+        assertThat( rows.get( 2 ), equalTo( new String[]{"0", "LdbcQuery2", "1", "10.0", "10"} ) );
+        assertThat( rows.get( 3 ), equalTo( new String[]{"1000", "LdbcQuery1", "2", "150.0", "200"} ) );
+        assertThat( rows.get( 4 ), equalTo( new String[]{"1000", "LdbcQuery2", "0", "0.0", "0"} ) );
+        assertThat( rows.get( bucketCount * 2 - 1 )[0], equalTo( Integer.toString( (bucketCount - 1) * 1000 ) ) );
+    }
+}
@@ -94,7 +94,12 @@ public class WorkloadResultsSnapshotTest
 
         Map<String,OperationMetricsSnapshot> metrics = new HashMap<>();
         metrics.put( Integer.toString( seed++ ),
-                new OperationMetricsSnapshot( operationName, operationDurationUnit, operationCount, runTimeMetric ) );
+                new OperationMetricsSnapshot(
+                        operationName,
+                        operationDurationUnit,
+                        operationCount,
+                        runTimeMetric,
+                        runTimeMetric ) );
 
         long operationStartTime = seed++;
         long operationLatestFinishTime = seed++;
@@ -0,0 +1,103 @@
+package com.ldbc.driver.runtime.scheduling;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.temporal.ManualTimeSource;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.temporal.TimeSource;
+import com.ldbc.driver.workloads.dummy.TimedNamedOperation1;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+
+public class AdaptiveSpinnerWaitStrategyTest
+{
+    private static final long ENOUGH_MILLISECONDS_FOR_WAITING_THREAD_TO_DO_ITS_THING = 500;
+
+    @Test
+    public void shouldNotReturnBeforeTimeIsReached() throws InterruptedException
+    {
+        // Given
+        ManualTimeSource timeSource = new ManualTimeSource( 0 );
+        final SpinnerWaitStrategy waitStrategy = new AdaptiveSpinnerWaitStrategy( timeSource );
+        final long waitUntilAsMilli = 10;
+        final AtomicBoolean hasReturned = new AtomicBoolean( false );
+        Thread waitingThread = new Thread()
+        {
+            @Override
+            public void run()
+            {
+                waitStrategy.waitUntil( waitUntilAsMilli );
+                hasReturned.set( true );
+            }
+        };
+
+        // When
+        waitingThread.start();
+
+        // Then
+        Thread.sleep( ENOUGH_MILLISECONDS_FOR_WAITING_THREAD_TO_DO_ITS_THING );
+        assertThat( hasReturned.get(), is( false ) );
+
+        timeSource.setNowFromMilli( waitUntilAsMilli - 1 );
+        Thread.sleep( ENOUGH_MILLISECONDS_FOR_WAITING_THREAD_TO_DO_ITS_THING );
+        assertThat( hasReturned.get(), is( false ) );
+
+        timeSource.setNowFromMilli( waitUntilAsMilli );
+        waitingThread.join( ENOUGH_MILLISECONDS_FOR_WAITING_THREAD_TO_DO_ITS_THING );
+        assertThat( hasReturned.get(), is( true ) );
+    }
+
+    @Test
+    public void shouldWaitForScheduledStartTimesWithSubMillisecondAccuracy()
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        Spinner spinner = new Spinner( timeSource, 0, false, SpinnerWaitStrategyType.ADAPTIVE );
+        int operationCount = 200;
+
+        // When
+        for ( int i = 0; i < operationCount; i++ )
+        {
+            long scheduledStartTimeAsMilli = timeSource.nowAsMilli() + 2;
+            Operation operation =
+                    new TimedNamedOperation1( scheduledStartTimeAsMilli, scheduledStartTimeAsMilli, 0l, "name" );
+            boolean fineToExecute = spinner.waitForScheduledStartTime( operation, Spinner.TRUE_CHECK );
+
+            // Then
+            assertThat( fineToExecute, is( true ) );
+            assertThat( timeSource.nowAsMilli(), greaterThanOrEqualTo( scheduledStartTimeAsMilli ) );
+        }
+
+        StartTimeJitter startTimeJitter = spinner.startTimeJitter();
+        System.out.println( startTimeJitter );
+        assertThat( startTimeJitter.count(), equalTo( (long) operationCount ) );
+        // generous bound, sleeping spinner would be late by a whole sleep duration on every operation
+        assertThat( startTimeJitter.percentileAsMicro( 50 ), lessThan( 1000l ) );
+    }
+
+    @Test
+    public void shouldRecordLatenessOfReleasedOperations()
+    {
+        // Given
+        ManualTimeSource timeSource = new ManualTimeSource( 0 );
+        StartTimeJitter startTimeJitter = new StartTimeJitter( timeSource );
+
+        // When
+        timeSource.setNowFromMilli( 15 );
+        startTimeJitter.record( 10 );
+        startTimeJitter.record( 15 );
+        // released early, should never happen, recorded as not late
+        startTimeJitter.record( 20 );
+
+        // Then
+        assertThat( startTimeJitter.count(), equalTo( 3l ) );
+        assertThat( startTimeJitter.maxAsMicro(), equalTo( 5000l ) );
+        assertThat( startTimeJitter.percentileAsMicro( 50 ), equalTo( 0l ) );
+    }
+}
@@ -0,0 +1,106 @@
+package com.ldbc.driver.runtime.scheduling;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.workloads.dummy.NothingOperation;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class HashedTimingWheelTest
+{
+    @Test
+    public void shouldNotReleaseOperationsBeforeTheirScheduledStartTime()
+    {
+        // Given
+        long startTime = 1000;
+        long tickDuration = 10;
+        HashedTimingWheel timingWheel = new HashedTimingWheel( 8, tickDuration, startTime );
+        Operation operation1 = operation( 1005 );
+        Operation operation2 = operation( 1010 );
+        Operation operation3 = operation( 1011 );
+        timingWheel.add( operation1 );
+        timingWheel.add( operation2 );
+        timingWheel.add( operation3 );
+        List<Operation> due = new ArrayList<>();
+
+        // When/Then
+        assertThat( timingWheel.advanceTo( 1004, due ), is( 0 ) );
+        assertThat( timingWheel.size(), is( 3l ) );
+
+        assertThat( timingWheel.advanceTo( 1010, due ), is( 2 ) );
+        assertThat( due, equalTo( operations( operation1, operation2 ) ) );
+        assertThat( timingWheel.size(), is( 1l ) );
+
+        due.clear();
+        assertThat( timingWheel.advanceTo( 1019, due ), is( 0 ) );
+        assertThat( timingWheel.advanceTo( 1020, due ), is( 1 ) );
+        assertThat( due, equalTo( operations( operation3 ) ) );
+        assertThat( timingWheel.size(), is( 0l ) );
+    }
+
+    @Test
+    public void shouldKeepOperationsScheduledMoreThanOneRevolutionAhead()
+    {
+        // Given
+        long startTime = 0;
+        long tickDuration = 1;
+        int wheelSize = 4;
+        HashedTimingWheel timingWheel = new HashedTimingWheel( wheelSize, tickDuration, startTime );
+        Operation near = operation( 2 );
+        Operation far = operation( 2 + wheelSize * 3 );
+        timingWheel.add( far );
+        timingWheel.add( near );
+        List<Operation> due = new ArrayList<>();
+
+        // When/Then
+        assertThat( timingWheel.advanceTo( 2, due ), is( 1 ) );
+        assertThat( due, equalTo( operations( near ) ) );
+
+        due.clear();
+        assertThat( timingWheel.advanceTo( 2 + wheelSize * 3 - 1, due ), is( 0 ) );
+        assertThat( timingWheel.advanceTo( 2 + wheelSize * 3, due ), is( 1 ) );
+        assertThat( due, equalTo( operations( far ) ) );
+    }
+
+    @Test
+    public void shouldReleaseOverdueOperationsOnNextAdvance()
+    {
+        // Given
+        HashedTimingWheel timingWheel = new HashedTimingWheel( 16, 1, 100 );
+        List<Operation> due = new ArrayList<>();
+        timingWheel.advanceTo( 200, due );
+        Operation overdue = operation( 150 );
+
+        // When
+        timingWheel.add( overdue );
+
+        // Then
+        assertThat( timingWheel.advanceTo( 200, due ), is( 1 ) );
+        assertThat( due, equalTo( operations( overdue ) ) );
+        assertThat( timingWheel.size(), is( 0l ) );
+    }
+
+    private static Operation operation( long scheduledStartTimeAsMilli )
+    {
+        Operation operation = new NothingOperation();
+        operation.setScheduledStartTimeAsMilli( scheduledStartTimeAsMilli );
+        operation.setTimeStamp( scheduledStartTimeAsMilli );
+        operation.setDependencyTimeStamp( 0l );
+        return operation;
+    }
+
+    private static List<Operation> operations( Operation... operations )
+    {
+        List<Operation> operationList = new ArrayList<>();
+        for ( Operation operation : operations )
+        {
+            operationList.add( operation );
+        }
+        return operationList;
+    }
+}
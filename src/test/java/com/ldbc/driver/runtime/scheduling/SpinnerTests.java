@@ -14,6 +14,7 @@ import java.text.DecimalFormat;
 import java.util.Iterator;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static java.lang.String.format;
 import static org.hamcrest.CoreMatchers.is;
@@ -26,6 +27,36 @@ public class SpinnerTests
     ManualTimeSource timeSource = new ManualTimeSource( 0 );
     DecimalFormat integerFormat = new DecimalFormat( "###,###,###,###,###" );
 
+    @Test
+    public void shouldNotCalibrateClockWhenConstructed()
+    {
+        // Given
+        final AtomicLong timeSourceReads = new AtomicLong( 0 );
+        TimeSource countingTimeSource = new TimeSource()
+        {
+            @Override
+            public long nanoSnapshot()
+            {
+                timeSourceReads.incrementAndGet();
+                return timeSource.nanoSnapshot();
+            }
+
+            @Override
+            public long nowAsMilli()
+            {
+                timeSourceReads.incrementAndGet();
+                return timeSource.nowAsMilli();
+            }
+        };
+
+        // When
+        new Spinner( countingTimeSource, 1l, false );
+
+        // Then
+        // calibration busy waits on the time source, spinners that are never used (or only sleep) should not pay it
+        assertThat( timeSourceReads.get(), is( 0l ) );
+    }
+
     @Test
     public void shouldPassWhenNoCheckAndStartTimeArrives() throws InterruptedException
     {
@@ -0,0 +1,42 @@
+package com.ldbc.driver.workloads.ldbc.snb.interactive;
+
+import com.google.common.collect.Lists;
+import com.ldbc.driver.OperationConflictKeys;
+import com.ldbc.driver.workloads.dummy.NothingOperation;
+import org.junit.Test;
+
+import java.util.Date;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class LdbcSnbInteractiveOperationConflictKeysTest
+{
+    @Test
+    public void operationsOnSameEntityShouldShareKeyAndEqualIdsOfDifferentEntitiesShouldNot()
+    {
+        // Given
+        OperationConflictKeys conflictKeys = new LdbcSnbInteractiveOperationConflictKeys();
+        long id = 42;
+
+        // When
+        long[] addForumKeys = conflictKeys.conflictKeysFor(
+                new LdbcUpdate4AddForum( id, "title", new Date( 1 ), 1, Lists.<Long>newArrayList() ) );
+        long[] addForumMembershipKeys =
+                conflictKeys.conflictKeysFor( new LdbcUpdate5AddForumMembership( id, 2, new Date( 2 ) ) );
+        long[] addPostLikeKeys = conflictKeys.conflictKeysFor( new LdbcUpdate2AddPostLike( 2, id, new Date( 3 ) ) );
+        long[] addFriendshipKeys = conflictKeys.conflictKeysFor( new LdbcUpdate8AddFriendship( 2, id, new Date( 4 ) ) );
+
+        // Then
+        assertThat( addForumMembershipKeys, equalTo( addForumKeys ) );
+        assertThat( addPostLikeKeys[0], not( equalTo( addForumKeys[0] ) ) );
+        assertThat( addFriendshipKeys.length, is( 2 ) );
+        assertThat( addFriendshipKeys[1], not( equalTo( addForumKeys[0] ) ) );
+        assertThat( addFriendshipKeys[1], not( equalTo( addPostLikeKeys[0] ) ) );
+        // keys of unknown operations are unknown
+        assertThat( conflictKeys.conflictKeysFor( new NothingOperation() ), nullValue() );
+    }
+}